@@ -4,17 +4,19 @@ package com.sanae.MoneyFit.domain.analysis.controller;
 import com.sanae.MoneyFit.domain.analysis.dto.response.MaxStreakResponseDto;
 import com.sanae.MoneyFit.domain.analysis.dto.response.WeeklyPointResponseDto;
 import com.sanae.MoneyFit.domain.analysis.dto.response.WeeklySummaryDto;
+import com.sanae.MoneyFit.domain.analysis.service.AnalysisDashboardService;
 import com.sanae.MoneyFit.domain.analysis.service.AnalysisPointService;
 import com.sanae.MoneyFit.domain.analysis.service.AnalysisService;
 import com.sanae.MoneyFit.domain.analysis.service.SpendingAnalysisService;
 import com.sanae.MoneyFit.domain.routine.enums.RoutineType;
-import com.sanae.MoneyFit.global.security.jwt.JwtTokenProvider;
 import com.sanae.MoneyFit.global.web.response.ApiResponse;
+import com.sanae.MoneyFit.global.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -26,64 +28,64 @@ import java.util.UUID;
 public class AnalysisController {
 
     private final AnalysisService analysisService;
-    private final JwtTokenProvider jwtTokenProvider;
     private final SpendingAnalysisService spendingAnalysisService;
     private final AnalysisPointService analysisPointService;
+    private final AnalysisDashboardService analysisDashboardService;
 
     @GetMapping("/weekly-summary")
     @Operation(summary = "주간 요약 데이터 조회 API", description = "선택된 기간 동안의 루틴별 수행 여부를 조회합니다.")
     public ResponseEntity<?> getWeeklySummary(
-            @RequestHeader("Authorization") String token, @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @CurrentUser UUID userId, @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate, @RequestParam RoutineType routineType
             ) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
         List<WeeklySummaryDto> result = analysisService.getWeeklySummaries(userId, startDate, endDate,routineType);
         return ResponseEntity.ok(ApiResponse.onSuccess(result));
     }
 
     @GetMapping("/max-streak")
     @Operation(summary = "최대 연속 달성일 조회 API", description = "개인 및 그룹 루틴을 포함한 최대 연속 달성일을 조회합니다.")
-    public ResponseEntity<?> getMaxStreak(@RequestHeader("Authorization") String token) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
+    public ResponseEntity<?> getMaxStreak(@CurrentUser UUID userId) {
         MaxStreakResponseDto result = analysisService.calculateMaxStreak(userId);
         return ResponseEntity.ok(ApiResponse.onSuccess(result));
     }
 
+    @GetMapping("/dashboard")
+    @Operation(summary = "소비 분석 대시보드 조회 API", description = "주간 분석, 카테고리별 지출, 소비 루틴 추천, 금융상품 추천, 생활 루틴 추천을 한 번에 조회합니다. 실패한 항목은 failedSections에 담깁니다.")
+    public Mono<ResponseEntity<?>> getDashboard(@CurrentUser UUID userId) {
+        return analysisDashboardService.getDashboard(userId)
+                .<ResponseEntity<?>>map(result -> ResponseEntity.ok(ApiResponse.onSuccess(result)));
+    }
+
     @GetMapping("/weekly")
     @Operation(summary = "이번 주 소비패턴 분석 조회 API", description = "이번 주 소비내역을 AI로 분석합니다.")
-    public ResponseEntity<?> getWeeklySpendingAnalysis(@RequestHeader("Authorization") String token) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
+    public ResponseEntity<?> getWeeklySpendingAnalysis(@CurrentUser UUID userId) {
         List<String> result = spendingAnalysisService.getWeeklySpendingAnalysis(userId);
         return ResponseEntity.ok(ApiResponse.onSuccess(result));
     }
 
     @GetMapping("/daily")
     @Operation(summary = "생활,소비루틴 추천 조회 API", description = "생활,소비루틴 추천을 AI가 추천해줍니다.")
-    public ResponseEntity<?> dailyRoutineRecommend(@RequestHeader("Authorization") String token) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
+    public ResponseEntity<?> dailyRoutineRecommend(@CurrentUser UUID userId) {
 
         return ResponseEntity.ok(ApiResponse.onSuccess(spendingAnalysisService.getDailyRoutineRecommend(userId)));
     }
 
     @GetMapping("/category")
     @Operation(summary = "소비분석해서 패턴확인  API", description = "소비를 분석해서 해당유저의 소비패턴 분석")
-    public ResponseEntity<?> categoryRoutineRecommend(@RequestHeader("Authorization") String token) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
+    public ResponseEntity<?> categoryRoutineRecommend(@CurrentUser UUID userId) {
 
         return ResponseEntity.ok(ApiResponse.onSuccess(spendingAnalysisService.analysisMyConsumptionRecommend(userId)));
     }
 
     @GetMapping("/rcmd-cosumRoutine")
     @Operation(summary = "소비 루틴 맞춤 추천 조회 API", description = "소비 카테고리 분석 결과를 바탕으로 루틴을 추천합니다.")
-    public ResponseEntity<?> rcmdConsumptionRoutine(@RequestHeader("Authorization") String token) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
+    public ResponseEntity<?> rcmdConsumptionRoutine(@CurrentUser UUID userId) {
         return ResponseEntity.ok(ApiResponse.onSuccess(spendingAnalysisService.recommendConsumptionRoutine(userId)));
     }
 
     @GetMapping("/recommend-product")
     @Operation(summary = "금융상품 추천  API", description = "해당유저의 소비패턴을 분석하여 금융상품 추천")
-    public ResponseEntity<?> recommendProduct(@RequestHeader("Authorization") String token) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
+    public ResponseEntity<?> recommendProduct(@CurrentUser UUID userId) {
 
         return ResponseEntity.ok(ApiResponse.onSuccess(spendingAnalysisService.recommendProduct(userId)));
     }
@@ -91,8 +93,7 @@ public class AnalysisController {
 
     @PostMapping("/weekly-point")
     @Operation(summary = "연속 7일 달성 포인트 지급 API", description = "연속 7일 분석 달성 시 100p 지급")
-    public ResponseEntity<?> giveWeeklyPoint(@RequestHeader("Authorization") String token) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
+    public ResponseEntity<?> giveWeeklyPoint(@CurrentUser UUID userId) {
         WeeklyPointResponseDto result = analysisPointService.giveWeeklyPoint(userId);
         return ResponseEntity.ok(ApiResponse.onSuccess(result));
     }
@@ -2,9 +2,12 @@ package com.sanae.MoneyFit.domain.analysis.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.sanae.MoneyFit.domain.finance.dto.response.TransactionHistoryListResponseDto;
+import com.sanae.MoneyFit.domain.finance.entity.BankTransaction;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.format.DateTimeFormatter;
+
 @Getter
 @Builder
 public class TransactionDto {
@@ -29,4 +32,15 @@ public class TransactionDto {
                 .transactionAfterBalance(Long.parseLong(history.getTransactionAfterBalance().replace(",", "")))
                 .build();
     }
+
+    // 거래내역 원장(BankTransaction)을 이 DTO로 변환하는 정적 메소드
+    public static TransactionDto from(BankTransaction transaction, String userId) {
+        return TransactionDto.builder()
+                .userId(userId)
+                .ts(transaction.getTransactionDate().format(DateTimeFormatter.BASIC_ISO_DATE)) // 은행 API와 같은 yyyyMMdd 형식
+                .transactionType(transaction.getTransactionType().getCode())
+                .transactionBalance(transaction.getAmount())
+                .transactionAfterBalance(transaction.getAfterBalance())
+                .build();
+    }
 }
\ No newline at end of file
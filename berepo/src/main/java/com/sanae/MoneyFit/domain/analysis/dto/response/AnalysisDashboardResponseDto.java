@@ -0,0 +1,40 @@
+package com.sanae.MoneyFit.domain.analysis.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 분석 대시보드 응답 DTO
+ * <p>
+ * 각 항목은 독립적으로 조회되며, 시간 초과나 오류로 조회하지 못한 항목은 {@code null}로 비워두고
+ * 그 이름을 {@code failedSections}에 담습니다.
+ * </p>
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnalysisDashboardResponseDto {
+
+    /** 이번 주 소비 패턴 분석 */
+    private List<String> weeklyAnalysis;
+
+    /** 카테고리별 지출 정보 */
+    private ConsumptionAnalysisResponseDto consumption;
+
+    /** 소비 루틴 맞춤 추천 */
+    private ConsumptionRoutineRecommendResponseDto consumptionRoutine;
+
+    /** 금융상품 추천 */
+    private List<SimpleProductResponseDto> products;
+
+    /** 생활/소비 루틴 추천 */
+    private DailyModelResponseDto dailyRoutine;
+
+    /** 조회에 실패한 항목 이름 */
+    private List<String> failedSections;
+}
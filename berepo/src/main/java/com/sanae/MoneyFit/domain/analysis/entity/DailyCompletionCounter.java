@@ -0,0 +1,51 @@
+package com.sanae.MoneyFit.domain.analysis.entity;
+
+import com.sanae.MoneyFit.domain.analysis.enums.RoutineKind;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.global.common.util.BaseTime;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자 / 루틴 목록 / 날짜별 완료한 상세 루틴 수
+ * <p>
+ * 상세 루틴 완료 여부가 바뀔 때마다 {@code done_count = done_count ± 1}로 원자적으로 갱신되어,
+ * "모든 상세 루틴을 완료했는가"를 기록 테이블 집계 없이 상세 루틴 수와의 비교만으로 판단할 수 있습니다. <br>
+ * 기록 테이블과의 오차는 {@code DailyCompletionCounterReconcileJob}이 주기적으로 바로잡습니다.
+ * </p>
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "daily_completion_counter",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_completion_counter",
+                columnNames = {"user_id", "routine_kind", "routine_list_id", "completion_date"}),
+        indexes = @Index(name = "idx_daily_completion_counter_list", columnList = "routine_kind, routine_list_id, completion_date"))
+public class DailyCompletionCounter extends BaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "daily_completion_counter_id", updatable = false, unique = true, nullable = false)
+    private long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "routine_kind", nullable = false, length = 10)
+    private RoutineKind routineKind;
+
+    @Column(name = "routine_list_id", nullable = false)
+    private Long routineListId;
+
+    @Column(name = "completion_date", nullable = false)
+    private LocalDate completionDate;
+
+    @Column(name = "done_count", nullable = false)
+    private int doneCount;
+}
@@ -0,0 +1,29 @@
+package com.sanae.MoneyFit.domain.analysis.entity;
+
+import com.sanae.MoneyFit.global.common.util.BaseTime;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 거래 요약(가맹점명) → 소비 카테고리 분류 결과 캐시
+ * <p>같은 가맹점명은 사용자와 무관하게 같은 카테고리로 분류되므로, 한 번 분류된 결과를 저장해 두고 재사용합니다.</p>
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "merchant_category")
+public class MerchantCategory extends BaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "merchant_category_id", updatable = false, unique = true, nullable = false)
+    private long id;
+
+    @Column(name = "summary", nullable = false, unique = true)
+    private String summary;
+
+    @Column(name = "category", nullable = false, length = 50)
+    private String category;
+}
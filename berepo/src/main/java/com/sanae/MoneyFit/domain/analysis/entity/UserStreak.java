@@ -0,0 +1,120 @@
+package com.sanae.MoneyFit.domain.analysis.entity;
+
+import com.sanae.MoneyFit.domain.routine.enums.DayType;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.global.common.util.BaseTime;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 사용자별 연속 달성 상태
+ * <p>
+ * 루틴 완료가 기록될 때마다 증분 갱신되어, 연속 달성일 조회 시 과거 기록을 하루씩 거슬러 올라가며
+ * 다시 계산하지 않도록 합니다. 루틴이 예정되지 않은 요일은 연속 기록에 영향을 주지 않습니다.
+ * </p>
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserStreak extends BaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "user_streak_id", updatable = false, unique = true, nullable = false)
+    private long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false, unique = true)
+    private User user;
+
+    @Column(name = "current_streak", nullable = false)
+    private int currentStreak;
+
+    @Column(name = "best_streak", nullable = false)
+    private int bestStreak;
+
+    @Column(name = "last_qualifying_date")
+    private LocalDate lastQualifyingDate;
+
+    // ################# 비즈니스 로직 메서드 #################
+
+    /**
+     * 완료 기록이 생긴 날짜를 연속 달성 상태에 반영합니다.
+     *
+     * @param date          완료 기록 날짜
+     * @param scheduledDays 사용자의 루틴이 예정된 요일
+     * @return 증분 반영에 성공했으면 true, 마지막 달성일보다 과거 날짜라 전체 재계산이 필요하면 false
+     */
+    public boolean record(LocalDate date, Set<DayType> scheduledDays) {
+        // 예정된 루틴이 없는 날의 완료는 연속 기록에 영향을 주지 않습니다.
+        if (!scheduledDays.contains(DayType.from(date.getDayOfWeek()))) {
+            return true;
+        }
+        if (lastQualifyingDate != null) {
+            if (date.isEqual(lastQualifyingDate)) {
+                return true;
+            }
+            if (date.isBefore(lastQualifyingDate)) {
+                return false;
+            }
+        }
+
+        if (lastQualifyingDate == null || hasScheduledDayBetween(lastQualifyingDate, date, scheduledDays)) {
+            this.currentStreak = 1;
+        } else {
+            this.currentStreak++;
+        }
+        this.lastQualifyingDate = date;
+        this.bestStreak = Math.max(this.bestStreak, this.currentStreak);
+        return true;
+    }
+
+    /**
+     * 기준 날짜 시점의 연속 달성일을 반환합니다.
+     * 마지막 달성일 이후 기준 날짜까지 예정된 루틴을 하나라도 놓쳤다면 연속 기록이 끊긴 것으로 봅니다.
+     *
+     * @param today         기준 날짜
+     * @param scheduledDays 사용자의 루틴이 예정된 요일
+     * @return 연속 달성일
+     */
+    public int currentStreakAsOf(LocalDate today, Set<DayType> scheduledDays) {
+        if (lastQualifyingDate == null) {
+            return 0;
+        }
+        if (!lastQualifyingDate.isBefore(today)) {
+            return currentStreak;
+        }
+        return hasScheduledDayBetween(lastQualifyingDate, today.plusDays(1), scheduledDays) ? 0 : currentStreak;
+    }
+
+    /**
+     * 전체 재계산 결과로 상태를 덮어씁니다.
+     */
+    public void overwrite(UserStreak recalculated) {
+        this.currentStreak = recalculated.currentStreak;
+        this.bestStreak = recalculated.bestStreak;
+        this.lastQualifyingDate = recalculated.lastQualifyingDate;
+    }
+
+    /**
+     * (from, to) 사이(양 끝 제외)에 예정된 요일이 하루라도 있는지 확인합니다.
+     * 한 주를 넘는 간격은 예정 요일이 하나라도 있으면 항상 true 이므로 최대 7일만 확인합니다.
+     */
+    private static boolean hasScheduledDayBetween(LocalDate from, LocalDate to, Set<DayType> scheduledDays) {
+        if (scheduledDays.isEmpty()) {
+            return false;
+        }
+        LocalDate limit = from.plusDays(8);
+        for (LocalDate date = from.plusDays(1); date.isBefore(to) && date.isBefore(limit); date = date.plusDays(1)) {
+            if (scheduledDays.contains(DayType.from(date.getDayOfWeek()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
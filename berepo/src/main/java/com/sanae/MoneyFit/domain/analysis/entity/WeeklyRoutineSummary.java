@@ -0,0 +1,79 @@
+package com.sanae.MoneyFit.domain.analysis.entity;
+
+import com.sanae.MoneyFit.domain.analysis.enums.RoutineKind;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.global.common.util.BaseTime;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * 사용자 / ISO 주 / 루틴 목록별 완료 비트마스크
+ * <p>
+ * 월요일을 0번 비트로 하여 7비트에 요일별 완료 여부를 저장합니다. <br>
+ * 완료 기록이 저장될 때 함께 갱신되어, 주간 요약 조회 시 기록 테이블을 다시 읽지 않아도 됩니다.
+ * </p>
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "weekly_routine_summary",
+        uniqueConstraints = @UniqueConstraint(name = "uk_weekly_routine_summary",
+                columnNames = {"user_id", "week_start", "routine_kind", "routine_list_id"}))
+public class WeeklyRoutineSummary extends BaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "weekly_routine_summary_id", updatable = false, unique = true, nullable = false)
+    private long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    /** 해당 주의 월요일 */
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "routine_kind", nullable = false, length = 10)
+    private RoutineKind routineKind;
+
+    @Column(name = "routine_list_id", nullable = false)
+    private Long routineListId;
+
+    @Column(name = "done_mask", nullable = false)
+    private int doneMask;
+
+    // ################# 비즈니스 로직 메서드 #################
+
+    /**
+     * 날짜가 속한 주의 월요일을 반환합니다.
+     */
+    public static LocalDate weekStartOf(LocalDate date) {
+        return date.minusDays(date.getDayOfWeek().getValue() - 1L);
+    }
+
+    public void markDone(DayOfWeek dayOfWeek) {
+        this.doneMask |= bit(dayOfWeek);
+    }
+
+    public void clearDone(DayOfWeek dayOfWeek) {
+        this.doneMask &= ~bit(dayOfWeek);
+    }
+
+    public boolean isDone(DayOfWeek dayOfWeek) {
+        return (doneMask & bit(dayOfWeek)) != 0;
+    }
+
+    /**
+     * 요일에 해당하는 비트 값 (월요일 = 1)
+     */
+    public static int bit(DayOfWeek dayOfWeek) {
+        return 1 << (dayOfWeek.getValue() - 1);
+    }
+}
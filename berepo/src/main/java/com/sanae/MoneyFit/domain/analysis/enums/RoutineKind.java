@@ -0,0 +1,9 @@
+package com.sanae.MoneyFit.domain.analysis.enums;
+
+/**
+ * 주간 요약 read model 에서 루틴 목록 ID가 어느 테이블의 ID인지 구분합니다.
+ */
+public enum RoutineKind {
+    MY,     // 개인 루틴 (MyRoutineList)
+    GROUP   // 단체 루틴 (GroupRoutineList)
+}
@@ -0,0 +1,199 @@
+package com.sanae.MoneyFit.domain.analysis.repository;
+
+import com.sanae.MoneyFit.domain.analysis.entity.DailyCompletionCounter;
+import com.sanae.MoneyFit.domain.analysis.enums.RoutineKind;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface DailyCompletionCounterRepository extends JpaRepository<DailyCompletionCounter, Long> {
+
+    /** 카운터 행(c)의 사용자·개인 루틴이 해당 기간에 완료한 상세 루틴 수 */
+    String MY_DONE_COUNT = "(SELECT COUNT(DISTINCT rr.routine_id) " +
+            "FROM routine_record rr JOIN my_routine_middle m ON m.routine_id = rr.routine_id " +
+            "WHERE rr.user_id = c.user_id AND m.my_routine_list_id = c.routine_list_id " +
+            "AND rr.done_check = TRUE AND rr.created_date >= :start AND rr.created_date <= :end)";
+
+    /** 카운터 행(c)의 사용자·단체 루틴이 해당 기간에 완료한 상세 루틴 수 */
+    String GROUP_DONE_COUNT = "(SELECT COUNT(DISTINCT rr.routine_id) " +
+            "FROM routine_record rr JOIN group_routine_middle m ON m.routine_id = rr.routine_id " +
+            "WHERE rr.user_id = c.user_id AND m.group_routine_list_id = c.routine_list_id " +
+            "AND rr.done_check = TRUE AND rr.created_date >= :start AND rr.created_date <= :end)";
+
+    /**
+     * 완료 수를 원자적으로 증감합니다. 0 미만으로는 내려가지 않습니다.
+     *
+     * @return 갱신된 행 수 (행이 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE DailyCompletionCounter c " +
+            "SET c.doneCount = CASE WHEN c.doneCount + :delta < 0 THEN 0 ELSE c.doneCount + :delta END " +
+            "WHERE c.user.id = :userId AND c.routineKind = :routineKind " +
+            "AND c.routineListId = :routineListId AND c.completionDate = :date")
+    int increment(@Param("userId") UUID userId, @Param("routineKind") RoutineKind routineKind,
+                  @Param("routineListId") Long routineListId, @Param("date") LocalDate date, @Param("delta") int delta);
+
+    /**
+     * 카운터 행을 0으로 생성합니다. 다른 요청이 먼저 생성했다면 무시합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO daily_completion_counter " +
+            "(user_id, routine_kind, routine_list_id, completion_date, done_count, created_date, modified_date) " +
+            "VALUES (:userId, :routineKind, :routineListId, :date, 0, NOW(), NOW())", nativeQuery = true)
+    int insertIgnore(@Param("userId") UUID userId, @Param("routineKind") String routineKind,
+                     @Param("routineListId") Long routineListId, @Param("date") LocalDate date);
+
+    @Query("SELECT c.doneCount FROM DailyCompletionCounter c " +
+            "WHERE c.user.id = :userId AND c.routineKind = :routineKind " +
+            "AND c.routineListId = :routineListId AND c.completionDate = :date")
+    Integer findDoneCount(@Param("userId") UUID userId, @Param("routineKind") RoutineKind routineKind,
+                          @Param("routineListId") Long routineListId, @Param("date") LocalDate date);
+
+    /**
+     * 여러 사용자·루틴 목록의 특정 날짜 완료 수를 한 번에 조회합니다.
+     *
+     * @return [사용자 ID, 루틴 목록 ID, 완료 수] 배열 목록
+     */
+    @Query("SELECT c.user.id, c.routineListId, c.doneCount FROM DailyCompletionCounter c " +
+            "WHERE c.routineKind = :routineKind AND c.completionDate = :date " +
+            "AND c.user.id IN :userIds AND c.routineListId IN :routineListIds")
+    List<Object[]> findDoneCounts(@Param("routineKind") RoutineKind routineKind, @Param("date") LocalDate date,
+                                  @Param("userIds") Collection<UUID> userIds,
+                                  @Param("routineListIds") Collection<Long> routineListIds);
+
+    /**
+     * 해당 날짜에 개인 루틴 완료 기록이 있지만 카운터가 없는 (사용자, 개인 루틴)의 카운터를 0으로 생성합니다.
+     * 값은 이어서 {@link #reconcileMyRoutineCounters}가 채웁니다.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO daily_completion_counter " +
+            "(user_id, routine_kind, routine_list_id, completion_date, done_count, created_date, modified_date) " +
+            "SELECT DISTINCT rr.user_id, 'MY', m.my_routine_list_id, :date, 0, NOW(), NOW() " +
+            "FROM routine_record rr JOIN my_routine_middle m ON m.routine_id = rr.routine_id " +
+            "WHERE rr.done_check = TRUE AND rr.created_date >= :start AND rr.created_date <= :end", nativeQuery = true)
+    int insertMissingMyRoutineCounters(@Param("date") LocalDate date, @Param("start") LocalDateTime start,
+                                       @Param("end") LocalDateTime end);
+
+    /**
+     * {@link #insertMissingMyRoutineCounters}를 한 개인 루틴으로 한정합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO daily_completion_counter " +
+            "(user_id, routine_kind, routine_list_id, completion_date, done_count, created_date, modified_date) " +
+            "SELECT DISTINCT rr.user_id, 'MY', m.my_routine_list_id, :date, 0, NOW(), NOW() " +
+            "FROM my_routine_middle m JOIN routine_record rr ON rr.routine_id = m.routine_id " +
+            "WHERE m.my_routine_list_id = :routineListId " +
+            "AND rr.done_check = TRUE AND rr.created_date >= :start AND rr.created_date <= :end", nativeQuery = true)
+    int insertMissingMyRoutineCountersOfList(@Param("routineListId") Long routineListId, @Param("date") LocalDate date,
+                                             @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * 해당 날짜의 개인 루틴 카운터를 기록 테이블의 완료한 상세 루틴 수로 덮어씁니다.
+     * 같은 상세 루틴의 기록이 여러 건이어도 한 번만 세고, 기록이 없으면 0이 됩니다.
+     *
+     * @return 값이 바뀐 카운터 수
+     */
+    @Modifying
+    @Query(value = "UPDATE daily_completion_counter c " +
+            "SET done_count = " + MY_DONE_COUNT + ", modified_date = NOW() " +
+            "WHERE c.routine_kind = 'MY' AND c.completion_date = :date " +
+            "AND c.done_count <> " + MY_DONE_COUNT, nativeQuery = true)
+    int reconcileMyRoutineCounters(@Param("date") LocalDate date, @Param("start") LocalDateTime start,
+                                   @Param("end") LocalDateTime end);
+
+    /**
+     * {@link #reconcileMyRoutineCounters}를 한 개인 루틴으로 한정합니다.
+     */
+    @Modifying
+    @Query(value = "UPDATE daily_completion_counter c " +
+            "SET done_count = " + MY_DONE_COUNT + ", modified_date = NOW() " +
+            "WHERE c.routine_kind = 'MY' AND c.routine_list_id = :routineListId AND c.completion_date = :date " +
+            "AND c.done_count <> " + MY_DONE_COUNT, nativeQuery = true)
+    int reconcileMyRoutineCountersOfList(@Param("routineListId") Long routineListId, @Param("date") LocalDate date,
+                                         @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * 해당 날짜에 단체 루틴 완료 기록이 있지만 카운터가 없는 (사용자, 단체 루틴)의 카운터를 0으로 생성합니다.
+     * 값은 이어서 {@link #reconcileGroupRoutineCounters}가 채웁니다.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO daily_completion_counter " +
+            "(user_id, routine_kind, routine_list_id, completion_date, done_count, created_date, modified_date) " +
+            "SELECT DISTINCT rr.user_id, 'GROUP', m.group_routine_list_id, :date, 0, NOW(), NOW() " +
+            "FROM routine_record rr JOIN group_routine_middle m ON m.routine_id = rr.routine_id " +
+            "WHERE rr.done_check = TRUE AND rr.created_date >= :start AND rr.created_date <= :end", nativeQuery = true)
+    int insertMissingGroupRoutineCounters(@Param("date") LocalDate date, @Param("start") LocalDateTime start,
+                                          @Param("end") LocalDateTime end);
+
+    /**
+     * {@link #insertMissingGroupRoutineCounters}를 한 단체 루틴으로 한정합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO daily_completion_counter " +
+            "(user_id, routine_kind, routine_list_id, completion_date, done_count, created_date, modified_date) " +
+            "SELECT DISTINCT rr.user_id, 'GROUP', m.group_routine_list_id, :date, 0, NOW(), NOW() " +
+            "FROM group_routine_middle m JOIN routine_record rr ON rr.routine_id = m.routine_id " +
+            "WHERE m.group_routine_list_id = :routineListId " +
+            "AND rr.done_check = TRUE AND rr.created_date >= :start AND rr.created_date <= :end", nativeQuery = true)
+    int insertMissingGroupRoutineCountersOfList(@Param("routineListId") Long routineListId, @Param("date") LocalDate date,
+                                                @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * 해당 날짜의 단체 루틴 카운터를 기록 테이블의 완료한 상세 루틴 수로 덮어씁니다.
+     *
+     * @return 값이 바뀐 카운터 수
+     */
+    @Modifying
+    @Query(value = "UPDATE daily_completion_counter c " +
+            "SET done_count = " + GROUP_DONE_COUNT + ", modified_date = NOW() " +
+            "WHERE c.routine_kind = 'GROUP' AND c.completion_date = :date " +
+            "AND c.done_count <> " + GROUP_DONE_COUNT, nativeQuery = true)
+    int reconcileGroupRoutineCounters(@Param("date") LocalDate date, @Param("start") LocalDateTime start,
+                                      @Param("end") LocalDateTime end);
+
+    /**
+     * {@link #reconcileGroupRoutineCounters}를 한 단체 루틴으로 한정합니다.
+     */
+    @Modifying
+    @Query(value = "UPDATE daily_completion_counter c " +
+            "SET done_count = " + GROUP_DONE_COUNT + ", modified_date = NOW() " +
+            "WHERE c.routine_kind = 'GROUP' AND c.routine_list_id = :routineListId AND c.completion_date = :date " +
+            "AND c.done_count <> " + GROUP_DONE_COUNT, nativeQuery = true)
+    int reconcileGroupRoutineCountersOfList(@Param("routineListId") Long routineListId, @Param("date") LocalDate date,
+                                            @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * 루틴 목록이 삭제될 때 모든 사용자의 카운터를 삭제합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM DailyCompletionCounter c WHERE c.routineKind = :routineKind AND c.routineListId = :routineListId")
+    void deleteByRoutineList(@Param("routineKind") RoutineKind routineKind, @Param("routineListId") Long routineListId);
+
+    /**
+     * 단체 루틴 탈퇴 시 해당 사용자의 카운터를 삭제합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM DailyCompletionCounter c " +
+            "WHERE c.user = :user AND c.routineKind = :routineKind AND c.routineListId = :routineListId")
+    void deleteByUserAndRoutineList(@Param("user") User user, @Param("routineKind") RoutineKind routineKind,
+                                    @Param("routineListId") Long routineListId);
+
+    /**
+     * 특정 사용자의 모든 카운터를 삭제합니다.
+     *
+     * @param user 삭제 대상 사용자
+     */
+    @Modifying
+    @Query("DELETE FROM DailyCompletionCounter c WHERE c.user = :user")
+    void deleteAllByUser(@Param("user") User user);
+}
@@ -0,0 +1,27 @@
+package com.sanae.MoneyFit.domain.analysis.repository;
+
+import com.sanae.MoneyFit.domain.analysis.entity.MerchantCategory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MerchantCategoryRepository extends JpaRepository<MerchantCategory, Long> {
+
+    List<MerchantCategory> findBySummaryIn(Collection<String> summaries);
+
+    /**
+     * 분류 결과를 저장합니다. 다른 요청이 같은 가맹점명을 먼저 저장했다면 무시합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO merchant_category (summary, category, created_date, modified_date) " +
+            "VALUES (:summary, :category, NOW(), NOW())", nativeQuery = true)
+    int insertIgnore(@Param("summary") String summary, @Param("category") String category);
+}
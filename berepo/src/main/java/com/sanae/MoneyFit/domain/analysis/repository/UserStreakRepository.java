@@ -0,0 +1,53 @@
+package com.sanae.MoneyFit.domain.analysis.repository;
+
+import com.sanae.MoneyFit.domain.analysis.entity.UserStreak;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface UserStreakRepository extends JpaRepository<UserStreak, Long> {
+
+    Optional<UserStreak> findByUser(User user);
+
+    /**
+     * 연속 달성 상태 행이 없으면 초기 상태로 생성합니다. 이미 있으면 아무것도 바꾸지 않습니다.
+     * 동시에 처음 완료한 두 요청이 모두 생성을 시도해도 user_id 유니크 제약 위반이 발생하지 않습니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_streak (user_id, current_streak, best_streak, created_date, modified_date) " +
+            "VALUES (:userId, 0, 0, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE current_streak = current_streak", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") UUID userId);
+
+    /**
+     * 연속 달성 상태를 쓰기 잠금과 함께 조회합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserStreak s WHERE s.user = :user")
+    Optional<UserStreak> findByUserForUpdate(@Param("user") User user);
+
+    /**
+     * 여러 사용자의 연속 달성 상태를 쓰기 잠금과 함께 조회합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserStreak s WHERE s.user.id IN :userIds")
+    List<UserStreak> findAllByUserIdInForUpdate(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * 특정 사용자의 연속 달성 상태를 삭제합니다.
+     *
+     * @param user 삭제 대상 사용자
+     */
+    void deleteByUser(User user);
+}
@@ -0,0 +1,85 @@
+package com.sanae.MoneyFit.domain.analysis.repository;
+
+import com.sanae.MoneyFit.domain.analysis.entity.WeeklyRoutineSummary;
+import com.sanae.MoneyFit.domain.analysis.enums.RoutineKind;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface WeeklyRoutineSummaryRepository extends JpaRepository<WeeklyRoutineSummary, Long> {
+
+    /**
+     * 요일 비트를 원자적으로 켭니다. 해당 주의 행이 없으면 그 비트만 켠 상태로 생성합니다.
+     * 같은 키에 대한 동시 요청이 유니크 제약 위반이나 갱신 유실 없이 모두 반영됩니다.
+     *
+     * @param bit {@link WeeklyRoutineSummary#bit} 값
+     */
+    @Modifying
+    @Query(value = "INSERT INTO weekly_routine_summary " +
+            "(user_id, week_start, routine_kind, routine_list_id, done_mask, created_date, modified_date) " +
+            "VALUES (:userId, :weekStart, :routineKind, :routineListId, :bit, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "done_mask = done_mask + CASE WHEN MOD(FLOOR(done_mask / :bit), 2) = 0 THEN :bit ELSE 0 END, " +
+            "modified_date = NOW()", nativeQuery = true)
+    int upsertDone(@Param("userId") UUID userId, @Param("weekStart") LocalDate weekStart,
+                   @Param("routineKind") String routineKind, @Param("routineListId") Long routineListId,
+                   @Param("bit") int bit);
+
+    /**
+     * 요일 비트를 원자적으로 끕니다. 이미 꺼져 있거나 행이 없으면 변경하지 않습니다.
+     *
+     * @param bit {@link WeeklyRoutineSummary#bit} 값
+     */
+    @Modifying
+    @Query(value = "UPDATE weekly_routine_summary SET done_mask = done_mask - :bit, modified_date = NOW() " +
+            "WHERE user_id = :userId AND week_start = :weekStart " +
+            "AND routine_kind = :routineKind AND routine_list_id = :routineListId " +
+            "AND MOD(FLOOR(done_mask / :bit), 2) = 1", nativeQuery = true)
+    int clearDone(@Param("userId") UUID userId, @Param("weekStart") LocalDate weekStart,
+                  @Param("routineKind") String routineKind, @Param("routineListId") Long routineListId,
+                  @Param("bit") int bit);
+
+    /**
+     * 기간에 걸친 주의 완료 비트마스크를 조회합니다. (user_id, week_start) 유니크 인덱스 선두 컬럼을 그대로 사용합니다.
+     *
+     * @param user      조회할 사용자
+     * @param fromWeek  시작 주의 월요일
+     * @param toWeek    종료 주의 월요일
+     * @return 비트마스크 목록
+     */
+    @Query("SELECT s FROM WeeklyRoutineSummary s " +
+            "WHERE s.user = :user AND s.weekStart BETWEEN :fromWeek AND :toWeek")
+    List<WeeklyRoutineSummary> findByUserAndWeekRange(@Param("user") User user,
+                                                      @Param("fromWeek") LocalDate fromWeek,
+                                                      @Param("toWeek") LocalDate toWeek);
+
+    /**
+     * 루틴 목록이 삭제되거나 사용자가 단체 루틴에서 나갈 때 비트마스크를 정리합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM WeeklyRoutineSummary s WHERE s.routineKind = :routineKind AND s.routineListId = :routineListId")
+    void deleteByRoutineList(@Param("routineKind") RoutineKind routineKind, @Param("routineListId") Long routineListId);
+
+    @Modifying
+    @Query("DELETE FROM WeeklyRoutineSummary s " +
+            "WHERE s.user = :user AND s.routineKind = :routineKind AND s.routineListId = :routineListId")
+    void deleteByUserAndRoutineList(@Param("user") User user, @Param("routineKind") RoutineKind routineKind,
+                                    @Param("routineListId") Long routineListId);
+
+    /**
+     * 특정 사용자의 모든 비트마스크를 삭제합니다.
+     *
+     * @param user 삭제 대상 사용자
+     */
+    @Modifying
+    @Query("DELETE FROM WeeklyRoutineSummary s WHERE s.user = :user")
+    void deleteAllByUser(@Param("user") User user);
+}
@@ -0,0 +1,154 @@
+package com.sanae.MoneyFit.domain.analysis.service;
+
+import com.sanae.MoneyFit.domain.analysis.dto.response.*;
+import com.sanae.MoneyFit.domain.finance.entity.BankTransaction;
+import com.sanae.MoneyFit.domain.finance.service.TransactionLedgerService;
+import com.sanae.MoneyFit.domain.routine.entity.Emoji;
+import com.sanae.MoneyFit.domain.routine.repository.EmojiRepository;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.domain.user.repository.UserRepository;
+import com.sanae.MoneyFit.global.error.handler.UserHandler;
+import com.sanae.MoneyFit.global.infra.http.ai.WebClientAiUtil;
+import com.sanae.MoneyFit.global.web.response.code.status.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * <h2>AnalysisDashboardService</h2>
+ * <p>
+ * 소비 분석 화면의 다섯 항목(주간 분석, 카테고리별 지출, 소비 루틴 추천, 금융상품 추천, 생활 루틴 추천)을
+ * 하나의 리액티브 파이프라인으로 조회합니다. <br>
+ * 최근 30일 거래내역은 한 번만 읽어 공유하고, 외부 AI 호출은 {@link Mono#zip}으로 동시에 수행합니다.
+ * 각 항목은 개별 타임아웃을 가지며, 실패한 항목은 비워둔 채 나머지 결과만으로 응답합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalysisDashboardService {
+
+    private static final Duration GEMINI_TIMEOUT = Duration.ofSeconds(15);
+    private static final Duration MODEL_TIMEOUT = Duration.ofSeconds(10);
+
+    private final SpendingAnalysisService spendingAnalysisService;
+    private final ConsumptionCategoryClassifier consumptionCategoryClassifier;
+    private final TransactionLedgerService transactionLedgerService;
+    private final UserRepository userRepository;
+    private final EmojiRepository emojiRepository;
+    private final WebClientAiUtil webClientAiUtil;
+
+    /**
+     * 분석 대시보드를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 항목별 분석 결과 (실패한 항목은 {@code failedSections}에 기록)
+     */
+    public Mono<AnalysisDashboardResponseDto> getDashboard(UUID userId) {
+        LocalDate today = LocalDate.now();
+        LocalDate startOfWeek = today.with(DayOfWeek.MONDAY);
+        LocalDate thirtyDaysAgo = today.minusDays(30);
+        LocalDate from = startOfWeek.isBefore(thirtyDaysAgo) ? startOfWeek : thirtyDaysAgo;
+
+        // 1. 사용자 조회 + 거래내역 동기화/조회는 블로킹(JPA)이므로 boundedElastic에서 한 번만 수행합니다.
+        Mono<List<BankTransaction>> history = Mono.fromCallable(() -> {
+                    User user = userRepository.findById(userId)
+                            .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
+                    return transactionLedgerService.getTransactions(user, from, today);
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .cache();
+
+        List<String> failedSections = new CopyOnWriteArrayList<>();
+
+        // 2. 항목별 파이프라인
+        Mono<List<String>> weekly = history
+                .map(transactions -> transactions.stream()
+                        .filter(transaction -> !transaction.getTransactionDate().isBefore(startOfWeek))
+                        .toList())
+                .flatMap(weeklyHistory -> webClientAiUtil.requestWeeklySpendingAnalysis(
+                        spendingAnalysisService.buildWeeklySpendingRequest(weeklyHistory)))
+                .map(spendingAnalysisService::parseWeeklySpendingAnalysis)
+                .timeout(GEMINI_TIMEOUT);
+
+        Mono<List<BankTransaction>> monthlyHistory = history
+                .map(transactions -> transactions.stream()
+                        .filter(transaction -> !transaction.getTransactionDate().isBefore(thirtyDaysAgo))
+                        .toList())
+                .cache();
+
+        Mono<ConsumptionAnalysisResponseDto> consumption = monthlyHistory
+                .map(spendingAnalysisService::filterSpending)
+                .flatMap(spending -> consumptionCategoryClassifier.classifyAsync(spendingAnalysisService.toSummaries(spending))
+                        .map(categories -> spendingAnalysisService.summarizeConsumption(spending, categories)))
+                .timeout(MODEL_TIMEOUT)
+                .cache();
+
+        Mono<ConsumptionRoutineRecommendResponseDto> consumptionRoutine = consumption
+                .zipWith(Mono.fromCallable(emojiRepository::findAll).subscribeOn(Schedulers.boundedElastic()))
+                .flatMap(tuple -> {
+                    List<Emoji> emojis = tuple.getT2();
+                    return webClientAiUtil.requestWeeklySpendingAnalysis(
+                                    spendingAnalysisService.buildConsumptionRoutineRequest(tuple.getT1(), emojis))
+                            .map(aiRes -> spendingAnalysisService.parseConsumptionRoutine(aiRes, emojis))
+                            .timeout(GEMINI_TIMEOUT);
+                });
+
+        Mono<List<SimpleProductResponseDto>> products = monthlyHistory
+                .flatMap(transactions -> webClientAiUtil.requestRecommendProduct(
+                        spendingAnalysisService.buildProductRecommendRequest(userId, transactions)))
+                .map(spendingAnalysisService::toProducts)
+                .timeout(MODEL_TIMEOUT);
+
+        // 생활 루틴 추천은 거래내역이 필요 없으므로 조회를 기다리지 않습니다.
+        Mono<DailyModelResponseDto> dailyRoutine = webClientAiUtil
+                .requestDailyModel(spendingAnalysisService.buildDailyModelRequest(userId))
+                .timeout(MODEL_TIMEOUT);
+
+        // 3. 사용자/거래내역 조회 실패는 전체 실패로 처리하고, 이후 항목별 실패만 부분 결과로 대체합니다.
+        return Mono.zip(
+                        history,
+                        section("weeklyAnalysis", weekly, failedSections),
+                        section("consumption", consumption, failedSections),
+                        section("consumptionRoutine", consumptionRoutine, failedSections),
+                        section("products", products, failedSections),
+                        section("dailyRoutine", dailyRoutine, failedSections))
+                .map(tuple -> AnalysisDashboardResponseDto.builder()
+                        .weeklyAnalysis(tuple.getT2().orElse(null))
+                        .consumption(tuple.getT3().orElse(null))
+                        .consumptionRoutine(tuple.getT4().orElse(null))
+                        .products(tuple.getT5().orElse(null))
+                        .dailyRoutine(tuple.getT6().orElse(null))
+                        .failedSections(List.copyOf(failedSections))
+                        .build());
+    }
+
+    // ####################### Private 서브 메서드 #######################
+
+    /**
+     * 항목 하나의 실패(오류, 시간 초과, 빈 응답)를 {@link Optional#empty()}로 바꿔 다른 항목의 결과에 영향을 주지 않게 합니다.
+     */
+    private <T> Mono<Optional<T>> section(String name, Mono<T> source, List<String> failedSections) {
+        return source
+                .map(Optional::of)
+                .onErrorResume(e -> {
+                    log.warn("[AnalysisDashboardService] {} 조회 실패: {}", name, e.toString());
+                    failedSections.add(name);
+                    return Mono.just(Optional.empty());
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    failedSections.add(name);
+                    return Optional.empty();
+                }));
+    }
+}
@@ -2,28 +2,27 @@ package com.sanae.MoneyFit.domain.analysis.service;
 
 import com.sanae.MoneyFit.domain.analysis.dto.response.MaxStreakResponseDto;
 import com.sanae.MoneyFit.domain.analysis.dto.response.WeeklyPointResponseDto;
-import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.domain.routine.entity.enums.PointReasonType;
 import com.sanae.MoneyFit.domain.user.repository.UserRepository;
+import com.sanae.MoneyFit.domain.user.service.PointLedgerService;
 import com.sanae.MoneyFit.global.error.handler.AnalysisHandler;
 import com.sanae.MoneyFit.global.error.handler.UserHandler;
 import com.sanae.MoneyFit.global.web.response.code.status.ErrorStatus;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.temporal.WeekFields;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class AnalysisPointService {
 
-	private final RedisTemplate<String, String> redisTemplate;
 	private final UserRepository userRepository;
+	private final PointLedgerService pointLedgerService;
 	private final AnalysisService analysisService;
 
 	private static final long BONUS_POINT = 100L;
@@ -34,25 +33,16 @@ public class AnalysisPointService {
 			throw new AnalysisHandler(ErrorStatus.WEEKLY_BONUS_NOT_ELIGIBLE);
 		}
 
-		String key = createWeeklyKey(userId);
-		Boolean success = redisTemplate.opsForValue().setIfAbsent(key, "1", 8, TimeUnit.DAYS);
-		if (Boolean.FALSE.equals(success)) {
-			throw new AnalysisHandler(ErrorStatus.WEEKLY_BONUS_ALREADY_RECEIVED);
+		if (!userRepository.existsById(userId)) {
+			throw new UserHandler(ErrorStatus.USER_NOT_FOUND);
 		}
 
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
-		user.addPoint(BONUS_POINT);
-		userRepository.save(user);
-
-		return new WeeklyPointResponseDto(BONUS_POINT, user.getPoint());
-	}
+		// 주의 시작일(월요일)을 멱등 기준으로 하여 한 주에 한 번만 지급
+		LocalDate weekStart = LocalDate.now().with(DayOfWeek.MONDAY);
+		if (!pointLedgerService.award(userId, (int) BONUS_POINT, PointReasonType.WEEKLY_STREAK_BONUS, weekStart)) {
+			throw new AnalysisHandler(ErrorStatus.WEEKLY_BONUS_ALREADY_RECEIVED);
+		}
 
-	private String createWeeklyKey(UUID userId) {
-		LocalDate now = LocalDate.now();
-		WeekFields wf = WeekFields.ISO;
-		int year = now.get(wf.weekBasedYear());
-		int week = now.get(wf.weekOfWeekBasedYear());
-		return String.format("analysis:weekly-bonus:%s:%d%02d", userId, year, week);
+		return new WeeklyPointResponseDto(BONUS_POINT, pointLedgerService.getBalance(userId));
 	}
 }
\ No newline at end of file
@@ -3,6 +3,9 @@ package com.sanae.MoneyFit.domain.analysis.service;
 
 import com.sanae.MoneyFit.domain.analysis.dto.response.MaxStreakResponseDto;
 import com.sanae.MoneyFit.domain.analysis.dto.response.WeeklySummaryDto;
+import com.sanae.MoneyFit.domain.analysis.entity.WeeklyRoutineSummary;
+import com.sanae.MoneyFit.domain.analysis.enums.RoutineKind;
+import com.sanae.MoneyFit.domain.analysis.repository.WeeklyRoutineSummaryRepository;
 import com.sanae.MoneyFit.domain.routine.entity.*;
 import com.sanae.MoneyFit.domain.routine.entity.GroupRoutineList;
 import com.sanae.MoneyFit.domain.routine.entity.GroupRoutineListDoneCheck;
@@ -37,15 +40,50 @@ public class AnalysisService {
     private final GroupRoutineListRepository groupRoutineListRepository;
     private final MyRoutineListRecordRepository myRoutineListRecordRepository;
     private final GroupRoutineListDoneCheckRepository groupRoutineListDoneCheckRepository;
+    private final StreakService streakService;
+    private final WeeklyRoutineSummaryRepository weeklyRoutineSummaryRepository;
 
     /**
      * 주간 요약 정보를 조회하는 메서드입니다.
+     * 완료 여부는 주간 비트마스크 read model({@link WeeklyRoutineSummary})에서 (사용자, 주) 인덱스로 한 번에 읽습니다.
      * @param userId 조회할 사용자의 ID
      * @param startDate 조회 시작 날짜
      * @param endDate 조회 종료 날짜
      * @return 주간 요약 DTO 리스트
      */
     public List<WeeklySummaryDto> getWeeklySummaries(UUID userId, LocalDate startDate, LocalDate endDate, RoutineType routineType) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
+
+        // 1. 제목/참여 여부는 루틴 목록에서 가져옵니다. (완료 기록이 없는 루틴도 응답에 포함)
+        List<MyRoutineList> myRoutines = myRoutineListRepository.findAllByUserAndRoutineType(user, routineType);
+        List<GroupRoutineList> groupRoutines = groupRoutineListRepository.findAllByUserInAndRoutineType(user, routineType);
+
+        // 2. 기간에 걸친 주의 비트마스크를 한 번에 조회합니다.
+        Map<String, WeeklyRoutineSummary> masks = weeklyRoutineSummaryRepository
+                .findByUserAndWeekRange(user, WeeklyRoutineSummary.weekStartOf(startDate), WeeklyRoutineSummary.weekStartOf(endDate))
+                .stream()
+                .collect(Collectors.toMap(
+                        summary -> maskKey(summary.getRoutineKind(), summary.getRoutineListId(), summary.getWeekStart()),
+                        summary -> summary));
+
+        List<WeeklySummaryDto> summaries = new ArrayList<>();
+        myRoutines.forEach(routine -> summaries.add(new WeeklySummaryDto(routine.getTitle(),
+                toDailyStatus(masks, RoutineKind.MY, routine.getId(), startDate, endDate))));
+        groupRoutines.forEach(routine -> summaries.add(new WeeklySummaryDto(routine.getTitle(),
+                toDailyStatus(masks, RoutineKind.GROUP, routine.getId(), startDate, endDate))));
+        return summaries;
+    }
+
+    /**
+     * 주간 요약 정보를 완료 기록 테이블로부터 직접 계산합니다. (검증 모드)
+     * <p>read model 도입 이전의 계산 방식으로, {@link #getWeeklySummaries} 결과와 비교 검증하는 용도로 남겨 둡니다.</p>
+     * @param userId 조회할 사용자의 ID
+     * @param startDate 조회 시작 날짜
+     * @param endDate 조회 종료 날짜
+     * @return 주간 요약 DTO 리스트
+     */
+    public List<WeeklySummaryDto> getWeeklySummariesFromRecords(UUID userId, LocalDate startDate, LocalDate endDate, RoutineType routineType) {
         // 1. 사용자 엔티티를 조회합니다. 없으면 예외를 발생시킵니다.
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
@@ -107,54 +145,23 @@ public class AnalysisService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
 
-        int currentStreak = 0;
-        LocalDate checkDate = LocalDate.now();
-
-        // 무한 루프를 돌며 하루씩 과거로 이동
-        while (true) {
-            DayType dayOfWeek = DayType.from(checkDate.getDayOfWeek());
-
-            // 1. 확인하려는 날짜(checkDate)에 '수행하도록 설정된' 루틴 목록이 하나라도 있는지 확인
-            boolean isRoutineScheduled = !myRoutineListRepository.findAllByUserAndDay(user, dayOfWeek).isEmpty()
-                || !groupRoutineListRepository.findAllByUserAndDay(user, dayOfWeek).isEmpty();
-
-            // 2. 만약 그날에 예정된 루틴이 아예 없었다면, 연속 기록에 영향을 주지 않고 그냥 건너뜀
-            if (!isRoutineScheduled) {
-                checkDate = checkDate.minusDays(1);
-                if (checkDate.isBefore(LocalDate.now().minusYears(1))) {
-                    break;
-                }
-                continue; // 아래 로직을 실행하지 않고 다음 루프 시작
-            }
+        // 완료 시점마다 증분 갱신된 연속 달성 상태를 그대로 사용합니다.
+        return new MaxStreakResponseDto(streakService.getCurrentStreak(user));
+    }
 
-            // 3. 그날의 '실제 수행 완료 기록'을 DB에서 가져옵니다.
-            List<MyRoutineListRecord> myRecords =
-                myRoutineListRecordRepository.findByUserAndCreatedDateBetween(
-                    user, checkDate.atStartOfDay(), checkDate.plusDays(1).atStartOfDay());
-            List<GroupRoutineListDoneCheck> groupRecords =
-                groupRoutineListDoneCheckRepository.findByUserAndCreatedDateBetween(
-                    user, checkDate.atStartOfDay(), checkDate.plusDays(1).atStartOfDay());
-
-            // 4. 그날 완료한 개인 또는 그룹 루틴이 '하나라도 있는지' 확인
-            boolean hasCompletedAnyRoutine = myRecords.stream().anyMatch(MyRoutineListRecord::isDoneCheck)
-                || groupRecords.stream().anyMatch(GroupRoutineListDoneCheck::isDoneCheck);
-
-            // 5. 예정된 루틴이 있었고, 그 중 하나라도 완료했다면 성공으로 간주
-            if (hasCompletedAnyRoutine) {
-                // 연속 달성일을 1 증가시키고 다음 날(과거)로 이동
-                currentStreak++;
-                checkDate = checkDate.minusDays(1);
-            } else {
-                // 예정된 루틴이 있었지만 하나도 완료하지 못했다면, 연속 기록이 깨진 것이므로 루프를 중단
-                break;
-            }
+    // ####################### Private 서브 메서드 #######################
 
-            if (checkDate.isBefore(LocalDate.now().minusYears(1))) {
-                break;
-            }
+    private Map<DayType, Boolean> toDailyStatus(Map<String, WeeklyRoutineSummary> masks, RoutineKind routineKind,
+                                                Long routineListId, LocalDate startDate, LocalDate endDate) {
+        Map<DayType, Boolean> dailyStatus = new EnumMap<>(DayType.class); // 요일 순서를 보장하기 위해 EnumMap 사용
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            WeeklyRoutineSummary mask = masks.get(maskKey(routineKind, routineListId, WeeklyRoutineSummary.weekStartOf(date)));
+            dailyStatus.put(DayType.from(date.getDayOfWeek()), mask != null && mask.isDone(date.getDayOfWeek()));
         }
-
-        return new MaxStreakResponseDto(currentStreak);
+        return dailyStatus;
     }
 
-}
\ No newline at end of file
+    private String maskKey(RoutineKind routineKind, Long routineListId, LocalDate weekStart) {
+        return routineKind + ":" + routineListId + ":" + weekStart;
+    }
+}
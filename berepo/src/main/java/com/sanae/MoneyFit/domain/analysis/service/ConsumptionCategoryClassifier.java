@@ -0,0 +1,133 @@
+package com.sanae.MoneyFit.domain.analysis.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sanae.MoneyFit.domain.analysis.dto.request.AnalysisMyConsumptionRequestDto;
+import com.sanae.MoneyFit.domain.analysis.dto.response.AnalysisMyConsumptionResponseDto;
+import com.sanae.MoneyFit.domain.analysis.entity.MerchantCategory;
+import com.sanae.MoneyFit.domain.analysis.repository.MerchantCategoryRepository;
+import com.sanae.MoneyFit.global.infra.http.ai.WebClientAiUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.*;
+
+/**
+ * <h2>ConsumptionCategoryClassifier</h2>
+ * <p>
+ * 거래 요약(가맹점명)을 소비 카테고리로 분류합니다. <br>
+ * 메모리 캐시 → {@link MerchantCategory} 테이블 순으로 먼저 찾아보고,
+ * 처음 보는 가맹점명만 중복을 제거해 한 번의 요청으로 AI 분류 서버에 보냅니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConsumptionCategoryClassifier {
+
+    private static final int MAX_SUMMARY_LENGTH = 255;
+
+    private final MerchantCategoryRepository merchantCategoryRepository;
+    private final WebClientAiUtil webClientAiUtil;
+
+    /** 자주 등장하는 가맹점명의 분류 결과 */
+    private final Cache<String, String> hotCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
+
+    /**
+     * 거래 요약 목록을 분류합니다.
+     * <p>
+     * 호출자의 (읽기 전용) 트랜잭션에 참여하지 않고, 분류 결과 저장은 각 쿼리의 트랜잭션에서 수행합니다.
+     * </p>
+     *
+     * @param summaries 거래 요약 목록
+     * @return 입력과 같은 순서·길이의 카테고리 목록
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<String> classify(List<String> summaries) {
+        return classifyAsync(summaries).block();
+    }
+
+    /**
+     * 거래 요약 목록을 논블로킹으로 분류합니다.
+     * <p>
+     * 캐시 조회와 분류 결과 저장(JPA)은 {@link Schedulers#boundedElastic()}에서 수행하고,
+     * AI 분류 요청은 이벤트 루프를 점유하지 않도록 {@link Mono} 그대로 연결합니다.
+     * </p>
+     *
+     * @param summaries 거래 요약 목록
+     * @return 입력과 같은 순서·길이의 카테고리 목록
+     */
+    public Mono<List<String>> classifyAsync(List<String> summaries) {
+        List<String> keys = summaries.stream()
+                .map(summary -> summary == null ? "" : summary)
+                .toList();
+
+        return Mono.fromCallable(() -> resolveCached(keys))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(resolved -> {
+                    Set<String> missing = new LinkedHashSet<>(keys);
+                    missing.removeAll(resolved.keySet());
+                    if (missing.isEmpty()) {
+                        return Mono.just(resolved);
+                    }
+
+                    // 처음 보는 가맹점명만 한 번에 분류 요청
+                    List<String> unseen = new ArrayList<>(missing);
+                    return webClientAiUtil.requestAnalysisMyConsumption(
+                                    AnalysisMyConsumptionRequestDto.builder().texts(unseen).build())
+                            .defaultIfEmpty(new AnalysisMyConsumptionResponseDto())
+                            .publishOn(Schedulers.boundedElastic())
+                            .map(response -> {
+                                store(unseen, response.getLabels(), resolved);
+                                log.debug("[ConsumptionCategoryClassifier] 분류 요청: 전체 = {}, 신규 = {}", keys.size(), unseen.size());
+                                return resolved;
+                            });
+                })
+                // 원래 순서대로 병합
+                .map(resolved -> keys.stream()
+                        .map(resolved::get)
+                        .toList());
+    }
+
+    // ####################### Private 서브 메서드 #######################
+
+    /**
+     * 메모리 캐시 → DB 캐시 순으로 이미 분류된 가맹점명을 찾습니다.
+     */
+    private Map<String, String> resolveCached(List<String> keys) {
+        Map<String, String> resolved = new HashMap<>(hotCache.getAllPresent(new HashSet<>(keys)));
+
+        Set<String> missing = new LinkedHashSet<>(keys);
+        missing.removeAll(resolved.keySet());
+        if (!missing.isEmpty()) {
+            for (MerchantCategory merchantCategory : merchantCategoryRepository.findBySummaryIn(missing)) {
+                resolved.put(merchantCategory.getSummary(), merchantCategory.getCategory());
+                hotCache.put(merchantCategory.getSummary(), merchantCategory.getCategory());
+            }
+        }
+        return resolved;
+    }
+
+    private void store(List<String> unseen, List<String> labels, Map<String, String> resolved) {
+        if (labels == null || labels.size() != unseen.size()) {
+            throw new IllegalStateException("AI 서버의 카테고리 분석 결과와 거래 내역 수가 일치하지 않습니다.");
+        }
+
+        for (int i = 0; i < unseen.size(); i++) {
+            String summary = unseen.get(i);
+            String category = labels.get(i);
+            resolved.put(summary, category);
+            if (summary.length() <= MAX_SUMMARY_LENGTH) {
+                merchantCategoryRepository.insertIgnore(summary, category);
+                hotCache.put(summary, category);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.sanae.MoneyFit.domain.analysis.service;
+
+import com.sanae.MoneyFit.global.common.aop.DistributedLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * <h2>DailyCompletionCounterReconcileJob</h2>
+ * <p>
+ * 최근 완료 카운터를 기록 테이블로부터 다시 계산해 증분 갱신 중 생긴 오차(상세 루틴 삭제, 중복 요청 등)를 바로잡습니다. <br>
+ * 매일 새벽 최근 일주일을 날짜별 집합 단위 쿼리로 보정합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyCompletionCounterReconcileJob {
+
+    private static final int RECONCILE_DAYS = 7;
+
+    private final DailyCompletionCounterService dailyCompletionCounterService;
+
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    @DistributedLock(key = "'COMPLETION_COUNTER_RECONCILE'", waitTime = 0L, leaseTime = 300L)
+    public void reconcileRecent() {
+        LocalDate today = LocalDate.now();
+        int repaired = dailyCompletionCounterService.reconcile(today.minusDays(RECONCILE_DAYS), today);
+        log.info("[DailyCompletionCounterReconcileJob] 완료 카운터 보정 완료: {}건", repaired);
+    }
+}
@@ -0,0 +1,134 @@
+package com.sanae.MoneyFit.domain.analysis.service;
+
+import com.sanae.MoneyFit.domain.analysis.entity.DailyCompletionCounter;
+import com.sanae.MoneyFit.domain.analysis.enums.RoutineKind;
+import com.sanae.MoneyFit.domain.analysis.repository.DailyCompletionCounterRepository;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * <h2>DailyCompletionCounterService</h2>
+ * <p>
+ * 사용자 / 루틴 목록 / 날짜별 완료 카운터({@link DailyCompletionCounter})를 관리합니다. <br>
+ * 상세 루틴 완료 여부가 바뀔 때 원자적 UPDATE로 증감하고, 보정 시에는 기록 테이블로부터 다시 계산한 값으로 덮어씁니다. (날짜마다 집합 단위 INSERT / UPDATE)
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class DailyCompletionCounterService {
+
+    private final DailyCompletionCounterRepository dailyCompletionCounterRepository;
+
+    /**
+     * 완료 수를 증감합니다. 카운터 행이 없으면 먼저 생성합니다.
+     *
+     * @param userId        사용자 ID
+     * @param routineKind   개인/단체 구분
+     * @param routineListId 루틴 목록 ID
+     * @param date          완료 날짜
+     * @param delta         증감량 (완료 +1, 완료 취소 -1)
+     */
+    public void increment(UUID userId, RoutineKind routineKind, Long routineListId, LocalDate date, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (dailyCompletionCounterRepository.increment(userId, routineKind, routineListId, date, delta) == 0) {
+            dailyCompletionCounterRepository.insertIgnore(userId, routineKind.name(), routineListId, date);
+            dailyCompletionCounterRepository.increment(userId, routineKind, routineListId, date, delta);
+        }
+    }
+
+    /**
+     * 완료 수를 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public int getDoneCount(UUID userId, RoutineKind routineKind, Long routineListId, LocalDate date) {
+        Integer doneCount = dailyCompletionCounterRepository.findDoneCount(userId, routineKind, routineListId, date);
+        return doneCount == null ? 0 : doneCount;
+    }
+
+    /**
+     * 여러 사용자·루틴 목록의 완료 수를 한 번에 조회합니다.
+     *
+     * @return {@link #key(UUID, Long)} → 완료 수 (카운터가 없으면 포함되지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Integer> getDoneCounts(RoutineKind routineKind, LocalDate date, Collection<UUID> userIds,
+                                              Collection<Long> routineListIds) {
+        Map<String, Integer> doneCounts = new HashMap<>();
+        if (userIds.isEmpty() || routineListIds.isEmpty()) {
+            return doneCounts;
+        }
+        for (Object[] row : dailyCompletionCounterRepository.findDoneCounts(routineKind, date, userIds, routineListIds)) {
+            doneCounts.put(key((UUID) row[0], (Long) row[1]), (Integer) row[2]);
+        }
+        return doneCounts;
+    }
+
+    /**
+     * 한 루틴 목록의 특정 날짜 카운터를 기록 테이블로부터 다시 계산합니다.
+     * 상세 루틴이 삭제되어 기록이 함께 지워진 경우 호출합니다.
+     */
+    public void reconcile(RoutineKind routineKind, Long routineListId, LocalDate date) {
+        LocalDateTime start = date.atStartOfDay();
+        LocalDateTime end = date.atTime(LocalTime.MAX);
+        if (routineKind == RoutineKind.MY) {
+            dailyCompletionCounterRepository.insertMissingMyRoutineCountersOfList(routineListId, date, start, end);
+            dailyCompletionCounterRepository.reconcileMyRoutineCountersOfList(routineListId, date, start, end);
+        } else {
+            dailyCompletionCounterRepository.insertMissingGroupRoutineCountersOfList(routineListId, date, start, end);
+            dailyCompletionCounterRepository.reconcileGroupRoutineCountersOfList(routineListId, date, start, end);
+        }
+    }
+
+    /**
+     * 기간 내 모든 카운터를 기록 테이블로부터 다시 계산합니다.
+     * 날짜마다 누락된 카운터를 먼저 생성한 뒤, 한 번의 UPDATE로 그날의 카운터를 모두 덮어씁니다.
+     *
+     * @return 값이 바뀌거나 새로 생성된 카운터 수
+     */
+    public int reconcile(LocalDate from, LocalDate to) {
+        int repaired = 0;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            LocalDateTime start = date.atStartOfDay();
+            LocalDateTime end = date.atTime(LocalTime.MAX);
+            dailyCompletionCounterRepository.insertMissingMyRoutineCounters(date, start, end);
+            repaired += dailyCompletionCounterRepository.reconcileMyRoutineCounters(date, start, end);
+            dailyCompletionCounterRepository.insertMissingGroupRoutineCounters(date, start, end);
+            repaired += dailyCompletionCounterRepository.reconcileGroupRoutineCounters(date, start, end);
+        }
+        return repaired;
+    }
+
+    /**
+     * 루틴 목록 삭제 시 모든 사용자의 카운터를 삭제합니다.
+     */
+    public void deleteByRoutineList(RoutineKind routineKind, Long routineListId) {
+        dailyCompletionCounterRepository.deleteByRoutineList(routineKind, routineListId);
+    }
+
+    /**
+     * 단체 루틴 탈퇴 시 해당 사용자의 카운터를 삭제합니다.
+     */
+    public void deleteByUserAndRoutineList(User user, RoutineKind routineKind, Long routineListId) {
+        dailyCompletionCounterRepository.deleteByUserAndRoutineList(user, routineKind, routineListId);
+    }
+
+    /**
+     * {@link #getDoneCounts}의 결과 맵 키
+     */
+    public static String key(UUID userId, Long routineListId) {
+        return userId + ":" + routineListId;
+    }
+}
@@ -4,21 +4,20 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sanae.MoneyFit.domain.analysis.dto.CategorySpendingDto;
 import com.sanae.MoneyFit.domain.analysis.dto.TransactionDto;
-import com.sanae.MoneyFit.domain.analysis.dto.request.AnalysisMyConsumptionRequestDto;
 import com.sanae.MoneyFit.domain.analysis.dto.request.DailyModelRequestDto;
 import com.sanae.MoneyFit.domain.analysis.dto.request.GeminiReqDto;
 import com.sanae.MoneyFit.domain.analysis.dto.request.ProductRecommendRequestDto;
 import com.sanae.MoneyFit.domain.analysis.dto.response.*;
-import com.sanae.MoneyFit.domain.finance.dto.response.TransactionHistoryListResponseDto;
-import com.sanae.MoneyFit.domain.finance.service.FinanceService;
+import com.sanae.MoneyFit.domain.finance.entity.BankTransaction;
+import com.sanae.MoneyFit.domain.finance.enums.TransactionType;
+import com.sanae.MoneyFit.domain.finance.service.TransactionLedgerService;
 import com.sanae.MoneyFit.domain.routine.entity.Emoji;
-import com.sanae.MoneyFit.domain.routine.repository.EmojiRepository;
+import com.sanae.MoneyFit.domain.routine.service.catalog.RoutineCatalog;
 import com.sanae.MoneyFit.domain.user.entity.User;
 import com.sanae.MoneyFit.domain.user.repository.UserRepository;
 import com.sanae.MoneyFit.global.error.handler.TokenHandler;
 import com.sanae.MoneyFit.global.error.handler.UserHandler;
 import com.sanae.MoneyFit.global.infra.http.ai.WebClientAiUtil;
-import com.sanae.MoneyFit.global.infra.http.bank.WebClientBankUtil;
 import com.sanae.MoneyFit.global.web.response.code.status.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -38,12 +37,12 @@ import java.util.stream.IntStream;
 @Transactional(readOnly = true)
 public class SpendingAnalysisService {
 
-    private final FinanceService financeService;
+    private final TransactionLedgerService transactionLedgerService;
     private final UserRepository userRepository;
     private final WebClientAiUtil webClientAiUtil;
     private final ObjectMapper objectMapper;
-    private final WebClientBankUtil webClientBankUtil;
-    private final EmojiRepository emojiRepository;
+    private final RoutineCatalog routineCatalog;
+    private final ConsumptionCategoryClassifier consumptionCategoryClassifier;
 
 
 
@@ -58,10 +57,22 @@ public class SpendingAnalysisService {
         LocalDate today = LocalDate.now();
         LocalDate startOfWeek = today.with(DayOfWeek.MONDAY);
 
-        TransactionHistoryListResponseDto history = financeService.getTransactionHistoryList(user.getId(), startOfWeek, today);
-        if (history == null) {
-            return Collections.emptyList();
-        }
+        List<BankTransaction> history = transactionLedgerService.getTransactions(user, startOfWeek, today);
+        GeminiResDto aiRes = webClientAiUtil.requestWeeklySpendingAnalysis(buildWeeklySpendingRequest(history)).block();
+        return parseWeeklySpendingAnalysis(aiRes);
+    }
+
+    /**
+     * 이번 주 거래내역으로 주간 소비 패턴 분석 요청을 만든다.
+     */
+    public GeminiReqDto buildWeeklySpendingRequest(List<BankTransaction> weeklyHistory) {
+        List<Map<String, Object>> history = weeklyHistory.stream()
+                .map(transaction -> Map.<String, Object>of(
+                        "transactionDate", transaction.getTransactionDate().toString(),
+                        "transactionTypeName", transaction.getTransactionType().getTypeName(),
+                        "transactionBalance", transaction.getAmount(),
+                        "transactionSummary", Objects.requireNonNullElse(transaction.getSummary(), "")))
+                .toList();
 
         String json;
         try {
@@ -74,9 +85,13 @@ public class SpendingAnalysisService {
                 + json
                 + "\n\n출력 형식: ```json\n{\n  \"analysis\": [\n    \"분석 결과 1\",\n    \"분석 결과 2\",\n    \"분석 결과 3\"\n  ]\n}\n```";
 
-        GeminiReqDto request = new GeminiReqDto(prompt);
+        return new GeminiReqDto(prompt);
+    }
 
-        GeminiResDto aiRes = webClientAiUtil.requestWeeklySpendingAnalysis(request).block();
+    /**
+     * 주간 소비 패턴 분석 응답에서 분석 문장을 꺼낸다.
+     */
+    public List<String> parseWeeklySpendingAnalysis(GeminiResDto aiRes) {
         if (aiRes == null || aiRes.getCandidates() == null || aiRes.getCandidates().isEmpty()) {
             return Collections.emptyList();
         }
@@ -100,43 +115,65 @@ public class SpendingAnalysisService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
 
-        DailyModelResponseDto dailyModelResponseDto=webClientAiUtil.getDailyModel(DailyModelRequestDto.builder()
-                .user_id(user.getId().toString())
-                .top_k("10")
-                .exclude_already_planned(false)
-                .allow_owned(true)
-                .build());
+        DailyModelResponseDto dailyModelResponseDto=webClientAiUtil.getDailyModel(buildDailyModelRequest(user.getId()));
 
         return dailyModelResponseDto;
 
     }
 
+    /**
+     * 생활/소비 루틴 추천 모델 요청을 만든다.
+     */
+    public DailyModelRequestDto buildDailyModelRequest(UUID userId) {
+        return DailyModelRequestDto.builder()
+                .user_id(userId.toString())
+                .top_k("10")
+                .exclude_already_planned(false)
+                .allow_owned(true)
+                .build();
+    }
+
     public ConsumptionAnalysisResponseDto analysisMyConsumptionRecommend(UUID userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
         LocalDate today=LocalDate.now();
         LocalDate thirtyDaysAgo = today.minusDays(30);
-        TransactionHistoryListResponseDto consumptionList=webClientBankUtil.inquireTransactionHistoryList(user.getUserKey(),user.getBankAccount(),thirtyDaysAgo,today).block();
+        List<BankTransaction> spendingHistory = filterSpending(transactionLedgerService.getTransactions(user, thirtyDaysAgo, today));
 
-        List<TransactionHistoryListResponseDto.History> spendingHistory = consumptionList.getRec().getList().stream()
-                .filter(history -> "출금".equals(history.getTransactionTypeName()))
-                .toList();
+        // 캐시에 없는 가맹점명만 AI 분류 서버에 요청합니다.
+        List<String> categories = consumptionCategoryClassifier.classify(toSummaries(spendingHistory));
 
-        long myTotalSpending = spendingHistory.stream()
-                .mapToLong(history -> Long.parseLong(history.getTransactionBalance().replace(",", "")))
-                .sum();
+        return summarizeConsumption(spendingHistory, categories);
+    }
 
-        List<String> transactionSummaries = spendingHistory.stream()
-                .map(TransactionHistoryListResponseDto.History::getTransactionSummary)
+    /**
+     * 거래내역 중 출금 내역만 남긴다.
+     */
+    public List<BankTransaction> filterSpending(List<BankTransaction> history) {
+        return history.stream()
+                .filter(transaction -> transaction.getTransactionType() == TransactionType.WITHDRAWAL)
                 .toList();
-        AnalysisMyConsumptionRequestDto analysisMyConsumptionRequestDto=AnalysisMyConsumptionRequestDto.builder()
-                .texts(transactionSummaries).build();
-        AnalysisMyConsumptionResponseDto analysisMyConsumptionResponseDto= webClientAiUtil.analysisMyConsumption(analysisMyConsumptionRequestDto);
-        List<String> categories = analysisMyConsumptionResponseDto.getLabels();
+    }
 
-//        System.out.println(analysisMyConsumptionRequestDto.getTexts());
-//        System.out.println(analysisMyConsumptionResponseDto.getLabels());
-//        System.out.println(myTotalSpending);
+    /**
+     * 카테고리 분류에 보낼 거래 요약 목록을 만든다.
+     */
+    public List<String> toSummaries(List<BankTransaction> spendingHistory) {
+        return spendingHistory.stream()
+                .map(BankTransaction::getSummary)
+                .toList();
+    }
+
+    /**
+     * 출금 내역과 분류된 카테고리로 카테고리별 지출 정보를 계산한다.
+     *
+     * @param spendingHistory 출금 내역
+     * @param categories      출금 내역과 같은 순서의 카테고리 목록
+     */
+    public ConsumptionAnalysisResponseDto summarizeConsumption(List<BankTransaction> spendingHistory, List<String> categories) {
+        long myTotalSpending = spendingHistory.stream()
+                .mapToLong(BankTransaction::getAmount)
+                .sum();
 
         if (spendingHistory.size() != categories.size()) {
             throw new IllegalStateException("AI 서버의 카테고리 분석 결과와 거래 내역 수가 일치하지 않습니다.");
@@ -149,7 +186,7 @@ public class SpendingAnalysisService {
                 .boxed()
                 .collect(Collectors.groupingBy(
                         categories::get, // AI가 분류해준 카테고리로 그룹핑
-                        Collectors.summingLong(i -> Long.parseLong(spendingHistory.get(i).getTransactionBalance().replace(",", "")))
+                        Collectors.summingLong(i -> spendingHistory.get(i).getAmount())
                 ));
 
         final long averageFor20s = 150000L; // 20대 평균 지출 (고정값)
@@ -186,12 +223,19 @@ public class SpendingAnalysisService {
     public ConsumptionRoutineRecommendResponseDto recommendConsumptionRoutine(UUID userId) {
         // 1. 카테고리별 지출 정보 조회
         ConsumptionAnalysisResponseDto consumption = analysisMyConsumptionRecommend(userId);
-        List<CategorySpendingDto> categorySpendings = consumption.getCategorySpendings();
 
-        // 2. 사용 가능한 이모지 목록 조회
-        List<Emoji> emojis = emojiRepository.findAll();
-        Map<Long, String> emojiMap = emojis.stream()
-            .collect(Collectors.toMap(Emoji::getId, Emoji::getEmojiUrl));
+        // 2. 사용 가능한 이모지 목록 조회 (카탈로그 스냅샷)
+        List<Emoji> emojis = routineCatalog.emojis().data().emojis();
+
+        GeminiResDto aiRes = webClientAiUtil.requestWeeklySpendingAnalysis(buildConsumptionRoutineRequest(consumption, emojis)).block();
+        return parseConsumptionRoutine(aiRes, emojis);
+    }
+
+    /**
+     * 카테고리별 지출 정보와 이모지 목록으로 소비 루틴 추천 요청을 만든다.
+     */
+    public GeminiReqDto buildConsumptionRoutineRequest(ConsumptionAnalysisResponseDto consumption, List<Emoji> emojis) {
+        List<CategorySpendingDto> categorySpendings = consumption.getCategorySpendings();
 
         String spendingJson;
         String emojiJson;
@@ -231,8 +275,16 @@ public class SpendingAnalysisService {
                 ```
                 """.formatted(spendingJson, emojiJson);
 
-        GeminiReqDto request = new GeminiReqDto(prompt);
-        GeminiResDto aiRes = webClientAiUtil.requestWeeklySpendingAnalysis(request).block();
+        return new GeminiReqDto(prompt);
+    }
+
+    /**
+     * 소비 루틴 추천 응답을 이모지 URL이 포함된 응답 DTO로 변환한다.
+     */
+    public ConsumptionRoutineRecommendResponseDto parseConsumptionRoutine(GeminiResDto aiRes, List<Emoji> emojis) {
+        Map<Long, String> emojiMap = emojis.stream()
+            .collect(Collectors.toMap(Emoji::getId, Emoji::getEmojiUrl));
+
         if (aiRes == null || aiRes.getCandidates() == null || aiRes.getCandidates().isEmpty()) {
             throw new TokenHandler(ErrorStatus.AI_RESPONSE_ERROR);
         }
@@ -272,24 +324,32 @@ public class SpendingAnalysisService {
                 .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
         LocalDate today=LocalDate.now();
         LocalDate thirtyDaysAgo = today.minusDays(30);
-        TransactionHistoryListResponseDto consumptionList=webClientBankUtil.inquireTransactionHistoryList(user.getUserKey(),user.getBankAccount(),thirtyDaysAgo,today).block();
-        // 2. AI 서버에 보낼 요청 DTO 생성
-        // 거래내역을 TransactionDto 리스트로 변환
-        List<TransactionDto> transactionDtos = (consumptionList != null && consumptionList.getRec() != null)
-                ? consumptionList.getRec().getList().stream()
-                .map(history -> TransactionDto.from(history, userId.toString()))
-                .collect(Collectors.toList())
-                : Collections.emptyList();
+        List<BankTransaction> history = transactionLedgerService.getTransactions(user, thirtyDaysAgo, today);
+        ProductRecommendResponseDto aiResponse = webClientAiUtil.recommendProduct(buildProductRecommendRequest(userId, history));
+        return toProducts(aiResponse);
+    }
+
+    /**
+     * 거래내역으로 금융상품 추천 요청을 만든다.
+     */
+    public ProductRecommendRequestDto buildProductRecommendRequest(UUID userId, List<BankTransaction> history) {
+        // 원장의 거래내역을 TransactionDto 리스트로 변환
+        List<TransactionDto> transactionDtos = history.stream()
+                .map(transaction -> TransactionDto.from(transaction, userId.toString()))
+                .collect(Collectors.toList());
 
         // 최종 요청 DTO 생성
-        ProductRecommendRequestDto requestDto = ProductRecommendRequestDto.builder()
+        return ProductRecommendRequestDto.builder()
                 .userId(userId.toString())
                 .transactions(transactionDtos)
                 .topK(5) // 요청 JSON 예시에 따라 10으로 고정
                 .build();
-        ProductRecommendResponseDto aiResponse = webClientAiUtil.recommendProduct(requestDto);
+    }
 
-        // 4. ✅ AI 응답을 SimpleProductResponseDto 리스트로 변환하여 반환
+    /**
+     * ✅ AI 응답을 SimpleProductResponseDto 리스트로 변환한다.
+     */
+    public List<SimpleProductResponseDto> toProducts(ProductRecommendResponseDto aiResponse) {
         if (aiResponse == null || aiResponse.getResults() == null) {
             return Collections.emptyList();
         }
@@ -0,0 +1,51 @@
+package com.sanae.MoneyFit.domain.analysis.service;
+
+import com.sanae.MoneyFit.domain.user.repository.UserRepository;
+import com.sanae.MoneyFit.global.common.aop.DistributedLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * <h2>StreakBackfillJob</h2>
+ * <p>
+ * 사용자 ID 순으로 페이지를 나누어 모든 사용자의 연속 달성 상태를 기록 테이블로부터 다시 계산합니다. <br>
+ * 기존 사용자 데이터 이관과, 증분 갱신 중 발생할 수 있는 오차 보정(예정 요일 변경 등)을 위해 매일 새벽 실행됩니다. <br>
+ * 페이지마다 별도 트랜잭션으로 커밋하므로 한 번에 읽는 기록과 잠그는 행의 수가 페이지 크기로 제한됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreakBackfillJob {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final StreakService streakService;
+
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    @DistributedLock(key = "'STREAK_BACKFILL'", waitTime = 0L, leaseTime = 1800L)
+    public void backfill() {
+        int users = 0;
+        int completed = 0;
+        UUID afterId = null;
+        List<UUID> userIds;
+        do {
+            userIds = userRepository.findIdsAfter(afterId, PageRequest.of(0, PAGE_SIZE));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            completed += streakService.recalculateAll(userIds);
+            users += userIds.size();
+            afterId = userIds.get(userIds.size() - 1);
+        } while (userIds.size() == PAGE_SIZE);
+
+        log.info("[StreakBackfillJob] 연속 달성 상태 재계산 완료: 대상 사용자 = {}, 완료 기록 보유 = {}", users, completed);
+    }
+}
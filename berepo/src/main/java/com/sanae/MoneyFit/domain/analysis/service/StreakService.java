@@ -0,0 +1,182 @@
+package com.sanae.MoneyFit.domain.analysis.service;
+
+import com.sanae.MoneyFit.domain.analysis.entity.UserStreak;
+import com.sanae.MoneyFit.domain.analysis.repository.UserStreakRepository;
+import com.sanae.MoneyFit.domain.routine.enums.DayType;
+import com.sanae.MoneyFit.domain.routine.repository.GroupRoutinDaysRepository;
+import com.sanae.MoneyFit.domain.routine.repository.GroupRoutineListDoneCheckRepository;
+import com.sanae.MoneyFit.domain.routine.repository.MyRoutineDaysRepository;
+import com.sanae.MoneyFit.domain.routine.repository.MyRoutineListRecordRepository;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.*;
+
+/**
+ * <h2>StreakService</h2>
+ * <p>
+ * 사용자별 연속 달성 상태({@link UserStreak})를 관리합니다. <br>
+ * 루틴 완료가 기록되는 시점에 증분 갱신하고, 조회 시에는 저장된 상태와 예정 요일만으로 연속 달성일을 계산합니다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StreakService {
+
+    /**
+     * 연속 달성일 재계산 시 거슬러 올라가는 최대 기간
+     */
+    public static final Period LOOKBACK = Period.ofYears(1);
+
+    private final UserStreakRepository userStreakRepository;
+    private final MyRoutineDaysRepository myRoutineDaysRepository;
+    private final GroupRoutinDaysRepository groupRoutinDaysRepository;
+    private final MyRoutineListRecordRepository myRoutineListRecordRepository;
+    private final GroupRoutineListDoneCheckRepository groupRoutineListDoneCheckRepository;
+
+    /**
+     * 개인/단체 루틴 완료가 기록되었을 때 연속 달성 상태를 갱신합니다.
+     * 상태 행은 없으면 먼저 생성한 뒤 쓰기 잠금을 걸고 갱신하므로, 같은 사용자의 완료가 동시에 들어와도 순서대로 반영됩니다.
+     *
+     * @param user 완료한 사용자
+     * @param date 완료 날짜
+     */
+    public void onCompletion(User user, LocalDate date) {
+        UserStreak streak = lockStreak(user);
+
+        // 새로 생성된 행이거나 마지막 달성일보다 과거 날짜가 완료된 경우에만 전체 재계산
+        Set<DayType> scheduledDays = findScheduledDays(user);
+        if (streak.getLastQualifyingDate() == null || !streak.record(date, scheduledDays)) {
+            streak.overwrite(calculate(user, findCompletedDates(user), scheduledDays));
+        }
+    }
+
+    /**
+     * 완료 기록이 취소/삭제되었을 때 해당 사용자의 상태를 기록 테이블로부터 다시 계산합니다.
+     *
+     * @param user 대상 사용자
+     */
+    public void recalculate(User user) {
+        UserStreak streak = lockStreak(user);
+        streak.overwrite(calculate(user, findCompletedDates(user), findScheduledDays(user)));
+    }
+
+    /**
+     * 여러 사용자의 연속 달성 상태를 기록 테이블로부터 다시 계산합니다. ({@link StreakBackfillJob} 의 한 페이지 단위)
+     * 완료 기록이 모두 사라진 사용자는 초기 상태로 되돌립니다.
+     *
+     * @param userIds 대상 사용자 ID 목록
+     * @return 완료 기록이 있는 사용자 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int recalculateAll(List<UUID> userIds) {
+        LocalDateTime since = lookbackStart(LocalDate.now());
+
+        Map<UUID, Set<DayType>> scheduledDays = new HashMap<>();
+        collectScheduledDays(scheduledDays, myRoutineDaysRepository.findScheduledDayTypesByUserIdIn(userIds));
+        collectScheduledDays(scheduledDays, groupRoutinDaysRepository.findScheduledDayTypesByUserIdIn(userIds));
+
+        Map<UUID, List<LocalDate>> completedDates = new HashMap<>();
+        collectCompletedDates(completedDates, myRoutineListRecordRepository.findCompletedDatesByUserIdIn(userIds, since));
+        collectCompletedDates(completedDates, groupRoutineListDoneCheckRepository.findCompletedDatesByUserIdIn(userIds, since));
+
+        completedDates.keySet().forEach(userStreakRepository::insertIfAbsent);
+        for (UserStreak streak : userStreakRepository.findAllByUserIdInForUpdate(userIds)) {
+            UUID userId = streak.getUser().getId();
+            streak.overwrite(calculate(streak.getUser(), completedDates.getOrDefault(userId, List.of()),
+                    scheduledDays.getOrDefault(userId, EnumSet.noneOf(DayType.class))));
+        }
+        return completedDates.size();
+    }
+
+    /**
+     * 오늘 기준의 연속 달성일을 조회합니다.
+     * 저장된 상태가 없는 사용자는 기록 테이블로부터 계산만 하고 저장하지 않습니다.
+     *
+     * @param user 조회할 사용자
+     * @return 연속 달성일
+     */
+    @Transactional(readOnly = true)
+    public int getCurrentStreak(User user) {
+        Set<DayType> scheduledDays = findScheduledDays(user);
+        UserStreak streak = userStreakRepository.findByUser(user)
+                .orElseGet(() -> calculate(user, findCompletedDates(user), scheduledDays));
+        return streak.currentStreakAsOf(LocalDate.now(), scheduledDays);
+    }
+
+    /**
+     * 완료 날짜 목록과 예정 요일로부터 연속 달성 상태를 처음부터 계산합니다.
+     *
+     * @param user           대상 사용자
+     * @param completedDates 완료 날짜 목록 (순서 무관)
+     * @param scheduledDays  예정 요일
+     * @return 계산된 연속 달성 상태 (저장되지 않은 엔티티)
+     */
+    public static UserStreak calculate(User user, Collection<LocalDate> completedDates, Set<DayType> scheduledDays) {
+        UserStreak streak = UserStreak.builder()
+                .user(user)
+                .build();
+        new TreeSet<>(completedDates).forEach(date -> streak.record(date, scheduledDays));
+        return streak;
+    }
+
+    /**
+     * 전체 재계산 시 읽는 완료 기록의 시작 시각입니다.
+     * 기존 하루씩 거슬러 올라가던 계산과 같이 최근 {@link #LOOKBACK} 의 기록만 보므로,
+     * 재계산 결과의 연속 달성일도 그 기간을 넘지 않습니다. (증분 갱신은 다음 재계산 전까지 이어서 늘어날 수 있습니다.)
+     */
+    public static LocalDateTime lookbackStart(LocalDate today) {
+        return today.minus(LOOKBACK).atStartOfDay();
+    }
+
+    // ####################### Private 서브 메서드 #######################
+
+    private UserStreak lockStreak(User user) {
+        userStreakRepository.insertIfAbsent(user.getId());
+        return userStreakRepository.findByUserForUpdate(user)
+                .orElseThrow(() -> new IllegalStateException("연속 달성 상태 생성 실패: " + user.getId()));
+    }
+
+    private Set<DayType> findScheduledDays(User user) {
+        Set<DayType> scheduledDays = EnumSet.noneOf(DayType.class);
+        scheduledDays.addAll(myRoutineDaysRepository.findScheduledDayTypesByUser(user));
+        scheduledDays.addAll(groupRoutinDaysRepository.findScheduledDayTypesByUser(user));
+        return scheduledDays;
+    }
+
+    private List<LocalDate> findCompletedDates(User user) {
+        LocalDateTime since = lookbackStart(LocalDate.now());
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDateTime createdDate : myRoutineListRecordRepository.findCompletedDatesByUser(user, since)) {
+            dates.add(createdDate.toLocalDate());
+        }
+        for (LocalDateTime createdDate : groupRoutineListDoneCheckRepository.findCompletedDatesByUser(user, since)) {
+            if (createdDate != null) {
+                dates.add(createdDate.toLocalDate());
+            }
+        }
+        return dates;
+    }
+
+    private void collectScheduledDays(Map<UUID, Set<DayType>> target, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            target.computeIfAbsent((UUID) row[0], k -> EnumSet.noneOf(DayType.class)).add((DayType) row[1]);
+        }
+    }
+
+    private void collectCompletedDates(Map<UUID, List<LocalDate>> target, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            if (row[1] == null) {
+                continue;
+            }
+            target.computeIfAbsent((UUID) row[0], k -> new ArrayList<>()).add(((LocalDateTime) row[1]).toLocalDate());
+        }
+    }
+}
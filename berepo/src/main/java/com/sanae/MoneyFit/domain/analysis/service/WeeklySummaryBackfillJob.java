@@ -0,0 +1,70 @@
+package com.sanae.MoneyFit.domain.analysis.service;
+
+import com.sanae.MoneyFit.domain.analysis.entity.WeeklyRoutineSummary;
+import com.sanae.MoneyFit.domain.analysis.enums.RoutineKind;
+import com.sanae.MoneyFit.domain.analysis.repository.WeeklyRoutineSummaryRepository;
+import com.sanae.MoneyFit.domain.routine.repository.GroupRoutineListDoneCheckRepository;
+import com.sanae.MoneyFit.domain.routine.repository.MyRoutineListRecordRepository;
+import com.sanae.MoneyFit.global.common.aop.DistributedLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * <h2>WeeklySummaryBackfillJob</h2>
+ * <p>
+ * 주간 요약 read model({@link WeeklyRoutineSummary})이 비어 있으면 기존 완료 기록으로부터 채웁니다. <br>
+ * 배포 직후 기존 사용자의 주간 요약이 비어 보이지 않도록 하기 위한 1회성 이관입니다. <br>
+ * 모든 인스턴스가 시작 시 호출하므로 분산 락을 잡은 인스턴스 하나만 실행합니다. 기록 ID 순으로 페이지를 나누어
+ * 페이지마다 별도 트랜잭션으로 upsert 하므로, 한 번에 메모리에 올리는 기록 수가 페이지 크기로 제한됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeeklySummaryBackfillJob {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final WeeklyRoutineSummaryRepository weeklyRoutineSummaryRepository;
+    private final MyRoutineListRecordRepository myRoutineListRecordRepository;
+    private final GroupRoutineListDoneCheckRepository groupRoutineListDoneCheckRepository;
+    private final WeeklySummaryService weeklySummaryService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @DistributedLock(key = "'WEEKLY_SUMMARY_BACKFILL'", waitTime = 0L, leaseTime = 600L)
+    public void backfillIfEmpty() {
+        if (weeklyRoutineSummaryRepository.count() > 0) {
+            return;
+        }
+
+        int my = backfill(RoutineKind.MY, myRoutineListRecordRepository::findListCompletionsAfter);
+        int group = backfill(RoutineKind.GROUP, groupRoutineListDoneCheckRepository::findListCompletionsAfter);
+
+        log.info("[WeeklySummaryBackfillJob] 주간 요약 비트마스크 백필 완료: 개인 = {}건, 단체 = {}건", my, group);
+    }
+
+    // ####################### Private 서브 메서드 #######################
+
+    private int backfill(RoutineKind routineKind, BiFunction<Long, Pageable, List<Object[]>> pageLoader) {
+        int applied = 0;
+        Long afterId = null;
+        List<Object[]> rows;
+        do {
+            rows = pageLoader.apply(afterId, PageRequest.of(0, PAGE_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            applied += weeklySummaryService.backfillPage(routineKind, rows);
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        } while (rows.size() == PAGE_SIZE);
+        return applied;
+    }
+}
@@ -0,0 +1,93 @@
+package com.sanae.MoneyFit.domain.analysis.service;
+
+import com.sanae.MoneyFit.domain.analysis.entity.WeeklyRoutineSummary;
+import com.sanae.MoneyFit.domain.analysis.enums.RoutineKind;
+import com.sanae.MoneyFit.domain.analysis.repository.WeeklyRoutineSummaryRepository;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * <h2>WeeklySummaryService</h2>
+ * <p>
+ * 주간 요약 read model({@link WeeklyRoutineSummary})을 관리합니다. <br>
+ * 개인/단체 루틴 완료 기록이 저장·삭제될 때 같은 트랜잭션에서 해당 주의 비트마스크를 갱신합니다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class WeeklySummaryService {
+
+    private final WeeklyRoutineSummaryRepository weeklyRoutineSummaryRepository;
+
+    /**
+     * 루틴 목록 완료를 비트마스크에 반영합니다.
+     *
+     * @param user          완료한 사용자
+     * @param routineKind   개인/단체 구분
+     * @param routineListId 루틴 목록 ID
+     * @param date          완료 날짜
+     */
+    public void markDone(User user, RoutineKind routineKind, Long routineListId, LocalDate date) {
+        // 조회 후 저장하면 같은 주의 첫 완료가 동시에 들어올 때 유니크 키가 충돌하므로 upsert 한 번으로 처리합니다.
+        weeklyRoutineSummaryRepository.upsertDone(user.getId(), WeeklyRoutineSummary.weekStartOf(date),
+                routineKind.name(), routineListId, WeeklyRoutineSummary.bit(date.getDayOfWeek()));
+    }
+
+    /**
+     * 루틴 목록 완료 취소를 비트마스크에 반영합니다.
+     */
+    public void clearDone(User user, RoutineKind routineKind, Long routineListId, LocalDate date) {
+        weeklyRoutineSummaryRepository.clearDone(user.getId(), WeeklyRoutineSummary.weekStartOf(date),
+                routineKind.name(), routineListId, WeeklyRoutineSummary.bit(date.getDayOfWeek()));
+    }
+
+    /**
+     * 루틴 목록 삭제 시 모든 사용자의 비트마스크를 삭제합니다.
+     */
+    public void deleteByRoutineList(RoutineKind routineKind, Long routineListId) {
+        weeklyRoutineSummaryRepository.deleteByRoutineList(routineKind, routineListId);
+    }
+
+    /**
+     * 단체 루틴 탈퇴 시 해당 사용자의 비트마스크를 삭제합니다.
+     */
+    public void deleteByUserAndRoutineList(User user, RoutineKind routineKind, Long routineListId) {
+        weeklyRoutineSummaryRepository.deleteByUserAndRoutineList(user, routineKind, routineListId);
+    }
+
+    /**
+     * 완료 기록 한 페이지를 비트마스크에 반영합니다. ({@link WeeklySummaryBackfillJob} 의 한 페이지 단위)
+     * 같은 주·요일의 기록은 한 번만 반영하고, 요일 비트를 켜는 upsert 를 사용하므로
+     * 백필 도중 들어온 완료와 겹치거나 같은 페이지를 다시 반영해도 결과가 같습니다.
+     *
+     * @param routineKind 개인/단체 구분
+     * @param rows        [기록 ID, 사용자 ID, 루틴 목록 ID, 완료 시각] 배열 목록
+     * @return 반영한 요일 비트 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int backfillPage(RoutineKind routineKind, List<Object[]> rows) {
+        Set<String> applied = new HashSet<>();
+        for (Object[] row : rows) {
+            if (row[3] == null) {
+                continue;
+            }
+            UUID userId = (UUID) row[1];
+            Long routineListId = (Long) row[2];
+            LocalDate date = ((LocalDateTime) row[3]).toLocalDate();
+
+            if (applied.add(userId + ":" + date + ":" + routineListId)) {
+                weeklyRoutineSummaryRepository.upsertDone(userId, WeeklyRoutineSummary.weekStartOf(date),
+                        routineKind.name(), routineListId, WeeklyRoutineSummary.bit(date.getDayOfWeek()));
+            }
+        }
+        return applied.size();
+    }
+}
@@ -0,0 +1,125 @@
+package com.sanae.MoneyFit.domain.auth.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * <h2>AuthRedisRepository</h2>
+ * <p>
+ * 인증에 쓰이는 Redis 키(Refresh Token, 메일 인증번호, 비밀번호 재설정 세션)를 다룹니다. <br>
+ * "조회 후 변경"이 필요한 흐름은 Lua 스크립트로 Redis 안에서 한 번에 실행하므로 왕복이 한 번으로 줄고,
+ * 동시 요청이 같은 토큰이나 인증번호를 두 번 사용하는 경쟁 구간이 없습니다.
+ * </p>
+ *
+ * <pre>
+ * RT:{사용자}        → Refresh Token
+ * MAIL:{이메일}      → 메일 인증번호
+ * UUID:{세션 ID}     → 인증을 마친 이메일 (비밀번호 재설정용)
+ * </pre>
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuthRedisRepository {
+
+    private static final String REFRESH_TOKEN_PREFIX = "RT:";
+    private static final String MAIL_CODE_PREFIX = "MAIL:";
+    private static final String VERIFIED_SESSION_PREFIX = "UUID:";
+
+    /** 저장된 값이 기대값과 같을 때만 새 값으로 바꿉니다. 1: 교체, 0: 불일치, -1: 없음 */
+    private static final RedisScript<Long> COMPARE_AND_SET = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if not current then
+                return -1
+            end
+            if current ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    /** 인증번호가 같으면 지우고 인증 세션을 만듭니다. 1: 성공, 0: 불일치 또는 없음 */
+    private static final RedisScript<Long> CONSUME_MAIL_CODE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    /** 저장된 값이 기대값과 같을 때만 지웁니다. 1: 삭제, 0: 불일치 또는 없음 */
+    private static final RedisScript<Long> COMPARE_AND_DELETE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // ####################### Refresh Token #######################
+
+    public void saveRefreshToken(String subject, String refreshToken, Duration ttl) {
+        redisTemplate.opsForValue().set(REFRESH_TOKEN_PREFIX + subject, refreshToken, ttl);
+    }
+
+    /**
+     * 제시된 Refresh Token이 저장된 값과 같을 때만 새 토큰으로 교체합니다.
+     * 같은 토큰으로 동시에 재발급을 요청해도 한 요청만 성공합니다.
+     */
+    public RotateResult rotateRefreshToken(String subject, String presented, String rotated, Duration ttl) {
+        Long result = redisTemplate.execute(COMPARE_AND_SET, List.of(REFRESH_TOKEN_PREFIX + subject),
+                presented, rotated, String.valueOf(ttl.toMillis()));
+        if (result == null || result < 0) {
+            return RotateResult.MISSING;
+        }
+        return result == 1 ? RotateResult.ROTATED : RotateResult.MISMATCH;
+    }
+
+    public void deleteRefreshToken(String subject) {
+        redisTemplate.delete(REFRESH_TOKEN_PREFIX + subject);
+    }
+
+    // ####################### 메일 인증 #######################
+
+    /**
+     * 인증번호를 저장합니다. 이전 인증번호는 덮어씁니다.
+     */
+    public void saveMailCode(String email, String code, Duration ttl) {
+        redisTemplate.opsForValue().set(MAIL_CODE_PREFIX + email, code, ttl);
+    }
+
+    /**
+     * 인증번호가 일치하면 인증번호를 소모하고 비밀번호 재설정 세션을 만듭니다.
+     * 같은 인증번호는 한 번만 사용할 수 있습니다.
+     *
+     * @return true: 인증 성공, false: 인증번호 불일치 또는 만료
+     */
+    public boolean consumeMailCode(String email, String code, String sessionId, Duration sessionTtl) {
+        Long result = redisTemplate.execute(CONSUME_MAIL_CODE,
+                List.of(MAIL_CODE_PREFIX + email, VERIFIED_SESSION_PREFIX + sessionId),
+                code, email, String.valueOf(sessionTtl.toMillis()));
+        return result != null && result == 1;
+    }
+
+    /**
+     * 세션이 해당 이메일로 인증된 것이라면 세션을 소모합니다.
+     *
+     * @return true: 유효한 세션, false: 다른 이메일의 세션이거나 만료
+     */
+    public boolean consumeVerifiedSession(String sessionId, String email) {
+        Long result = redisTemplate.execute(COMPARE_AND_DELETE, List.of(VERIFIED_SESSION_PREFIX + sessionId), email);
+        return result != null && result == 1;
+    }
+
+    public enum RotateResult {
+        ROTATED, MISMATCH, MISSING
+    }
+}
@@ -2,8 +2,8 @@ package com.sanae.MoneyFit.domain.fcm.controller;
 
 import com.sanae.MoneyFit.domain.fcm.dto.FcmTokenRequestDto;
 import com.sanae.MoneyFit.domain.fcm.service.FcmTokenService;
-import com.sanae.MoneyFit.global.security.jwt.JwtTokenProvider;
 import com.sanae.MoneyFit.global.web.response.ApiResponse;
+import com.sanae.MoneyFit.global.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,15 +18,13 @@ import java.util.UUID;
 @RequestMapping("/fcm")
 
 public class FcmController {
-    private final JwtTokenProvider jwtTokenProvider;
     private final FcmTokenService fcmTokenService;
 
 
 
     @PostMapping("/token")
     @Operation(summary = "fcm 토큰 저장API", description = "해당유저의 fcm토큰을 저장합니다")
-    public ResponseEntity<?> accountVerification(@RequestHeader("Authorization") String token, @RequestBody FcmTokenRequestDto fcmTokenRequestDto) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
+    public ResponseEntity<?> accountVerification(@CurrentUser UUID userId, @RequestBody FcmTokenRequestDto fcmTokenRequestDto) {
         return ResponseEntity.ok().body(ApiResponse.onSuccess(fcmTokenService.saveToken(userId,fcmTokenRequestDto)));
 
     }
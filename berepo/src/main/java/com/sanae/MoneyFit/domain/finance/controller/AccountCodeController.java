@@ -3,8 +3,8 @@ package com.sanae.MoneyFit.domain.finance.controller;
 import com.sanae.MoneyFit.domain.finance.dto.request.AccountCodeRequestDto;
 import com.sanae.MoneyFit.domain.finance.dto.request.AccountCodeVerifyRequestDto;
 import com.sanae.MoneyFit.domain.finance.service.FinanceService;
-import com.sanae.MoneyFit.global.security.jwt.JwtTokenProvider;
 import com.sanae.MoneyFit.global.web.response.ApiResponse;
+import com.sanae.MoneyFit.global.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,14 +23,12 @@ import java.util.UUID;
 @RequestMapping("/user/accountCode")
 public class AccountCodeController {
 
-    private final JwtTokenProvider jwtTokenProvider;
     private final FinanceService financeService;
 
     @PostMapping
     @Operation(summary = "계좌 인증번호 전송 API", description = "1원 송금 후 인증번호를 FCM으로 전송합니다.")
-    public ResponseEntity<?> sendAccountCode(@RequestHeader("Authorization") String token,
+    public ResponseEntity<?> sendAccountCode(@CurrentUser UUID userId,
                                              @RequestBody AccountCodeRequestDto requestDto) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
         try {
             String code = financeService.sendAccountCode(userId, requestDto.getAccount());
             return ResponseEntity.ok(ApiResponse.onSuccess(code, "해당 계좌는 유효합니다."));
@@ -42,9 +40,8 @@ public class AccountCodeController {
 
     @PostMapping("/verify")
     @Operation(summary = "계좌 인증번호 인증 API", description = "1원 송금 인증번호를 검증합니다.")
-    public ResponseEntity<?> verifyAccountCode(@RequestHeader("Authorization") String token,
+    public ResponseEntity<?> verifyAccountCode(@CurrentUser UUID userId,
                                                @RequestBody AccountCodeVerifyRequestDto requestDto) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
         boolean result = financeService.verifyAccountCode(userId, requestDto.getCode());
         if (result) {
             return ResponseEntity.ok(ApiResponse.onSuccess("인증 성공"));
@@ -0,0 +1,49 @@
+package com.sanae.MoneyFit.domain.finance.controller;
+
+import com.sanae.MoneyFit.domain.finance.dto.request.DummyTransactionBulkRequestDto;
+import com.sanae.MoneyFit.domain.finance.enums.DummySeedingStatus;
+import com.sanae.MoneyFit.domain.finance.service.DummyTransactionSeeder;
+import com.sanae.MoneyFit.domain.finance.service.DummyTransactionSeedingService;
+import com.sanae.MoneyFit.global.web.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * 더미 거래 일괄 생성 관리자 API 컨트롤러
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/dummy-transactions")
+@PreAuthorize("hasRole('ADMIN')")
+public class DummyTransactionAdminController {
+
+    private final DummyTransactionSeeder dummyTransactionSeeder;
+    private final DummyTransactionSeedingService dummyTransactionSeedingService;
+
+    @PostMapping
+    @Operation(summary = "더미 거래 일괄 생성 API", description = "지정한 사용자들의 계좌에 더미 거래를 백그라운드에서 생성합니다. 이미 끝난 계좌는 건너뛰고, 중단된 계좌는 남은 거래만 이어서 만듭니다.")
+    public ResponseEntity<?> seedAll(@RequestBody @Valid DummyTransactionBulkRequestDto requestDto) {
+        int requested = requestDto.getUserIds().size();
+        dummyTransactionSeeder.seedAll(requestDto.getUserIds())
+                .collectList()
+                .subscribe(
+                        results -> log.info("[DummyTransaction] 일괄 생성 종료: 요청 = {}, 처리 = {}, 완료 = {}", requested, results.size(),
+                                results.stream().filter(result -> result.getStatus() == DummySeedingStatus.COMPLETED).count()),
+                        e -> log.error("[DummyTransaction] 일괄 생성 중 오류", e));
+        return ResponseEntity.ok(ApiResponse.onSuccess(requested, "더미 거래 일괄 생성을 시작했습니다."));
+    }
+
+    @GetMapping("/{userId}")
+    @Operation(summary = "더미 거래 생성 진행 상황 조회 API", description = "사용자 계좌의 더미 거래 생성 상태와 진행 건수를 조회합니다.")
+    public ResponseEntity<?> getProgress(@PathVariable UUID userId) {
+        return ResponseEntity.ok(ApiResponse.onSuccess(dummyTransactionSeedingService.getProgress(userId)));
+    }
+}
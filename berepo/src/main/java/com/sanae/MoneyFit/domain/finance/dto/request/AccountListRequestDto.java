@@ -0,0 +1,18 @@
+package com.sanae.MoneyFit.domain.finance.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sanae.MoneyFit.domain.user.dto.request.BankAccountHeaderDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 계좌 목록 조회 요청 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountListRequestDto {
+	@JsonProperty("Header")
+	private BankAccountHeaderDto header;
+}
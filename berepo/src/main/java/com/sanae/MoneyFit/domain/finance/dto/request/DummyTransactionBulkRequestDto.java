@@ -0,0 +1,21 @@
+package com.sanae.MoneyFit.domain.finance.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 더미 거래 일괄 생성 요청 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DummyTransactionBulkRequestDto {
+    /** 대상 사용자 ID 목록 */
+    @NotEmpty
+    private List<UUID> userIds;
+}
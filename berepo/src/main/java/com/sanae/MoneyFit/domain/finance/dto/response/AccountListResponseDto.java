@@ -0,0 +1,29 @@
+package com.sanae.MoneyFit.domain.finance.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 계좌 목록 조회 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountListResponseDto {
+	@JsonProperty("REC")
+	private List<Rec> rec;
+
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Rec {
+		private String bankCode;
+		private String accountNo;
+		private String accountName;
+		private String accountCreatedDate;
+	}
+}
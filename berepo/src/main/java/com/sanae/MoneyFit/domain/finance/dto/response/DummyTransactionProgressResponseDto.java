@@ -0,0 +1,35 @@
+package com.sanae.MoneyFit.domain.finance.dto.response;
+
+import com.sanae.MoneyFit.domain.finance.entity.DummyTransactionSeeding;
+import com.sanae.MoneyFit.domain.finance.enums.DummySeedingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 계좌별 더미 거래 생성 진행 상황 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DummyTransactionProgressResponseDto {
+    /** 계좌번호 */
+    private String accountNo;
+    /** 생성 상태 */
+    private DummySeedingStatus status;
+    /** 끝난 거래 수 */
+    private int doneSteps;
+    /** 계획된 전체 거래 수 */
+    private int totalSteps;
+
+    public static DummyTransactionProgressResponseDto from(DummyTransactionSeeding seeding) {
+        return DummyTransactionProgressResponseDto.builder()
+                .accountNo(seeding.getAccountNo())
+                .status(seeding.getStatus())
+                .doneSteps(seeding.getDoneSteps())
+                .totalSteps(seeding.getTotalSteps())
+                .build();
+    }
+}
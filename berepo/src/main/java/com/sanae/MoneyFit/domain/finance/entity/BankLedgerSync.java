@@ -0,0 +1,48 @@
+package com.sanae.MoneyFit.domain.finance.entity;
+
+import com.sanae.MoneyFit.global.common.util.BaseTime;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 계좌별 거래내역 원장 동기화 워터마크
+ * <p>마지막으로 동기화한 날짜와 그 시점의 최신 거래고유번호를 기록하여, 다음 동기화 때 이후 구간만 은행에 요청합니다.</p>
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BankLedgerSync extends BaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "bank_ledger_sync_id", updatable = false, unique = true, nullable = false)
+    private long id;
+
+    @Column(name = "account_no", nullable = false, unique = true, length = 30)
+    private String accountNo;
+
+    @Column(name = "last_synced_date", nullable = false)
+    private LocalDate lastSyncedDate;
+
+    @Column(name = "last_transaction_unique_no", length = 30)
+    private String lastTransactionUniqueNo;
+
+    // ################# 비즈니스 로직 메서드 #################
+
+    /**
+     * 동기화가 끝난 뒤 워터마크를 전진시킵니다.
+     *
+     * @param syncedDate          동기화 기준 날짜
+     * @param latestUniqueNo      이번 동기화에서 받은 최신 거래고유번호 (없으면 기존 값 유지)
+     */
+    public void advance(LocalDate syncedDate, String latestUniqueNo) {
+        this.lastSyncedDate = syncedDate;
+        if (latestUniqueNo != null) {
+            this.lastTransactionUniqueNo = latestUniqueNo;
+        }
+    }
+}
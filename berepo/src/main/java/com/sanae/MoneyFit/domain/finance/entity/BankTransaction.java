@@ -0,0 +1,70 @@
+package com.sanae.MoneyFit.domain.finance.entity;
+
+import com.sanae.MoneyFit.domain.finance.enums.TransactionType;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.global.common.util.BaseTime;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 은행 거래내역 원장 (append-only)
+ * <p>
+ * 은행 API에서 가져온 거래내역을 계좌별로 누적 저장합니다. <br>
+ * 금액은 숫자로, 거래 구분은 {@link TransactionType}으로 정규화하여 저장하므로 조회 시 문자열 파싱이 필요 없습니다.
+ * </p>
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "bank_transaction",
+        uniqueConstraints = @UniqueConstraint(name = "uk_bank_transaction_account_unique_no",
+                columnNames = {"account_no", "transaction_unique_no"}),
+        indexes = @Index(name = "idx_bank_transaction_account_date", columnList = "account_no, transaction_date"))
+public class BankTransaction extends BaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "bank_transaction_id", updatable = false, unique = true, nullable = false)
+    private long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "account_no", nullable = false, length = 30)
+    private String accountNo;
+
+    @Column(name = "transaction_unique_no", nullable = false, length = 30)
+    private String transactionUniqueNo;
+
+    @Column(name = "transaction_date", nullable = false)
+    private LocalDate transactionDate;
+
+    @Column(name = "transaction_time")
+    private LocalTime transactionTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false, length = 20)
+    private TransactionType transactionType;
+
+    /** 은행 API의 거래구분명 원문 (예: "출금(이체)") */
+    @Column(name = "transaction_type_name")
+    private String transactionTypeName;
+
+    @Column(name = "amount", nullable = false)
+    private long amount;
+
+    @Column(name = "after_balance", nullable = false)
+    private long afterBalance;
+
+    @Column(name = "summary")
+    private String summary;
+
+    @Column(name = "memo")
+    private String memo;
+}
@@ -0,0 +1,98 @@
+package com.sanae.MoneyFit.domain.finance.entity;
+
+import com.sanae.MoneyFit.domain.finance.enums.DummySeedingStatus;
+import com.sanae.MoneyFit.domain.finance.template.DummyTransactionPlan;
+import com.sanae.MoneyFit.global.common.util.BaseTime;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌별 더미 거래 생성 진행 상황
+ * <p>
+ * 계획을 만든 시드와 끝난 단계의 비트마스크({@link DummyTransactionPlan.Step#bit()})를 저장합니다.
+ * 단계는 은행 요청이 성공할 때마다 바로 기록되고, 다시 실행하면 같은 시드로 같은 계획을 만들어 기록되지 않은 단계만 실행합니다.
+ * 다만 은행이 거래를 처리한 뒤 응답을 받거나 기록하기 전에 중단되면 그 단계는 다시 요청될 수 있습니다.
+ * </p>
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DummyTransactionSeeding extends BaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "dummy_transaction_seeding_id", updatable = false, unique = true, nullable = false)
+    private long id;
+
+    @Column(name = "account_no", nullable = false, unique = true, length = 30)
+    private String accountNo;
+
+    @Column(nullable = false)
+    private long seed;
+
+    @Column(name = "total_steps", nullable = false)
+    private int totalSteps;
+
+    @Column(name = "done_mask", nullable = false)
+    private long doneMask;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DummySeedingStatus status;
+
+    /** 실행 중인 서버의 점유 만료 시각. 지나면 다른 서버가 이어서 실행할 수 있습니다. */
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    public DummyTransactionSeeding(String accountNo, DummyTransactionPlan plan, LocalDateTime leaseUntil) {
+        this.accountNo = accountNo;
+        this.seed = plan.seed();
+        this.totalSteps = plan.size();
+        this.doneMask = 0L;
+        this.status = DummySeedingStatus.RUNNING;
+        this.leaseUntil = leaseUntil;
+    }
+
+    // ################# 비즈니스 로직 메서드 #################
+
+    /**
+     * 실행을 시작합니다. 이미 끝났거나 다른 서버가 실행 중이면 시작하지 않습니다.
+     *
+     * @return 시작했으면 true
+     */
+    public boolean tryStart(LocalDateTime now, LocalDateTime leaseUntil) {
+        if (status == DummySeedingStatus.COMPLETED) {
+            return false;
+        }
+        if (status == DummySeedingStatus.RUNNING && this.leaseUntil != null && this.leaseUntil.isAfter(now)) {
+            return false;
+        }
+        this.status = DummySeedingStatus.RUNNING;
+        this.leaseUntil = leaseUntil;
+        return true;
+    }
+
+    /**
+     * 끝난 단계를 반영합니다.
+     */
+    public void recordProgress(long doneMask) {
+        this.doneMask |= doneMask;
+    }
+
+    /**
+     * 실행을 마칩니다. 모든 단계가 끝났으면 COMPLETED, 아니면 FAILED가 됩니다.
+     */
+    public void finish(long doneMask) {
+        recordProgress(doneMask);
+        this.status = getDoneSteps() == totalSteps ? DummySeedingStatus.COMPLETED : DummySeedingStatus.FAILED;
+        this.leaseUntil = null;
+    }
+
+    public int getDoneSteps() {
+        return Long.bitCount(doneMask);
+    }
+}
@@ -0,0 +1,11 @@
+package com.sanae.MoneyFit.domain.finance.enums;
+
+/**
+ * 계좌별 더미 거래 생성 상태
+ * <p>FAILED는 일부 단계가 실패한 상태로, 다시 실행하면 끝나지 않은 단계만 이어서 진행합니다.</p>
+ */
+public enum DummySeedingStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
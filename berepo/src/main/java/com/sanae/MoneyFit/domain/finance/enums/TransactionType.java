@@ -0,0 +1,43 @@
+package com.sanae.MoneyFit.domain.finance.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 은행 거래 구분
+ * <p>은행 API의 거래구분 코드(1: 입금, 2: 출금)와 거래구분명("입금", "출금(이체)" 등)을 하나의 값으로 정규화합니다.</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TransactionType {
+    DEPOSIT("1", "입금"),
+    WITHDRAWAL("2", "출금"),
+    OTHER("", "기타");
+
+    private final String code;
+    private final String typeName;
+
+    /**
+     * 은행 API 응답의 거래구분 코드/이름으로부터 거래 구분을 결정합니다.
+     *
+     * @param code     거래구분 코드
+     * @param typeName 거래구분명
+     * @return 정규화된 거래 구분
+     */
+    public static TransactionType from(String code, String typeName) {
+        for (TransactionType type : values()) {
+            if (type != OTHER && type.code.equals(code)) {
+                return type;
+            }
+        }
+        if (typeName != null) {
+            if (typeName.startsWith(DEPOSIT.typeName)) {
+                return DEPOSIT;
+            }
+            if (typeName.startsWith(WITHDRAWAL.typeName)) {
+                return WITHDRAWAL;
+            }
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,25 @@
+package com.sanae.MoneyFit.domain.finance.repository;
+
+import com.sanae.MoneyFit.domain.finance.entity.BankLedgerSync;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface BankLedgerSyncRepository extends JpaRepository<BankLedgerSync, Long> {
+
+    Optional<BankLedgerSync> findByAccountNo(String accountNo);
+
+    /**
+     * 계좌의 동기화 워터마크를 삭제합니다.
+     *
+     * @param accountNo 삭제 대상 계좌번호
+     */
+    @Modifying
+    @Query("DELETE FROM BankLedgerSync s WHERE s.accountNo = :accountNo")
+    void deleteByAccountNo(@Param("accountNo") String accountNo);
+}
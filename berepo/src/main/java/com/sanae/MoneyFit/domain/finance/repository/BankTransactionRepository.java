@@ -0,0 +1,44 @@
+package com.sanae.MoneyFit.domain.finance.repository;
+
+import com.sanae.MoneyFit.domain.finance.entity.BankTransaction;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BankTransactionRepository extends JpaRepository<BankTransaction, Long> {
+
+    /**
+     * 계좌의 기간 내 거래내역을 최신순으로 조회합니다.
+     */
+    @Query("SELECT t FROM BankTransaction t " +
+            "WHERE t.accountNo = :accountNo AND t.transactionDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY t.transactionDate DESC, t.transactionTime DESC, t.id DESC")
+    List<BankTransaction> findByAccountNoAndDateRange(@Param("accountNo") String accountNo,
+                                                      @Param("startDate") LocalDate startDate,
+                                                      @Param("endDate") LocalDate endDate);
+
+    /**
+     * 주어진 거래고유번호 중 이미 원장에 저장된 것을 조회합니다. (중복 저장 방지)
+     */
+    @Query("SELECT t.transactionUniqueNo FROM BankTransaction t " +
+            "WHERE t.accountNo = :accountNo AND t.transactionUniqueNo IN :uniqueNos")
+    List<String> findExistingUniqueNos(@Param("accountNo") String accountNo,
+                                       @Param("uniqueNos") Collection<String> uniqueNos);
+
+    /**
+     * 특정 사용자의 거래내역 원장을 삭제합니다.
+     *
+     * @param user 삭제 대상 사용자
+     */
+    @Modifying
+    @Query("DELETE FROM BankTransaction t WHERE t.user = :user")
+    void deleteAllByUser(@Param("user") User user);
+}
@@ -0,0 +1,32 @@
+package com.sanae.MoneyFit.domain.finance.repository;
+
+import com.sanae.MoneyFit.domain.finance.entity.DummyTransactionSeeding;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface DummyTransactionSeedingRepository extends JpaRepository<DummyTransactionSeeding, Long> {
+
+    Optional<DummyTransactionSeeding> findByAccountNo(String accountNo);
+
+    /**
+     * 실행 시작 여부를 판단하는 동안 다른 서버가 같은 계좌의 실행을 시작하지 못하도록 행을 잠그고 조회합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM DummyTransactionSeeding s WHERE s.accountNo = :accountNo")
+    Optional<DummyTransactionSeeding> findByAccountNoForUpdate(@Param("accountNo") String accountNo);
+
+    /**
+     * 계좌의 더미 거래 생성 진행 상황을 삭제합니다.
+     *
+     * @param accountNo 삭제 대상 계좌번호
+     */
+    @Modifying
+    @Query("DELETE FROM DummyTransactionSeeding s WHERE s.accountNo = :accountNo")
+    void deleteByAccountNo(@Param("accountNo") String accountNo);
+}
@@ -0,0 +1,185 @@
+package com.sanae.MoneyFit.domain.finance.service;
+
+import com.sanae.MoneyFit.domain.finance.dto.response.AccountTransferResponseDto;
+import com.sanae.MoneyFit.domain.finance.dto.response.DummyTransactionProgressResponseDto;
+import com.sanae.MoneyFit.domain.finance.entity.DummyTransactionSeeding;
+import com.sanae.MoneyFit.domain.finance.enums.TransactionType;
+import com.sanae.MoneyFit.domain.finance.template.DummyTransactionPlan;
+import com.sanae.MoneyFit.global.config.DummyTransactionProperties;
+import com.sanae.MoneyFit.global.infra.http.bank.WebClientBankUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RRateLimiter;
+import org.redisson.api.RateIntervalUnit;
+import org.redisson.api.RateType;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2>DummyTransactionSeeder</h2>
+ * <p>
+ * 계좌에 더미 입출금 거래를 만듭니다.
+ * </p>
+ * <ol>
+ *     <li>계좌의 거래 전체를 {@link DummyTransactionPlan}으로 미리 계획합니다. (이어서 실행할 때는 저장된 시드로 같은 계획을 다시 만듭니다)</li>
+ *     <li>입금을 최대 {@code concurrency}건씩 동시에 요청합니다.</li>
+ *     <li>입금이 모두 반영되면 출금을 같은 방식으로 요청합니다.</li>
+ *     <li>각 단계는 요청이 성공하는 즉시 {@link DummyTransactionSeeding}에 기록합니다. 일부가 실패하면 FAILED로 남고, 다시 실행하면 남은 단계만 진행합니다.</li>
+ * </ol>
+ * <p>
+ * 호출한 쪽의 제한 시간 등으로 실행이 취소되면 그때까지의 진행 상황을 기록하고 점유를 바로 풀어, 재시도가 점유 만료를 기다리지 않게 합니다.
+ * </p>
+ * <p>
+ * 모든 입출금 요청은 Redis에 있는 하나의 전역 속도 제한({@code permitsPerSecond})을 거치므로, 가입이 몰리거나 일괄 생성을 돌려도
+ * 서버 수와 상관없이 은행 API 한도를 넘지 않습니다. DB 작업은 전용 스케줄러에서 실행되어 WebClient 이벤트 루프를 막지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(DummyTransactionProperties.class)
+public class DummyTransactionSeeder {
+
+    private static final String RATE_LIMITER_KEY = "RATE_LIMIT:BANK_DUMMY_TRANSACTION";
+
+    private final WebClientBankUtil webClientBankUtil;
+    private final DummyTransactionSeedingService dummyTransactionSeedingService;
+    private final DummyTransactionProperties properties;
+    private final RRateLimiter rateLimiter;
+    private final Scheduler dbScheduler;
+
+    public DummyTransactionSeeder(WebClientBankUtil webClientBankUtil, DummyTransactionSeedingService dummyTransactionSeedingService,
+                                  DummyTransactionProperties properties, RedissonClient redissonClient) {
+        this.webClientBankUtil = webClientBankUtil;
+        this.dummyTransactionSeedingService = dummyTransactionSeedingService;
+        this.properties = properties;
+        this.rateLimiter = redissonClient.getRateLimiter(RATE_LIMITER_KEY);
+        // 이미 설정되어 있으면 그대로 두므로 모든 서버가 같은 한도를 공유합니다.
+        this.rateLimiter.trySetRate(RateType.OVERALL, properties.getPermitsPerSecond(), 1, RateIntervalUnit.SECONDS);
+        this.dbScheduler = Schedulers.newBoundedElastic(properties.getUserConcurrency(),
+                Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "dummy-transaction-db");
+    }
+
+    @PreDestroy
+    public void stop() {
+        dbScheduler.dispose();
+    }
+
+    /**
+     * 계좌 하나의 더미 거래를 만듭니다. 이미 끝난 계좌는 아무것도 하지 않고, 다른 서버가 실행 중이면 현재 진행 상황만 반환합니다.
+     *
+     * @param userKey   은행 사용자 키
+     * @param accountNo 계좌번호
+     * @return 실행 후 진행 상황
+     */
+    public Mono<DummyTransactionProgressResponseDto> seed(String userKey, String accountNo) {
+        return fromDb(() -> dummyTransactionSeedingService.start(accountNo, nextSeed(accountNo), properties.getLease()))
+                .flatMap(start -> {
+                    DummyTransactionSeeding seeding = start.seeding();
+                    if (!start.started()) {
+                        return Mono.just(DummyTransactionProgressResponseDto.from(seeding));
+                    }
+                    return run(userKey, accountNo, DummyTransactionPlan.create(seeding.getSeed()), seeding.getDoneMask());
+                });
+    }
+
+    /**
+     * 여러 사용자의 더미 거래를 최대 {@code userConcurrency}개 계좌씩 동시에 만듭니다. 은행 계좌가 없는 사용자는 건너뜁니다.
+     *
+     * @param userIds 대상 사용자 ID 목록
+     * @return 계좌별 실행 결과
+     */
+    public Flux<DummyTransactionProgressResponseDto> seedAll(List<UUID> userIds) {
+        return fromDb(() -> dummyTransactionSeedingService.findTargets(userIds))
+                .flatMapIterable(targets -> targets)
+                .flatMap(target -> seed(target.userKey(), target.accountNo())
+                        .onErrorResume(e -> {
+                            log.error("[DummyTransaction] 계좌 처리 중 오류: accountNo = {}", target.accountNo(), e);
+                            return Mono.empty();
+                        }), properties.getUserConcurrency());
+    }
+
+    // ####################### Private 서브 메서드 #######################
+
+    private Mono<DummyTransactionProgressResponseDto> run(String userKey, String accountNo, DummyTransactionPlan plan, long doneMask) {
+        AtomicLong done = new AtomicLong(doneMask);
+
+        // 1. 입금
+        return execute(userKey, accountNo, plan.deposits(), done)
+                // 2. 입금이 모두 반영된 경우에만 출금
+                .then(Mono.defer(() -> plan.depositsDone(done.get())
+                        ? execute(userKey, accountNo, plan.withdrawals(), done)
+                        : Mono.empty()))
+                // 3. 결과 기록
+                .then(Mono.defer(() -> fromDb(() -> dummyTransactionSeedingService.finish(accountNo, done.get()))))
+                .doOnNext(progress -> log.info("[DummyTransaction] 더미 거래 생성 {}: accountNo = {}, {}/{}",
+                        progress.getStatus(), accountNo, progress.getDoneSteps(), progress.getTotalSteps()))
+                .doOnCancel(() -> release(accountNo, done.get()));
+    }
+
+    /**
+     * 취소된 실행의 진행 상황을 기록하고 점유를 풉니다. 취소한 쪽은 결과를 기다리지 않으므로 따로 실행합니다.
+     */
+    private void release(String accountNo, long doneMask) {
+        onDb(() -> dummyTransactionSeedingService.finish(accountNo, doneMask))
+                .subscribe(null, e -> log.warn("[DummyTransaction] 취소된 실행의 점유 해제 실패: accountNo = {}, error = {}",
+                        accountNo, e.getMessage()));
+    }
+
+    /**
+     * 아직 끝나지 않은 단계를 최대 {@code concurrency}건씩 동시에 요청합니다. 성공한 단계는 바로 DB에 기록하고,
+     * 실패한 단계는 로그만 남기고 넘어갑니다.
+     */
+    private Mono<Void> execute(String userKey, String accountNo, List<DummyTransactionPlan.Step> steps, AtomicLong done) {
+        return Flux.fromIterable(steps)
+                .filter(step -> !step.isDone(done.get()))
+                .flatMap(step -> acquirePermit()
+                        .then(transfer(userKey, accountNo, step))
+                        // 중단 후 다시 실행해도 이미 보낸 거래를 다시 보내지 않도록 끝난 단계를 바로 기록
+                        .flatMap(response -> onDb(() -> dummyTransactionSeedingService.recordProgress(accountNo, step.bit()))
+                                .thenReturn(response))
+                        .doOnNext(response -> done.accumulateAndGet(step.bit(), (current, bit) -> current | bit))
+                        .onErrorResume(e -> {
+                            log.warn("[DummyTransaction] {} 실패: accountNo = {}, {} {}원, error = {}", step.type().getTypeName(),
+                                    accountNo, step.template().summary(), step.template().amount(), e.getMessage());
+                            return Mono.empty();
+                        }), properties.getConcurrency())
+                .then();
+    }
+
+    private Mono<AccountTransferResponseDto> transfer(String userKey, String accountNo, DummyTransactionPlan.Step step) {
+        long amount = step.template().amount();
+        String summary = step.template().summary();
+        return step.type() == TransactionType.DEPOSIT
+                ? webClientBankUtil.deposit(userKey, accountNo, amount, summary)
+                : webClientBankUtil.withdraw(userKey, accountNo, amount, summary);
+    }
+
+    private Mono<Void> acquirePermit() {
+        return Mono.fromCompletionStage(() -> rateLimiter.acquireAsync()).then();
+    }
+
+    private long nextSeed(String accountNo) {
+        return properties.getSeed() != null
+                ? properties.getSeed() ^ accountNo.hashCode()
+                : ThreadLocalRandom.current().nextLong();
+    }
+
+    private <T> Mono<T> fromDb(Callable<T> callable) {
+        return Mono.fromCallable(callable).subscribeOn(dbScheduler);
+    }
+
+    private Mono<Void> onDb(Runnable runnable) {
+        return Mono.<Void>fromRunnable(runnable).subscribeOn(dbScheduler);
+    }
+}
@@ -0,0 +1,109 @@
+package com.sanae.MoneyFit.domain.finance.service;
+
+import com.sanae.MoneyFit.domain.finance.dto.response.DummyTransactionProgressResponseDto;
+import com.sanae.MoneyFit.domain.finance.entity.DummyTransactionSeeding;
+import com.sanae.MoneyFit.domain.finance.repository.DummyTransactionSeedingRepository;
+import com.sanae.MoneyFit.domain.finance.template.DummyTransactionPlan;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.domain.user.repository.UserRepository;
+import com.sanae.MoneyFit.global.error.handler.UserHandler;
+import com.sanae.MoneyFit.global.web.response.code.status.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * <h2>DummyTransactionSeedingService</h2>
+ * <p>
+ * 더미 거래 생성 진행 상황({@link DummyTransactionSeeding})을 읽고 쓰는 DB 작업을 모아 둔 서비스입니다. <br>
+ * 은행 API 호출은 {@link DummyTransactionSeeder}가 트랜잭션 밖에서 수행하고, 여기서는 짧은 트랜잭션으로 상태만 바꿉니다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class DummyTransactionSeedingService {
+
+    private final DummyTransactionSeedingRepository dummyTransactionSeedingRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 계좌의 더미 거래 생성을 시작합니다. 처음 실행하는 계좌는 {@code newSeed}로 계획을 만들고,
+     * 이전에 중단된 계좌는 저장된 시드와 진행 상황을 그대로 이어받습니다.
+     *
+     * @param lease 실행 점유 시간. 이 시간 동안 다른 서버는 같은 계좌를 실행하지 않습니다.
+     */
+    public Start start(String accountNo, long newSeed, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plus(lease);
+
+        return dummyTransactionSeedingRepository.findByAccountNoForUpdate(accountNo)
+                .map(seeding -> new Start(seeding.tryStart(now, leaseUntil), seeding))
+                .orElseGet(() -> new Start(true, dummyTransactionSeedingRepository.save(
+                        new DummyTransactionSeeding(accountNo, DummyTransactionPlan.create(newSeed), leaseUntil))));
+    }
+
+    /**
+     * 끝난 단계를 기록합니다. 같은 계좌의 단계가 동시에 끝나도 비트가 유실되지 않도록 행을 잠그고 반영합니다.
+     */
+    public void recordProgress(String accountNo, long doneMask) {
+        getSeedingForUpdate(accountNo).recordProgress(doneMask);
+    }
+
+    /**
+     * 실행을 마치고 점유를 풉니다. 중간에 취소된 실행도 이 메서드로 점유를 풀어 바로 다시 실행할 수 있게 합니다.
+     */
+    public DummyTransactionProgressResponseDto finish(String accountNo, long doneMask) {
+        DummyTransactionSeeding seeding = getSeedingForUpdate(accountNo);
+        seeding.finish(doneMask);
+        return DummyTransactionProgressResponseDto.from(seeding);
+    }
+
+    /**
+     * 일괄 생성 대상 사용자 중 은행 계좌가 연결된 사용자만 골라 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<Target> findTargets(List<UUID> userIds) {
+        return userRepository.findAllById(userIds).stream()
+                .filter(user -> user.getUserKey() != null && user.getBankAccount() != null)
+                .map(user -> new Target(user.getUserKey(), user.getBankAccount()))
+                .toList();
+    }
+
+    /**
+     * 사용자 계좌의 더미 거래 생성 진행 상황을 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public DummyTransactionProgressResponseDto getProgress(UUID userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
+        if (user.getBankAccount() == null) {
+            throw new UserHandler(ErrorStatus.USER_NOT_BANK_ACCOUNT);
+        }
+        return dummyTransactionSeedingRepository.findByAccountNo(user.getBankAccount())
+                .map(DummyTransactionProgressResponseDto::from)
+                .orElseThrow(() -> new UserHandler(ErrorStatus.DUMMY_TRANSACTION_NOT_FOUND));
+    }
+
+    // ####################### Private 서브 메서드 #######################
+
+    private DummyTransactionSeeding getSeedingForUpdate(String accountNo) {
+        return dummyTransactionSeedingRepository.findByAccountNoForUpdate(accountNo)
+                .orElseThrow(() -> new UserHandler(ErrorStatus.DUMMY_TRANSACTION_NOT_FOUND));
+    }
+
+    /**
+     * @param started  이번 호출로 실행을 시작했는지 여부 (false면 이미 끝났거나 다른 서버가 실행 중)
+     * @param seeding  진행 상황
+     */
+    public record Start(boolean started, DummyTransactionSeeding seeding) {
+    }
+
+    public record Target(String userKey, String accountNo) {
+    }
+}
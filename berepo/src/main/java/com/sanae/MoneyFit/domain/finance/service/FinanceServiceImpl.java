@@ -7,9 +7,7 @@ import com.sanae.MoneyFit.domain.finance.dto.response.CheckAuthCodeResponseDto;
 import com.sanae.MoneyFit.domain.finance.dto.response.OpenAccountAuthResponseDto;
 import com.sanae.MoneyFit.domain.finance.dto.response.TransactionHistoryListResponseDto;
 import com.sanae.MoneyFit.domain.finance.dto.response.TransactionHistoryResponseDto;
-import com.sanae.MoneyFit.domain.finance.template.DepositTemplates;
-import com.sanae.MoneyFit.domain.finance.template.ExpenseTemplates;
-import com.sanae.MoneyFit.domain.finance.template.TransactionTemplate;
+import com.sanae.MoneyFit.domain.finance.enums.DummySeedingStatus;
 import com.sanae.MoneyFit.domain.user.entity.User;
 import com.sanae.MoneyFit.domain.user.repository.UserRepository;
 import com.sanae.MoneyFit.global.error.handler.UserHandler;
@@ -20,16 +18,10 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDate;
 import java.util.UUID;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Service
@@ -40,6 +32,7 @@ public class FinanceServiceImpl implements FinanceService{
     private final WebClientBankUtil webClientBankUtil;
     private final FcmTokenService fcmTokenService;
     private final FcmTokenRepository fcmTokenRepository;
+    private final DummyTransactionSeeder dummyTransactionSeeder;
 
     private static final String AUTH_TEXT = "헤이루틴"; // 거래 요약에 표시될 기업명
 
@@ -127,43 +120,17 @@ public class FinanceServiceImpl implements FinanceService{
      * 계좌에 더미 입출금 내역을 생성한다.
      * <p>
      * 입금 2건 후 그 금액을 초과하지 않는 범위에서 최대 10건의 출금을 수행한다.
-     * 각 단계는 순차적으로 처리하여 실제 거래 흐름과 유사하게 만든다.
+     * 실제 생성은 {@link DummyTransactionSeeder}가 맡으며, 모든 거래가 끝나지 않았으면(일부 실패, 다른 서버에서 실행 중) 에러로 끝나
+     * 호출한 쪽에서 다시 시도할 수 있다. 다시 실행하면 끝나지 않은 거래만 이어서 만든다.
      */
     @Override
     public Mono<Void> generateDummyTransactions(String userKey, String accountNo) {
-        List<TransactionTemplate> deposits = new ArrayList<>(DepositTemplates.TEMPLATES);
-        Collections.shuffle(deposits);
-        AtomicLong total = new AtomicLong(0);
-
-        // 1) 두 건의 입금을 순차 실행
-        Mono<Void> depositFlow = Flux.fromIterable(deposits.subList(0, 2))
-                .concatMap(template -> webClientBankUtil.deposit(userKey, accountNo, template.amount(), template.summary())
-                        .doOnNext(res -> {
-                            log.info("입금 성공: {} {}원", template.summary(), template.amount());
-                            total.addAndGet(template.amount());
-                        })
-                        .doOnError(e -> log.error("입금 실패: {}", e.getMessage()))
-                        .onErrorResume(e -> Mono.empty()))
+        return dummyTransactionSeeder.seed(userKey, accountNo)
+                .flatMap(progress -> progress.getStatus() == DummySeedingStatus.COMPLETED
+                        ? Mono.<Void>empty()
+                        : Mono.error(new IllegalStateException("더미 거래 생성 미완료(" + progress.getStatus() + "): "
+                                + progress.getDoneSteps() + "/" + progress.getTotalSteps())))
                 .then();
-
-        // 2) 입금 완료 후 출금 실행
-        return depositFlow.then(Mono.defer(() -> {
-            AtomicLong remaining = new AtomicLong(total.get());
-            List<TransactionTemplate> expenses = new ArrayList<>(ExpenseTemplates.TEMPLATES);
-            Collections.shuffle(expenses);
-
-            return Flux.fromIterable(expenses)
-                    .filter(template -> template.amount() <= remaining.get())
-                    .take(10)
-                    .concatMap(template -> webClientBankUtil.withdraw(userKey, accountNo, template.amount(), template.summary())
-                            .doOnNext(res -> {
-                                log.info("출금 성공: {} {}원", template.summary(), template.amount());
-                                remaining.addAndGet(-template.amount());
-                            })
-                            .doOnError(e -> log.error("출금 실패: {}", e.getMessage()))
-                            .onErrorResume(e -> Mono.empty()))
-                    .then();
-        })).subscribeOn(Schedulers.boundedElastic());
     }
 
     /**
@@ -0,0 +1,49 @@
+package com.sanae.MoneyFit.domain.finance.service;
+
+import com.sanae.MoneyFit.domain.finance.entity.BankTransaction;
+import com.sanae.MoneyFit.domain.finance.repository.BankTransactionRepository;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <h2>TransactionLedgerService</h2>
+ * <p>
+ * 소비 분석에서 사용할 거래내역을 로컬 원장에서 조회합니다. <br>
+ * 조회 전에 {@link TransactionLedgerSynchronizer}로 마지막 동기화 이후의 거래만 은행에서 받아 원장에 추가합니다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionLedgerService {
+
+    private final TransactionLedgerSynchronizer transactionLedgerSynchronizer;
+    private final BankTransactionRepository bankTransactionRepository;
+
+    /**
+     * 사용자 계좌의 기간 내 거래내역을 최신순으로 조회합니다.
+     * <p>
+     * 동기화는 별도 트랜잭션에서 커밋되므로, 호출자의 트랜잭션 스냅샷이 아닌 새 트랜잭션에서 원장을 읽도록
+     * 트랜잭션 밖에서 실행합니다. 반환되는 엔티티는 준영속 상태입니다.
+     * </p>
+     *
+     * @param user      조회할 사용자
+     * @param startDate 조회 시작일
+     * @param endDate   조회 종료일
+     * @return 거래내역 목록 (계좌가 없으면 빈 목록)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BankTransaction> getTransactions(User user, LocalDate startDate, LocalDate endDate) {
+        if (user.getUserKey() == null || user.getBankAccount() == null) {
+            return Collections.emptyList();
+        }
+        transactionLedgerSynchronizer.sync(user.getId(), user.getUserKey(), user.getBankAccount());
+        return bankTransactionRepository.findByAccountNoAndDateRange(user.getBankAccount(), startDate, endDate);
+    }
+}
@@ -0,0 +1,104 @@
+package com.sanae.MoneyFit.domain.finance.service;
+
+import com.sanae.MoneyFit.domain.finance.dto.response.TransactionHistoryListResponseDto;
+import com.sanae.MoneyFit.domain.finance.entity.BankLedgerSync;
+import com.sanae.MoneyFit.domain.finance.entity.BankTransaction;
+import com.sanae.MoneyFit.domain.finance.repository.BankLedgerSyncRepository;
+import com.sanae.MoneyFit.global.infra.http.bank.WebClientBankUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * <h2>TransactionLedgerSynchronizer</h2>
+ * <p>
+ * 은행 거래내역을 계좌별 원장({@link BankTransaction})으로 증분 동기화합니다. <br>
+ * 마지막 동기화 날짜({@link BankLedgerSync})부터 오늘까지의 구간만 은행에 요청하고,
+ * 응답 중 마지막으로 저장한 거래고유번호(워터마크)보다 새로운 거래만 {@link TransactionLedgerWriter}로 넘깁니다.
+ * </p>
+ * <p>
+ * 은행 거래고유번호는 계좌 안에서 증가하는 일련번호이므로 숫자 크기로 신구를 비교합니다.
+ * 은행 호출은 분산 락 밖에서 수행하여 응답이 늦어져도 락 임대 시간을 넘기지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionLedgerSynchronizer {
+
+    /** 원장이 없는 계좌의 최초 동기화 범위 */
+    private static final int INITIAL_SYNC_DAYS = 30;
+    /** 은행 응답 대기 한도. 넘기면 이미 적재된 원장으로 응답합니다. */
+    private static final Duration FETCH_TIMEOUT = Duration.ofSeconds(5);
+
+    private final BankLedgerSyncRepository bankLedgerSyncRepository;
+    private final TransactionLedgerWriter transactionLedgerWriter;
+    private final WebClientBankUtil webClientBankUtil;
+
+    /**
+     * 계좌의 원장을 은행 거래내역과 동기화합니다.
+     *
+     * @param userId    계좌 소유 사용자 ID
+     * @param userKey   은행 사용자 키
+     * @param accountNo 계좌번호
+     */
+    public void sync(UUID userId, String userKey, String accountNo) {
+        LocalDate today = LocalDate.now();
+        Optional<BankLedgerSync> syncOpt = bankLedgerSyncRepository.findByAccountNo(accountNo);
+        // 마지막 동기화 당일에 발생한 거래가 누락되지 않도록 그 날짜부터 다시 요청합니다.
+        LocalDate fromDate = syncOpt.map(BankLedgerSync::getLastSyncedDate)
+                .orElse(today.minusDays(INITIAL_SYNC_DAYS));
+        String watermark = syncOpt.map(BankLedgerSync::getLastTransactionUniqueNo).orElse(null);
+
+        List<TransactionHistoryListResponseDto.History> histories;
+        try {
+            TransactionHistoryListResponseDto response = webClientBankUtil
+                    .inquireTransactionHistoryList(userKey, accountNo, fromDate, today)
+                    .block(FETCH_TIMEOUT);
+            histories = (response == null || response.getRec() == null || response.getRec().getList() == null)
+                    ? Collections.emptyList()
+                    : response.getRec().getList();
+        } catch (Exception e) {
+            // 은행 API 장애 시에는 이미 적재된 원장으로 응답합니다.
+            log.warn("[TransactionLedgerSynchronizer] 거래내역 동기화 실패: account = {}, {}", accountNo, e.getMessage());
+            return;
+        }
+
+        // 응답은 최신순(DESC)으로 정렬되어 있으며, 워터마크 이하의 거래는 이미 원장에 있습니다.
+        List<TransactionHistoryListResponseDto.History> fresh = histories.stream()
+                .filter(history -> isNewer(history.getTransactionUniqueNo(), watermark))
+                .toList();
+        if (fresh.isEmpty() && syncOpt.isPresent() && !syncOpt.get().getLastSyncedDate().isBefore(today)) {
+            return;
+        }
+
+        // 같은 계좌를 다른 요청이 쓰고 있어 락을 얻지 못하면 저장 없이 돌아오고, 이미 적재된 원장으로 응답합니다.
+        transactionLedgerWriter.append(userId, accountNo, today, fresh);
+        log.debug("[TransactionLedgerSynchronizer] 원장 동기화 완료: account = {}, from = {}, 신규 후보 = {}",
+                accountNo, fromDate, fresh.size());
+    }
+
+    /**
+     * 거래고유번호가 워터마크보다 새로운지 비교합니다. 워터마크가 없으면 모든 거래가 새 거래입니다.
+     * 앞자리 0이 없는 숫자 문자열이므로 길이를 먼저 비교하고, 같으면 사전순으로 비교합니다.
+     */
+    static boolean isNewer(String uniqueNo, String watermark) {
+        if (uniqueNo == null) {
+            return false;
+        }
+        if (watermark == null) {
+            return true;
+        }
+        if (uniqueNo.length() != watermark.length()) {
+            return uniqueNo.length() > watermark.length();
+        }
+        return uniqueNo.compareTo(watermark) > 0;
+    }
+}
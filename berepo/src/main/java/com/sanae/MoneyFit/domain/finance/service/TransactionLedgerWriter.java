@@ -0,0 +1,100 @@
+package com.sanae.MoneyFit.domain.finance.service;
+
+import com.sanae.MoneyFit.domain.finance.dto.response.TransactionHistoryListResponseDto;
+import com.sanae.MoneyFit.domain.finance.entity.BankLedgerSync;
+import com.sanae.MoneyFit.domain.finance.entity.BankTransaction;
+import com.sanae.MoneyFit.domain.finance.enums.TransactionType;
+import com.sanae.MoneyFit.domain.finance.repository.BankLedgerSyncRepository;
+import com.sanae.MoneyFit.domain.finance.repository.BankTransactionRepository;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.domain.user.repository.UserRepository;
+import com.sanae.MoneyFit.global.common.aop.DistributedLock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * <h2>TransactionLedgerWriter</h2>
+ * <p>
+ * {@link TransactionLedgerSynchronizer}가 은행에서 받아 온 거래를 원장에 추가하고 워터마크를 전진시킵니다. <br>
+ * 은행 호출은 락 밖에서 끝난 상태로 전달되므로, 분산 락은 DB 쓰기 동안만 잡습니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionLedgerWriter {
+
+    private static final DateTimeFormatter DATE_FMT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter TIME_FMT = DateTimeFormatter.ofPattern("HHmmss");
+
+    private final BankTransactionRepository bankTransactionRepository;
+    private final BankLedgerSyncRepository bankLedgerSyncRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 새 거래를 원장에 추가하고 동기화 워터마크를 갱신합니다.
+     * 같은 계좌의 동시 동기화가 같은 거래를 두 번 저장하지 않도록 분산 락 안에서 별도 트랜잭션으로 실행됩니다.
+     * 락을 얻지 못하면 아무것도 저장하지 않고 돌아오며, 호출 측은 이미 적재된 원장으로 응답합니다.
+     * (락을 얻지 못한 호출은 락 AOP가 {@code false}를 돌려주므로 반환 값을 두지 않습니다.)
+     *
+     * @param userId     계좌 소유 사용자 ID
+     * @param accountNo  계좌번호
+     * @param syncedDate 동기화 기준 날짜
+     * @param histories  워터마크 이후의 거래 (최신순)
+     */
+    @DistributedLock(key = "'LEDGER:' + #accountNo")
+    public void append(UUID userId, String accountNo, LocalDate syncedDate,
+                      List<TransactionHistoryListResponseDto.History> histories) {
+        Map<String, TransactionHistoryListResponseDto.History> candidates = new LinkedHashMap<>();
+        for (TransactionHistoryListResponseDto.History history : histories) {
+            if (history.getTransactionUniqueNo() != null) {
+                candidates.putIfAbsent(history.getTransactionUniqueNo(), history);
+            }
+        }
+
+        // 다른 요청이 먼저 저장했을 수 있는 후보만 확인합니다.
+        if (!candidates.isEmpty()) {
+            bankTransactionRepository.findExistingUniqueNos(accountNo, candidates.keySet())
+                    .forEach(candidates::remove);
+        }
+        User user = userRepository.getReferenceById(userId);
+        bankTransactionRepository.saveAll(candidates.values().stream()
+                .map(history -> toEntity(user, accountNo, history))
+                .toList());
+
+        String latestUniqueNo = histories.isEmpty() ? null : histories.get(0).getTransactionUniqueNo();
+        bankLedgerSyncRepository.findByAccountNo(accountNo).ifPresentOrElse(
+                sync -> sync.advance(syncedDate, latestUniqueNo),
+                () -> bankLedgerSyncRepository.save(BankLedgerSync.builder()
+                        .accountNo(accountNo)
+                        .lastSyncedDate(syncedDate)
+                        .lastTransactionUniqueNo(latestUniqueNo)
+                        .build()));
+    }
+
+    // ####################### Private 서브 메서드 #######################
+
+    private BankTransaction toEntity(User user, String accountNo, TransactionHistoryListResponseDto.History history) {
+        return BankTransaction.builder()
+                .user(user)
+                .accountNo(accountNo)
+                .transactionUniqueNo(history.getTransactionUniqueNo())
+                .transactionDate(LocalDate.parse(history.getTransactionDate(), DATE_FMT))
+                .transactionTime(history.getTransactionTime() == null ? null : LocalTime.parse(history.getTransactionTime(), TIME_FMT))
+                .transactionType(TransactionType.from(history.getTransactionType(), history.getTransactionTypeName()))
+                .transactionTypeName(history.getTransactionTypeName())
+                .amount(parseAmount(history.getTransactionBalance()))
+                .afterBalance(parseAmount(history.getTransactionAfterBalance()))
+                .summary(history.getTransactionSummary())
+                .memo(history.getTransactionMemo())
+                .build();
+    }
+
+    private long parseAmount(String value) {
+        return value == null || value.isBlank() ? 0L : Long.parseLong(value.replace(",", ""));
+    }
+}
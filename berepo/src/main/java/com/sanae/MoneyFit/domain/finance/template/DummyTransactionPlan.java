@@ -0,0 +1,82 @@
+package com.sanae.MoneyFit.domain.finance.template;
+
+import com.sanae.MoneyFit.domain.finance.enums.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 계좌 하나에 만들 더미 거래 전체 계획.
+ * <p>
+ * 입금 {@value #DEPOSIT_COUNT}건을 고른 뒤, 입금 합계를 넘지 않는 범위에서 출금을 최대 {@value #MAX_WITHDRAWALS}건 고릅니다.
+ * 같은 시드로는 항상 같은 계획이 만들어지므로, 중단된 생성을 같은 시드로 다시 계획해 남은 단계만 이어서 실행할 수 있습니다.
+ * 단계 번호는 입금부터 0, 1, 2 ... 순서로 매겨지며 진행 상황 비트마스크의 비트 위치로 쓰입니다.
+ * </p>
+ */
+public record DummyTransactionPlan(long seed, List<Step> deposits, List<Step> withdrawals) {
+
+    public static final int DEPOSIT_COUNT = 2;
+    public static final int MAX_WITHDRAWALS = 10;
+
+    public static DummyTransactionPlan create(long seed) {
+        Random random = new Random(seed);
+
+        List<TransactionTemplate> depositTemplates = new ArrayList<>(DepositTemplates.TEMPLATES);
+        Collections.shuffle(depositTemplates, random);
+        List<Step> deposits = new ArrayList<>(DEPOSIT_COUNT);
+        long budget = 0;
+        for (TransactionTemplate template : depositTemplates.subList(0, DEPOSIT_COUNT)) {
+            deposits.add(new Step(deposits.size(), TransactionType.DEPOSIT, template));
+            budget += template.amount();
+        }
+
+        List<TransactionTemplate> expenseTemplates = new ArrayList<>(ExpenseTemplates.TEMPLATES);
+        Collections.shuffle(expenseTemplates, random);
+        List<Step> withdrawals = new ArrayList<>(MAX_WITHDRAWALS);
+        for (TransactionTemplate template : expenseTemplates) {
+            if (withdrawals.size() == MAX_WITHDRAWALS) {
+                break;
+            }
+            if (template.amount() <= budget) {
+                withdrawals.add(new Step(DEPOSIT_COUNT + withdrawals.size(), TransactionType.WITHDRAWAL, template));
+                budget -= template.amount();
+            }
+        }
+        return new DummyTransactionPlan(seed, List.copyOf(deposits), List.copyOf(withdrawals));
+    }
+
+    public int size() {
+        return deposits.size() + withdrawals.size();
+    }
+
+    /**
+     * 모든 단계가 끝났을 때의 진행 상황 비트마스크
+     */
+    public long completedMask() {
+        return (1L << size()) - 1;
+    }
+
+    /**
+     * 입금이 모두 끝났는지 확인합니다. 출금은 입금이 모두 반영된 뒤에만 실행합니다.
+     */
+    public boolean depositsDone(long doneMask) {
+        long depositMask = (1L << deposits.size()) - 1;
+        return (doneMask & depositMask) == depositMask;
+    }
+
+    /**
+     * 계획의 한 단계 (입금 또는 출금 한 건)
+     */
+    public record Step(int index, TransactionType type, TransactionTemplate template) {
+
+        public long bit() {
+            return 1L << index;
+        }
+
+        public boolean isDone(long doneMask) {
+            return (doneMask & bit()) != 0;
+        }
+    }
+}
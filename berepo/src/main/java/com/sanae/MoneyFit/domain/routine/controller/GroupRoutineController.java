@@ -6,10 +6,12 @@ import com.sanae.MoneyFit.domain.routine.dto.request.SubRoutineRequestDto;
 import com.sanae.MoneyFit.domain.routine.dto.response.GroupRoutineResponseDto;
 import com.sanae.MoneyFit.domain.routine.dto.response.GuestbookResponseDto;
 import com.sanae.MoneyFit.domain.routine.service.GroupRoutineService;
-import com.sanae.MoneyFit.global.security.jwt.JwtTokenProvider;
 import com.sanae.MoneyFit.global.web.response.ApiResponse;
+import com.sanae.MoneyFit.global.web.response.CursorResponse;
 import com.sanae.MoneyFit.global.web.response.PaginatedResponse;
 import com.sanae.MoneyFit.global.web.response.code.status.SuccessStatus;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.global.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -20,7 +22,6 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.UUID;
 
 
 
@@ -67,15 +68,27 @@ import java.util.UUID;
 public class GroupRoutineController {
 
     private final GroupRoutineService groupRoutineService;
-    private final JwtTokenProvider jwtTokenProvider;
 
 
     @GetMapping
     @Operation(summary = "단체루틴 리스트 조회 API", description = "모든 단체루틴 리스트를 페이지네이션으로 조회합니다.")
-    public ResponseEntity<ApiResponse<PaginatedResponse<GroupRoutineResponseDto.GroupRoutineInfo>>> getGroupRoutines(@RequestHeader("Authorization") String token,
+    public ResponseEntity<ApiResponse<PaginatedResponse<GroupRoutineResponseDto.GroupRoutineInfo>>> getGroupRoutines(@CurrentUser User user,
                                                                                                                      @PageableDefault(page = 0, size = 10, sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable) {
-        UUID uuid = jwtTokenProvider.getUserId(token.substring(7));
-        PaginatedResponse<GroupRoutineResponseDto.GroupRoutineInfo> response = groupRoutineService.getGroupRoutines(uuid, pageable);
+        PaginatedResponse<GroupRoutineResponseDto.GroupRoutineInfo> response = groupRoutineService.getGroupRoutines(user, pageable);
+        if (response.items().isEmpty()) {
+            return ResponseEntity.ok(ApiResponse.noContent());
+        }
+        return ResponseEntity.ok(ApiResponse.onSuccess(response));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "단체루틴 리스트 커서 조회 API", description = "모든 단체루틴 리스트를 최신순 커서 페이지네이션으로 조회합니다. 다음 페이지는 응답의 nextCursor로 요청합니다.")
+    public ResponseEntity<ApiResponse<CursorResponse<GroupRoutineResponseDto.GroupRoutineInfo>>> getGroupRoutinesByCursor(@CurrentUser User user,
+                                                                                                                         @RequestParam(required = false) String cursor,
+                                                                                                                         @RequestParam(defaultValue = "10") int size,
+                                                                                                                         @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorResponse<GroupRoutineResponseDto.GroupRoutineInfo> response =
+                groupRoutineService.getGroupRoutinesByCursor(user, cursor, size, includeTotal);
         if (response.items().isEmpty()) {
             return ResponseEntity.ok(ApiResponse.noContent());
         }
@@ -84,11 +97,10 @@ public class GroupRoutineController {
 
     @GetMapping("/search")
     @Operation(summary = "단체루틴 검색 API", description = "키워드로 단체루틴을 검색합니다.")
-    public ResponseEntity<ApiResponse<PaginatedResponse<GroupRoutineResponseDto.GroupRoutineInfo>>> searchGroupRoutines(@RequestHeader("Authorization") String token,
+    public ResponseEntity<ApiResponse<PaginatedResponse<GroupRoutineResponseDto.GroupRoutineInfo>>> searchGroupRoutines(@CurrentUser User user,
                                                                                                                         @RequestParam String keyword,
                                                                                                                         @PageableDefault(page = 0, size = 10, sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable) {
-        UUID uuid = jwtTokenProvider.getUserId(token.substring(7));
-        PaginatedResponse<GroupRoutineResponseDto.GroupRoutineInfo> response = groupRoutineService.searchGroupRoutines(uuid, keyword, pageable);
+        PaginatedResponse<GroupRoutineResponseDto.GroupRoutineInfo> response = groupRoutineService.searchGroupRoutines(user, keyword, pageable);
         if (response.items().isEmpty()) {
             return ResponseEntity.ok(ApiResponse.noContent());
         }
@@ -98,126 +110,129 @@ public class GroupRoutineController {
 
     @PostMapping
     @Operation(summary = "단체루틴 생성 API", description = "새로운 단체루틴을 생성합니다.")
-    public ResponseEntity<?> createGroupRoutine(@RequestHeader("Authorization") String token,
+    public ResponseEntity<?> createGroupRoutine(@CurrentUser User user,
                                                                 @Valid @RequestBody GroupRoutineRequestDto.Create createDto) {
-        UUID uuid = jwtTokenProvider.getUserId(token.substring(7));
-        Long id=groupRoutineService.createGroupRoutine(uuid, createDto);
+        Long id=groupRoutineService.createGroupRoutine(user, createDto);
         return ResponseEntity.ok().body(ApiResponse.onSuccess(id));
     }
 
 
     @GetMapping("/{groupRoutineListId}")
     @Operation(summary = "단체루틴 상세 조회 API", description = "특정 단체루틴의 상세 정보를 조회합니다. 사용자의 참여 여부에 따라 다른 정보가 반환됩니다.")
-    public ResponseEntity<ApiResponse<GroupRoutineResponseDto.DetailResponse>> getGroupRoutineDetail(@RequestHeader("Authorization") String token,
+    public ResponseEntity<ApiResponse<GroupRoutineResponseDto.DetailResponse>> getGroupRoutineDetail(@CurrentUser User user,
                                                                                                      @PathVariable Long groupRoutineListId) {
-        UUID uuid = jwtTokenProvider.getUserId(token.substring(7));
-        GroupRoutineResponseDto.DetailResponse response = groupRoutineService.getGroupRoutineDetail(uuid, groupRoutineListId);
+        GroupRoutineResponseDto.DetailResponse response = groupRoutineService.getGroupRoutineDetail(user, groupRoutineListId);
         return ResponseEntity.ok(ApiResponse.onSuccess(response, SuccessStatus.SELECT_SUCCESS.getMessage()));
     }
 
 
     @PutMapping("/{groupRoutineListId}")
     @Operation(summary = "단체루틴 수정 API", description = "특정 단체루틴의 정보를 수정합니다.")
-    public ResponseEntity<ApiResponse<Void>> updateGroupRoutine(@RequestHeader("Authorization") String token,
+    public ResponseEntity<ApiResponse<Void>> updateGroupRoutine(@CurrentUser User user,
                                                                 @PathVariable Long groupRoutineListId,
                                                                 @Valid @RequestBody GroupRoutineRequestDto.Update updateDto) {
-        UUID uuid = jwtTokenProvider.getUserId(token.substring(7));
-        groupRoutineService.updateGroupRoutine(uuid, groupRoutineListId, updateDto);
+        groupRoutineService.updateGroupRoutine(user, groupRoutineListId, updateDto);
         return ResponseEntity.ok(ApiResponse.onSuccess(null, SuccessStatus.UPDATE_SUCCESS.getMessage()));
     }
 
 
     @DeleteMapping("/{groupRoutineListId}")
     @Operation(summary = "단체루틴 삭제 API", description = "특정 단체루틴을 삭제합니다.")
-    public ResponseEntity<ApiResponse<Void>> deleteGroupRoutine(@RequestHeader("Authorization") String token,
+    public ResponseEntity<ApiResponse<Void>> deleteGroupRoutine(@CurrentUser User user,
                                                                 @PathVariable Long groupRoutineListId) {
-        UUID uuid = jwtTokenProvider.getUserId(token.substring(7));
-        groupRoutineService.deleteGroupRoutine(uuid, groupRoutineListId);
+        groupRoutineService.deleteGroupRoutine(user, groupRoutineListId);
         return ResponseEntity.ok(ApiResponse.onSuccess(null, SuccessStatus.DELETE_SUCCESS.getMessage()));
     }
 
 
     @PostMapping("/{groupRoutineListId}/join")
     @Operation(summary = "단체루틴 가입 API", description = "특정 단체루틴에 가입합니다.")
-    public ResponseEntity<ApiResponse<Void>> joinGroupRoutine(@RequestHeader("Authorization") String token,
+    public ResponseEntity<ApiResponse<Void>> joinGroupRoutine(@CurrentUser User user,
                                                               @PathVariable Long groupRoutineListId) {
-        UUID uuid = jwtTokenProvider.getUserId(token.substring(7));
-        groupRoutineService.joinGroupRoutine(uuid, groupRoutineListId);
+        groupRoutineService.joinGroupRoutine(user, groupRoutineListId);
         return ResponseEntity.ok(ApiResponse.onSuccess(null, SuccessStatus.INSERT_SUCCESS.getMessage()));
     }
 
     @DeleteMapping("/{groupRoutineListId}/leave")
     @Operation(summary = "단체루틴 나가기 API", description = "참여 중인 단체루틴에서 탈퇴합니다.")
-    public ResponseEntity<ApiResponse<Void>> leaveGroupRoutine(@RequestHeader("Authorization") String token,
+    public ResponseEntity<ApiResponse<Void>> leaveGroupRoutine(@CurrentUser User user,
         @PathVariable Long groupRoutineListId) {
-        UUID uuid = jwtTokenProvider.getUserId(token.substring(7));
-        groupRoutineService.leaveGroupRoutine(uuid, groupRoutineListId);
+        groupRoutineService.leaveGroupRoutine(user, groupRoutineListId);
         return ResponseEntity.ok(ApiResponse.onSuccess(null, "단체루틴 나가기 완료"));
     }
 
     @PatchMapping("/{groupRoutineListId}")
     @Operation(summary = "단체루틴 성공/실패 기록 API", description = "특정 단체루틴의 성공/실패 여부를 기록합니다.")
-    public ResponseEntity<ApiResponse<Void>> updateGroupRoutineRecord(@RequestHeader("Authorization") String token,
+    public ResponseEntity<ApiResponse<Void>> updateGroupRoutineRecord(@CurrentUser User user,
                                                                       @PathVariable Long groupRoutineListId,
                                                                       @Valid @RequestBody GroupRoutineRequestDto.RecordUpdate recordUpdateDto) {
-        UUID uuid = jwtTokenProvider.getUserId(token.substring(7));
-        groupRoutineService.updateGroupRoutineRecord(uuid, groupRoutineListId, recordUpdateDto);
+        groupRoutineService.updateGroupRoutineRecord(user, groupRoutineListId, recordUpdateDto);
         return ResponseEntity.ok(ApiResponse.onSuccess(null, SuccessStatus.UPDATE_SUCCESS.getMessage()));
     }
 
 
     @PostMapping("/{groupRoutineListId}/sub-routines")
     @Operation(summary = "단체루틴 상세 생성 API", description = "특정 단체루틴에 상세 루틴들을 생성합니다.")
-    public ResponseEntity<ApiResponse<Void>> createGroupSubRoutines(@RequestHeader("Authorization") String token,
+    public ResponseEntity<ApiResponse<Void>> createGroupSubRoutines(@CurrentUser User user,
                                                                     @PathVariable Long groupRoutineListId,
                                                                     @Valid @RequestBody SubRoutineRequestDto.Create createDetailDto) {
-        UUID uuid = jwtTokenProvider.getUserId(token.substring(7));
-        groupRoutineService.createGroupSubRoutines(uuid, groupRoutineListId, createDetailDto);
+        groupRoutineService.createGroupSubRoutines(user, groupRoutineListId, createDetailDto);
         return ResponseEntity.ok(ApiResponse.onSuccess(null, SuccessStatus.INSERT_SUCCESS.getMessage()));
     }
 
 
     @PutMapping("/{groupRoutineListId}/sub-routines")
     @Operation(summary = "단체루틴 상세 수정 API", description = "특정 단체루틴의 상세 루틴들을 수정합니다.")
-    public ResponseEntity<ApiResponse<Void>> updateGroupSubRoutines(@RequestHeader("Authorization") String token,
+    public ResponseEntity<ApiResponse<Void>> updateGroupSubRoutines(@CurrentUser User user,
                                                                     @PathVariable Long groupRoutineListId,
                                                                     @Valid @RequestBody SubRoutineRequestDto.Update updateDetailDto) {
-        UUID uuid = jwtTokenProvider.getUserId(token.substring(7));
-        groupRoutineService.updateGroupSubRoutines(uuid, groupRoutineListId, updateDetailDto);
+        groupRoutineService.updateGroupSubRoutines(user, groupRoutineListId, updateDetailDto);
         return ResponseEntity.ok(ApiResponse.onSuccess(null, SuccessStatus.UPDATE_SUCCESS.getMessage()));
     }
 
 
     @DeleteMapping("/{groupRoutineListId}/sub-routines/{routineId}")
     @Operation(summary = "단체루틴 상세 삭제 API", description = "특정 단체루틴의 특정 상세 루틴을 삭제합니다.")
-    public ResponseEntity<ApiResponse<Void>> deleteGroupSubRoutine(@RequestHeader("Authorization") String token,
+    public ResponseEntity<ApiResponse<Void>> deleteGroupSubRoutine(@CurrentUser User user,
                                                                    @PathVariable Long groupRoutineListId,
                                                                    @PathVariable Long routineId) {
-        UUID uuid = jwtTokenProvider.getUserId(token.substring(7));
-        groupRoutineService.deleteGroupSubRoutines(uuid, groupRoutineListId, routineId);
+        groupRoutineService.deleteGroupSubRoutines(user, groupRoutineListId, routineId);
         return ResponseEntity.ok(ApiResponse.onSuccess(null, SuccessStatus.DELETE_SUCCESS.getMessage()));
     }
 
 
     @PatchMapping("/{groupRoutineListId}/status/{routineId}")
     @Operation(summary = "단체루틴 상세루틴 성공/실패 처리 API", description = "특정 단체루틴의 상세 루틴의 성공/실패 상태를 변경합니다.")
-    public ResponseEntity<ApiResponse<Void>> updateGroupRoutineStatus(@RequestHeader("Authorization") String token,
+    public ResponseEntity<ApiResponse<Void>> updateGroupRoutineStatus(@CurrentUser User user,
                                                                       @PathVariable Long groupRoutineListId,
                                                                       @PathVariable Long routineId,
                                                                       @Valid @RequestBody SubRoutineRequestDto.StatusUpdate statusDto) {
-        UUID uuid = jwtTokenProvider.getUserId(token.substring(7));
-        groupRoutineService.updateGroupRoutineStatus(uuid, groupRoutineListId, routineId, statusDto);
+        groupRoutineService.updateGroupRoutineStatus(user, groupRoutineListId, routineId, statusDto);
         return ResponseEntity.ok(ApiResponse.onSuccess(null, SuccessStatus.UPDATE_SUCCESS.getMessage()));
     }
 
 
     @GetMapping("/{groupRoutineListId}/guestbooks")
     @Operation(summary = "방명록 조회 API", description = "특정 단체루틴의 방명록을 페이지네이션으로 조회합니다.")
-    public ResponseEntity<ApiResponse<PaginatedResponse<GuestbookResponseDto.GuestbookInfo>>> getGroupGuestbooks(@RequestHeader("Authorization") String token,
+    public ResponseEntity<ApiResponse<PaginatedResponse<GuestbookResponseDto.GuestbookInfo>>> getGroupGuestbooks(@CurrentUser User user,
                                                                                               @PathVariable Long groupRoutineListId,
                                                                                               @PageableDefault(page = 0, size = 10) Pageable pageable) {
-        UUID uuid = jwtTokenProvider.getUserId(token.substring(7));
-        PaginatedResponse<GuestbookResponseDto.GuestbookInfo> response = groupRoutineService.getGroupGuestbooks(uuid, groupRoutineListId, pageable);
+        PaginatedResponse<GuestbookResponseDto.GuestbookInfo> response = groupRoutineService.getGroupGuestbooks(user, groupRoutineListId, pageable);
+        if (response.items().isEmpty()) {
+            return ResponseEntity.ok(ApiResponse.noContent());
+        }
+        return ResponseEntity.ok(ApiResponse.onSuccess(response, SuccessStatus.SELECT_SUCCESS.getMessage()));
+    }
+
+    @GetMapping("/{groupRoutineListId}/guestbooks/cursor")
+    @Operation(summary = "방명록 커서 조회 API", description = "특정 단체루틴의 방명록을 최신순 커서 페이지네이션으로 조회합니다. 다음 페이지는 응답의 nextCursor로 요청합니다.")
+    public ResponseEntity<ApiResponse<CursorResponse<GuestbookResponseDto.GuestbookInfo>>> getGroupGuestbooksByCursor(@CurrentUser User user,
+                                                                                                                     @PathVariable Long groupRoutineListId,
+                                                                                                                     @RequestParam(required = false) String cursor,
+                                                                                                                     @RequestParam(defaultValue = "10") int size,
+                                                                                                                     @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorResponse<GuestbookResponseDto.GuestbookInfo> response =
+                groupRoutineService.getGroupGuestbooksByCursor(user, groupRoutineListId, cursor, size, includeTotal);
         if (response.items().isEmpty()) {
             return ResponseEntity.ok(ApiResponse.noContent());
         }
@@ -227,40 +242,36 @@ public class GroupRoutineController {
 
     @PostMapping("/{groupRoutineListId}/guestbooks")
     @Operation(summary = "방명록 작성 API", description = "특정 단체루틴에 방명록을 작성합니다.")
-    public ResponseEntity<ApiResponse<GuestbookResponseDto.GuestbookInfo>> createGroupGuestbook(@RequestHeader("Authorization") String token,
+    public ResponseEntity<ApiResponse<GuestbookResponseDto.GuestbookInfo>> createGroupGuestbook(@CurrentUser User user,
                                                                                                 @PathVariable Long groupRoutineListId,
                                                                                                 @Valid @RequestBody GuestbookRequestDto.Create guestbookDto) {
-        UUID uuid = jwtTokenProvider.getUserId(token.substring(7));
-        GuestbookResponseDto.GuestbookInfo response = groupRoutineService.createGroupGuestbook(uuid, groupRoutineListId, guestbookDto);
+        GuestbookResponseDto.GuestbookInfo response = groupRoutineService.createGroupGuestbook(user, groupRoutineListId, guestbookDto);
         return ResponseEntity.ok(ApiResponse.onSuccess(response, SuccessStatus.INSERT_SUCCESS.getMessage()));
     }
 
 
     @DeleteMapping("/{groupRoutineListId}/guestbooks/{guestbookId}")
     @Operation(summary = "방명록 삭제 API", description = "특정 단체루틴의 특정 방명록을 삭제합니다.")
-    public ResponseEntity<ApiResponse<Void>> deleteGroupGuestbook(@RequestHeader("Authorization") String token,
+    public ResponseEntity<ApiResponse<Void>> deleteGroupGuestbook(@CurrentUser User user,
                                                                   @PathVariable Long groupRoutineListId,
                                                                   @PathVariable Long guestbookId) {
-        UUID uuid = jwtTokenProvider.getUserId(token.substring(7));
-        groupRoutineService.deleteGroupGuestbook(uuid, groupRoutineListId, guestbookId);
+        groupRoutineService.deleteGroupGuestbook(user, groupRoutineListId, guestbookId);
         return ResponseEntity.ok(ApiResponse.onSuccess(null, SuccessStatus.DELETE_SUCCESS.getMessage()));
     }
 
     /**
      * 그룹 루틴 완료에 따른 포인트 지급 API
-     * @param userId 헤더의 사용자 ID
+     * @param user 인증된 사용자
      * @param groupRoutineListId 그룹 루틴 목록 ID
      * @param requestDto 지급할 포인트 정보
      * @return ResponseEntity<String> 성공 메시지
      */
     @PostMapping("/{groupRoutineListId}/points")
     public ResponseEntity<?> awardPointForGroupRoutine(
-            @RequestHeader("Authorization") String token, // 실제 프로젝트의 헤더 키에 맞게 수정하세요.
+            @CurrentUser User user,
             @PathVariable Long groupRoutineListId,
             @RequestParam("point") int point) {
-        UUID uuid = jwtTokenProvider.getUserId(token.substring(7));
-
-        groupRoutineService.awardPointForCompletion(uuid, groupRoutineListId, point);
+        groupRoutineService.awardPointForCompletion(user, groupRoutineListId, point);
         return ResponseEntity.ok().body(ApiResponse.onSuccess("포인트가 지급되었습니다."));
     }
 }
\ No newline at end of file
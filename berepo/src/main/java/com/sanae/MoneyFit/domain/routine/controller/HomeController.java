@@ -4,9 +4,11 @@ import com.sanae.MoneyFit.domain.routine.dto.response.GroupRoutineResponseDto;
 import com.sanae.MoneyFit.domain.routine.dto.response.RankResponseDto;
 import com.sanae.MoneyFit.domain.routine.service.GroupRoutineService;
 import com.sanae.MoneyFit.domain.routine.service.RankService;
-import com.sanae.MoneyFit.global.security.jwt.JwtTokenProvider;
 import com.sanae.MoneyFit.global.web.response.ApiResponse;
+import com.sanae.MoneyFit.global.web.response.CursorResponse;
 import com.sanae.MoneyFit.global.web.response.PaginatedResponse;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.global.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -15,7 +17,6 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -33,7 +34,6 @@ import java.util.UUID;
 public class HomeController {
 
     private final GroupRoutineService groupRoutineService;
-    private final JwtTokenProvider jwtTokenProvider;
     private final RankService rankService;
 
     /**
@@ -46,11 +46,34 @@ public class HomeController {
     @GetMapping("/groups")
     @Operation(summary = "내 단체루틴 조회 API", description = "사용자가 가입한 단체루틴 목록을 최신순으로 조회합니다.")
     public ResponseEntity<ApiResponse<PaginatedResponse<GroupRoutineResponseDto.MyGroupRoutineInfo>>> getMyGroupRoutines(
-            @RequestHeader("Authorization") String token,
+            @CurrentUser User user,
             @PageableDefault(page = 0, size = 10, sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable) {
-        UUID uuid = jwtTokenProvider.getUserId(token.substring(7));
         PaginatedResponse<GroupRoutineResponseDto.MyGroupRoutineInfo> response =
-                groupRoutineService.getMyGroupRoutines(uuid, pageable);
+                groupRoutineService.getMyGroupRoutines(user, pageable);
+        if (response.items().isEmpty()) {
+            return ResponseEntity.ok(ApiResponse.noContent());
+        }
+        return ResponseEntity.ok(ApiResponse.onSuccess(response));
+    }
+
+    /**
+     * 내가 가입한 단체 루틴 목록을 커서 기반으로 조회합니다.
+     *
+     * @param token        인증 토큰
+     * @param cursor       이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size         페이지 크기 (기본 10개)
+     * @param includeTotal 전체 개수 포함 여부
+     * @return 단체 루틴 목록
+     */
+    @GetMapping("/groups/cursor")
+    @Operation(summary = "내 단체루틴 커서 조회 API", description = "사용자가 가입한 단체루틴 목록을 최신순 커서 페이지네이션으로 조회합니다.")
+    public ResponseEntity<ApiResponse<CursorResponse<GroupRoutineResponseDto.MyGroupRoutineInfo>>> getMyGroupRoutinesByCursor(
+            @CurrentUser User user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorResponse<GroupRoutineResponseDto.MyGroupRoutineInfo> response =
+                groupRoutineService.getMyGroupRoutinesByCursor(user, cursor, size, includeTotal);
         if (response.items().isEmpty()) {
             return ResponseEntity.ok(ApiResponse.noContent());
         }
@@ -63,9 +86,8 @@ public class HomeController {
     @GetMapping("/rank")
     @Operation(summary = "랭킹 조회 API", description = "학교 또는 학과 랭킹을 조회합니다.")
     public ResponseEntity<ApiResponse<RankResponseDto.RankPage>> getRanking(
-        @RequestHeader("Authorization") String token,
+        @CurrentUser UUID uuid,
         @PageableDefault(page = 0, size = 20) Pageable pageable) {
-        UUID uuid = jwtTokenProvider.getUserId(token.substring(7));
         RankResponseDto.RankPage response = rankService.getRanking(uuid,  pageable);
         String message = "나이 랭킹 조회 성공" ;
         return ResponseEntity.ok(ApiResponse.onSuccess(response, message));
@@ -6,8 +6,9 @@ import com.sanae.MoneyFit.domain.routine.dto.request.RoutineRequestDto;
 import com.sanae.MoneyFit.domain.routine.dto.response.RoutineResponseDto;
 import com.sanae.MoneyFit.domain.routine.enums.DayType;
 import com.sanae.MoneyFit.domain.routine.service.MyRoutineListService;
-import com.sanae.MoneyFit.global.security.jwt.JwtTokenProvider;
 import com.sanae.MoneyFit.global.web.response.ApiResponse;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.global.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -27,16 +28,14 @@ import java.util.UUID;
 public class    MyRoutineListController {
 
     private final MyRoutineListService myRoutineListService;
-    private final JwtTokenProvider jwtTokenProvider;
 
     /**
      * 개인루틴 리스트 만들기
      */
     @PostMapping("/list")
     @Operation(summary = "개인루틴 리스트 만들기 API", description = "개인루틴 리스트를 만듭니다.")
-    public ResponseEntity<?> makeMyRoutineList(@RequestHeader("Authorization") String token,@RequestBody MyRoutineListRequestDto myRoutineListRequestDto){
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
-        return ResponseEntity.ok().body(ApiResponse.onSuccess(myRoutineListService.makeMyRoutineList(userId, myRoutineListRequestDto)));
+    public ResponseEntity<?> makeMyRoutineList(@CurrentUser User user,@RequestBody MyRoutineListRequestDto myRoutineListRequestDto){
+        return ResponseEntity.ok().body(ApiResponse.onSuccess(myRoutineListService.makeMyRoutineList(user, myRoutineListRequestDto)));
     }
 
     /**
@@ -45,9 +44,8 @@ public class    MyRoutineListController {
      */
     @PatchMapping("/list/{myRoutineListId}")
     @Operation(summary = "개인루틴 리스트 수정 API", description = "개인루틴 리스트를 수정합니다.")
-    public ResponseEntity<?> updateRoutineToMyRoutineList(@RequestHeader("Authorization") String token, @PathVariable Long myRoutineListId, @RequestBody MyRoutineListRequestDto myRoutineListRequestDto){
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
-        return ResponseEntity.ok().body(ApiResponse.onSuccess(myRoutineListService.updateMyRoutineList(userId,myRoutineListId, myRoutineListRequestDto)));
+    public ResponseEntity<?> updateRoutineToMyRoutineList(@CurrentUser User user, @PathVariable Long myRoutineListId, @RequestBody MyRoutineListRequestDto myRoutineListRequestDto){
+        return ResponseEntity.ok().body(ApiResponse.onSuccess(myRoutineListService.updateMyRoutineList(user,myRoutineListId, myRoutineListRequestDto)));
     }
 
     /**
@@ -56,9 +54,8 @@ public class    MyRoutineListController {
      */
     @DeleteMapping("/list/{myRoutineListId}")
     @Operation(summary = "개인루틴 리스트 삭제 API", description = "개인루틴 리스트를 삭제합니다.")
-    public ResponseEntity<?> deleteRoutineToMyRoutineList(@RequestHeader("Authorization") String token, @PathVariable Long myRoutineListId){
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
-        return ResponseEntity.ok().body(ApiResponse.onSuccess(myRoutineListService.deleteMyRoutineList(userId,myRoutineListId)));
+    public ResponseEntity<?> deleteRoutineToMyRoutineList(@CurrentUser User user, @PathVariable Long myRoutineListId){
+        return ResponseEntity.ok().body(ApiResponse.onSuccess(myRoutineListService.deleteMyRoutineList(user,myRoutineListId)));
     }
 
     /**
@@ -68,9 +65,8 @@ public class    MyRoutineListController {
      */
     @GetMapping("/list")
     @Operation(summary = "개인루틴 리스트 전체조회 API", description = "개인루틴 리스트 전체를 반환합니다 페이지네이션 10개씩 반환 정렬 및 정제후 반환. (시작시간과 끝시간 사이의 값이 아니면 실행 못하게 막아야할듯 프론트 부탁 !)")
-    public ResponseEntity<?> showMyRoutineList(@RequestHeader("Authorization") String token, @RequestParam DayType day, @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date, @PageableDefault(size = 10, sort = "createdDate",direction = Sort.Direction.DESC) Pageable pageable){
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
-        return ResponseEntity.ok().body(ApiResponse.onSuccess(myRoutineListService.showMyRoutineList(userId,day,date,pageable)));
+    public ResponseEntity<?> showMyRoutineList(@CurrentUser User user, @RequestParam DayType day, @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date, @PageableDefault(size = 10, sort = "createdDate",direction = Sort.Direction.DESC) Pageable pageable){
+        return ResponseEntity.ok().body(ApiResponse.onSuccess(myRoutineListService.showMyRoutineList(user,day,date,pageable)));
     }
 
     /**
@@ -79,20 +75,18 @@ public class    MyRoutineListController {
      */
     @PostMapping("/list/routine/{myRoutineListId}")
     @Operation(summary = "개인루틴 리스트안에 루틴만들기 API", description = "개인루틴 리스트안에 루틴을 만듭니다.")
-    public ResponseEntity<?> makeRoutineToMyRoutineList(@RequestHeader("Authorization") String token, @PathVariable Long myRoutineListId, @RequestBody List<RoutineRequestDto> routineRequestDtoList){
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
-        return ResponseEntity.ok().body(ApiResponse.onSuccess(myRoutineListService.makeRoutineInMyRoutineList(userId,myRoutineListId,routineRequestDtoList)));
+    public ResponseEntity<?> makeRoutineToMyRoutineList(@CurrentUser User user, @PathVariable Long myRoutineListId, @RequestBody List<RoutineRequestDto> routineRequestDtoList){
+        return ResponseEntity.ok().body(ApiResponse.onSuccess(myRoutineListService.makeRoutineInMyRoutineList(user,myRoutineListId,routineRequestDtoList)));
     }
 
     @GetMapping("/list/routine/{myRoutineListId}")
     @Operation(summary = "특정 날짜의 루틴 목록 상세 조회 API", description = "루틴 목록에 포함된 모든 루틴과 해당 날짜의 수행 여부를 함께 조회합니다.")
     public ResponseEntity<?> getRoutinesInListByDate(
-            @RequestHeader("Authorization") String token,
+            @CurrentUser User user,
             @PathVariable Long myRoutineListId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
     ) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
-        List<RoutineResponseDto> result = myRoutineListService.getRoutinesInListByDate(userId, myRoutineListId, date);
+        List<RoutineResponseDto> result = myRoutineListService.getRoutinesInListByDate(user, myRoutineListId, date);
         return ResponseEntity.ok(ApiResponse.onSuccess(result));
     }
 
@@ -102,9 +96,8 @@ public class    MyRoutineListController {
      */
     @PatchMapping("/list/routine/{routineListId}")
     @Operation(summary = "개인루틴 리스트 안 루틴 수정 API", description = "개인루틴 리스트 안 루틴 수정")
-    public ResponseEntity<?> updateRoutineInMyRoutineList(@RequestHeader("Authorization") String token,@PathVariable Long routineListId,@RequestBody RoutineInMyRoutineUpdateRequestDto routineInMyRoutineUpdateRequestDto){
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
-        myRoutineListService.updateInMyRoutineList(userId,routineListId,routineInMyRoutineUpdateRequestDto);
+    public ResponseEntity<?> updateRoutineInMyRoutineList(@CurrentUser User user,@PathVariable Long routineListId,@RequestBody RoutineInMyRoutineUpdateRequestDto routineInMyRoutineUpdateRequestDto){
+        myRoutineListService.updateInMyRoutineList(user,routineListId,routineInMyRoutineUpdateRequestDto);
         return ResponseEntity.ok().body(ApiResponse.onSuccess("수정 됐습니다."));
     }
 
@@ -114,9 +107,8 @@ public class    MyRoutineListController {
      */
     @DeleteMapping("/list/routine/{routineId}")
     @Operation(summary = "개인루틴 리스트 안 루틴 삭제 API", description = "개인루틴 리스트 안 루틴 삭제")
-    public ResponseEntity<?> deleteRoutineInMyRoutineList(@RequestHeader("Authorization") String token,@PathVariable Long routineId){
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
-        return ResponseEntity.ok().body(ApiResponse.onSuccess(myRoutineListService.deleteInMyRoutineList(userId,routineId)));
+    public ResponseEntity<?> deleteRoutineInMyRoutineList(@CurrentUser User user,@PathVariable Long routineId){
+        return ResponseEntity.ok().body(ApiResponse.onSuccess(myRoutineListService.deleteInMyRoutineList(user,routineId)));
     }
 
     /**
@@ -125,8 +117,7 @@ public class    MyRoutineListController {
      */
     @PostMapping("/list/routine/complete/{routineId}")
     @Operation(summary = "개인루틴 리스트안 루틴 수행 API", description = "개인루틴 리스트안 루틴을 수행완료 합니다")
-    public ResponseEntity<?> doneRoutineToMyRoutineList(@RequestHeader("Authorization") String token, @PathVariable Long routineId,@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date){
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
+    public ResponseEntity<?> doneRoutineToMyRoutineList(@CurrentUser UUID userId, @PathVariable Long routineId,@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date){
         return ResponseEntity.ok().body(ApiResponse.onSuccess(myRoutineListService.completeRoutine(userId,routineId,date)));
     }
 
@@ -136,10 +127,9 @@ public class    MyRoutineListController {
      */
     @PostMapping("/list/complete/{myRoutineListId}")
     @Operation(summary = "개인루틴 리스트 기록 API", description = "개인루틴 리스트 수행을 기록 합니다")
-    public ResponseEntity<?> doneMyRoutineList(@RequestHeader("Authorization") String token, @PathVariable Long myRoutineListId,@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    public ResponseEntity<?> doneMyRoutineList(@CurrentUser User user, @PathVariable Long myRoutineListId,@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
     ){
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
-        return ResponseEntity.ok().body(ApiResponse.onSuccess(myRoutineListService.completeMyRoutineList(userId,myRoutineListId,date)));
+        return ResponseEntity.ok().body(ApiResponse.onSuccess(myRoutineListService.completeMyRoutineList(user,myRoutineListId,date)));
     }
 
 
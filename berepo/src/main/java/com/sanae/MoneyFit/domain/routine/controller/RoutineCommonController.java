@@ -13,6 +13,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -33,15 +34,15 @@ public class RoutineCommonController {
             @RequestParam(required = false) String category,
             @PageableDefault(page = 0, size = 10) Pageable pageable) {
 
-
-
+        // 카탈로그 ETag를 먼저 읽어 둡니다. If-None-Match가 같으면 본문 없이 304로 응답됩니다.
+        String eTag = routineCommonService.getRoutineTemplatesETag();
         PaginatedResponse<CommonResponseDto.TemplateInfo> response =
                 routineCommonService.getRoutineTemplates(category, pageable);
 
         if (response.items().isEmpty()) {
-            return ResponseEntity.ok(ApiResponse.of(SuccessStatus.NO_CONTENT, response));
+            return catalogResponse(eTag, ApiResponse.of(SuccessStatus.NO_CONTENT, response));
         }
-        return ResponseEntity.ok(ApiResponse.onSuccess(response, "템플릿 목록 조회 성공"));
+        return catalogResponse(eTag, ApiResponse.onSuccess(response, "템플릿 목록 조회 성공"));
     }
 
     @GetMapping("/emoji")
@@ -54,11 +55,23 @@ public class RoutineCommonController {
             throw new RoutineHandler(ErrorStatus.INVALID_CATEGORY);
         }
 
+        String eTag = routineCommonService.getRoutineEmojisETag();
         CommonResponseDto.EmojiList response = routineCommonService.getRoutineEmojis(categoryEnum);
 
         if (response.getItems().isEmpty()) {
-            return ResponseEntity.ok(ApiResponse.of(SuccessStatus.NO_CONTENT, response));
+            return catalogResponse(eTag, ApiResponse.of(SuccessStatus.NO_CONTENT, response));
         }
-        return ResponseEntity.ok(ApiResponse.onSuccess(response, "이모지 목록 조회 성공"));
+        return catalogResponse(eTag, ApiResponse.onSuccess(response, "이모지 목록 조회 성공"));
+    }
+
+    /**
+     * 카탈로그 응답에 ETag를 붙이고 매번 재검증하도록 합니다.
+     * 요청의 If-None-Match가 ETag와 같으면 Spring이 본문 없이 304 Not Modified로 응답합니다.
+     */
+    private <T> ResponseEntity<T> catalogResponse(String eTag, T body) {
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(body);
     }
 }
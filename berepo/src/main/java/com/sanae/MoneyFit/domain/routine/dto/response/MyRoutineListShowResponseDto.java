@@ -50,6 +50,13 @@ public class MyRoutineListShowResponseDto {
 		List<String> days = myRoutineList.getRoutineDays().stream()
 			.map(routineDay -> routineDay.getDayType().name())
 			.collect(Collectors.toList());
+		return toDto(myRoutineList, days);
+	}
+
+	/**
+	 * 요일 정보를 미리 조회해 둔 경우 지연 로딩 없이 DTO를 생성합니다.
+	 */
+	public static MyRoutineListShowResponseDto toDto(MyRoutineList myRoutineList, List<String> days) {
         return MyRoutineListShowResponseDto.builder()
             .id(myRoutineList.getId())
 			.routineType(myRoutineList.getRoutineType())
@@ -15,6 +15,8 @@ import java.util.Set;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "group_routine_list",
+        indexes = @Index(name = "idx_group_routine_list_created", columnList = "created_date, group_routine_list_id"))
 public class GroupRoutineList extends BaseTime {
 
     @Id
@@ -42,6 +44,7 @@ public class GroupRoutineList extends BaseTime {
     @Column(name = "endTime", nullable = false)
     private LocalTime endTime;
 
+    /** 참여 인원 수. 동시 참여/탈퇴에도 유실되지 않도록 {@code GroupRoutineListRepository}의 원자적 UPDATE로만 증감합니다. */
     @Column(name = "userCnt", nullable = false)
     private int userCnt;
 
@@ -72,22 +75,6 @@ public class GroupRoutineList extends BaseTime {
         this.endTime = endTime;
     }
 
-    /**
-     * 단체 루틴에 참여한 인원 수를 1 증가
-     */
-    public void increaseUserCnt() {
-        this.userCnt++;
-    }
-
-    /**
-     * 단체 루틴에 참여한 인원 수를 1 감소시킵니다.
-     * 음수가 되지 않도록 최소 0으로 유지합니다.
-     */
-    public void decreaseUserCnt() {
-        if (this.userCnt > 0) {
-            this.userCnt--;
-        }
-    }
 
 
 }
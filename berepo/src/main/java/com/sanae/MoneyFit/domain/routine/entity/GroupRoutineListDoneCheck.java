@@ -10,6 +10,13 @@ import lombok.*;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "group_routine_list_done_check",
+        indexes = {
+                // 사용자 + 날짜 범위 조회 (주간/월간 통계, 연속 달성 계산)
+                @Index(name = "idx_group_routine_list_done_check_user_date", columnList = "user_id, created_date, done_check"),
+                // 단체 루틴별 / 단체 루틴 + 사용자 조회 (완료 여부, 성공 인원 수)
+                @Index(name = "idx_group_routine_list_done_check_list_user", columnList = "group_routine_list_id, user_id, done_check")
+        })
 public class GroupRoutineListDoneCheck extends BaseTime {
 
     @Id
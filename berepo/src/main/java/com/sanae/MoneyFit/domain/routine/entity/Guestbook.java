@@ -10,6 +10,8 @@ import lombok.*;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "guestbook",
+        indexes = @Index(name = "idx_guestbook_list_created", columnList = "group_routine_list_id, created_date, guestbook_id"))
 public class Guestbook extends BaseTime {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -13,6 +13,13 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(name = "my_routine_list_record",
+        indexes = {
+                // 사용자 + 날짜 범위 조회 (주간/월간 통계, 연속 달성 계산)
+                @Index(name = "idx_my_routine_list_record_user_date", columnList = "user_id, created_date, done_check"),
+                // 루틴 목록 + 날짜 범위 조회 (일괄 저장 시 중복 확인, 루틴 목록 삭제)
+                @Index(name = "idx_my_routine_list_record_list_date", columnList = "my_routine_list_id, created_date, user_id")
+        })
 public class MyRoutineListRecord extends BaseTime {
 
     @Column(name = "my_routine_list_record_id", updatable = false, unique = true, nullable = false)
@@ -13,10 +13,19 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
+/**
+ * 포인트 지급/차감 내역 (포인트 원장)
+ * <p>
+ * 같은 날 같은 사유로 두 번 지급되지 않도록 지급 내역에는 (사용자, 사유, 날짜) 멱등 키를 두고 유니크 제약으로 막습니다.
+ * 구매처럼 반복될 수 있는 차감 내역은 멱등 키가 없습니다.
+ * </p>
+ */
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
+@Table(name = "point_history",
+        uniqueConstraints = @UniqueConstraint(name = "uk_point_history_idempotency_key", columnNames = "idempotency_key"))
 public class PointHistory {
 
     @Id
@@ -28,21 +37,26 @@ public class PointHistory {
     private User user;
 
     @Column(nullable = false)
-    private int point;
+    private long point;
 
     // --- 수정된 부분 ---
     @Enumerated(EnumType.STRING) // DB에는 Enum의 이름(문자열)이 저장됩니다.
-    @Column(nullable = false)
+    @Column(nullable = false, columnDefinition = "varchar(50)")
     private com.sanae.MoneyFit.domain.routine.entity.enums.PointReasonType reason; // 타입을 String에서 PointReasonType으로 변경
 
+    /** 지급 멱등 키 ({사용자 ID}:{사유}:{날짜}), 차감 내역은 {@code null} */
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
 
     @Builder
-    public PointHistory(User user, int point, PointReasonType reason) { // 생성자 타입 변경
+    public PointHistory(User user, long point, PointReasonType reason, String idempotencyKey) { // 생성자 타입 변경
         this.user = user;
         this.point = point;
         this.reason = reason;
+        this.idempotencyKey = idempotencyKey;
     }
 }
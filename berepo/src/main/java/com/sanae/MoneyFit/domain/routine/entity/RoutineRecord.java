@@ -15,6 +15,13 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(name = "routine_record",
+        indexes = {
+                // 사용자 + 날짜 범위 조회 (오늘 완료한 상세 루틴, 진행률 집계). routine_id, done_check까지 포함해 인덱스만으로 처리됩니다.
+                @Index(name = "idx_routine_record_user_date", columnList = "user_id, created_date, routine_id, done_check"),
+                // 상세 루틴 목록 + 날짜 범위 조회 (일괄 저장 시 중복 확인, 참여자별 집계, 상세 루틴 삭제)
+                @Index(name = "idx_routine_record_routine_date", columnList = "routine_id, created_date, user_id")
+        })
 public class RoutineRecord  {
 
     @Column(name = "routine_record_id", updatable = false, unique = true, nullable = false)
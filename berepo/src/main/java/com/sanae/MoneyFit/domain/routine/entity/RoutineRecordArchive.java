@@ -0,0 +1,66 @@
+package com.sanae.MoneyFit.domain.routine.entity;
+
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.global.common.util.BaseTime;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자 / 상세 루틴 / 월별 완료 비트마스크 (보관용)
+ * <p>
+ * 보관 기간이 지난 {@link RoutineRecord}를 월 단위로 압축한 형태입니다. 1일을 0번 비트로 하여 31비트에 일자별 완료 여부를 저장합니다. <br>
+ * 상세 루틴이 삭제되어도 보관 기록이 남을 수 있도록 상세 루틴은 외래 키 없이 ID로만 보관합니다.
+ * </p>
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "routine_record_archive",
+        uniqueConstraints = @UniqueConstraint(name = "uk_routine_record_archive",
+                columnNames = {"user_id", "month_start", "routine_id"}))
+public class RoutineRecordArchive extends BaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "routine_record_archive_id", updatable = false, unique = true, nullable = false)
+    private long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "routine_id", nullable = false)
+    private Long routineId;
+
+    /** 해당 월의 1일 */
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(name = "done_mask", nullable = false)
+    private int doneMask;
+
+    // ################# 비즈니스 로직 메서드 #################
+
+    /**
+     * 날짜가 속한 월의 1일을 반환합니다.
+     */
+    public static LocalDate monthStartOf(LocalDate date) {
+        return date.withDayOfMonth(1);
+    }
+
+    public void markDone(LocalDate date) {
+        this.doneMask |= bit(date);
+    }
+
+    public boolean isDone(LocalDate date) {
+        return (doneMask & bit(date)) != 0;
+    }
+
+    private static int bit(LocalDate date) {
+        return 1 << (date.getDayOfMonth() - 1);
+    }
+}
@@ -4,13 +4,16 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 /**
- * 포인트 지급 사유를 정의하는 Enum
+ * 포인트 지급/차감 사유를 정의하는 Enum
  */
 @Getter
 @RequiredArgsConstructor
 public enum PointReasonType {
     GROUP_ROUTINE_COMPLETION("단체 루틴 완료"),
-    PERSONAL_ROUTINE_COMPLETION("개인 루틴 완료");
+    PERSONAL_ROUTINE_COMPLETION("개인 루틴 완료"),
+    WEEKLY_STREAK_BONUS("주간 연속 달성 보너스"),
+    SHOP_PURCHASE("포인트샵 상품 구매"),
+    ACCOUNT_TRANSFER("포인트 계좌 전환");
 
     private final String description;
 }
@@ -3,10 +3,16 @@ package com.sanae.MoneyFit.domain.routine.repository;
 
 import com.sanae.MoneyFit.domain.routine.entity.GroupRoutineDays;
 import com.sanae.MoneyFit.domain.routine.entity.GroupRoutineList;
+import com.sanae.MoneyFit.domain.routine.enums.DayType;
+import com.sanae.MoneyFit.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 @Repository
 public interface GroupRoutinDaysRepository extends JpaRepository<GroupRoutineDays, Long> {
@@ -19,6 +25,37 @@ public interface GroupRoutinDaysRepository extends JpaRepository<GroupRoutineDay
      */
     List<GroupRoutineDays> findByGroupRoutineList(GroupRoutineList groupRoutineList);
 
+    /**
+     * 여러 단체 루틴에 설정된 요일 정보를 한 번에 조회합니다.
+     *
+     * @param groupRoutineListIds 단체 루틴 ID 목록
+     * @return 요일 정보 목록 (저장 순서)
+     */
+    @Query("SELECT d FROM GroupRoutineDays d WHERE d.groupRoutineList.id IN :groupRoutineListIds ORDER BY d.id")
+    List<GroupRoutineDays> findByGroupRoutineListIdIn(@Param("groupRoutineListIds") Collection<Long> groupRoutineListIds);
+
+    /**
+     * 사용자가 참여중인 단체 루틴이 예정된 요일 목록을 조회합니다.
+     *
+     * @param user 조회할 사용자
+     * @return 중복이 제거된 요일 목록
+     */
+    @Query("SELECT DISTINCT grd.dayType FROM GroupRoutineDays grd " +
+            "JOIN grd.groupRoutineList grl JOIN grl.userInRooms uir " +
+            "WHERE uir.user = :user")
+    List<DayType> findScheduledDayTypesByUser(@Param("user") User user);
+
+    /**
+     * 여러 사용자의 단체 루틴 예정 요일을 한 번에 조회합니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return [사용자 ID, 요일] 배열 목록
+     */
+    @Query("SELECT DISTINCT uir.user.id, grd.dayType FROM GroupRoutineDays grd " +
+            "JOIN grd.groupRoutineList grl JOIN grl.userInRooms uir " +
+            "WHERE uir.user.id IN :userIds")
+    List<Object[]> findScheduledDayTypesByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
     /**
      * 특정 단체 루틴과 연관된 모든 요일 정보를 삭제합니다.
      *
@@ -3,12 +3,17 @@ package com.sanae.MoneyFit.domain.routine.repository;
 import com.sanae.MoneyFit.domain.routine.entity.GroupRoutineList;
 import com.sanae.MoneyFit.domain.routine.entity.GroupRoutineListDoneCheck;
 import com.sanae.MoneyFit.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * <h2>GroupRoutineListDoneCheckRepository</h2>
@@ -49,6 +54,40 @@ public interface GroupRoutineListDoneCheckRepository extends JpaRepository<Group
 
     List<GroupRoutineListDoneCheck> findByUserAndCreatedDateBetween(User user, LocalDateTime start, LocalDateTime end);
 
+    /**
+     * 사용자의 단체 루틴 완료 날짜(시각)를 기준 시각 이후로 조회합니다.
+     *
+     * @param user  조회할 사용자
+     * @param since 조회 시작 시각
+     * @return 완료 시각 목록
+     */
+    @Query("SELECT d.createdDate FROM GroupRoutineListDoneCheck d " +
+            "WHERE d.user = :user AND d.doneCheck = true AND d.createdDate >= :since")
+    List<LocalDateTime> findCompletedDatesByUser(@Param("user") User user, @Param("since") LocalDateTime since);
+
+    /**
+     * 여러 사용자의 단체 루틴 완료 날짜(시각)를 기준 시각 이후로 한 번에 조회합니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @param since   조회 시작 시각
+     * @return [사용자 ID, 완료 시각] 배열 목록
+     */
+    @Query("SELECT d.user.id, d.createdDate FROM GroupRoutineListDoneCheck d " +
+            "WHERE d.user.id IN :userIds AND d.doneCheck = true AND d.createdDate >= :since")
+    List<Object[]> findCompletedDatesByUserIdIn(@Param("userIds") Collection<UUID> userIds,
+                                                @Param("since") LocalDateTime since);
+
+    /**
+     * 성공한 단체 루틴 완료 기록을 기록 ID 오름차순으로 기준 ID 다음부터 조회합니다. (주간 요약 비트마스크 백필의 키 기반 페이징용)
+     *
+     * @param afterId  이전 페이지의 마지막 기록 ID (첫 페이지는 null)
+     * @param pageable 조회 크기
+     * @return [기록 ID, 사용자 ID, 단체 루틴 ID, 기록 시각] 배열 목록
+     */
+    @Query("SELECT d.id, d.user.id, d.groupRoutineList.id, d.createdDate FROM GroupRoutineListDoneCheck d " +
+            "WHERE d.doneCheck = true AND (:afterId IS NULL OR d.id > :afterId) ORDER BY d.id")
+    List<Object[]> findListCompletionsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
     /**
      * 특정 단체 루틴과 사용자에 대한 완료 여부 기록을 삭제합니다.
      *
@@ -8,9 +8,11 @@ import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -23,10 +25,27 @@ public interface GroupRoutineListRepository extends JpaRepository<GroupRoutineLi
             "WHERE uir.user = :user AND grd.dayType = :day")
     List<GroupRoutineList> findAllByUserAndDay(@Param("user") User user, @Param("day") DayType day);
 
-    @Query("SELECT grl FROM GroupRoutineList grl " +
+    /**
+     * 검색 색인 재구성용으로 모든 단체 루틴의 검색 대상 필드만 조회합니다.
+     *
+     * @return [단체 루틴 ID, 제목, 설명] 배열 목록
+     */
+    @Query("SELECT grl.id, grl.title, grl.description FROM GroupRoutineList grl")
+    List<Object[]> findAllSearchFields();
+
+    /**
+     * 검색 색인을 사용할 수 없을 때의 대체 검색입니다. 인덱스를 사용할 수 없으므로 평소에는 사용하지 않습니다.
+     * 색인과 같은 순서가 되도록 제목 일치(2점) + 설명 일치(1점) 내림차순, 동점이면 최신 방 순으로 정렬합니다.
+     */
+    @Query(value = "SELECT grl FROM GroupRoutineList grl " +
             "WHERE LOWER(grl.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
             "OR LOWER(grl.description) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "ORDER BY grl.createdDate DESC")
+            "ORDER BY (CASE WHEN LOWER(grl.title) LIKE LOWER(CONCAT('%', :keyword, '%')) THEN 2 ELSE 0 END " +
+            "+ CASE WHEN LOWER(grl.description) LIKE LOWER(CONCAT('%', :keyword, '%')) THEN 1 ELSE 0 END) DESC, " +
+            "grl.id DESC",
+            countQuery = "SELECT COUNT(grl) FROM GroupRoutineList grl " +
+                    "WHERE LOWER(grl.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+                    "OR LOWER(grl.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     Page<GroupRoutineList> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
     @Query(value = "SELECT DISTINCT grl FROM GroupRoutineList grl " +
@@ -37,6 +56,51 @@ public interface GroupRoutineListRepository extends JpaRepository<GroupRoutineLi
                     "WHERE uir.user = :user")
     Page<GroupRoutineList> findAllByUser(@Param("user") User user, Pageable pageable);
 
+    /**
+     * 단체 루틴 피드의 첫 페이지를 최신순으로 조회합니다. (커서 페이지네이션)
+     *
+     * @param pageable 조회 개수 ({@code size + 1})
+     */
+    @Query("SELECT grl FROM GroupRoutineList grl ORDER BY grl.createdDate DESC, grl.id DESC")
+    List<GroupRoutineList> findFeedFirst(Pageable pageable);
+
+    /**
+     * 커서 이후의 단체 루틴 피드를 최신순으로 조회합니다.
+     * 선두 조건을 {@code createdDate <= :createdDate} 범위로 두어 (created_date, id) 인덱스를 범위 탐색합니다.
+     *
+     * @param createdDate 커서의 생성일시
+     * @param id          커서의 ID
+     * @param pageable    조회 개수 ({@code size + 1})
+     */
+    @Query("SELECT grl FROM GroupRoutineList grl " +
+            "WHERE grl.createdDate <= :createdDate AND (grl.createdDate < :createdDate OR grl.id < :id) " +
+            "ORDER BY grl.createdDate DESC, grl.id DESC")
+    List<GroupRoutineList> findFeedAfter(@Param("createdDate") LocalDateTime createdDate, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 사용자가 가입한 단체 루틴의 첫 페이지를 최신순으로 조회합니다. (커서 페이지네이션)
+     */
+    @Query("SELECT grl FROM GroupRoutineList grl JOIN grl.userInRooms uir " +
+            "WHERE uir.user = :user " +
+            "ORDER BY grl.createdDate DESC, grl.id DESC")
+    List<GroupRoutineList> findJoinedFirst(@Param("user") User user, Pageable pageable);
+
+    /**
+     * 커서 이후의 가입한 단체 루틴을 최신순으로 조회합니다.
+     */
+    @Query("SELECT grl FROM GroupRoutineList grl JOIN grl.userInRooms uir " +
+            "WHERE uir.user = :user " +
+            "AND grl.createdDate <= :createdDate AND (grl.createdDate < :createdDate OR grl.id < :id) " +
+            "ORDER BY grl.createdDate DESC, grl.id DESC")
+    List<GroupRoutineList> findJoinedAfter(@Param("user") User user, @Param("createdDate") LocalDateTime createdDate,
+                                           @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 사용자가 가입한 단체 루틴 수
+     */
+    @Query("SELECT COUNT(DISTINCT uir.groupRoutineList) FROM UserInRoom uir WHERE uir.user = :user")
+    long countJoinedByUser(@Param("user") User user);
+
     /**
      * 특정 사용자가 방장으로 있는 모든 단체 루틴을 조회합니다.
      *
@@ -44,4 +108,35 @@ public interface GroupRoutineListRepository extends JpaRepository<GroupRoutineLi
      * @return 단체 루틴 목록
      */
     List<GroupRoutineList> findAllByUser(User user);
+
+    /**
+     * 참여 인원 수를 DB에서 원자적으로 1 증가시킵니다. (동시 참여 시 갱신 유실 방지)
+     *
+     * @param id 단체 루틴 ID
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE GroupRoutineList grl SET grl.userCnt = grl.userCnt + 1 WHERE grl.id = :id")
+    int increaseUserCnt(@Param("id") Long id);
+
+    /**
+     * 참여 인원 수를 DB에서 원자적으로 1 감소시킵니다. 0 미만으로는 내려가지 않습니다.
+     *
+     * @param id 단체 루틴 ID
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE GroupRoutineList grl SET grl.userCnt = grl.userCnt - 1 WHERE grl.id = :id AND grl.userCnt > 0")
+    int decreaseUserCnt(@Param("id") Long id);
+
+    /**
+     * 참여 인원 수가 실제 참여 정보 수와 다른 단체 루틴을 바로잡습니다.
+     *
+     * @return 보정된 단체 루틴 수
+     */
+    @Modifying
+    @Query("UPDATE GroupRoutineList grl " +
+            "SET grl.userCnt = (SELECT COUNT(uir) FROM UserInRoom uir WHERE uir.groupRoutineList.id = grl.id) " +
+            "WHERE grl.userCnt <> (SELECT COUNT(uir2) FROM UserInRoom uir2 WHERE uir2.groupRoutineList.id = grl.id)")
+    int reconcileUserCnt();
 }
\ No newline at end of file
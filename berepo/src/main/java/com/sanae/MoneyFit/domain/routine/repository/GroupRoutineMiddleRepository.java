@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -36,6 +37,16 @@ public interface GroupRoutineMiddleRepository extends JpaRepository<GroupRoutine
     @Query("SELECT m FROM GroupRoutineMiddle m JOIN FETCH m.routine WHERE m.routineList = :routineList")
     List<GroupRoutineMiddle> findWithRoutineByRoutineList(@Param("routineList") GroupRoutineList routineList);
 
+    /**
+     * 여러 단체 루틴에 속한 상세 루틴 정보를 한 번에 조회합니다.
+     * 목록 화면에서 루틴별로 쿼리가 반복되지 않도록 루틴 엔티티까지 fetch join 합니다.
+     *
+     * @param routineListIds 단체 루틴 ID 목록
+     * @return 상세 루틴 목록
+     */
+    @Query("SELECT m FROM GroupRoutineMiddle m JOIN FETCH m.routine WHERE m.routineList.id IN :routineListIds")
+    List<GroupRoutineMiddle> findWithRoutineByRoutineListIdIn(@Param("routineListIds") Collection<Long> routineListIds);
+
     /**
      * 주어진 단체 루틴에 속한 모든 상세 루틴을 조회합니다.
      *
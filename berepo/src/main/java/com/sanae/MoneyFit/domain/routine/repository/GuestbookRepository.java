@@ -3,18 +3,46 @@ package com.sanae.MoneyFit.domain.routine.repository;
 import com.sanae.MoneyFit.domain.routine.entity.Guestbook;
 import com.sanae.MoneyFit.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.sanae.MoneyFit.domain.routine.entity.GroupRoutineList;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface GuestbookRepository extends JpaRepository<Guestbook, Long> {
     Page<Guestbook> findByGroupRoutineList(GroupRoutineList groupRoutineList, Pageable pageable);
 
+    /**
+     * 방명록 첫 페이지를 최신순으로 조회합니다. (커서 페이지네이션, 작성자 함께 조회)
+     *
+     * @param groupRoutineList 단체 루틴
+     * @param pageable         조회 개수 ({@code size + 1})
+     */
+    @Query("SELECT g FROM Guestbook g JOIN FETCH g.user " +
+            "WHERE g.groupRoutineList = :groupRoutineList " +
+            "ORDER BY g.createdDate DESC, g.id DESC")
+    List<Guestbook> findFirstByGroupRoutineList(@Param("groupRoutineList") GroupRoutineList groupRoutineList, Pageable pageable);
+
+    /**
+     * 커서 이후의 방명록을 최신순으로 조회합니다.
+     */
+    @Query("SELECT g FROM Guestbook g JOIN FETCH g.user " +
+            "WHERE g.groupRoutineList = :groupRoutineList " +
+            "AND g.createdDate <= :createdDate AND (g.createdDate < :createdDate OR g.id < :id) " +
+            "ORDER BY g.createdDate DESC, g.id DESC")
+    List<Guestbook> findAfterByGroupRoutineList(@Param("groupRoutineList") GroupRoutineList groupRoutineList,
+                                                @Param("createdDate") LocalDateTime createdDate,
+                                                @Param("id") Long id, Pageable pageable);
+
+    long countByGroupRoutineList(GroupRoutineList groupRoutineList);
+
     Optional<Guestbook> findByIdAndGroupRoutineList(Long id, GroupRoutineList groupRoutineList);
 
     void deleteAllByGroupRoutineList(GroupRoutineList groupRoutineList);
@@ -1,8 +1,43 @@
 package com.sanae.MoneyFit.domain.routine.repository;
 
 import com.sanae.MoneyFit.domain.routine.entity.MyRoutineDays;
+import com.sanae.MoneyFit.domain.routine.enums.DayType;
+import com.sanae.MoneyFit.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
 
 public interface MyRoutineDaysRepository extends JpaRepository<MyRoutineDays, Long> {
 
-}
\ No newline at end of file
+    /**
+     * 사용자의 개인 루틴이 예정된 요일 목록을 조회합니다.
+     *
+     * @param user 조회할 사용자
+     * @return 중복이 제거된 요일 목록
+     */
+    @Query("SELECT DISTINCT mrd.dayType FROM MyRoutineDays mrd WHERE mrd.routineList.user = :user")
+    List<DayType> findScheduledDayTypesByUser(@Param("user") User user);
+
+    /**
+     * 여러 사용자의 개인 루틴 예정 요일을 한 번에 조회합니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return [사용자 ID, 요일] 배열 목록
+     */
+    @Query("SELECT DISTINCT mrd.routineList.user.id, mrd.dayType FROM MyRoutineDays mrd " +
+            "WHERE mrd.routineList.user.id IN :userIds")
+    List<Object[]> findScheduledDayTypesByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * 여러 개인 루틴의 요일 정보를 한 번에 조회합니다.
+     *
+     * @param routineListIds 개인 루틴 ID 목록
+     * @return 요일 정보 목록
+     */
+    @Query("SELECT mrd FROM MyRoutineDays mrd WHERE mrd.routineList.id IN :routineListIds")
+    List<MyRoutineDays> findByRoutineListIdIn(@Param("routineListIds") Collection<Long> routineListIds);
+}
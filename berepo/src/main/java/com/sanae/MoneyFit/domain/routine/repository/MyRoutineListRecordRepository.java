@@ -3,12 +3,15 @@ package com.sanae.MoneyFit.domain.routine.repository;
 import com.sanae.MoneyFit.domain.routine.entity.MyRoutineList;
 import com.sanae.MoneyFit.domain.routine.entity.MyRoutineListRecord;
 import com.sanae.MoneyFit.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface MyRoutineListRecordRepository extends JpaRepository<MyRoutineListRecord, Long> {
 
@@ -22,6 +25,46 @@ public interface MyRoutineListRecordRepository extends JpaRepository<MyRoutineLi
 
     void deleteByMyRoutineList(MyRoutineList myRoutineList);
 
+    /**
+     * 주어진 기간에 이미 완료 기록이 있는 (사용자, 개인 루틴) 쌍을 한 번에 조회합니다.
+     *
+     * @param routineListIds 개인 루틴 ID 목록
+     * @param startOfDay     조회 시작 시각
+     * @param endOfDay       조회 종료 시각
+     * @return [사용자 ID, 개인 루틴 ID] 배열 목록
+     */
+    @Query("SELECT r.user.id, r.myRoutineList.id FROM MyRoutineListRecord r " +
+            "WHERE r.myRoutineList.id IN :routineListIds " +
+            "AND r.createdDate BETWEEN :startOfDay AND :endOfDay")
+    List<Object[]> findRecordedKeys(Collection<Long> routineListIds, LocalDateTime startOfDay, LocalDateTime endOfDay);
+
+    /**
+     * 사용자의 개인 루틴 완료 날짜(시각)를 기준 시각 이후로 조회합니다.
+     */
+    @Query("SELECT r.createdDate FROM MyRoutineListRecord r " +
+            "WHERE r.user = :user AND r.doneCheck = true AND r.createdDate >= :since")
+    List<LocalDateTime> findCompletedDatesByUser(User user, LocalDateTime since);
+
+    /**
+     * 여러 사용자의 개인 루틴 완료 날짜(시각)를 기준 시각 이후로 한 번에 조회합니다.
+     *
+     * @return [사용자 ID, 완료 시각] 배열 목록
+     */
+    @Query("SELECT r.user.id, r.createdDate FROM MyRoutineListRecord r " +
+            "WHERE r.user.id IN :userIds AND r.doneCheck = true AND r.createdDate >= :since")
+    List<Object[]> findCompletedDatesByUserIdIn(Collection<UUID> userIds, LocalDateTime since);
+
+    /**
+     * 개인 루틴 목록 완료 기록을 기록 ID 오름차순으로 기준 ID 다음부터 조회합니다. (주간 요약 비트마스크 백필의 키 기반 페이징용)
+     *
+     * @param afterId  이전 페이지의 마지막 기록 ID (첫 페이지는 null)
+     * @param pageable 조회 크기
+     * @return [기록 ID, 사용자 ID, 개인 루틴 목록 ID, 완료 시각] 배열 목록
+     */
+    @Query("SELECT r.id, r.user.id, r.myRoutineList.id, r.createdDate FROM MyRoutineListRecord r " +
+            "WHERE r.doneCheck = true AND (:afterId IS NULL OR r.id > :afterId) ORDER BY r.id")
+    List<Object[]> findListCompletionsAfter(Long afterId, Pageable pageable);
+
     /**
      * 특정 사용자의 모든 개인 루틴 수행 기록을 삭제합니다.
      *
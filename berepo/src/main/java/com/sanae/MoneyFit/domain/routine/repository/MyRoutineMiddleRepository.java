@@ -3,11 +3,53 @@ package com.sanae.MoneyFit.domain.routine.repository;
 import com.sanae.MoneyFit.domain.routine.entity.MyRoutineList;
 import com.sanae.MoneyFit.domain.routine.entity.MyRoutineMiddle;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 public interface MyRoutineMiddleRepository extends JpaRepository<MyRoutineMiddle, Long> {
     long countByRoutineList(MyRoutineList routineList);
 
     List<MyRoutineMiddle> findByRoutineList(MyRoutineList routineList);
-}
\ No newline at end of file
+
+    /**
+     * 여러 개인 루틴에 속한 상세 루틴 정보를 한 번에 조회합니다.
+     * 목록 화면에서 루틴별로 쿼리가 반복되지 않도록 루틴 엔티티까지 fetch join 합니다.
+     *
+     * @param routineListIds 개인 루틴 ID 목록
+     * @return 상세 루틴 목록
+     */
+    @Query("SELECT m FROM MyRoutineMiddle m JOIN FETCH m.routine WHERE m.routineList.id IN :routineListIds")
+    List<MyRoutineMiddle> findWithRoutineByRoutineListIdIn(@Param("routineListIds") Collection<Long> routineListIds);
+
+    /**
+     * 상세 루틴이 해당 사용자의 개인 루틴에 속해 있는지 확인합니다.
+     *
+     * @param routineId 상세 루틴 ID
+     * @param userId    사용자 ID
+     * @return 소유 여부
+     */
+    @Query("SELECT COUNT(m) > 0 FROM MyRoutineMiddle m WHERE m.routine.id = :routineId AND m.routineList.user.id = :userId")
+    boolean existsByRoutineIdAndUserId(@Param("routineId") Long routineId, @Param("userId") UUID userId);
+
+    /**
+     * 상세 루틴 ID 목록이 속한 개인 루틴 ID를 한 번에 조회합니다.
+     *
+     * @param routineIds 상세 루틴 ID 목록
+     * @return [상세 루틴 ID, 개인 루틴 ID] 배열 목록 (개인 루틴에 속하지 않은 루틴은 포함되지 않음)
+     */
+    @Query("SELECT m.routine.id, m.routineList.id FROM MyRoutineMiddle m WHERE m.routine.id IN :routineIds")
+    List<Object[]> findRoutineListIdsByRoutineIdIn(@Param("routineIds") Collection<Long> routineIds);
+
+    /**
+     * 여러 개인 루틴의 상세 루틴 개수를 한 번에 집계합니다.
+     *
+     * @param routineListIds 개인 루틴 ID 목록
+     * @return [개인 루틴 ID, 상세 루틴 개수] 배열 목록
+     */
+    @Query("SELECT m.routineList.id, COUNT(m) FROM MyRoutineMiddle m WHERE m.routineList.id IN :routineListIds GROUP BY m.routineList.id")
+    List<Object[]> countByRoutineListIdIn(@Param("routineListIds") Collection<Long> routineListIds);
+}
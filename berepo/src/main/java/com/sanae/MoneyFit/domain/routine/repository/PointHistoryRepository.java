@@ -5,7 +5,12 @@ import com.sanae.MoneyFit.domain.routine.entity.PointHistory;
 import com.sanae.MoneyFit.domain.routine.entity.enums.PointReasonType;
 import com.sanae.MoneyFit.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 public interface PointHistoryRepository extends JpaRepository<PointHistory, Long> {
 
@@ -13,4 +18,21 @@ public interface PointHistoryRepository extends JpaRepository<PointHistory, Long
      * 특정 사용자가 특정 사유로 특정 기간 내에 포인트를 지급받은 내역이 있는지 확인
      */
     boolean existsByUserAndReasonAndCreatedAtBetween(User user, PointReasonType reason, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * 멱등 키가 있는 지급 내역을 추가합니다. 같은 멱등 키의 내역이 이미 있으면 무시합니다.
+     * <p>
+     * {@code INSERT IGNORE}는 중복 키 외의 오류(FK, 값 잘림 등)도 경고로 바꾸므로 멱등 키가 있는 지급에만 사용하고,
+     * 0이 반환되면 {@link #existsByIdempotencyKey}로 실제 중복인지 확인해야 합니다.
+     * </p>
+     *
+     * @return 추가된 행 수 (0이면 이미 처리된 요청)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO point_history (user_id, point, reason, idempotency_key, created_at) " +
+            "VALUES (:userId, :point, :reason, :idempotencyKey, NOW())", nativeQuery = true)
+    int insertIgnore(@Param("userId") UUID userId, @Param("point") long point,
+                     @Param("reason") String reason, @Param("idempotencyKey") String idempotencyKey);
+
+    boolean existsByIdempotencyKey(String idempotencyKey);
 }
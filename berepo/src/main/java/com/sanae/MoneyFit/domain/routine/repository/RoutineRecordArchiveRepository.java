@@ -0,0 +1,56 @@
+package com.sanae.MoneyFit.domain.routine.repository;
+
+import com.sanae.MoneyFit.domain.routine.entity.RoutineRecordArchive;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RoutineRecordArchiveRepository extends JpaRepository<RoutineRecordArchive, Long> {
+
+    /**
+     * 한 사용자의 특정 월 보관 기록을 상세 루틴 목록 기준으로 조회합니다.
+     *
+     * @param user       조회할 사용자
+     * @param monthStart 월의 1일
+     * @param routineIds 상세 루틴 ID 목록
+     * @return 보관 기록 목록
+     */
+    @Query("SELECT a FROM RoutineRecordArchive a " +
+            "WHERE a.user = :user AND a.monthStart = :monthStart AND a.routineId IN :routineIds")
+    List<RoutineRecordArchive> findByUserAndMonthStartAndRoutineIdIn(@Param("user") User user,
+                                                                     @Param("monthStart") LocalDate monthStart,
+                                                                     @Param("routineIds") Collection<Long> routineIds);
+
+    /**
+     * 보관 작업 중 병합 대상이 될 수 있는 기존 보관 기록을 한 번에 조회합니다.
+     * 호출 측에서 (사용자, 상세 루틴, 월) 조합으로 다시 걸러서 사용합니다.
+     */
+    @Query("SELECT a FROM RoutineRecordArchive a " +
+            "WHERE a.user.id IN :userIds AND a.monthStart IN :monthStarts AND a.routineId IN :routineIds")
+    List<RoutineRecordArchive> findCandidates(@Param("userIds") Collection<UUID> userIds,
+                                              @Param("monthStarts") Collection<LocalDate> monthStarts,
+                                              @Param("routineIds") Collection<Long> routineIds);
+
+    /**
+     * 상세 루틴 삭제 시 보관 기록을 정리합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM RoutineRecordArchive a WHERE a.routineId = :routineId")
+    void deleteAllByRoutineId(@Param("routineId") Long routineId);
+
+    /**
+     * 회원 탈퇴 시 사용자의 보관 기록을 모두 삭제합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM RoutineRecordArchive a WHERE a.user = :user")
+    void deleteAllByUser(@Param("user") User user);
+}
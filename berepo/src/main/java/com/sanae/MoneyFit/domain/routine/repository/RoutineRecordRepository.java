@@ -3,10 +3,12 @@ package com.sanae.MoneyFit.domain.routine.repository;
 import com.sanae.MoneyFit.domain.routine.entity.Routine;
 import com.sanae.MoneyFit.domain.routine.entity.RoutineRecord;
 import com.sanae.MoneyFit.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,6 +47,63 @@ public interface RoutineRecordRepository extends JpaRepository<RoutineRecord, Lo
             "AND rr.routine IN :routines AND rr.doneCheck = true")
     long countCompletedRoutinesInList(User user, LocalDateTime startOfDay, LocalDateTime endOfDay, List<Routine> routines);
 
+    /**
+     * 주어진 루틴들에 대해 사용자별로 완료한 서로 다른 루틴 수를 한 번에 집계합니다.
+     * 단체 루틴 상세 화면에서 멤버 수만큼 쿼리가 반복되지 않도록 {@code GROUP BY user_id}로 묶어 조회합니다.
+     *
+     * @param startOfDay 조회 시작 시각
+     * @param endOfDay   조회 종료 시각
+     * @param routines   단체 루틴에 속한 상세 루틴 목록
+     * @return [사용자 ID, 완료한 루틴 수] 배열 목록 (완료 기록이 없는 사용자는 포함되지 않음)
+     */
+    @Query("SELECT rr.user.id, COUNT(DISTINCT rr.routine.id) FROM RoutineRecord rr " +
+            "WHERE rr.createdDate >= :startOfDay AND rr.createdDate <= :endOfDay " +
+            "AND rr.routine IN :routines AND rr.doneCheck = true " +
+            "GROUP BY rr.user.id")
+    List<Object[]> countCompletedRoutinesGroupByUser(LocalDateTime startOfDay, LocalDateTime endOfDay, List<Routine> routines);
+
+    /**
+     * 주어진 기간 동안 사용자가 완료한 상세 루틴 ID를 한 번에 조회합니다.
+     * 목록 화면의 진행률을 페이지 단위로 계산할 때 루틴 목록마다 쿼리가 반복되지 않도록 {@code IN (:routineIds)}로 묶어 조회합니다.
+     *
+     * @param user       조회할 사용자
+     * @param startOfDay 조회 시작 시각
+     * @param endOfDay   조회 종료 시각
+     * @param routineIds 상세 루틴 ID 목록
+     * @return 완료한 상세 루틴 ID 목록 (중복 제거)
+     */
+    @Query("SELECT DISTINCT rr.routine.id FROM RoutineRecord rr " +
+            "WHERE rr.user = :user " +
+            "AND rr.createdDate >= :startOfDay AND rr.createdDate <= :endOfDay " +
+            "AND rr.routine.id IN :routineIds AND rr.doneCheck = true")
+    List<Long> findCompletedRoutineIds(User user, LocalDateTime startOfDay, LocalDateTime endOfDay, Collection<Long> routineIds);
+
+    /**
+     * 주어진 기간에 이미 기록된 (사용자, 상세 루틴) 쌍을 한 번에 조회합니다.
+     * 완료 처리를 일괄 저장할 때 중복 기록을 걸러내기 위해 사용합니다.
+     *
+     * @param routineIds 상세 루틴 ID 목록
+     * @param startOfDay 조회 시작 시각
+     * @param endOfDay   조회 종료 시각
+     * @return [사용자 ID, 상세 루틴 ID] 배열 목록
+     */
+    @Query("SELECT rr.user.id, rr.routine.id FROM RoutineRecord rr " +
+            "WHERE rr.routine.id IN :routineIds " +
+            "AND rr.createdDate >= :startOfDay AND rr.createdDate <= :endOfDay")
+    List<Object[]> findRecordedKeys(Collection<Long> routineIds, LocalDateTime startOfDay, LocalDateTime endOfDay);
+
+    /**
+     * 보관 기준 시각 이전의 수행 기록을 오래된 순으로 한 묶음 조회합니다.
+     * PK 순서로 읽으므로 앞선 묶음이 삭제된 뒤에도 처음부터 다시 읽으면 다음 묶음이 됩니다.
+     *
+     * @param before   보관 기준 시각 (이 시각 이전 기록이 대상)
+     * @param pageable 묶음 크기
+     * @return [기록 ID, 사용자 ID, 상세 루틴 ID, 기록 시각, 완료 여부] 배열 목록
+     */
+    @Query("SELECT rr.id, rr.user.id, rr.routine.id, rr.createdDate, rr.doneCheck FROM RoutineRecord rr " +
+            "WHERE rr.createdDate < :before ORDER BY rr.id")
+    List<Object[]> findArchivable(LocalDateTime before, Pageable pageable);
+
     /**
      * 특정 사용자의 모든 루틴 수행 기록을 삭제합니다.
      *
@@ -8,10 +8,18 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface TemplateRepository extends JpaRepository<Template, Long> {
     Page<Template> findByCategory(Category category, Pageable pageable);
 
+    /**
+     * 이모지와 함께 전체 템플릿을 ID 순으로 조회합니다. (카탈로그 스냅샷 적재용)
+     */
+    @Query("SELECT t FROM Template t JOIN FETCH t.emoji ORDER BY t.id")
+    List<Template> findAllWithEmoji();
+
 
     boolean existsByName(String routineName);
 }
@@ -7,7 +7,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 
 @Repository
@@ -21,6 +23,36 @@ public interface UserInRoomRepository extends JpaRepository<UserInRoom, Long> {
      */
     long countByGroupRoutineList(GroupRoutineList groupRoutineList);
 
+    /**
+     * 주어진 단체 루틴 중 사용자가 참여중인 루틴의 ID만 조회합니다.
+     *
+     * @param user                확인할 사용자
+     * @param groupRoutineListIds 단체 루틴 ID 목록
+     * @return 참여중인 단체 루틴 ID 목록
+     */
+    @Query("SELECT uir.groupRoutineList.id FROM UserInRoom uir " +
+            "WHERE uir.user = :user AND uir.groupRoutineList.id IN :groupRoutineListIds")
+    List<Long> findJoinedGroupRoutineListIds(@Param("user") User user,
+                                             @Param("groupRoutineListIds") Collection<Long> groupRoutineListIds);
+
+    /**
+     * 사용자가 참여중인 모든 단체 루틴의 ID를 조회합니다. (참여 정보 캐시 적재용)
+     *
+     * @param user 사용자
+     * @return 참여중인 단체 루틴 ID 목록
+     */
+    @Query("SELECT uir.groupRoutineList.id FROM UserInRoom uir WHERE uir.user = :user")
+    List<Long> findGroupRoutineListIdsByUser(@Param("user") User user);
+
+    /**
+     * 단체 루틴에 참여중인 사용자 ID를 조회합니다. (참여 정보 캐시 무효화용)
+     *
+     * @param groupRoutineList 단체 루틴
+     * @return 참여중인 사용자 ID 목록
+     */
+    @Query("SELECT uir.user.id FROM UserInRoom uir WHERE uir.groupRoutineList = :groupRoutineList")
+    List<UUID> findUserIdsByGroupRoutineList(@Param("groupRoutineList") GroupRoutineList groupRoutineList);
+
     /**
      * 사용자가 해당 단체 루틴에 참여중인지 여부를 확인합니다.
      *
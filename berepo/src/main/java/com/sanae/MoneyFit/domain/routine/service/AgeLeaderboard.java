@@ -0,0 +1,188 @@
+package com.sanae.MoneyFit.domain.routine.service;
+
+import com.sanae.MoneyFit.domain.user.entity.Age;
+import com.sanae.MoneyFit.domain.user.repository.AgeRepository;
+import com.sanae.MoneyFit.global.common.aop.DistributedLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * <h2>AgeLeaderboard</h2>
+ * <p>
+ * 연령대 랭킹을 Redis Sorted Set(ZSET)으로 관리합니다. <br>
+ * 점수 변경은 DB에 먼저 반영한 뒤 DB의 현재 점수를 더 큰 값만 남기도록 기록하고, 페이지/내 순위 조회는 {@code ZREVRANGE WITHSCORES},
+ * {@code ZSCORE}, {@code ZCOUNT}로 O(log n)에 처리됩니다. 애플리케이션 시작 시 {@link Age} 테이블로부터 재구성합니다.
+ * </p>
+ * <p>
+ * 재구성이 끝나면 완료 표시 키를 함께 남깁니다. Redis 가 비워진 뒤에는 표시 키가 없으므로
+ * 조회 시 {@link #isBuilt()}로 재구성 여부를 판단하고, 재구성 전에는 일부 항목만 담긴 ZSET 대신 DB로 응답합니다.
+ * </p>
+ * <p>
+ * 연령대 점수는 증가만 하므로, 재구성은 임시 키와 기존 랭킹을 {@code ZUNIONSTORE ... AGGREGATE MAX}로 합칩니다.
+ * DB 조회와 교체 사이에 반영된 점수가 재구성 결과에 덮어써지지 않고, 조회 전에 반영된 점수가 두 번 더해지지도 않습니다.
+ * </p>
+ * <p>순위는 기존과 동일하게 "나보다 점수가 높은 항목 수 + 1" (동점자 동순위) 규칙을 따릅니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AgeLeaderboard {
+
+    private static final String KEY = "RANK:AGE";
+    private static final String REBUILD_KEY = "RANK:AGE:REBUILD";
+    private static final String BUILT_KEY = "RANK:AGE:BUILT";
+
+    /** 임시 키를 랭킹 키에 큰 점수 기준으로 합치고 완료 표시를 남깁니다. 적재할 항목이 없으면 랭킹 키만 지웁니다. */
+    private static final RedisScript<Long> PUBLISH = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('ZUNIONSTORE', KEYS[2], 2, KEYS[1], KEYS[2], 'AGGREGATE', 'MAX')
+                redis.call('DEL', KEYS[1])
+            else
+                redis.call('DEL', KEYS[2])
+            end
+            redis.call('SET', KEYS[3], '1')
+            return 1
+            """, Long.class);
+
+    /** 기존 점수보다 클 때만 점수를 기록합니다. 1: 반영, 0: 이미 같거나 큰 점수라 건너뜀 */
+    private static final RedisScript<Long> UPDATE_IF_GREATER = new DefaultRedisScript<>("""
+            local current = redis.call('ZSCORE', KEYS[1], ARGV[2])
+            if current and tonumber(current) >= tonumber(ARGV[1]) then
+                return 0
+            end
+            redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final AgeRepository ageRepository;
+
+    /**
+     * {@link Age} 테이블 전체로 ZSET을 다시 구성합니다.
+     * 임시 키에 적재한 뒤 한 번에 합쳐 조회 중인 요청이 빈 랭킹을 보지 않도록 합니다.
+     * 시작 시와 조회 시 재구성 요청이 여러 서버에서 겹쳐도 한 곳에서만 실행됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @DistributedLock(key = "'AGE_LEADERBOARD_REBUILD'", waitTime = 0L, leaseTime = 60L)
+    public void rebuild() {
+        List<Age> ages = ageRepository.findAll();
+
+        redisTemplate.delete(REBUILD_KEY);
+        if (!ages.isEmpty()) {
+            Set<ZSetOperations.TypedTuple<String>> tuples = ages.stream()
+                    .map(age -> new DefaultTypedTuple<>(String.valueOf(age.getId()), (double) age.getScore()))
+                    .collect(Collectors.toSet());
+            redisTemplate.opsForZSet().add(REBUILD_KEY, tuples);
+        }
+        redisTemplate.execute(PUBLISH, List.of(REBUILD_KEY, KEY, BUILT_KEY));
+        log.info("[AgeLeaderboard] 연령대 랭킹 재구성 완료: {}건", ages.size());
+    }
+
+    /**
+     * DB에 반영된 연령대 점수를 기록합니다.
+     * 증분이 아니라 DB의 현재 점수를 기록하므로 재구성과 겹쳐도 두 번 더해지지 않고,
+     * 반영 순서가 뒤바뀐 이전 점수는 더 큰 점수를 덮어쓰지 않습니다.
+     *
+     * @param ageId 연령대 ID
+     * @param score DB에 반영된 현재 점수
+     */
+    public void update(long ageId, int score) {
+        redisTemplate.execute(UPDATE_IF_GREATER, List.of(KEY), String.valueOf(score), String.valueOf(ageId));
+    }
+
+    /**
+     * 랭킹이 {@link Age} 테이블로부터 재구성된 상태인지 확인합니다.
+     * 항목 수로 판단하면 Redis 초기화 후 일부 항목만 담긴 ZSET을 재구성된 것으로 오인할 수 있어 별도 표시 키를 봅니다.
+     */
+    public boolean isBuilt() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(BUILT_KEY));
+    }
+
+    /**
+     * 랭킹 항목 수를 반환합니다. (ZCARD)
+     */
+    public long size() {
+        Long size = redisTemplate.opsForZSet().zCard(KEY);
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 점수 내림차순으로 한 페이지를 조회합니다. (ZREVRANGE WITHSCORES)
+     *
+     * @param offset 시작 위치 (0부터)
+     * @param size   조회 개수
+     * @return 순위가 포함된 항목 목록
+     */
+    public List<Entry> getPage(long offset, int size) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(KEY, offset, offset + size - 1);
+        if (tuples == null || tuples.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Entry> entries = new ArrayList<>(tuples.size());
+        int previousScore = 0;
+        int previousRank = 0;
+        long position = offset;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            int score = tuple.getScore() == null ? 0 : tuple.getScore().intValue();
+            int rank;
+            if (entries.isEmpty()) {
+                // 페이지 첫 항목만 ZCOUNT로 동점자를 고려한 순위를 계산합니다.
+                rank = (int) countHigherThan(score) + 1;
+            } else if (score == previousScore) {
+                rank = previousRank;
+            } else {
+                rank = (int) position + 1;
+            }
+            entries.add(new Entry(Long.parseLong(tuple.getValue()), score, rank));
+            previousScore = score;
+            previousRank = rank;
+            position++;
+        }
+        return entries;
+    }
+
+    /**
+     * 특정 연령대의 점수와 순위를 조회합니다. (ZSCORE + ZCOUNT)
+     *
+     * @param ageId 연령대 ID
+     * @return 랭킹에 없는 경우 {@link Optional#empty()}
+     */
+    public Optional<Entry> getEntry(long ageId) {
+        Double score = redisTemplate.opsForZSet().score(KEY, String.valueOf(ageId));
+        if (score == null) {
+            return Optional.empty();
+        }
+        int intScore = score.intValue();
+        return Optional.of(new Entry(ageId, intScore, (int) countHigherThan(intScore) + 1));
+    }
+
+    private long countHigherThan(int score) {
+        Long count = redisTemplate.opsForZSet()
+                .count(KEY, Range.rightUnbounded(Range.Bound.exclusive((double) score)));
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 랭킹 항목
+     *
+     * @param ageId 연령대 ID
+     * @param score 점수
+     * @param rank  순위 (동점자 동순위)
+     */
+    public record Entry(long ageId, int score, int rank) {
+    }
+}
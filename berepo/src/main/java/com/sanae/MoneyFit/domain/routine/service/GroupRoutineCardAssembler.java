@@ -0,0 +1,217 @@
+package com.sanae.MoneyFit.domain.routine.service;
+
+import com.sanae.MoneyFit.domain.routine.dto.response.GroupRoutineResponseDto;
+import com.sanae.MoneyFit.domain.routine.entity.GroupRoutineDays;
+import com.sanae.MoneyFit.domain.routine.entity.GroupRoutineList;
+import com.sanae.MoneyFit.domain.routine.entity.GroupRoutineListDoneCheck;
+import com.sanae.MoneyFit.domain.routine.entity.GroupRoutineMiddle;
+import com.sanae.MoneyFit.domain.routine.entity.Routine;
+import com.sanae.MoneyFit.domain.routine.entity.RoutineRecord;
+import com.sanae.MoneyFit.domain.routine.enums.DayType;
+import com.sanae.MoneyFit.domain.routine.repository.GroupRoutinDaysRepository;
+import com.sanae.MoneyFit.domain.routine.repository.GroupRoutineMiddleRepository;
+import com.sanae.MoneyFit.domain.routine.repository.RoutineRecordRepository;
+import com.sanae.MoneyFit.domain.routine.repository.UserInRoomRepository;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * <h2>GroupRoutineCardAssembler</h2>
+ * <p>
+ * 단체 루틴 목록(홈/전체/검색) 화면의 카드 DTO를 <b>페이지 단위</b>로 조립합니다. <br>
+ * 상세 루틴, 참여 여부, 요일, 오늘의 수행 기록을 페이지의 단체 루틴 ID 전체에 대해
+ * {@code IN (:ids)} 쿼리로 한 번씩만 조회한 뒤 메모리에서 매핑하므로,
+ * 페이지 크기와 무관하게 쿼리 수가 일정하게 유지됩니다. 참여 인원 수는 비정규화된 {@code userCnt}를 그대로 사용합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GroupRoutineCardAssembler {
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final GroupRoutineMiddleRepository groupRoutineMiddleRepository;
+    private final UserInRoomRepository userInRoomRepository;
+    private final GroupRoutinDaysRepository groupRoutinDaysRepository;
+    private final RoutineRecordRepository routineRecordRepository;
+
+    /**
+     * 단체 루틴 목록을 {@link GroupRoutineResponseDto.GroupRoutineInfo} 목록으로 변환합니다.
+     *
+     * @param routines       변환할 단체 루틴 목록 (순서 유지)
+     * @param user           현재 로그인한 사용자
+     * @param includePercent 오늘의 진행률 포함 여부
+     * @return 카드 DTO 목록
+     */
+    public List<GroupRoutineResponseDto.GroupRoutineInfo> toGroupRoutineInfos(List<GroupRoutineList> routines, User user,
+                                                                             boolean includePercent) {
+        if (routines.isEmpty()) {
+            return Collections.emptyList();
+        }
+        PageData data = load(routines, user, includePercent);
+
+        return routines.stream()
+                .map(routine -> GroupRoutineResponseDto.GroupRoutineInfo.builder()
+                        .id(routine.getId())
+                        .routineType(routine.getRoutineType())
+                        .title(routine.getTitle())
+                        .description(routine.getDescription())
+                        .startTime(routine.getStartTime().format(TIME_FORMATTER))
+                        .endTime(routine.getEndTime().format(TIME_FORMATTER))
+                        .routineNums(data.routineNums(routine.getId()))
+                        .peopleNums(routine.getUserCnt())
+                        .percent(data.percent(routine.getId()))
+                        .dayOfWeek(data.dayOfWeek(routine.getId()))
+                        .isJoined(data.isJoined(routine, user))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 가입한 단체 루틴 목록을 {@link GroupRoutineResponseDto.MyGroupRoutineInfo} 목록으로 변환합니다.
+     *
+     * @param routines    변환할 단체 루틴 목록 (순서 유지)
+     * @param user        현재 로그인한 사용자
+     * @param weekRecords 이번 주 단체 루틴 완료 기록
+     * @return 카드 DTO 목록
+     */
+    public List<GroupRoutineResponseDto.MyGroupRoutineInfo> toMyGroupRoutineInfos(List<GroupRoutineList> routines, User user,
+                                                                                 List<GroupRoutineListDoneCheck> weekRecords) {
+        if (routines.isEmpty()) {
+            return Collections.emptyList();
+        }
+        PageData data = load(routines, user, true);
+
+        // 완료 기록을 단체 루틴 ID 기준으로 미리 묶어 둡니다.
+        Map<Long, List<GroupRoutineListDoneCheck>> recordsByList = weekRecords == null ? Collections.emptyMap()
+                : weekRecords.stream()
+                .filter(GroupRoutineListDoneCheck::isDoneCheck)
+                .collect(Collectors.groupingBy(record -> record.getGroupRoutineList().getId()));
+
+        return routines.stream()
+                .map(routine -> {
+                    List<String> dayOfWeek = data.dayOfWeek(routine.getId());
+                    List<String> successDay = recordsByList.getOrDefault(routine.getId(), Collections.emptyList())
+                            .stream()
+                            .map(record -> DayType.from(record.getCreatedDate().getDayOfWeek()).name())
+                            .filter(dayOfWeek::contains)
+                            .distinct()
+                            .collect(Collectors.toList());
+
+                    return GroupRoutineResponseDto.MyGroupRoutineInfo.builder()
+                            .id(routine.getId())
+                            .routineType(routine.getRoutineType())
+                            .title(routine.getTitle())
+                            .description(routine.getDescription())
+                            .startTime(routine.getStartTime().format(TIME_FORMATTER))
+                            .endTime(routine.getEndTime().format(TIME_FORMATTER))
+                            .routineNums(data.routineNums(routine.getId()))
+                            .peopleNums(routine.getUserCnt())
+                            .percent(data.percent(routine.getId()))
+                            .dayOfWeek(dayOfWeek)
+                            .successDay(successDay)
+                            .isJoined(data.isJoined(routine, user))
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    // ####################### Private 서브 메서드 #######################
+
+    /**
+     * 페이지에 포함된 단체 루틴 ID 전체를 기준으로 카드 구성에 필요한 데이터를 일괄 조회합니다.
+     * <p>상세 루틴 / 참여 여부 / 요일 (+ 진행률이 필요하면 오늘의 수행 기록) 순으로 고정된 개수의 쿼리만 실행됩니다.</p>
+     */
+    private PageData load(List<GroupRoutineList> routines, User user, boolean includePercent) {
+        List<Long> ids = routines.stream()
+                .map(GroupRoutineList::getId)
+                .distinct()
+                .collect(Collectors.toList());
+
+        // 1. 상세 루틴 (루틴 ID -> 단체 루틴 ID 역인덱스 포함)
+        Map<Long, List<Routine>> routinesByList = new HashMap<>();
+        Map<Long, Long> listIdByRoutineId = new HashMap<>();
+        for (GroupRoutineMiddle middle : groupRoutineMiddleRepository.findWithRoutineByRoutineListIdIn(ids)) {
+            Long listId = middle.getRoutineList().getId();
+            routinesByList.computeIfAbsent(listId, k -> new ArrayList<>()).add(middle.getRoutine());
+            listIdByRoutineId.put(middle.getRoutine().getId(), listId);
+        }
+
+        // 2. 현재 사용자의 참여 여부
+        Set<Long> joinedIds = new HashSet<>(userInRoomRepository.findJoinedGroupRoutineListIds(user, ids));
+
+        // 3. 요일 정보
+        Map<Long, List<String>> dayOfWeek = new HashMap<>();
+        for (GroupRoutineDays day : groupRoutinDaysRepository.findByGroupRoutineListIdIn(ids)) {
+            dayOfWeek.computeIfAbsent(day.getGroupRoutineList().getId(), k -> new ArrayList<>())
+                    .add(day.getDayType().name());
+        }
+
+        // 4. 오늘의 완료 기록 (진행률이 필요한 경우에만)
+        Map<Long, Long> doneCounts = null;
+        if (includePercent) {
+            doneCounts = new HashMap<>();
+            List<Routine> allRoutines = routinesByList.values().stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
+            if (!allRoutines.isEmpty()) {
+                LocalDate today = LocalDate.now();
+                LocalDateTime startOfDay = today.atStartOfDay();
+                LocalDateTime endOfDay = today.atTime(LocalTime.MAX);
+                for (RoutineRecord record : routineRecordRepository.findRecordsByDateAndRoutines(user, startOfDay, endOfDay, allRoutines)) {
+                    if (!record.isDoneCheck()) {
+                        continue;
+                    }
+                    Long listId = listIdByRoutineId.get(record.getRoutine().getId());
+                    if (listId != null) {
+                        doneCounts.merge(listId, 1L, Long::sum);
+                    }
+                }
+            }
+        }
+
+        return new PageData(routinesByList, joinedIds, dayOfWeek, doneCounts);
+    }
+
+    /**
+     * 한 페이지 분량의 카드 구성 데이터를 단체 루틴 ID 기준으로 보관합니다.
+     * {@code doneCounts}가 {@code null}이면 진행률을 계산하지 않습니다.
+     */
+    private record PageData(Map<Long, List<Routine>> routinesByList,
+                            Set<Long> joinedIds,
+                            Map<Long, List<String>> dayOfWeek,
+                            Map<Long, Long> doneCounts) {
+
+        int routineNums(Long listId) {
+            return routinesByList.getOrDefault(listId, Collections.emptyList()).size();
+        }
+
+        boolean isJoined(GroupRoutineList routine, User user) {
+            // 프록시 초기화를 피하기 위해 방장 여부는 ID로 비교합니다.
+            return Objects.equals(routine.getUser().getId(), user.getId()) || joinedIds.contains(routine.getId());
+        }
+
+        List<String> dayOfWeek(Long listId) {
+            return dayOfWeek.getOrDefault(listId, Collections.emptyList());
+        }
+
+        Double percent(Long listId) {
+            if (doneCounts == null) {
+                return null;
+            }
+            int routineNums = routineNums(listId);
+            long doneCount = doneCounts.getOrDefault(listId, 0L);
+            return routineNums > 0 ? Math.round((double) doneCount * 1000 / routineNums) / 10.0 : 0.0;
+        }
+    }
+}
@@ -5,10 +5,11 @@ import com.sanae.MoneyFit.domain.routine.dto.request.GuestbookRequestDto;
 import com.sanae.MoneyFit.domain.routine.dto.request.SubRoutineRequestDto;
 import com.sanae.MoneyFit.domain.routine.dto.response.GroupRoutineResponseDto;
 import com.sanae.MoneyFit.domain.routine.dto.response.GuestbookResponseDto;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.global.web.response.CursorResponse;
 import com.sanae.MoneyFit.global.web.response.PaginatedResponse;
 import org.springframework.data.domain.Pageable;
 
-import java.util.UUID;
 
 /**
  * <h2>GroupRoutineService</h2>
@@ -29,11 +30,22 @@ public interface GroupRoutineService {
      * 사용자가 참여중인 단체 루틴 목록을 조회합니다.
      * <p>단체 루틴은 생성일 기준으로 최신순 정렬됩니다.</p>
      *
-     * @param id       현재 로그인한 사용자의 uuid
+     * @param user     현재 로그인한 사용자
      * @param pageable 페이지 번호, 페이지 크기 정보를 담은 객체
      * @return {@link GroupRoutineResponseDto.MyGroupRoutineInfo} 단체 루틴 목록 정보
      */
-    PaginatedResponse<GroupRoutineResponseDto.MyGroupRoutineInfo> getMyGroupRoutines(UUID id, Pageable pageable);
+    PaginatedResponse<GroupRoutineResponseDto.MyGroupRoutineInfo> getMyGroupRoutines(User user, Pageable pageable);
+
+    /**
+     * 사용자가 참여중인 단체 루틴 목록을 커서 기반으로 조회합니다.
+     *
+     * @param user         현재 로그인한 사용자
+     * @param cursor       이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size         페이지 크기
+     * @param includeTotal 전체 개수 포함 여부 (포함 시 COUNT 쿼리 추가)
+     * @return {@link GroupRoutineResponseDto.MyGroupRoutineInfo} 단체 루틴 목록 정보
+     */
+    CursorResponse<GroupRoutineResponseDto.MyGroupRoutineInfo> getMyGroupRoutinesByCursor(User user, String cursor, int size, boolean includeTotal);
 
     /**
      * 키워드를 기준으로 단체 루틴을 검색합니다.
@@ -41,12 +53,12 @@ public interface GroupRoutineService {
      * 제목 또는 설명에 키워드가 포함된 루틴들을 최신순으로 반환합니다.
      * </p>
      *
-     * @param id      현재 로그인한 사용자의 uuid
+     * @param user    현재 로그인한 사용자
      * @param keyword 검색 키워드
      * @param pageable 페이지 번호, 페이지 크기 정보를 담은 객체
      * @return {@link GroupRoutineResponseDto.GroupRoutineInfo} 검색된 단체 루틴 목록 정보
      */
-    PaginatedResponse<GroupRoutineResponseDto.GroupRoutineInfo> searchGroupRoutines(UUID id, String keyword, Pageable pageable);
+    PaginatedResponse<GroupRoutineResponseDto.GroupRoutineInfo> searchGroupRoutines(User user, String keyword, Pageable pageable);
 
     /**
      * 페이징 처리된 단체 루틴 목록을 조회합니다.
@@ -54,19 +66,30 @@ public interface GroupRoutineService {
      * 각 루틴에 대해 현재 사용자의 참여 여부(`isJoined`)를 함께 반환합니다.
      * </p>
      *
-     * @param id    현재 로그인한 사용자의 uuid
+     * @param user  현재 로그인한 사용자
      * @param pageable 페이지 번호, 페이지 크기 정보를 담은 객체
      * @return {@link GroupRoutineResponseDto.GroupRoutineInfo} 단체 루틴 목록 정보
      */
-    PaginatedResponse<GroupRoutineResponseDto.GroupRoutineInfo> getGroupRoutines(UUID id, Pageable pageable);
+    PaginatedResponse<GroupRoutineResponseDto.GroupRoutineInfo> getGroupRoutines(User user, Pageable pageable);
+
+    /**
+     * 단체 루틴 목록을 커서 기반으로 최신순 조회합니다.
+     *
+     * @param user         현재 로그인한 사용자
+     * @param cursor       이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size         페이지 크기
+     * @param includeTotal 전체 개수 포함 여부 (포함 시 COUNT 쿼리 추가)
+     * @return {@link GroupRoutineResponseDto.GroupRoutineInfo} 단체 루틴 목록 정보
+     */
+    CursorResponse<GroupRoutineResponseDto.GroupRoutineInfo> getGroupRoutinesByCursor(User user, String cursor, int size, boolean includeTotal);
 
     /**
      * 새로운 단체 루틴을 생성합니다.
      *
-     * @param id     루틴을 생성하는 사용자(방장)의 uid
+     * @param user      루틴을 생성하는 사용자(방장)
      * @param createDto 단체 루틴 생성을 위한 요청 데이터
      */
-    Long createGroupRoutine(UUID id, GroupRoutineRequestDto.Create createDto);
+    Long createGroupRoutine(User user, GroupRoutineRequestDto.Create createDto);
 
     /**
      * 특정 단체 루틴의 상세 정보를 조회합니다.
@@ -78,11 +101,11 @@ public interface GroupRoutineService {
      *     <li><b>참여자/방장:</b> 루틴 성공/실패 인원 수 및 프로필 이미지 목록</li>
      * </ul>
      *
-     * @param id              현재 로그인한 사용자의 uuid
+     * @param user            현재 로그인한 사용자
      * @param groupRoutineListId 조회할 단체 루틴의 ID
      * @return {@link GroupRoutineResponseDto.DetailResponse} 단체 루틴 상세 정보
      */
-    GroupRoutineResponseDto.DetailResponse getGroupRoutineDetail(UUID id, Long groupRoutineListId);
+    GroupRoutineResponseDto.DetailResponse getGroupRoutineDetail(User user, Long groupRoutineListId);
 
     /**
      * 기존 단체 루틴의 정보를 수정합니다.
@@ -90,11 +113,11 @@ public interface GroupRoutineService {
      * 해당 루틴의 방장만 수정을 진행할 수 있습니다.
      * </p>
      *
-     * @param id              현재 로그인한 사용자의 uuid
+     * @param user            현재 로그인한 사용자
      * @param groupRoutineListId 수정할 단체 루틴의 ID
      * @param updateDto          단체 루틴 수정을 위한 요청 데이터
      */
-    void updateGroupRoutine(UUID id, Long groupRoutineListId, GroupRoutineRequestDto.Update updateDto);
+    void updateGroupRoutine(User user, Long groupRoutineListId, GroupRoutineRequestDto.Update updateDto);
 
     /**
      * 단체 루틴을 삭제합니다.
@@ -102,18 +125,18 @@ public interface GroupRoutineService {
      * 해당 루틴의 방장만 삭제를 진행할 수 있습니다.
      * </p>
      *
-     * @param id              현재 로그인한 사용자의 uuid
+     * @param user            현재 로그인한 사용자
      * @param groupRoutineListId 삭제할 단체 루틴의 ID
      */
-    void deleteGroupRoutine(UUID id, Long groupRoutineListId);
+    void deleteGroupRoutine(User user, Long groupRoutineListId);
 
     /**
      * 사용자가 단체 루틴에 참여(가입)합니다.
      *
-     * @param id              현재 로그인한 사용자의 uuid
+     * @param user            현재 로그인한 사용자
      * @param groupRoutineListId 참여할 단체 루틴의 ID
      */
-    void joinGroupRoutine(UUID id, Long groupRoutineListId);
+    void joinGroupRoutine(User user, Long groupRoutineListId);
 
     /**
      * 단체 루틴에서 탈퇴합니다.
@@ -121,10 +144,10 @@ public interface GroupRoutineService {
      * 방장(단체 루틴 생성자)은 탈퇴할 수 없으며, 참여중인 사용자만 가능합니다.
      * </p>
      *
-     * @param id                현재 로그인한 사용자의 uuid
+     * @param user              현재 로그인한 사용자
      * @param groupRoutineListId 탈퇴할 단체 루틴의 ID
      */
-    void leaveGroupRoutine(UUID id, Long groupRoutineListId);
+    void leaveGroupRoutine(User user, Long groupRoutineListId);
 
     /**
      * 단체 루틴의 완료 여부(성공/실패)를 기록합니다.
@@ -132,11 +155,11 @@ public interface GroupRoutineService {
      * 해당 루틴에 참여중인 사용자만 완료 여부를 기록할 수 있습니다.
      * </p>
      *
-     * @param id                현재 로그인한 사용자의 uuid
+     * @param user              현재 로그인한 사용자
      * @param groupRoutineListId 완료 여부를 기록할 단체 루틴의 ID
      * @param recordUpdateDto    완료 여부 갱신을 위한 요청 데이터
      */
-    void updateGroupRoutineRecord(UUID id, Long groupRoutineListId, GroupRoutineRequestDto.RecordUpdate recordUpdateDto);
+    void updateGroupRoutineRecord(User user, Long groupRoutineListId, GroupRoutineRequestDto.RecordUpdate recordUpdateDto);
 
     /**
      * 단체 루틴에 속한 상세 루틴들을 생성합니다.
@@ -144,11 +167,11 @@ public interface GroupRoutineService {
      * 해당 루틴의 방장만 생성을 진행할 수 있습니다.
      * </p>
      *
-     * @param id              현재 로그인한 사용자의 uuid
+     * @param user            현재 로그인한 사용자
      * @param groupRoutineListId 상세 루틴을 추가할 단체 루틴의 ID
      * @param createDetailDto    상세 루틴 생성을 위한 요청 데이터
      */
-    void createGroupSubRoutines(UUID id, Long groupRoutineListId, SubRoutineRequestDto.Create createDetailDto);
+    void createGroupSubRoutines(User user, Long groupRoutineListId, SubRoutineRequestDto.Create createDetailDto);
 
     /**
      * 단체 루틴에 속한 상세 루틴들을 수정합니다.
@@ -156,11 +179,11 @@ public interface GroupRoutineService {
      * 해당 루틴의 방장만 수정을 진행할 수 있습니다.
      * </p>
      *
-     * @param id              현재 로그인한 사용자의 uuid
+     * @param user            현재 로그인한 사용자
      * @param groupRoutineListId 상세 루틴을 수정할 단체 루틴의 ID
      * @param updateDetailDto    상세 루틴 수정을 위한 요청 데이터
      */
-    void updateGroupSubRoutines(UUID id, Long groupRoutineListId, SubRoutineRequestDto.Update updateDetailDto);
+    void updateGroupSubRoutines(User user, Long groupRoutineListId, SubRoutineRequestDto.Update updateDetailDto);
 
 
     /**
@@ -169,11 +192,11 @@ public interface GroupRoutineService {
      * 해당 루틴의 방장만 수정을 진행할 수 있습니다.
      * </p>
      *
-     * @param id              현재 로그인한 사용자의 uuid
+     * @param user            현재 로그인한 사용자
      * @param groupRoutineListId 상세 루틴을 수정할 단체 루틴의 ID
      * @param routineId          삭제할 상세 루틴의 ID
      */
-    void deleteGroupSubRoutines(UUID id, Long groupRoutineListId, Long routineId);
+    void deleteGroupSubRoutines(User user, Long groupRoutineListId, Long routineId);
 
     /**
      * 특정 상세 루틴의 완료 상태(성공/실패)를 변경합니다.
@@ -181,22 +204,35 @@ public interface GroupRoutineService {
      * 해당 루틴에 참여중인 사용자만 상태를 변경할 수 있습니다.
      * </p>
      *
-     * @param id              현재 로그인한 사용자의 uuid
+     * @param user            현재 로그인한 사용자
      * @param groupRoutineListId 상태를 변경할 상세 루틴이 속한 단체 루틴의 ID
      * @param routineId          상태를 변경할 상세 루틴의 ID
      * @param statusDto          상세 루틴 상태 변경을 위한 요청 데이터
      */
-    void updateGroupRoutineStatus(UUID id, Long groupRoutineListId, Long routineId, SubRoutineRequestDto.StatusUpdate statusDto);
+    void updateGroupRoutineStatus(User user, Long groupRoutineListId, Long routineId, SubRoutineRequestDto.StatusUpdate statusDto);
 
     /**
      * 특정 단체 루틴의 방명록 목록을 페이징 처리하여 조회합니다.
      *
-     * @param id              현재 로그인한 사용자의 uuid
+     * @param user            현재 로그인한 사용자
      * @param groupRoutineListId 방명록을 조회할 단체 루틴의 ID
      * @param pageable           페이지 번호, 페이지 크기 정보를 담은 객체
      * @return {@link GuestbookResponseDto.GuestbookInfo} 방명록 목록 정보
      */
-    PaginatedResponse<GuestbookResponseDto.GuestbookInfo> getGroupGuestbooks(UUID id, Long groupRoutineListId, Pageable pageable);
+    PaginatedResponse<GuestbookResponseDto.GuestbookInfo> getGroupGuestbooks(User user, Long groupRoutineListId, Pageable pageable);
+
+    /**
+     * 특정 단체 루틴의 방명록 목록을 커서 기반으로 최신순 조회합니다.
+     *
+     * @param user               현재 로그인한 사용자
+     * @param groupRoutineListId 방명록을 조회할 단체 루틴의 ID
+     * @param cursor             이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size               페이지 크기
+     * @param includeTotal       전체 개수 포함 여부 (포함 시 COUNT 쿼리 추가)
+     * @return {@link GuestbookResponseDto.GuestbookInfo} 방명록 목록 정보
+     */
+    CursorResponse<GuestbookResponseDto.GuestbookInfo> getGroupGuestbooksByCursor(User user, Long groupRoutineListId, String cursor,
+                                                                                  int size, boolean includeTotal);
 
     /**
      * 특정 단체 루틴에 방명록을 작성합니다.
@@ -204,12 +240,12 @@ public interface GroupRoutineService {
      * 해당 루틴에 참여중인 사용자만 작성이 가능합니다.
      * </p>
      *
-     * @param id              현재 로그인한 사용자의 uuid
+     * @param user            현재 로그인한 사용자
      * @param groupRoutineListId 방명록을 작성할 단체 루틴의 ID
      * @param guestbookDto       방명록 생성을 위한 요청 데이터
      * @return {@link GuestbookResponseDto.GuestbookInfo} 생성된 방명록 상세 정보
      */
-    GuestbookResponseDto.GuestbookInfo createGroupGuestbook(UUID id, Long groupRoutineListId, GuestbookRequestDto.Create guestbookDto);
+    GuestbookResponseDto.GuestbookInfo createGroupGuestbook(User user, Long groupRoutineListId, GuestbookRequestDto.Create guestbookDto);
 
     /**
      * 특정 방명록을 삭제합니다.
@@ -217,14 +253,14 @@ public interface GroupRoutineService {
      * 방명록을 작성한 본인만 삭제할 수 있습니다.
      * </p>
      *
-     * @param id              현재 로그인한 사용자의 uuid
+     * @param user            현재 로그인한 사용자
      * @param groupRoutineListId 삭제할 방명록이 속한 단체 루틴의 ID
      * @param guestbookId        삭제할 방명록의 ID
      */
-    void deleteGroupGuestbook(UUID id, Long groupRoutineListId, Long guestbookId);
+    void deleteGroupGuestbook(User user, Long groupRoutineListId, Long guestbookId);
 
     /**
      * 단체루틴을 완료할 시 랜덤 포인트를 지급합니다;
      */
-    void awardPointForCompletion(UUID id, Long groupRoutineListId,int point);
+    void awardPointForCompletion(User user, Long groupRoutineListId,int point);
 }
\ No newline at end of file
@@ -1,5 +1,9 @@
 package com.sanae.MoneyFit.domain.routine.service;
 
+import com.sanae.MoneyFit.domain.analysis.enums.RoutineKind;
+import com.sanae.MoneyFit.domain.analysis.service.DailyCompletionCounterService;
+import com.sanae.MoneyFit.domain.analysis.service.StreakService;
+import com.sanae.MoneyFit.domain.analysis.service.WeeklySummaryService;
 import com.sanae.MoneyFit.domain.routine.dto.request.GroupRoutineRequestDto;
 import com.sanae.MoneyFit.domain.routine.dto.request.GuestbookRequestDto;
 import com.sanae.MoneyFit.domain.routine.dto.request.RoutineRequestDto;
@@ -14,13 +18,20 @@ import com.sanae.MoneyFit.domain.routine.enums.RoutineType;
 import com.sanae.MoneyFit.domain.routine.repository.*;
 import com.sanae.MoneyFit.domain.routine.repository.*;
 import com.sanae.MoneyFit.domain.user.entity.User;
-import com.sanae.MoneyFit.domain.user.repository.UserRepository;
+import com.sanae.MoneyFit.domain.user.service.PointLedgerService;
 import com.sanae.MoneyFit.global.error.handler.RoutineHandler;
-import com.sanae.MoneyFit.global.error.handler.UserHandler;
+import com.sanae.MoneyFit.global.web.response.Cursor;
+import com.sanae.MoneyFit.global.web.response.CursorResponse;
 import com.sanae.MoneyFit.global.web.response.PaginatedResponse;
 import com.sanae.MoneyFit.global.web.response.code.status.ErrorStatus;
+import com.sanae.MoneyFit.domain.routine.service.search.GroupRoutineSearchIndex;
+import com.sanae.MoneyFit.domain.routine.service.search.GroupRoutineSearchIndexEvent;
+import com.sanae.MoneyFit.domain.routine.service.membership.GroupMembershipCache;
+import com.sanae.MoneyFit.domain.routine.service.membership.GroupMembershipEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -46,92 +57,131 @@ public class GroupRoutineServiceImpl implements GroupRoutineService {
     private final UserInRoomRepository userInRoomRepository;
     private final GroupRoutinDaysRepository groupRoutinDaysRepository;
     private final GuestbookRepository guestbookRepository;
-    private final UserRepository userRepository;
     private final RoutineRepository routineRepository;
     private final EmojiRepository emojiRepository;
     private final TemplateRepository templateRepository;
     private final RoutineRecordRepository routineRecordRepository;
+    private final RoutineRecordArchiveRepository routineRecordArchiveRepository;
     private final GroupRoutineListDoneCheckRepository groupRoutineListDoneCheckRepository;
-    private final PointHistoryRepository pointHistoryRepository;
+    private final PointLedgerService pointLedgerService;
+    private final GroupRoutineCardAssembler groupRoutineCardAssembler;
+    private final StreakService streakService;
+    private final WeeklySummaryService weeklySummaryService;
+    private final DailyCompletionCounterService dailyCompletionCounterService;
+    private final GroupRoutineSearchIndex groupRoutineSearchIndex;
+    private final GroupMembershipCache groupMembershipCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+    private static final DateTimeFormatter GUESTBOOK_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
-    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
     // 요일 변환 로직은 DayType.from(String)에 위임
 
     @Override
     @Transactional(readOnly = true)
-    public PaginatedResponse<GroupRoutineResponseDto.MyGroupRoutineInfo> getMyGroupRoutines(UUID userId, Pageable pageable) {
-        // 1. 사용자 존재 여부 확인
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
-
-        // 2. 이번 주 완료 기록 조회
+    public PaginatedResponse<GroupRoutineResponseDto.MyGroupRoutineInfo> getMyGroupRoutines(User user, Pageable pageable) {
+        // 1. 이번 주 완료 기록 조회
         LocalDate today = LocalDate.now();
         LocalDate startOfWeek = today.with(java.time.DayOfWeek.MONDAY);
         List<GroupRoutineListDoneCheck> weekRecords = groupRoutineListDoneCheckRepository
                 .findByUserAndCreatedDateBetween(user, startOfWeek.atStartOfDay(), LocalDateTime.now());
 
-        // 3. 가입한 단체 루틴 목록 조회 (최신순)
+        // 2. 가입한 단체 루틴 목록 조회 (최신순)
         Page<GroupRoutineList> routinePage = groupRoutineListRepository.findAllByUser(user, pageable);
 
 
-        // 4. 각 루틴에 대한 정보 매핑 및 페이지네이션 응답 생성
-        return PaginatedResponse.of(routinePage, routine -> toMyGroupRoutineInfo(routine, user, true, weekRecords));
+        // 3. 페이지 단위로 카드 정보 일괄 조립 및 페이지네이션 응답 생성
+        return PaginatedResponse.ofBatch(routinePage,
+                routines -> groupRoutineCardAssembler.toMyGroupRoutineInfos(routines, user, weekRecords));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public PaginatedResponse<GroupRoutineResponseDto.GroupRoutineInfo> searchGroupRoutines(UUID userId, String keyword, Pageable pageable) {
-        if (keyword == null || keyword.isBlank()) {
-            throw new RoutineHandler(ErrorStatus._BAD_REQUEST);
-        }
+    public CursorResponse<GroupRoutineResponseDto.MyGroupRoutineInfo> getMyGroupRoutinesByCursor(User user, String cursor,
+                                                                                               int size, boolean includeTotal) {
+        Cursor after = Cursor.decode(cursor);
+        int pageSize = cursorPageSize(size);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
+        // 1. 이번 주 완료 기록 조회
+        LocalDate startOfWeek = LocalDate.now().with(java.time.DayOfWeek.MONDAY);
+        List<GroupRoutineListDoneCheck> weekRecords = groupRoutineListDoneCheckRepository
+                .findByUserAndCreatedDateBetween(user, startOfWeek.atStartOfDay(), LocalDateTime.now());
 
-        Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
-                Sort.by(Sort.Direction.DESC, "createdDate"));
+        // 2. 커서 이후의 가입한 단체 루틴을 한 건 더 조회하여 다음 페이지 여부 판단
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<GroupRoutineList> rows = after == null
+                ? groupRoutineListRepository.findJoinedFirst(user, limit)
+                : groupRoutineListRepository.findJoinedAfter(user, after.createdDate(), after.id(), limit);
 
-        Page<GroupRoutineList> routinePage = groupRoutineListRepository.searchByKeyword(keyword, sortedPageable);
-        return PaginatedResponse.of(routinePage, routine -> toGroupRoutineInfo(routine, user, false));
+        return CursorResponse.ofBatch(rows, pageSize, this::cursorOf,
+                includeTotal ? groupRoutineListRepository.countJoinedByUser(user) : null,
+                routines -> groupRoutineCardAssembler.toMyGroupRoutineInfos(routines, user, weekRecords));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public PaginatedResponse<GroupRoutineResponseDto.GroupRoutineInfo> getGroupRoutines(UUID userId, Pageable pageable) {
-        // 1. 사용자 존재 여부 확인
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
+    public PaginatedResponse<GroupRoutineResponseDto.GroupRoutineInfo> searchGroupRoutines(User user, String keyword, Pageable pageable) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new RoutineHandler(ErrorStatus._BAD_REQUEST);
+        }
+
+        // 검색 색인에서 관련도 순 ID 페이지를 받아 한 번에 조회하고, 색인 장애 시에는 LIKE 검색으로 대체합니다.
+        Page<GroupRoutineList> routinePage = groupRoutineSearchIndex.search(keyword, pageable.getOffset(), pageable.getPageSize())
+                .map(result -> toPageInOrder(result, pageable))
+                .orElseGet(() -> groupRoutineListRepository.searchByKeyword(keyword,
+                        PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())));
+        return PaginatedResponse.ofBatch(routinePage,
+                routines -> groupRoutineCardAssembler.toGroupRoutineInfos(routines, user, false));
+    }
 
-        // 2. 최신순 정렬이 적용된 페이지 정보 생성
+    @Override
+    @Transactional(readOnly = true)
+    public PaginatedResponse<GroupRoutineResponseDto.GroupRoutineInfo> getGroupRoutines(User user, Pageable pageable) {
+        // 1. 최신순 정렬이 적용된 페이지 정보 생성
         Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
                 Sort.by(Sort.Direction.DESC, "createdDate"));
 
-        // 3. 각 루틴에 대한 정보 매핑 및 페이지네이션 응답 생성
+        // 2. 페이지 단위로 카드 정보 일괄 조립 및 페이지네이션 응답 생성
         Page<GroupRoutineList> routinePage = groupRoutineListRepository.findAll(sortedPageable);
-        return PaginatedResponse.of(routinePage, routine -> toGroupRoutineInfo(routine, user, false));
+        return PaginatedResponse.ofBatch(routinePage,
+                routines -> groupRoutineCardAssembler.toGroupRoutineInfos(routines, user, false));
     }
 
-
     @Override
-    public Long createGroupRoutine(UUID userId, GroupRoutineRequestDto.Create createDto) {
-        // 1. 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
+    @Transactional(readOnly = true)
+    public CursorResponse<GroupRoutineResponseDto.GroupRoutineInfo> getGroupRoutinesByCursor(User user, String cursor,
+                                                                                           int size, boolean includeTotal) {
+        Cursor after = Cursor.decode(cursor);
+        int pageSize = cursorPageSize(size);
+
+        // 커서 이후의 단체 루틴을 한 건 더 조회하여 다음 페이지 여부 판단 (전체 개수는 요청 시에만 계산)
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<GroupRoutineList> rows = after == null
+                ? groupRoutineListRepository.findFeedFirst(limit)
+                : groupRoutineListRepository.findFeedAfter(after.createdDate(), after.id(), limit);
+
+        return CursorResponse.ofBatch(rows, pageSize, this::cursorOf,
+                includeTotal ? groupRoutineListRepository.count() : null,
+                routines -> groupRoutineCardAssembler.toGroupRoutineInfos(routines, user, false));
+    }
 
-        // 2. 루틴 타입 유효성 검사
+
+    @Override
+    public Long createGroupRoutine(User user, GroupRoutineRequestDto.Create createDto) {
+        // 1. 루틴 타입 유효성 검사
         RoutineType routineType = createDto.getRoutineType();
         if (routineType == null) {
             throw new RoutineHandler(ErrorStatus.INVALID_ROUTINE_TYPE);
         }
 
-        // 3. 시작 및 종료 시간 파싱
+        // 2. 시작 및 종료 시간 파싱
         LocalTime startTime = parseTime(createDto.getStartTime());
         LocalTime endTime = parseTime(createDto.getEndTime());
 
-        // 4. 요일 정보 변환
+        // 3. 요일 정보 변환
         List<DayType> dayTypes = convertDayTypes(createDto.getDaysOfWeek());
 
-        // 5. GroupRoutineList 생성
+        // 4. GroupRoutineList 생성
         GroupRoutineList groupRoutineList = GroupRoutineList.builder()
                 .user(user)
                 .routineType(routineType)
@@ -157,16 +207,17 @@ public class GroupRoutineServiceImpl implements GroupRoutineService {
                 .groupRoutineList(groupRoutineList)
                 .user(user)
                 .build());
+
+        eventPublisher.publishEvent(GroupMembershipEvent.of(user.getId()));
+        eventPublisher.publishEvent(GroupRoutineSearchIndexEvent.indexed(groupRoutineList.getId(),
+                groupRoutineList.getTitle(), groupRoutineList.getDescription()));
         return groupRoutineList.getId();
     }
 
     // 주석 다 쓰려니까 힘드네오 필요한 부분 간략할게 작성할게욥
 
     @Override
-    public void updateGroupRoutine(UUID userId, Long groupRoutineListId, GroupRoutineRequestDto.Update updateDto) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
-
+    public void updateGroupRoutine(User user, Long groupRoutineListId, GroupRoutineRequestDto.Update updateDto) {
         GroupRoutineList groupRoutineList = groupRoutineListRepository.findById(groupRoutineListId)
                 .orElseThrow(() -> new RoutineHandler(ErrorStatus.GROUP_ROUTINE_NOT_FOUND));
 
@@ -187,6 +238,8 @@ public class GroupRoutineServiceImpl implements GroupRoutineService {
 
         // 수정이니까 업데이트
         groupRoutineList.update(updateDto.getTitle(), updateDto.getDescription(), routineType, startTime, endTime);
+        eventPublisher.publishEvent(GroupRoutineSearchIndexEvent.indexed(groupRoutineList.getId(),
+                groupRoutineList.getTitle(), groupRoutineList.getDescription()));
 
         // "기존 요일 정보 삭제 후" 새로 저장
         groupRoutinDaysRepository.deleteAllByGroupRoutineList(groupRoutineList);
@@ -199,10 +252,7 @@ public class GroupRoutineServiceImpl implements GroupRoutineService {
     }
 
     @Override
-    public void deleteGroupRoutine(UUID userId, Long groupRoutineListId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
-
+    public void deleteGroupRoutine(User user, Long groupRoutineListId) {
         GroupRoutineList groupRoutineList = groupRoutineListRepository.findById(groupRoutineListId)
                 .orElseThrow(() -> new RoutineHandler(ErrorStatus.GROUP_ROUTINE_NOT_FOUND));
 
@@ -214,45 +264,36 @@ public class GroupRoutineServiceImpl implements GroupRoutineService {
         // 연관된 데이터 삭제 (참조 무결성을 위해 순서대로 삭제)
         groupRoutinDaysRepository.deleteAllByGroupRoutineList(groupRoutineList);
         groupRoutineMiddleRepository.deleteAllByRoutineList(groupRoutineList);
+        List<UUID> memberIds = userInRoomRepository.findUserIdsByGroupRoutineList(groupRoutineList);
         userInRoomRepository.deleteAllByGroupRoutineList(groupRoutineList);
         guestbookRepository.deleteAllByGroupRoutineList(groupRoutineList);
+        weeklySummaryService.deleteByRoutineList(RoutineKind.GROUP, groupRoutineList.getId());
+        dailyCompletionCounterService.deleteByRoutineList(RoutineKind.GROUP, groupRoutineList.getId());
 
         // 단체 루틴 삭제
         groupRoutineListRepository.delete(groupRoutineList);
+        eventPublisher.publishEvent(new GroupMembershipEvent(memberIds));
+        eventPublisher.publishEvent(GroupRoutineSearchIndexEvent.deleted(groupRoutineListId));
     }
 
     @Override
-    public void updateGroupRoutineRecord(UUID userId, Long groupRoutineListId, GroupRoutineRequestDto.RecordUpdate recordUpdateDto) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
-
+    public void updateGroupRoutineRecord(User user, Long groupRoutineListId, GroupRoutineRequestDto.RecordUpdate recordUpdateDto) {
         GroupRoutineList groupRoutineList = groupRoutineListRepository.findById(groupRoutineListId)
                 .orElseThrow(() -> new RoutineHandler(ErrorStatus.GROUP_ROUTINE_NOT_FOUND));
 
         boolean isMember = groupRoutineList.getUser().equals(user) ||
-                userInRoomRepository.existsByGroupRoutineListAndUser(groupRoutineList, user);
+                isMemberForWrite(groupRoutineList, user);
         if (!isMember) {
             throw new RoutineHandler(ErrorStatus.GUESTBOOK_FORBIDDEN);
         }
 
-        List<GroupRoutineMiddle> middles = groupRoutineMiddleRepository.findByRoutineList(groupRoutineList);
-        List<Routine> routines = middles.stream()
-                .map(GroupRoutineMiddle::getRoutine)
-                .collect(Collectors.toList());
-
-
         LocalDate today = LocalDate.now();
-        LocalDateTime startOfDay = today.atStartOfDay();
-        LocalDateTime endOfDay = today.atTime(LocalTime.MAX);
-
-        List<RoutineRecord> records = routineRecordRepository
-                .findRecordsByDateAndRoutines(user, startOfDay, endOfDay, routines);
 
-        long completedCount = records.stream()
-                .filter(RoutineRecord::isDoneCheck)
-                .count();
+        // 상세 루틴 수와 오늘의 완료 카운터만 비교합니다. (기록 행 전체 조회 없음)
+        long routineNums = groupRoutineMiddleRepository.countByRoutineList(groupRoutineList);
+        int completedCount = dailyCompletionCounterService.getDoneCount(user.getId(), RoutineKind.GROUP, groupRoutineList.getId(), today);
 
-        boolean allDone = completedCount == routines.size();
+        boolean allDone = completedCount == routineNums;
 
         if (recordUpdateDto.getStatus()) {
             // 전체 상세 루틴이 완료되지 않았다면 성공 기록 불가
@@ -274,28 +315,29 @@ public class GroupRoutineServiceImpl implements GroupRoutineService {
             } else {
                 doneCheck.updateDoneCheck(true);
             }
+            weeklySummaryService.markDone(user, RoutineKind.GROUP, groupRoutineList.getId(), today);
+            streakService.onCompletion(user, today);
         } else {
             // 이미 모든 상세 루틴이 완료된 상태라면 실패 처리 불가
             if (allDone) {
                 throw new RoutineHandler(ErrorStatus.GROUP_ROUTINE_DETAIL_ALREADY_DONE);
             }
 
-            // 실패 처리: 기존 성공 기록이 있다면 삭제
+            // 실패 처리: 기존 성공 기록이 있다면 삭제 후 연속 달성 상태 재계산
             groupRoutineListDoneCheckRepository.deleteByGroupRoutineListAndUser(groupRoutineList, user);
+            weeklySummaryService.clearDone(user, RoutineKind.GROUP, groupRoutineList.getId(), today);
+            streakService.recalculate(user);
         }
     }
 
     @Override
-    public void joinGroupRoutine(UUID userId, Long groupRoutineListId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
-
+    public void joinGroupRoutine(User user, Long groupRoutineListId) {
         GroupRoutineList groupRoutineList = groupRoutineListRepository.findById(groupRoutineListId)
                 .orElseThrow(() -> new RoutineHandler(ErrorStatus.GROUP_ROUTINE_NOT_FOUND));
 
         // 이미 참여중인지 확인 (방장 포함)
         boolean isOwner = groupRoutineList.getUser().equals(user);
-        boolean isMember = userInRoomRepository.existsByGroupRoutineListAndUser(groupRoutineList, user);
+        boolean isMember = isMemberForWrite(groupRoutineList, user);
         if (isOwner || isMember) {
             throw new RoutineHandler(ErrorStatus.ALREADY_JOINED_ROUTINE);
         }
@@ -306,50 +348,47 @@ public class GroupRoutineServiceImpl implements GroupRoutineService {
                 .user(user)
                 .build());
 
-        // 인원 수 +1 해주기
-        groupRoutineList.increaseUserCnt();
+        // 인원 수 +1 해주기 (동시 참여에도 유실되지 않도록 DB에서 증가)
+        groupRoutineListRepository.increaseUserCnt(groupRoutineList.getId());
+        eventPublisher.publishEvent(GroupMembershipEvent.of(user.getId()));
     }
 
     @Override
-    public void leaveGroupRoutine(UUID userId, Long groupRoutineListId) {
-        // 1. 사용자 조회
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
-
-        // 2. 단체 루틴 조회
+    public void leaveGroupRoutine(User user, Long groupRoutineListId) {
+        // 1. 단체 루틴 조회
         GroupRoutineList groupRoutineList = groupRoutineListRepository.findById(groupRoutineListId)
             .orElseThrow(() -> new RoutineHandler(ErrorStatus.GROUP_ROUTINE_NOT_FOUND));
 
-        // 3. 방장은 탈퇴할 수 없음
+        // 2. 방장은 탈퇴할 수 없음
         if (groupRoutineList.getUser().equals(user)) {
             throw new RoutineHandler(ErrorStatus.ROUTINE_FORBIDDEN);
         }
 
-        // 4. 참여자 여부 확인
-        boolean isMember = userInRoomRepository.existsByGroupRoutineListAndUser(groupRoutineList, user);
+        // 3. 참여자 여부 확인
+        boolean isMember = isMemberForWrite(groupRoutineList, user);
         if (!isMember) {
             throw new RoutineHandler(ErrorStatus.ROUTINE_FORBIDDEN);
         }
 
-        // 5. 참여 정보 및 완료 기록 삭제
+        // 4. 참여 정보 및 완료 기록 삭제
         userInRoomRepository.deleteByGroupRoutineListAndUser(groupRoutineList, user);
         groupRoutineListDoneCheckRepository.deleteByGroupRoutineListAndUser(groupRoutineList, user);
+        weeklySummaryService.deleteByUserAndRoutineList(user, RoutineKind.GROUP, groupRoutineList.getId());
+        dailyCompletionCounterService.deleteByUserAndRoutineList(user, RoutineKind.GROUP, groupRoutineList.getId());
 
-        // 6. 인원 수 감소
-        groupRoutineList.decreaseUserCnt();
+        // 5. 인원 수 감소 (DB에서 원자적으로 감소)
+        groupRoutineListRepository.decreaseUserCnt(groupRoutineList.getId());
+        eventPublisher.publishEvent(GroupMembershipEvent.of(user.getId()));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public GroupRoutineResponseDto.DetailResponse getGroupRoutineDetail(UUID userId, Long groupRoutineListId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
-
+    public GroupRoutineResponseDto.DetailResponse getGroupRoutineDetail(User user, Long groupRoutineListId) {
         GroupRoutineList groupRoutineList = groupRoutineListRepository.findById(groupRoutineListId)
                 .orElseThrow(() -> new RoutineHandler(ErrorStatus.GROUP_ROUTINE_NOT_FOUND));
 
         boolean isAdmin = groupRoutineList.getUser().equals(user);
-        boolean isMember = userInRoomRepository.existsByGroupRoutineListAndUser(groupRoutineList, user);
+        boolean isMember = groupMembershipCache.isMember(groupRoutineList, user);
         boolean isJoined = isAdmin || isMember;
 
         // 기본 정보 구성
@@ -404,9 +443,16 @@ public class GroupRoutineServiceImpl implements GroupRoutineService {
             List<String> successUrls = new ArrayList<>();
             List<String> failedUrls = new ArrayList<>();
 
+            // 멤버별 완료 루틴 수를 한 번의 GROUP BY 쿼리로 집계
+            Map<UUID, Long> doneCountByUser = new HashMap<>();
+            if (!routines.isEmpty()) {
+                for (Object[] row : routineRecordRepository.countCompletedRoutinesGroupByUser(startOfDay, endOfDay, routines)) {
+                    doneCountByUser.put((UUID) row[0], (Long) row[1]);
+                }
+            }
+
             for (User member : memberUsers) {
-                List<RoutineRecord> records = routineRecordRepository.findRecordsByDateAndRoutines(member, startOfDay, endOfDay, routines);
-                long doneSize = records.stream().filter(RoutineRecord::isDoneCheck).map(rr -> rr.getRoutine().getId()).distinct().count();
+                long doneSize = doneCountByUser.getOrDefault(member.getId(), 0L);
                 boolean allCompleted = doneSize == routines.size() && !routines.isEmpty();
 
                 if (allCompleted) {
@@ -439,10 +485,7 @@ public class GroupRoutineServiceImpl implements GroupRoutineService {
     }
 
     @Override
-    public void createGroupSubRoutines(UUID userId, Long groupRoutineListId, SubRoutineRequestDto.Create createDetailDto) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
-
+    public void createGroupSubRoutines(User user, Long groupRoutineListId, SubRoutineRequestDto.Create createDetailDto) {
         GroupRoutineList groupRoutineList = groupRoutineListRepository.findById(groupRoutineListId)
                 .orElseThrow(() -> new RoutineHandler(ErrorStatus.GROUP_ROUTINE_NOT_FOUND));
 
@@ -469,10 +512,7 @@ public class GroupRoutineServiceImpl implements GroupRoutineService {
     }
 
     @Override
-    public void updateGroupSubRoutines(UUID userId, Long groupRoutineListId, SubRoutineRequestDto.Update updateDetailDto) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
-
+    public void updateGroupSubRoutines(User user, Long groupRoutineListId, SubRoutineRequestDto.Update updateDetailDto) {
         GroupRoutineList groupRoutineList = groupRoutineListRepository.findById(groupRoutineListId)
                 .orElseThrow(() -> new RoutineHandler(ErrorStatus.GROUP_ROUTINE_NOT_FOUND));
 
@@ -497,10 +537,7 @@ public class GroupRoutineServiceImpl implements GroupRoutineService {
     }
 
     @Override
-    public void deleteGroupSubRoutines(UUID userId, Long groupRoutineListId, Long routineId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
-
+    public void deleteGroupSubRoutines(User user, Long groupRoutineListId, Long routineId) {
         GroupRoutineList groupRoutineList = groupRoutineListRepository.findById(groupRoutineListId)
                 .orElseThrow(() -> new RoutineHandler(ErrorStatus.GROUP_ROUTINE_NOT_FOUND));
 
@@ -514,20 +551,21 @@ public class GroupRoutineServiceImpl implements GroupRoutineService {
         Routine routine = middle.getRoutine();
 
         routineRecordRepository.deleteAllByRoutine(routine);
+        routineRecordArchiveRepository.deleteAllByRoutineId(routine.getId());
         groupRoutineMiddleRepository.delete(middle);
         routineRepository.delete(routine);
+
+        // 삭제된 상세 루틴의 완료 기록이 오늘 카운터에 포함되어 있을 수 있으므로 다시 집계합니다.
+        dailyCompletionCounterService.reconcile(RoutineKind.GROUP, groupRoutineList.getId(), LocalDate.now());
     }
 
     @Override
-    public void updateGroupRoutineStatus(UUID userId, Long groupRoutineListId, Long routineId, SubRoutineRequestDto.StatusUpdate statusDto) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
-
+    public void updateGroupRoutineStatus(User user, Long groupRoutineListId, Long routineId, SubRoutineRequestDto.StatusUpdate statusDto) {
         GroupRoutineList groupRoutineList = groupRoutineListRepository.findById(groupRoutineListId)
                 .orElseThrow(() -> new RoutineHandler(ErrorStatus.GROUP_ROUTINE_NOT_FOUND));
 
         boolean isAdmin = groupRoutineList.getUser().equals(user);
-        boolean isMember = userInRoomRepository.existsByGroupRoutineListAndUser(groupRoutineList, user);
+        boolean isMember = isMemberForWrite(groupRoutineList, user);
         if (!isAdmin && !isMember) {
             throw new RoutineHandler(ErrorStatus.ROUTINE_FORBIDDEN);
         }
@@ -541,7 +579,10 @@ public class GroupRoutineServiceImpl implements GroupRoutineService {
         LocalDateTime startOfDay = today.atStartOfDay();
         LocalDateTime endOfDay = today.atTime(LocalTime.MAX);
 
-        RoutineRecord record = routineRecordRepository.findRecordByDateAndRoutine(user, routine, startOfDay, endOfDay)
+        Optional<RoutineRecord> existing = routineRecordRepository.findRecordByDateAndRoutine(user, routine, startOfDay, endOfDay);
+        boolean previousStatus = existing.map(RoutineRecord::isDoneCheck).orElse(false);
+
+        RoutineRecord record = existing
                 .orElseGet(() -> {
                     RoutineRecord newRecord = RoutineRecord.builder()
                             .user(user)
@@ -558,48 +599,60 @@ public class GroupRoutineServiceImpl implements GroupRoutineService {
             record.setModifiedDate(LocalDateTime.now());
         }
         routineRecordRepository.save(record);
+
+        int delta = (statusDto.getStatus() ? 1 : 0) - (previousStatus ? 1 : 0);
+        if (delta != 0) {
+            dailyCompletionCounterService.increment(user.getId(), RoutineKind.GROUP, groupRoutineList.getId(), today, delta);
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
-    public PaginatedResponse<GuestbookResponseDto.GuestbookInfo> getGroupGuestbooks(UUID userId, Long groupRoutineListId, Pageable pageable) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
-
+    public PaginatedResponse<GuestbookResponseDto.GuestbookInfo> getGroupGuestbooks(User user, Long groupRoutineListId, Pageable pageable) {
         GroupRoutineList groupRoutineList = groupRoutineListRepository.findById(groupRoutineListId)
                 .orElseThrow(() -> new RoutineHandler(ErrorStatus.GROUP_ROUTINE_NOT_FOUND));
 
         // 해당 단체루틴에 속한 유저만 방명록 볼 수 있어야하니까 예외
-        boolean isMember = userInRoomRepository.existsByGroupRoutineListAndUser(groupRoutineList, user);
+        boolean isMember = groupMembershipCache.isMember(groupRoutineList, user);
         if (!isMember) {
             throw new RoutineHandler(ErrorStatus.GUESTBOOK_GET_FORBIDDEN);
         }
 
         Page<Guestbook> guestbookPage = guestbookRepository.findByGroupRoutineList(groupRoutineList, pageable);
 
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-
-        return PaginatedResponse.of(guestbookPage, gb -> GuestbookResponseDto.GuestbookInfo.builder()
-                .id(gb.getId())
-                .userId(gb.getUser().getId())
-                .nickname(gb.getUser().getNickname())
-                .profileImageUrl(gb.getUser().getProfileImage())
-                .content(gb.getContent())
-                .createdAt(gb.getCreatedDate() != null ? gb.getCreatedDate().format(formatter) : null)
-                .isWriter(gb.getUser().equals(user))
-                .build());
+        return PaginatedResponse.of(guestbookPage, gb -> toGuestbookInfo(gb, user));
     }
 
     @Override
-    public GuestbookResponseDto.GuestbookInfo createGroupGuestbook(UUID userId, Long groupRoutineListId, GuestbookRequestDto.Create guestbookDto) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
+    @Transactional(readOnly = true)
+    public CursorResponse<GuestbookResponseDto.GuestbookInfo> getGroupGuestbooksByCursor(User user, Long groupRoutineListId, String cursor,
+                                                                                         int size, boolean includeTotal) {
+        GroupRoutineList groupRoutineList = groupRoutineListRepository.findById(groupRoutineListId)
+                .orElseThrow(() -> new RoutineHandler(ErrorStatus.GROUP_ROUTINE_NOT_FOUND));
+
+        if (!groupMembershipCache.isMember(groupRoutineList, user)) {
+            throw new RoutineHandler(ErrorStatus.GUESTBOOK_GET_FORBIDDEN);
+        }
 
+        Cursor after = Cursor.decode(cursor);
+        int pageSize = cursorPageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<Guestbook> rows = after == null
+                ? guestbookRepository.findFirstByGroupRoutineList(groupRoutineList, limit)
+                : guestbookRepository.findAfterByGroupRoutineList(groupRoutineList, after.createdDate(), after.id(), limit);
+
+        return CursorResponse.ofBatch(rows, pageSize, gb -> new Cursor(gb.getCreatedDate(), gb.getId()),
+                includeTotal ? guestbookRepository.countByGroupRoutineList(groupRoutineList) : null,
+                guestbooks -> guestbooks.stream().map(gb -> toGuestbookInfo(gb, user)).collect(Collectors.toList()));
+    }
+
+    @Override
+    public GuestbookResponseDto.GuestbookInfo createGroupGuestbook(User user, Long groupRoutineListId, GuestbookRequestDto.Create guestbookDto) {
         GroupRoutineList groupRoutineList = groupRoutineListRepository.findById(groupRoutineListId)
                 .orElseThrow(() -> new RoutineHandler(ErrorStatus.GROUP_ROUTINE_NOT_FOUND));
 
         boolean isMember = groupRoutineList.getUser().equals(user) ||
-                userInRoomRepository.existsByGroupRoutineListAndUser(groupRoutineList, user);
+                isMemberForWrite(groupRoutineList, user);
         if (!isMember) {
             throw new RoutineHandler(ErrorStatus.GUESTBOOK_FORBIDDEN);
         }
@@ -625,10 +678,7 @@ public class GroupRoutineServiceImpl implements GroupRoutineService {
     }
 
     @Override
-    public void deleteGroupGuestbook(UUID userId, Long groupRoutineListId, Long guestbookId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
-
+    public void deleteGroupGuestbook(User user, Long groupRoutineListId, Long guestbookId) {
         GroupRoutineList groupRoutineList = groupRoutineListRepository.findById(groupRoutineListId)
                 .orElseThrow(() -> new RoutineHandler(ErrorStatus.GROUP_ROUTINE_NOT_FOUND));
 
@@ -644,111 +694,57 @@ public class GroupRoutineServiceImpl implements GroupRoutineService {
 
 
     // ####################### Private 서브 메서드 #######################
+
     /**
-     * {@link GroupRoutineList} 엔티티를 {@link GroupRoutineResponseDto.GroupRoutineInfo}로 변환합니다.
-     * 공통 매핑 로직을 분리하여 재사용성을 높였습니다.
+     * 기록·참여 정보를 바꾸는 요청은 캐시가 아니라 DB로 참여 여부를 확인합니다.
+     * 탈퇴 직후 캐시에 남은 참여 정보로 완료 기록·방명록이 남거나 재참여가 거절되지 않도록 합니다.
      */
-    private GroupRoutineResponseDto.GroupRoutineInfo toGroupRoutineInfo(GroupRoutineList routine, User user, boolean includePercent) {
-        List<GroupRoutineMiddle> middles = groupRoutineMiddleRepository.findByRoutineList(routine);
-        int routineNums = middles.size();
-        long peopleNums = userInRoomRepository.countByGroupRoutineList(routine);
-
-        Double percent = null;
-        if (includePercent) {
-            List<Routine> routines = middles.stream()
-                    .map(GroupRoutineMiddle::getRoutine)
-                    .collect(Collectors.toList());
-
-            LocalDate today = LocalDate.now();
-            LocalDateTime startOfDay = today.atStartOfDay();
-            LocalDateTime endOfDay = today.atTime(LocalTime.MAX);
-            long doneCount = 0;
-            if (!routines.isEmpty()) {
-                List<RoutineRecord> records = routineRecordRepository.findRecordsByDateAndRoutines(user, startOfDay, endOfDay, routines);
-                doneCount = records.stream()
-                        .filter(RoutineRecord::isDoneCheck)
-                        .count();
-            }
-            percent = routineNums > 0 ? Math.round((double) doneCount * 1000 / routineNums) / 10.0 : 0.0;
-        }
+    private boolean isMemberForWrite(GroupRoutineList groupRoutineList, User user) {
+        return userInRoomRepository.existsByGroupRoutineListAndUser(groupRoutineList, user);
+    }
 
-        boolean isJoined = routine.getUser().equals(user)
-                || userInRoomRepository.existsByGroupRoutineListAndUser(routine, user);
+    /**
+     * 커서 페이지 크기를 1 ~ {@value #MAX_CURSOR_PAGE_SIZE} 범위로 제한합니다.
+     */
+    private static int cursorPageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+    }
 
-        List<String> dayOfWeek = groupRoutinDaysRepository.findByGroupRoutineList(routine)
-                .stream()
-                .map(day -> day.getDayType().name())
-                .collect(Collectors.toList());
+    private Cursor cursorOf(GroupRoutineList groupRoutineList) {
+        return new Cursor(groupRoutineList.getCreatedDate(), groupRoutineList.getId());
+    }
 
-        return GroupRoutineResponseDto.GroupRoutineInfo.builder()
-                .id(routine.getId())
-                .routineType(routine.getRoutineType())
-                .title(routine.getTitle())
-                .description(routine.getDescription())
-                .startTime(routine.getStartTime().format(TIME_FORMATTER))
-                .endTime(routine.getEndTime().format(TIME_FORMATTER))
-                .routineNums(routineNums)
-                .peopleNums((int) peopleNums)
-                .percent(percent)
-                .dayOfWeek(dayOfWeek)
-                .isJoined(isJoined)
+    private GuestbookResponseDto.GuestbookInfo toGuestbookInfo(Guestbook gb, User user) {
+        return GuestbookResponseDto.GuestbookInfo.builder()
+                .id(gb.getId())
+                .userId(gb.getUser().getId())
+                .nickname(gb.getUser().getNickname())
+                .profileImageUrl(gb.getUser().getProfileImage())
+                .content(gb.getContent())
+                .createdAt(gb.getCreatedDate() != null ? gb.getCreatedDate().format(GUESTBOOK_DATE_FORMAT) : null)
+                .isWriter(gb.getUser().equals(user))
                 .build();
     }
+    /**
+     * {@link GroupRoutineList} 엔티티를 {@link GroupRoutineResponseDto.GroupRoutineInfo}로 변환합니다.
+     * 목록 화면과 동일한 매핑을 사용하도록 {@link GroupRoutineCardAssembler}에 위임합니다.
+     */
+    private GroupRoutineResponseDto.GroupRoutineInfo toGroupRoutineInfo(GroupRoutineList routine, User user, boolean includePercent) {
+        return groupRoutineCardAssembler.toGroupRoutineInfos(List.of(routine), user, includePercent).get(0);
+    }
 
-    private GroupRoutineResponseDto.MyGroupRoutineInfo toMyGroupRoutineInfo(GroupRoutineList routine, User user, boolean includePercent,
-                                                                            List<GroupRoutineListDoneCheck> weekRecords) {
-        List<GroupRoutineMiddle> middles = groupRoutineMiddleRepository.findByRoutineList(routine);
-        int routineNums = middles.size();
-        long peopleNums = userInRoomRepository.countByGroupRoutineList(routine);
-
-        Double percent = null;
-        if (includePercent) {
-            List<Routine> routines = middles.stream()
-                    .map(GroupRoutineMiddle::getRoutine)
-                    .collect(Collectors.toList());
-
-            LocalDate today = LocalDate.now();
-            LocalDateTime startOfDay = today.atStartOfDay();
-            LocalDateTime endOfDay = today.atTime(LocalTime.MAX);
-            long doneCount = 0;
-            if (!routines.isEmpty()) {
-                List<RoutineRecord> records = routineRecordRepository.findRecordsByDateAndRoutines(user, startOfDay, endOfDay, routines);
-                doneCount = records.stream()
-                        .filter(RoutineRecord::isDoneCheck)
-                        .count();
-            }
-            percent = routineNums > 0 ? Math.round((double) doneCount * 1000 / routineNums) / 10.0 : 0.0;
-        }
-
-        boolean isJoined = routine.getUser().equals(user)
-                || userInRoomRepository.existsByGroupRoutineListAndUser(routine, user);
-
-        List<String> dayOfWeek = groupRoutinDaysRepository.findByGroupRoutineList(routine)
-                .stream()
-                .map(day -> day.getDayType().name())
-                .collect(Collectors.toList());
-
-        List<String> successDay = weekRecords == null ? Collections.emptyList() : weekRecords.stream()
-                .filter(record -> record.isDoneCheck() && record.getGroupRoutineList().equals(routine))
-                .map(record -> DayType.from(record.getCreatedDate().getDayOfWeek()).name())
-                .filter(dayOfWeek::contains)
-                .distinct()
+    /**
+     * 검색 색인이 반환한 ID 순서(관련도 순)대로 단체 루틴을 한 번에 조회하여 페이지로 감쌉니다.
+     * 색인 반영 전에 삭제된 방은 결과에서 빠집니다.
+     */
+    private Page<GroupRoutineList> toPageInOrder(GroupRoutineSearchIndex.SearchPage result, Pageable pageable) {
+        Map<Long, GroupRoutineList> byId = groupRoutineListRepository.findAllById(result.ids()).stream()
+                .collect(Collectors.toMap(GroupRoutineList::getId, routine -> routine));
+        List<GroupRoutineList> ordered = result.ids().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
-
-        return GroupRoutineResponseDto.MyGroupRoutineInfo.builder()
-                .id(routine.getId())
-                .routineType(routine.getRoutineType())
-                .title(routine.getTitle())
-                .description(routine.getDescription())
-                .startTime(routine.getStartTime().format(TIME_FORMATTER))
-                .endTime(routine.getEndTime().format(TIME_FORMATTER))
-                .routineNums(routineNums)
-                .peopleNums((int) peopleNums)
-                .percent(percent)
-                .dayOfWeek(dayOfWeek)
-                .successDay(successDay)
-                .isJoined(isJoined)
-                .build();
+        return new PageImpl<>(ordered, pageable, result.total());
     }
 
     /**
@@ -791,74 +787,40 @@ public class GroupRoutineServiceImpl implements GroupRoutineService {
     }
 
     @Transactional
-    public void awardPointForCompletion(UUID userId, Long groupRoutineListId, int point) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
-
+    public void awardPointForCompletion(User user, Long groupRoutineListId, int point) {
         GroupRoutineList groupRoutineList = groupRoutineListRepository.findById(groupRoutineListId)
                 .orElseThrow(() -> new RoutineHandler(ErrorStatus.GROUP_ROUTINE_NOT_FOUND));
 
         validateGroupMember(user, groupRoutineList);
         validateAllSubRoutinesCompleted(user, groupRoutineList);
 
-        // --- 수정된 부분 1: Enum을 파라미터로 전달하여 검증 ---
-        validatePointAlreadyAwarded(user, PointReasonType.GROUP_ROUTINE_COMPLETION);
-
-        user.addPoint((long)point);
-
-        // --- 수정된 부분 2: Enum 타입으로 포인트 내역 생성 ---
-        PointHistory pointHistory = PointHistory.builder()
-                .user(user)
-                .point(point)
-                .reason(PointReasonType.GROUP_ROUTINE_COMPLETION) // String 대신 Enum 사용
-                .build();
-        pointHistoryRepository.save(pointHistory);
+        // 오늘 이미 지급했다면 멱등 키 충돌로 지급되지 않습니다.
+        if (!pointLedgerService.award(user.getId(), point, PointReasonType.GROUP_ROUTINE_COMPLETION, LocalDate.now())) {
+            throw new RoutineHandler(ErrorStatus.POINTS_ALREADY_AWARDED_TODAY);
+        }
     }
 
     public void validateGroupMember(User user, GroupRoutineList groupRoutineList) {
         boolean isMember = groupRoutineList.getUser().equals(user) ||
-                userInRoomRepository.existsByGroupRoutineListAndUser(groupRoutineList, user);
+                isMemberForWrite(groupRoutineList, user);
         if (!isMember) {
             throw new RoutineHandler(ErrorStatus.ROUTINE_FORBIDDEN);
         }
     }
 
     public void validateAllSubRoutinesCompleted(User user, GroupRoutineList groupRoutineList) {
-        List<Routine> routines = groupRoutineMiddleRepository.findByRoutineList(groupRoutineList).stream()
-                .map(GroupRoutineMiddle::getRoutine)
-                .collect(Collectors.toList());
+        long routineNums = groupRoutineMiddleRepository.countByRoutineList(groupRoutineList);
 
-        if (routines.isEmpty()) {
+        if (routineNums == 0) {
             throw new RoutineHandler(ErrorStatus.ROUTINE_NOT_FOUND); // 상세 루틴이 없는 경우
         }
 
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-        LocalDateTime endOfDay = LocalDate.now().atTime(LocalTime.MAX);
-
-        List<RoutineRecord> records = routineRecordRepository
-                .findRecordsByDateAndRoutines(user, startOfDay, endOfDay, routines);
+        int completedCount = dailyCompletionCounterService.getDoneCount(user.getId(), RoutineKind.GROUP, groupRoutineList.getId(), LocalDate.now());
 
-        long completedCount = records.stream()
-                .filter(RoutineRecord::isDoneCheck)
-                .count();
-
-        boolean allDone = completedCount == routines.size();
+        boolean allDone = completedCount == routineNums;
 
         if (!allDone) {
             throw new RoutineHandler(ErrorStatus.GROUP_ROUTINE_DETAIL_NOT_DONE);
         }
     }
-
-    public void validatePointAlreadyAwarded(User user, PointReasonType reasonType) {
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-        LocalDateTime endOfDay = LocalDate.now().atTime(LocalTime.MAX);
-
-        // --- 수정된 부분 3: Enum으로 조회 ---
-        boolean alreadyAwarded = pointHistoryRepository
-                .existsByUserAndReasonAndCreatedAtBetween(user, reasonType, startOfDay, endOfDay);
-
-        if (alreadyAwarded) {
-            throw new RoutineHandler(ErrorStatus.POINTS_ALREADY_AWARDED_TODAY);
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package com.sanae.MoneyFit.domain.routine.service;
+
+import com.sanae.MoneyFit.domain.routine.dto.response.MyRoutineListShowResponseDto;
+import com.sanae.MoneyFit.domain.routine.entity.MyRoutineDays;
+import com.sanae.MoneyFit.domain.routine.entity.MyRoutineList;
+import com.sanae.MoneyFit.domain.routine.entity.MyRoutineListRecord;
+import com.sanae.MoneyFit.domain.routine.entity.MyRoutineMiddle;
+import com.sanae.MoneyFit.domain.routine.enums.DayType;
+import com.sanae.MoneyFit.domain.routine.service.archive.RoutineRecordHistoryService;
+import com.sanae.MoneyFit.domain.routine.repository.MyRoutineDaysRepository;
+import com.sanae.MoneyFit.domain.routine.repository.MyRoutineMiddleRepository;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * <h2>MyRoutineListCardAssembler</h2>
+ * <p>
+ * 개인 루틴 목록(오늘) 화면의 카드 DTO를 <b>페이지 단위</b>로 조립합니다. <br>
+ * 상세 루틴, 요일, 선택한 날짜의 완료 기록을 페이지의 개인 루틴 ID 전체에 대해
+ * {@code IN (:ids)} 쿼리로 한 번씩만 조회하고, 이번 주 완료 기록은 개인 루틴 ID 기준 맵으로 묶어 두므로
+ * 페이지 크기와 무관하게 쿼리 수가 일정하고 계산량은 기록 수에 비례합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MyRoutineListCardAssembler {
+
+    private final MyRoutineMiddleRepository myRoutineMiddleRepository;
+    private final MyRoutineDaysRepository myRoutineDaysRepository;
+    private final RoutineRecordHistoryService routineRecordHistoryService;
+
+    /**
+     * 개인 루틴 목록을 {@link MyRoutineListShowResponseDto} 목록으로 변환합니다.
+     *
+     * @param routineLists 변환할 개인 루틴 목록 (순서 유지)
+     * @param user         현재 로그인한 사용자
+     * @param date         진행률을 계산할 날짜
+     * @param weekRecords  이번 주 개인 루틴 완료 기록
+     * @return 카드 DTO 목록
+     */
+    public List<MyRoutineListShowResponseDto> toShowResponseDtos(List<MyRoutineList> routineLists, User user, LocalDate date,
+                                                                 List<MyRoutineListRecord> weekRecords) {
+        if (routineLists.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> ids = routineLists.stream()
+                .map(MyRoutineList::getId)
+                .distinct()
+                .collect(Collectors.toList());
+
+        // 1. 상세 루틴 (루틴 ID -> 개인 루틴 ID 역인덱스 포함)
+        Map<Long, Integer> routineNums = new HashMap<>();
+        Map<Long, Long> listIdByRoutineId = new HashMap<>();
+        for (MyRoutineMiddle middle : myRoutineMiddleRepository.findWithRoutineByRoutineListIdIn(ids)) {
+            Long listId = middle.getRoutineList().getId();
+            routineNums.merge(listId, 1, Integer::sum);
+            listIdByRoutineId.put(middle.getRoutine().getId(), listId);
+        }
+
+        // 2. 요일 정보
+        Map<Long, List<String>> dayOfWeek = new HashMap<>();
+        for (MyRoutineDays day : myRoutineDaysRepository.findByRoutineListIdIn(ids)) {
+            dayOfWeek.computeIfAbsent(day.getRoutineList().getId(), k -> new ArrayList<>())
+                    .add(day.getDayType().name());
+        }
+
+        // 3. 선택한 날짜의 완료 기록
+        Map<Long, Long> doneCounts = new HashMap<>();
+        for (Long routineId : routineRecordHistoryService.findCompletedRoutineIds(user, date, listIdByRoutineId.keySet())) {
+            doneCounts.merge(listIdByRoutineId.get(routineId), 1L, Long::sum);
+        }
+
+        // 4. 이번 주 완료 기록을 개인 루틴 ID 기준으로 묶어 둡니다.
+        Map<Long, Set<DayType>> successDays = new HashMap<>();
+        if (weekRecords != null) {
+            for (MyRoutineListRecord record : weekRecords) {
+                if (!record.isDoneCheck() || record.getMyRoutineList() == null) {
+                    continue;
+                }
+                successDays.computeIfAbsent(record.getMyRoutineList().getId(), k -> new LinkedHashSet<>())
+                        .add(DayType.from(record.getCreatedDate().getDayOfWeek()));
+            }
+        }
+
+        return routineLists.stream()
+                .map(list -> {
+                    int routineCount = routineNums.getOrDefault(list.getId(), 0);
+                    long doneCount = doneCounts.getOrDefault(list.getId(), 0L);
+                    double percent = routineCount > 0 ? Math.round((double) doneCount * 1000 / routineCount) / 10.0 : 0.0;
+
+                    MyRoutineListShowResponseDto dto = MyRoutineListShowResponseDto.toDto(list,
+                            dayOfWeek.getOrDefault(list.getId(), Collections.emptyList()));
+                    dto.setRoutineNums(routineCount);
+                    dto.setPercent(percent);
+                    dto.setSuccessDay(successDays.getOrDefault(list.getId(), Collections.emptySet()).stream()
+                            .map(DayType::name)
+                            .collect(Collectors.toList()));
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+}
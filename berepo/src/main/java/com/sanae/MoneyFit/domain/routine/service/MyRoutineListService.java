@@ -1,6 +1,10 @@
 package com.sanae.MoneyFit.domain.routine.service;
 
 
+import com.sanae.MoneyFit.domain.analysis.enums.RoutineKind;
+import com.sanae.MoneyFit.domain.analysis.service.DailyCompletionCounterService;
+import com.sanae.MoneyFit.domain.analysis.service.StreakService;
+import com.sanae.MoneyFit.domain.analysis.service.WeeklySummaryService;
 import com.sanae.MoneyFit.domain.routine.dto.request.MyRoutineListRequestDto;
 import com.sanae.MoneyFit.domain.routine.dto.request.RoutineInMyRoutineUpdateRequestDto;
 import com.sanae.MoneyFit.domain.routine.dto.request.RoutineRequestDto;
@@ -12,10 +16,14 @@ import com.sanae.MoneyFit.domain.routine.entity.*;
 import com.sanae.MoneyFit.domain.routine.entity.enums.PointReasonType;
 import com.sanae.MoneyFit.domain.routine.enums.DayType;
 import com.sanae.MoneyFit.domain.routine.repository.*;
+import com.sanae.MoneyFit.domain.routine.service.archive.RoutineRecordHistoryService;
+import com.sanae.MoneyFit.domain.routine.service.completion.RoutineCompletionCommand;
+import com.sanae.MoneyFit.domain.routine.service.completion.RoutineCompletionFlusher;
+import com.sanae.MoneyFit.domain.routine.service.completion.RoutineCompletionQueue;
 
-import com.sanae.MoneyFit.domain.user.entity.Age;
 import com.sanae.MoneyFit.domain.user.entity.User;
 import com.sanae.MoneyFit.domain.user.repository.UserRepository;
+import com.sanae.MoneyFit.domain.user.service.PointLedgerService;
 
 import com.sanae.MoneyFit.global.error.handler.RoutineHandler;
 import com.sanae.MoneyFit.global.error.handler.UserHandler;
@@ -45,20 +53,24 @@ public class MyRoutineListService {
     private final MyRoutineMiddleRepository myRoutineMiddleRepository;
     private final EmojiRepository emojiRepository;
     private final RoutineRepository routineRepository;
-    private final RoutineRecordRepository routineRecordRepository;
     private final MyRoutineListRecordRepository myRoutineListRecordRepository;
     private final UserWeeklyPlanWithRoutineRepository userWeeklyPlanWithRoutineRepository;
     private final TemplateRepository templateRepository;
     private final GroupRoutineServiceImpl groupRoutineService;
-    private final PointHistoryRepository pointHistoryRepository;
+    private final PointLedgerService pointLedgerService;
+    private final StreakService streakService;
+    private final WeeklySummaryService weeklySummaryService;
+    private final DailyCompletionCounterService dailyCompletionCounterService;
+    private final MyRoutineListCardAssembler myRoutineListCardAssembler;
+    private final RoutineCompletionQueue routineCompletionQueue;
+    private final RoutineRecordHistoryService routineRecordHistoryService;
+    private final RoutineRecordArchiveRepository routineRecordArchiveRepository;
 
 
 
 
     @Transactional
-    public MyRoutineListResponseDto makeMyRoutineList(UUID userID, MyRoutineListRequestDto myRoutineListRequestDto) {
-        User user = userRepository.findById(userID)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
+    public MyRoutineListResponseDto makeMyRoutineList(User user, MyRoutineListRequestDto myRoutineListRequestDto) {
         MyRoutineList myRoutineList = MyRoutineListRequestDto.toEntity(myRoutineListRequestDto, user);
 
 
@@ -79,56 +91,21 @@ public class MyRoutineListService {
     }
 
     @Transactional(readOnly = true)
-    public PaginatedResponse<MyRoutineListShowResponseDto> showMyRoutineList(UUID userId, DayType day, LocalDate date, Pageable pageable) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
+    public PaginatedResponse<MyRoutineListShowResponseDto> showMyRoutineList(User user, DayType day, LocalDate date, Pageable pageable) {
         Page<MyRoutineList> myRoutineList = myRoutineListRepository.findByUserAndStartDateAfterAndDay(user, day, date, pageable);
 
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
-
         LocalDate today = LocalDate.now();
         LocalDate startOfWeek = today.with(java.time.DayOfWeek.MONDAY);
         List<MyRoutineListRecord> weekRecords = myRoutineListRecordRepository
                 .findByUserAndCreatedDateBetween(user, startOfWeek.atStartOfDay(), LocalDateTime.now());
 
-        return PaginatedResponse.of(myRoutineList, list -> {
-            // 상세 루틴 목록 조회
-            List<MyRoutineMiddle> middles = myRoutineMiddleRepository.findByRoutineList(list);
-            List<Routine> routines = middles.stream()
-                    .map(MyRoutineMiddle::getRoutine)
-                    .collect(Collectors.toList());
-
-            int routineCount = routines.size();
-            long doneCount = 0;
-            if (!routines.isEmpty()) {
-                List<RoutineRecord> records = routineRecordRepository.findRecordsByDateAndRoutines(user, startOfDay, endOfDay, routines);
-                doneCount = records.stream()
-                        .filter(RoutineRecord::isDoneCheck)
-                        .count();
-            }
-            double percent = routineCount > 0 ? Math.round((double) doneCount * 1000 / routineCount) / 10.0 : 0.0;
-
-            MyRoutineListShowResponseDto dto = MyRoutineListShowResponseDto.toDto(list);
-            dto.setRoutineNums(routineCount);
-            dto.setPercent(percent);
-
-            List<String> successDay = weekRecords.stream()
-                    .filter(record -> record.isDoneCheck()
-                    && record.getMyRoutineList() != null
-                    && record.getMyRoutineList().getId() == list.getId())
-                    .map(record -> DayType.from(record.getCreatedDate().getDayOfWeek()).name())
-                    .distinct()
-                    .collect(Collectors.toList());
-            dto.setSuccessDay(successDay);
-            return dto;
-        });
+        // 상세 루틴/요일/완료 기록을 페이지 단위로 일괄 조회하여 카드 DTO를 조립합니다.
+        return PaginatedResponse.ofBatch(myRoutineList,
+                lists -> myRoutineListCardAssembler.toShowResponseDtos(lists, user, date, weekRecords));
     }
 
     @Transactional
-    public String makeRoutineInMyRoutineList(UUID userId, Long id, List<RoutineRequestDto> routineRequestDtoList) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
+    public String makeRoutineInMyRoutineList(User user, Long id, List<RoutineRequestDto> routineRequestDtoList) {
         MyRoutineList myRoutineList=myRoutineListRepository.findById(id)
                 .orElseThrow(()->new RoutineHandler(ErrorStatus.MY_ROUTINE_LIST_NOT_FOUND));
         // 루틴리스트 권한 확인
@@ -157,9 +134,7 @@ public class MyRoutineListService {
     }
 
     @Transactional
-    public String updateMyRoutineList(UUID userId, Long id, MyRoutineListRequestDto myRoutineListRequestDto) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
+    public String updateMyRoutineList(User user, Long id, MyRoutineListRequestDto myRoutineListRequestDto) {
         MyRoutineList myRoutineList=myRoutineListRepository.findById(id)
                 .orElseThrow(()->new RoutineHandler(ErrorStatus.MY_ROUTINE_LIST_NOT_FOUND));
         if (!myRoutineList.getUser().equals(user)) {
@@ -172,15 +147,15 @@ public class MyRoutineListService {
     }
 
     @Transactional
-    public String deleteMyRoutineList(UUID userId, Long id) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
+    public String deleteMyRoutineList(User user, Long id) {
         MyRoutineList myRoutineList=myRoutineListRepository.findById(id)
                 .orElseThrow(()->new RoutineHandler(ErrorStatus.MY_ROUTINE_LIST_NOT_FOUND));
         if (!myRoutineList.getUser().equals(user)) {
             throw new UserHandler(ErrorStatus.USER_NOT_AUTHORITY);
         }
         myRoutineListRecordRepository.deleteByMyRoutineList(myRoutineList);
+        weeklySummaryService.deleteByRoutineList(RoutineKind.MY, myRoutineList.getId());
+        dailyCompletionCounterService.deleteByRoutineList(RoutineKind.MY, myRoutineList.getId());
 
         myRoutineListRepository.delete(myRoutineList);
 
@@ -188,10 +163,8 @@ public class MyRoutineListService {
     }
 
     @Transactional
-    public String updateInMyRoutineList(UUID userId, Long routineListId, RoutineInMyRoutineUpdateRequestDto routineInMyRoutineUpdateRequestDto) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
-        makeRoutineInMyRoutineList(userId,routineListId,routineInMyRoutineUpdateRequestDto.getMakeRoutine());
+    public String updateInMyRoutineList(User user, Long routineListId, RoutineInMyRoutineUpdateRequestDto routineInMyRoutineUpdateRequestDto) {
+        makeRoutineInMyRoutineList(user,routineListId,routineInMyRoutineUpdateRequestDto.getMakeRoutine());
         for(RoutineUpdateRequestDto routineUpdateRequestDto:routineInMyRoutineUpdateRequestDto.getUpdateRoutine()) {
             Routine routine = routineRepository.findById(routineUpdateRequestDto.getId())
                     .orElseThrow(() -> new RoutineHandler(ErrorStatus.SUB_ROUTINE_NOT_FOUND));
@@ -207,115 +180,49 @@ public class MyRoutineListService {
     }
 
     @Transactional
-    public String deleteInMyRoutineList(UUID userId, Long routineId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
+    public String deleteInMyRoutineList(User user, Long routineId) {
         Routine routine=routineRepository.findById(routineId)
                 .orElseThrow(()->new RoutineHandler(ErrorStatus.SUB_ROUTINE_NOT_FOUND));
         if(!routine.getRoutineMiddles().getRoutineList().getUser().equals(user)){
             throw new UserHandler(ErrorStatus.USER_NOT_AUTHORITY);
         }
+        Long routineListId = routine.getRoutineMiddles().getRoutineList().getId();
         // 루틴기록 삭제
+        routineRecordArchiveRepository.deleteAllByRoutineId(routine.getId());
         routineRepository.delete(routine);
+        // 삭제된 상세 루틴의 완료 기록이 오늘 카운터에 포함되어 있을 수 있으므로 다시 집계합니다.
+        dailyCompletionCounterService.reconcile(RoutineKind.MY, routineListId, LocalDate.now());
         return "루틴이 삭제되었습니다.";
     }
 
-    @Transactional
+    /**
+     * 상세 루틴 완료 요청을 큐에 적재하고 바로 응답합니다.
+     * 수행 기록 저장과 루틴 목록 완료·주간 요약·연속 달성·연령대 점수 반영은
+     * {@link RoutineCompletionFlusher}가 일괄로 처리합니다.
+     */
+    @Transactional(readOnly = true)
     public String completeRoutine(UUID userId, Long routineId, LocalDate date) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
-
-        Routine routine = routineRepository.findById(routineId)
-                .orElseThrow(() -> new RoutineHandler(ErrorStatus.SUB_ROUTINE_NOT_FOUND));
-
         // 루틴의 소유권이 현재 사용자와 일치하는지 확인
-        MyRoutineMiddle myRoutineMiddle=routine.getRoutineMiddles();
-        if(myRoutineMiddle==null || !myRoutineMiddle.getRoutineList().getUser().equals(user)){
+        if (!myRoutineMiddleRepository.existsByRoutineIdAndUserId(routineId, userId)) {
+            if (!userRepository.existsById(userId)) {
+                throw new UserHandler(ErrorStatus.USER_NOT_FOUND);
+            }
+            if (!routineRepository.existsById(routineId)) {
+                throw new RoutineHandler(ErrorStatus.SUB_ROUTINE_NOT_FOUND);
+            }
             throw new UserHandler(ErrorStatus.USER_NOT_AUTHORITY);
         }
 
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
-
-        Optional<RoutineRecord> recordOpt = routineRecordRepository.findRecordByDateAndRoutine(user, routine, startOfDay, endOfDay);
-
-        if (recordOpt.isEmpty()) {
-            RoutineRecord newRecord = RoutineRecord.builder()
-                    .user(user)
-                    .routine(routine)
-                    .doneCheck(true)
-                    .build();
-            newRecord.setCreatedDate(startOfDay);
-            newRecord.setModifiedDate(startOfDay);
-            routineRecordRepository.save(newRecord);
-        }
-        MyRoutineList routineList = myRoutineMiddle.getRoutineList();
-        checkAndCompleteRoutineList(user, routineList, date);
-
-
+        routineCompletionQueue.enqueue(new RoutineCompletionCommand(userId, routineId, date));
 
         return "루틴이 완료 처리되었습니다.";
     }
 
 
-    /**
-     * [추가된 헬퍼 메서드]
-     * 특정 루틴 리스트의 모든 루틴이 완료되었는지 확인하고, 그렇다면 리스트 자체를 완료 처리합니다.
-     */
-    private void checkAndCompleteRoutineList(User user, MyRoutineList routineList, LocalDate date) {
-        // 1. 해당 루틴 리스트에 포함된 모든 루틴들을 가져옵니다.
-        List<Routine> allRoutinesInList = routineList.getRoutineMiddles().stream()
-                .map(middle -> middle.getRoutine())
-                .collect(Collectors.toList());
-
-        if (allRoutinesInList.isEmpty()) {
-            return; // 루틴이 없는 리스트는 처리하지 않음
-        }
-
-        // 2. 오늘 완료된 루틴의 개수를 DB에서 직접 셉니다.
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
-        long completedCount = routineRecordRepository.countCompletedRoutinesInList(user, startOfDay, endOfDay, allRoutinesInList);
-
-        System.out.println(allRoutinesInList.size()+"리스트 개수");
-        System.out.println(completedCount+"성공 개수");
-        // 3. 전체 루틴 개수와 완료된 루틴 개수가 같은지 비교합니다.
-        if (allRoutinesInList.size() == completedCount) {
-            // 4. 모든 루틴이 완료되었다면, MyRoutineListRecord에 기록을 남깁니다.
-            //    이미 기록이 있는지 확인하여 중복 저장을 방지합니다.
-            Optional<MyRoutineListRecord> recordOpt = myRoutineListRecordRepository
-                    .findByUserAndMyRoutineListAndCreatedDateBetween(user, routineList, startOfDay, endOfDay);
-
-            // 기록이 없을 경우에만 새로 생성합니다.
-            if (recordOpt.isEmpty()) {
-                MyRoutineListRecord newListRecord = MyRoutineListRecord.builder()
-                        .user(user)
-                        .myRoutineList(routineList)
-                        .doneCheck(true)
-                        .build();
-
-                newListRecord.setCreatedDate(startOfDay);
-                newListRecord.setModifiedDate(startOfDay);
-
-                myRoutineListRecordRepository.save(newListRecord);
-
-                Age age = user.getAge();
-                if (age != null) {
-                    age.increaseScore();
-                }
-            }
-        }
-    }
-
-
     //새로운 개인루틴안 루틴보기
     @Transactional(readOnly = true)
-    public List<RoutineResponseDto> getRoutinesInListByDate(UUID userId, Long routineListId, LocalDate date) {
-        // 1. 사용자 정보를 조회합니다.
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
-
-        // 2. 루틴 목록을 조회하고, 소유권이 현재 사용자와 일치하는지 확인합니다.
+    public List<RoutineResponseDto> getRoutinesInListByDate(User user, Long routineListId, LocalDate date) {
+        // 1. 루틴 목록을 조회하고, 소유권이 현재 사용자와 일치하는지 확인합니다.
         MyRoutineList routineList = myRoutineListRepository.findById(routineListId)
                 .orElseThrow(() -> new RoutineHandler(ErrorStatus.MY_ROUTINE_LIST_NOT_FOUND));
 
@@ -323,7 +230,7 @@ public class MyRoutineListService {
             throw new UserHandler(ErrorStatus.USER_NOT_AUTHORITY);
         }
 
-        // 3. 루틴 목록에 속한 모든 루틴들을 연관관계를 통해 가져옵니다.
+        // 2. 루틴 목록에 속한 모든 루틴들을 연관관계를 통해 가져옵니다.
         List<Routine> routines = routineList.getRoutineMiddles().stream()
                 .map(middle -> middle.getRoutine())
                 .collect(Collectors.toList());
@@ -332,19 +239,13 @@ public class MyRoutineListService {
             return Collections.emptyList();
         }
 
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
-
-        // 4. 추출된 루틴들을 사용하여, 특정 날짜의 수행 기록(RoutineRecord)들을 DB에서 한 번에 조회합니다.
-        List<RoutineRecord> records = routineRecordRepository.findRecordsByDateAndRoutines(user, startOfDay, endOfDay, routines);
+        // 3~4. 특정 날짜에 완료한 상세 루틴 ID를 한 번에 조회합니다. (보관된 과거 기록 포함)
+        Set<Long> completedRoutineIds = routineRecordHistoryService.findCompletedRoutineIds(user, date,
+                routines.stream().map(Routine::getId).collect(Collectors.toList()));
+        // 아직 DB에 반영되지 않은 완료 요청도 완료로 보여줍니다.
+        completedRoutineIds.addAll(routineCompletionQueue.getMarkedRoutineIds(user.getId(), date));
 
-        // 5. 조회된 기록 중, 완료된(done_check=true) 루틴의 ID만 Set으로 만들어 빠른 조회를 준비합니다.
-        Set<Long> completedRoutineIds = records.stream()
-                .filter(RoutineRecord::isDoneCheck)
-                .map(record -> record.getRoutine().getId())
-                .collect(Collectors.toSet());
-
-        // 6. 최종적으로, 루틴 정보와 그날의 수행 여부를 조합하여 DTO 리스트로 만듭니다.
+        // 5. 최종적으로, 루틴 정보와 그날의 수행 여부를 조합하여 DTO 리스트로 만듭니다.
         return routines.stream()
                 .map(routine -> {
                     boolean isCompleted = completedRoutineIds.contains(routine.getId());
@@ -354,10 +255,7 @@ public class MyRoutineListService {
     }
 
     @Transactional
-    public String completeMyRoutineList(UUID userId, Long myRoutineListId, LocalDate date) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
-
+    public String completeMyRoutineList(User user, Long myRoutineListId, LocalDate date) {
         MyRoutineList routineList = myRoutineListRepository.findById(myRoutineListId)
                 .orElseThrow(() -> new RoutineHandler(ErrorStatus.MY_ROUTINE_LIST_NOT_FOUND));
 
@@ -385,6 +283,8 @@ public class MyRoutineListService {
             newRecord.setModifiedDate(startOfDay);
             awardPointForPersonalRoutine(user,100);
             myRoutineListRecordRepository.save(newRecord);
+            weeklySummaryService.markDone(user, RoutineKind.MY, routineList.getId(), date);
+            streakService.onCompletion(user, date);
         }
 
         return "루틴 목록이 완료 처리되었습니다.";
@@ -393,27 +293,7 @@ public class MyRoutineListService {
 
     @Transactional
     public void awardPointForPersonalRoutine(User user, int point) {
-
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-        LocalDateTime endOfDay = LocalDate.now().atTime(LocalTime.MAX);
-
-        boolean alreadyAwarded = pointHistoryRepository.existsByUserAndReasonAndCreatedAtBetween(
-                user,
-                PointReasonType.PERSONAL_ROUTINE_COMPLETION,
-                startOfDay,
-                endOfDay
-        );
-
-        // 2. 오늘 지급된 내역이 없을 경우에만 포인트를 지급하고 내역을 기록
-        if (!alreadyAwarded) {
-            user.addPoint((long) point); // User 엔티티의 포인트 업데이트
-
-            PointHistory history = PointHistory.builder()
-                    .user(user)
-                    .point(point)
-                    .reason(PointReasonType.PERSONAL_ROUTINE_COMPLETION)
-                    .build();
-            pointHistoryRepository.save(history);
-        }
+        // 오늘 지급된 내역이 없을 경우에만 포인트를 지급하고 내역을 기록 (이미 지급했다면 무시)
+        pointLedgerService.award(user.getId(), point, PointReasonType.PERSONAL_ROUTINE_COMPLETION, LocalDate.now());
     }
 }
@@ -1,6 +1,7 @@
 package com.sanae.MoneyFit.domain.routine.service;
 
 import com.sanae.MoneyFit.domain.routine.dto.response.RankResponseDto;
+import com.sanae.MoneyFit.domain.routine.service.event.AgeLeaderboardRebuildRequestedEvent;
 import com.sanae.MoneyFit.domain.user.entity.Age;
 import com.sanae.MoneyFit.domain.user.entity.User;
 import com.sanae.MoneyFit.domain.user.repository.AgeRepository;
@@ -8,6 +9,7 @@ import com.sanae.MoneyFit.domain.user.repository.UserRepository;
 import com.sanae.MoneyFit.global.error.handler.UserHandler;
 import com.sanae.MoneyFit.global.web.response.code.status.ErrorStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -17,14 +19,23 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class RankService {
 
+	/** 재구성 전 DB 응답의 정렬. 동점이면 ID 순으로 페이지 경계를 고정합니다. */
+	private static final Sort SCORE_ORDER = Sort.by(Sort.Direction.DESC, "score").and(Sort.by("id"));
+
 	private final AgeRepository ageRepository;
 	private final UserRepository userRepository;
+	private final AgeLeaderboard ageLeaderboard;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional(readOnly = true)
 	public RankResponseDto.RankPage getRanking(UUID userId, Pageable pageable) {
@@ -37,36 +48,91 @@ public class RankService {
 	}
 
 	private RankResponseDto.RankPage getUniversityRanking(User user, Pageable pageable) {
-		PageRequest pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
-			Sort.by(Sort.Direction.DESC, "score"));
-		Page<Age> page = ageRepository.findAll(pageRequest);
+		// 항목 수가 아니라 재구성 완료 표시로 판단합니다. (Redis 초기화 후 일부 항목만 남은 경우 포함)
+		// 재구성 전이면 요청 스레드에서 재구성하지 않고 DB로 응답한 뒤, 재구성은 비동기로 요청합니다.
+		boolean built = ageLeaderboard.isBuilt();
+		if (!built) {
+			eventPublisher.publishEvent(new AgeLeaderboardRebuildRequestedEvent());
+		}
+
+		List<AgeLeaderboard.Entry> entries;
+		long totalItems;
+		if (built) {
+			entries = ageLeaderboard.getPage(pageable.getOffset(), pageable.getPageSize());
+			totalItems = ageLeaderboard.size();
+		} else {
+			Page<Age> ages = ageRepository.findAll(
+				PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), SCORE_ORDER));
+			entries = rankFromDb(ages.getContent(), pageable.getOffset());
+			totalItems = ages.getTotalElements();
+		}
+
+		// 이름은 페이지에 포함된 연령대만 한 번에 조회합니다.
+		Map<Long, Age> ageById = ageRepository.findAllById(entries.stream().map(AgeLeaderboard.Entry::ageId).toList())
+			.stream()
+			.collect(Collectors.toMap(Age::getId, Function.identity()));
 
 		List<RankResponseDto.RankInfo> items = new ArrayList<>();
-		for (Age u : page.getContent()) {
-			int rank = (int) ageRepository.countByScoreGreaterThan(u.getScore()) + 1;
+		for (AgeLeaderboard.Entry entry : entries) {
+			Age age = ageById.get(entry.ageId());
+			if (age == null) {
+				continue;
+			}
 			items.add(RankResponseDto.RankInfo.builder()
-				.rank(rank)
-				.name(u.getName())
-				.score(u.getScore())
+				.rank(entry.rank())
+				.name(age.getName())
+				.score(entry.score())
 				.build());
 		}
 
 		Age myAge = user.getAge();
-		long higherCount = ageRepository.countByScoreGreaterThan(myAge.getScore());
+		Optional<AgeLeaderboard.Entry> rankedEntry = built ? ageLeaderboard.getEntry(myAge.getId()) : Optional.empty();
+		AgeLeaderboard.Entry myEntry = rankedEntry
+			.orElseGet(() -> new AgeLeaderboard.Entry(myAge.getId(), myAge.getScore(),
+				(int) ageRepository.countByScoreGreaterThan(myAge.getScore()) + 1));
 		RankResponseDto.MyRankInfo myItem = RankResponseDto.MyRankInfo.builder()
-			.rank((int) higherCount + 1)
+			.rank(myEntry.rank())
 			.universityName(myAge.getName())
-			.score(myAge.getScore())
+			.score(myEntry.score())
 			.build();
 
+		int totalPages = pageable.getPageSize() == 0 ? 1 : (int) Math.ceil((double) totalItems / pageable.getPageSize());
+
 		return RankResponseDto.RankPage.builder()
-			.page(page.getNumber())
-			.pageSize(page.getSize())
-			.totalItems(page.getTotalElements())
-			.totalPages(page.getTotalPages())
+			.page(pageable.getPageNumber())
+			.pageSize(pageable.getPageSize())
+			.totalItems(totalItems)
+			.totalPages(totalPages)
 			.myItem(myItem)
 			.items(items)
 			.build();
 	}
 
+	// ####################### Private 서브 메서드 #######################
+
+	/**
+	 * 점수 내림차순으로 조회한 연령대 페이지에 순위를 매깁니다. (재구성 전 DB 응답용)
+	 * {@link AgeLeaderboard#getPage}와 같이 페이지 첫 항목만 동점자를 고려해 조회하고, 이후는 페이지 안에서 계산합니다.
+	 */
+	private List<AgeLeaderboard.Entry> rankFromDb(List<Age> ages, long offset) {
+		List<AgeLeaderboard.Entry> entries = new ArrayList<>(ages.size());
+		int previousScore = 0;
+		int previousRank = 0;
+		long position = offset;
+		for (Age age : ages) {
+			int rank;
+			if (entries.isEmpty()) {
+				rank = (int) ageRepository.countByScoreGreaterThan(age.getScore()) + 1;
+			} else if (age.getScore() == previousScore) {
+				rank = previousRank;
+			} else {
+				rank = (int) position + 1;
+			}
+			entries.add(new AgeLeaderboard.Entry(age.getId(), age.getScore(), rank));
+			previousScore = age.getScore();
+			previousRank = rank;
+			position++;
+		}
+		return entries;
+	}
 }
\ No newline at end of file
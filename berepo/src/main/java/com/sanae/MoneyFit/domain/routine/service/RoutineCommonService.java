@@ -34,4 +34,18 @@ public interface RoutineCommonService {
      * @return 이모지 목록 정보
      */
     CommonResponseDto.EmojiList getRoutineEmojis(Category category);
+
+    /**
+     * 현재 템플릿 카탈로그의 ETag를 반환합니다.
+     *
+     * @return 템플릿 카탈로그 내용의 해시
+     */
+    String getRoutineTemplatesETag();
+
+    /**
+     * 현재 이모지 카탈로그의 ETag를 반환합니다.
+     *
+     * @return 이모지 카탈로그 내용의 해시
+     */
+    String getRoutineEmojisETag();
 }
\ No newline at end of file
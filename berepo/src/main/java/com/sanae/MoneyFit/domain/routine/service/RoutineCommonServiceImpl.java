@@ -2,20 +2,16 @@ package com.sanae.MoneyFit.domain.routine.service;
 
 
 import com.sanae.MoneyFit.domain.routine.dto.response.CommonResponseDto;
-import com.sanae.MoneyFit.domain.routine.entity.Emoji;
-import com.sanae.MoneyFit.domain.routine.entity.Template;
 import com.sanae.MoneyFit.domain.routine.enums.Category;
-import com.sanae.MoneyFit.domain.routine.repository.EmojiRepository;
-import com.sanae.MoneyFit.domain.routine.repository.TemplateRepository;
+import com.sanae.MoneyFit.domain.routine.service.catalog.RoutineCatalog;
+import com.sanae.MoneyFit.global.common.catalog.CatalogCache;
 import com.sanae.MoneyFit.global.web.response.PaginatedResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * <h2>RoutineCommonServiceImpl</h2>
@@ -26,47 +22,32 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class RoutineCommonServiceImpl implements RoutineCommonService {
 
-    private final TemplateRepository templateRepository;
-    private final EmojiRepository emojiRepository;
+    private final RoutineCatalog routineCatalog;
 
     @Override
     public PaginatedResponse<CommonResponseDto.TemplateInfo> getRoutineTemplates(String category, Pageable pageable) {
         Category categoryEnum = (category == null) ? null : Category.from(category);
 
-        Page<Template> page = (category == null)
-                ? templateRepository.findAll(pageable)
-                : templateRepository.findByCategory(categoryEnum, pageable);
-
-
-        return PaginatedResponse.of(page, template -> {
-            String imageUrl = emojiRepository.findById(template.getEmoji().getId())
-                    .map(emoji -> emoji.getEmojiUrl())   // emoji 엔티티에서 imageUrl 가져오기
-                    .orElse(null);
-            return CommonResponseDto.TemplateInfo.builder()
-                .templateId(template.getId())
-                .emojiUrl(imageUrl)
-                    .emojiId(template.getEmoji().getId())
-                .name(template.getName())
-                .content(template.getContent())
-                .build();
-        });
+        // 카테고리 필터와 정렬이 미리 적용된 스냅샷에서 요청한 페이지만 잘라 반환합니다.
+        List<CommonResponseDto.TemplateInfo> templates = routineCatalog.templates().data().of(categoryEnum);
+        if (category != null && categoryEnum == null) {
+            templates = List.of();
+        }
+        return PaginatedResponse.of(CatalogCache.slice(templates, pageable));
     }
 
     @Override
     public CommonResponseDto.EmojiList getRoutineEmojis(Category category) {
-        List<Emoji> emojis = (category == null)
-                ? emojiRepository.findAll()
-                : emojiRepository.findByCategory(category);
+        return routineCatalog.emojis().data().of(category);
+    }
 
-        List<CommonResponseDto.EmojiInfo> items = emojis.stream()
-                .map(e -> CommonResponseDto.EmojiInfo.builder()
-                        .emojiId(e.getId())
-                        .emojiUrl(e.getEmojiUrl())
-                        .build())
-                .collect(Collectors.toList());
+    @Override
+    public String getRoutineTemplatesETag() {
+        return routineCatalog.templates().eTag();
+    }
 
-        return CommonResponseDto.EmojiList.builder()
-                .items(items)
-                .build();
+    @Override
+    public String getRoutineEmojisETag() {
+        return routineCatalog.emojis().eTag();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package com.sanae.MoneyFit.domain.routine.service.archive;
+
+import com.sanae.MoneyFit.global.common.aop.DistributedLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * <h2>RoutineRecordArchiveJob</h2>
+ * <p>
+ * 매일 새벽 보관 기간이 지난 수행 기록을 월별 비트마스크로 옮겨 최근 기록 테이블의 크기를 일정하게 유지합니다. <br>
+ * 묶음 단위로 커밋하므로 중간에 중단되어도 다음 실행에서 남은 기록부터 이어서 처리합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoutineRecordArchiveJob {
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    private final RoutineRecordHistoryService routineRecordHistoryService;
+
+    @Scheduled(cron = "0 0 5 * * *", zone = "Asia/Seoul")
+    @DistributedLock(key = "'ROUTINE_RECORD_ARCHIVE'", waitTime = 0L, leaseTime = 1800L)
+    public void archive() {
+        LocalDateTime before = routineRecordHistoryService.archiveBefore().atStartOfDay();
+
+        int total = 0;
+        int archived;
+        do {
+            archived = routineRecordHistoryService.archiveChunk(before, CHUNK_SIZE);
+            total += archived;
+        } while (archived == CHUNK_SIZE);
+
+        log.info("[RoutineRecordArchiveJob] 수행 기록 보관 완료: 기준 = {}, 처리 = {}건", before.toLocalDate(), total);
+    }
+}
@@ -0,0 +1,151 @@
+package com.sanae.MoneyFit.domain.routine.service.archive;
+
+import com.sanae.MoneyFit.domain.routine.entity.RoutineRecord;
+import com.sanae.MoneyFit.domain.routine.entity.RoutineRecordArchive;
+import com.sanae.MoneyFit.domain.routine.repository.RoutineRecordArchiveRepository;
+import com.sanae.MoneyFit.domain.routine.repository.RoutineRecordRepository;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * <h2>RoutineRecordHistoryService</h2>
+ * <p>
+ * 상세 루틴 수행 기록을 최근 기록(routine_record)과 보관 기록(routine_record_archive) 두 계층으로 관리합니다. <br>
+ * 보관 기간이 지난 달의 기록은 (사용자, 상세 루틴, 월)별 완료 비트마스크로 압축해 옮기고,
+ * 조회 시에는 날짜에 따라 두 계층을 함께 읽어 호출 측이 보관 여부를 신경 쓰지 않도록 합니다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class RoutineRecordHistoryService {
+
+    private final RoutineRecordRepository routineRecordRepository;
+    private final RoutineRecordArchiveRepository routineRecordArchiveRepository;
+    private final UserRepository userRepository;
+
+    /** 최근 기록으로 유지할 개월 수 (이번 달 제외). 완료 카운터 보정 범위보다 짧아지지 않도록 최소 1개월입니다. */
+    @Value("${routine.archive.retention-months:3}")
+    private int retentionMonths;
+
+    /**
+     * 특정 날짜에 사용자가 완료한 상세 루틴 ID를 조회합니다.
+     * 보관 대상 기간의 날짜라면 보관 기록과 아직 옮겨지지 않은 최근 기록을 함께 확인합니다.
+     *
+     * @param user       조회할 사용자
+     * @param date       조회 날짜
+     * @param routineIds 상세 루틴 ID 목록
+     * @return 완료한 상세 루틴 ID 집합
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findCompletedRoutineIds(User user, LocalDate date, Collection<Long> routineIds) {
+        Set<Long> completed = new HashSet<>();
+        if (routineIds.isEmpty()) {
+            return completed;
+        }
+
+        completed.addAll(routineRecordRepository.findCompletedRoutineIds(user, date.atStartOfDay(), date.atTime(LocalTime.MAX), routineIds));
+        if (date.isBefore(archiveBefore())) {
+            for (RoutineRecordArchive archive : routineRecordArchiveRepository
+                    .findByUserAndMonthStartAndRoutineIdIn(user, RoutineRecordArchive.monthStartOf(date), routineIds)) {
+                if (archive.isDone(date)) {
+                    completed.add(archive.getRoutineId());
+                }
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * 이 날짜 이전의 기록이 보관 대상입니다. (보관 기간 이전 달의 1일)
+     */
+    public LocalDate archiveBefore() {
+        return RoutineRecordArchive.monthStartOf(LocalDate.now()).minusMonths(Math.max(1, retentionMonths));
+    }
+
+    /**
+     * 보관 대상 기록을 한 묶음 보관 기록으로 옮깁니다. 묶음마다 별도 트랜잭션으로 커밋합니다.
+     *
+     * @param before 보관 기준 시각
+     * @param size   묶음 크기
+     * @return 옮긴 최근 기록 수 (0이면 더 이상 대상 없음)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int archiveChunk(LocalDateTime before, int size) {
+        List<Object[]> rows = routineRecordRepository.findArchivable(before, PageRequest.of(0, size));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // 1. 완료 기록을 (사용자, 상세 루틴, 월)별 완료 날짜로 묶습니다. 미완료 기록은 옮기지 않고 삭제만 합니다.
+        List<Long> recordIds = new ArrayList<>(rows.size());
+        Map<ArchiveKey, List<LocalDate>> doneDates = new HashMap<>();
+        for (Object[] row : rows) {
+            recordIds.add((Long) row[0]);
+            if (!(Boolean) row[4]) {
+                continue;
+            }
+            LocalDate date = ((LocalDateTime) row[3]).toLocalDate();
+            doneDates.computeIfAbsent(new ArchiveKey((UUID) row[1], (Long) row[2], RoutineRecordArchive.monthStartOf(date)),
+                    k -> new ArrayList<>()).add(date);
+        }
+
+        // 2. 기존 보관 기록에 병합하거나 새로 만듭니다.
+        mergeIntoArchive(doneDates);
+
+        // 3. 옮긴 최근 기록 삭제
+        routineRecordRepository.deleteAllByIdInBatch(recordIds);
+        return rows.size();
+    }
+
+    // ####################### Private 서브 메서드 #######################
+
+    private void mergeIntoArchive(Map<ArchiveKey, List<LocalDate>> doneDates) {
+        if (doneDates.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> userIds = doneDates.keySet().stream().map(ArchiveKey::userId).collect(Collectors.toSet());
+        Set<Long> routineIds = doneDates.keySet().stream().map(ArchiveKey::routineId).collect(Collectors.toSet());
+        Set<LocalDate> monthStarts = doneDates.keySet().stream().map(ArchiveKey::monthStart).collect(Collectors.toSet());
+        Map<ArchiveKey, RoutineRecordArchive> existing = routineRecordArchiveRepository
+                .findCandidates(userIds, monthStarts, routineIds).stream()
+                .collect(Collectors.toMap(
+                        archive -> new ArchiveKey(archive.getUser().getId(), archive.getRoutineId(), archive.getMonthStart()),
+                        Function.identity()));
+
+        List<RoutineRecordArchive> created = new ArrayList<>();
+        doneDates.forEach((key, dates) -> {
+            RoutineRecordArchive archive = existing.get(key);
+            if (archive == null) {
+                archive = RoutineRecordArchive.builder()
+                        .user(userRepository.getReferenceById(key.userId()))
+                        .routineId(key.routineId())
+                        .monthStart(key.monthStart())
+                        .build();
+                created.add(archive);
+            }
+            dates.forEach(archive::markDone);
+        });
+        routineRecordArchiveRepository.saveAll(created);
+    }
+
+    /**
+     * 보관 기록 식별 키. {@link RoutineRecord} 한 달치가 하나의 키로 모입니다.
+     */
+    private record ArchiveKey(UUID userId, Long routineId, LocalDate monthStart) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.sanae.MoneyFit.domain.routine.service.catalog;
+
+import com.sanae.MoneyFit.domain.routine.dto.response.CommonResponseDto;
+import com.sanae.MoneyFit.domain.routine.entity.Emoji;
+import com.sanae.MoneyFit.domain.routine.entity.Template;
+import com.sanae.MoneyFit.domain.routine.enums.Category;
+import com.sanae.MoneyFit.domain.routine.repository.EmojiRepository;
+import com.sanae.MoneyFit.domain.routine.repository.TemplateRepository;
+import com.sanae.MoneyFit.global.common.catalog.CatalogCache;
+import com.sanae.MoneyFit.global.common.catalog.CatalogType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * <h2>RoutineCatalog</h2>
+ * <p>
+ * 루틴 생성 화면에서 쓰는 이모지와 템플릿 카탈로그를 {@link CatalogCache} 스냅샷으로 제공합니다. <br>
+ * 카테고리별 목록과 응답 DTO를 적재 시점에 미리 만들어 두므로, 조회 요청은 DB 접근 없이 스냅샷을 잘라 반환합니다.
+ * 두 테이블은 애플리케이션에서 수정하지 않으므로 DB를 직접 수정했다면 {@code CATALOG:VERSION:EMOJI}/{@code TEMPLATE}
+ * 값을 올려야 다른 인스턴스에도 반영됩니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RoutineCatalog {
+
+    private final CatalogCache catalogCache;
+    private final EmojiRepository emojiRepository;
+    private final TemplateRepository templateRepository;
+
+    public CatalogCache.Snapshot<EmojiCatalog> emojis() {
+        return catalogCache.get(CatalogType.EMOJI, this::loadEmojis);
+    }
+
+    public CatalogCache.Snapshot<TemplateCatalog> templates() {
+        return catalogCache.get(CatalogType.TEMPLATE, this::loadTemplates);
+    }
+
+    /**
+     * 이모지 카탈로그 스냅샷
+     *
+     * @param emojis     전체 이모지 (ID 순)
+     * @param all        전체 이모지 응답
+     * @param byCategory 카테고리별 이모지 응답
+     */
+    public record EmojiCatalog(List<Emoji> emojis,
+                               CommonResponseDto.EmojiList all,
+                               Map<Category, CommonResponseDto.EmojiList> byCategory) {
+
+        /**
+         * @param category 카테고리 ({@code null}이면 전체)
+         */
+        public CommonResponseDto.EmojiList of(Category category) {
+            if (category == null) {
+                return all;
+            }
+            return byCategory.getOrDefault(category, CommonResponseDto.EmojiList.builder().items(List.of()).build());
+        }
+    }
+
+    /**
+     * 템플릿 카탈로그 스냅샷. 페이지 요청은 목록을 잘라서 처리합니다.
+     *
+     * @param all        전체 템플릿 (ID 순)
+     * @param byCategory 카테고리별 템플릿 (ID 순)
+     */
+    public record TemplateCatalog(List<CommonResponseDto.TemplateInfo> all,
+                                  Map<Category, List<CommonResponseDto.TemplateInfo>> byCategory) {
+
+        /**
+         * @param category 카테고리 ({@code null}이면 전체)
+         */
+        public List<CommonResponseDto.TemplateInfo> of(Category category) {
+            if (category == null) {
+                return all;
+            }
+            return byCategory.getOrDefault(category, List.of());
+        }
+    }
+
+    // ####################### Private 서브 메서드 #######################
+
+    private EmojiCatalog loadEmojis() {
+        List<Emoji> emojis = emojiRepository.findAll().stream()
+                .sorted(Comparator.comparingLong(Emoji::getId))
+                .toList();
+
+        Map<Category, CommonResponseDto.EmojiList> byCategory = new EnumMap<>(Category.class);
+        emojis.stream()
+                .collect(Collectors.groupingBy(Emoji::getCategory, () -> new EnumMap<>(Category.class), Collectors.toList()))
+                .forEach((category, items) -> byCategory.put(category, toEmojiList(items)));
+
+        return new EmojiCatalog(emojis, toEmojiList(emojis), Collections.unmodifiableMap(byCategory));
+    }
+
+    private TemplateCatalog loadTemplates() {
+        List<CommonResponseDto.TemplateInfo> all = new ArrayList<>();
+        Map<Category, List<CommonResponseDto.TemplateInfo>> byCategory = new EnumMap<>(Category.class);
+        for (Template template : templateRepository.findAllWithEmoji()) {
+            CommonResponseDto.TemplateInfo info = CommonResponseDto.TemplateInfo.builder()
+                    .templateId(template.getId())
+                    .emojiUrl(template.getEmoji().getEmojiUrl())
+                    .emojiId(template.getEmoji().getId())
+                    .name(template.getName())
+                    .content(template.getContent())
+                    .build();
+            all.add(info);
+            byCategory.computeIfAbsent(template.getCategory(), k -> new ArrayList<>()).add(info);
+        }
+        byCategory.replaceAll((category, items) -> List.copyOf(items));
+
+        return new TemplateCatalog(List.copyOf(all), Collections.unmodifiableMap(byCategory));
+    }
+
+    private CommonResponseDto.EmojiList toEmojiList(List<Emoji> emojis) {
+        return CommonResponseDto.EmojiList.builder()
+                .items(emojis.stream()
+                        .map(e -> CommonResponseDto.EmojiInfo.builder()
+                                .emojiId(e.getId())
+                                .emojiUrl(e.getEmojiUrl())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
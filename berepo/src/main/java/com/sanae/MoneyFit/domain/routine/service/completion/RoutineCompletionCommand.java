@@ -0,0 +1,36 @@
+package com.sanae.MoneyFit.domain.routine.service.completion;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 개인 루틴의 상세 루틴 완료 요청
+ *
+ * @param userId    완료한 사용자 ID
+ * @param routineId 완료한 상세 루틴 ID
+ * @param date      완료 날짜
+ */
+public record RoutineCompletionCommand(UUID userId, Long routineId, LocalDate date) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 큐에 저장할 문자열로 변환합니다. ({@code userId|routineId|yyyy-MM-dd})
+     */
+    public String serialize() {
+        return userId + DELIMITER + routineId + DELIMITER + date;
+    }
+
+    /**
+     * 큐에서 꺼낸 문자열을 명령으로 복원합니다.
+     *
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static RoutineCompletionCommand deserialize(String value) {
+        String[] parts = value.split("\\|");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("잘못된 루틴 완료 명령: " + value);
+        }
+        return new RoutineCompletionCommand(UUID.fromString(parts[0]), Long.valueOf(parts[1]), LocalDate.parse(parts[2]));
+    }
+}
@@ -0,0 +1,120 @@
+package com.sanae.MoneyFit.domain.routine.service.completion;
+
+import com.sanae.MoneyFit.global.common.aop.DistributedLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <h2>RoutineCompletionFlusher</h2>
+ * <p>
+ * {@link RoutineCompletionQueue}에 쌓인 개인 루틴 완료 요청을 주기적으로 모아 {@link RoutineCompletionWriter}로 일괄 반영합니다. <br>
+ * 같은 (사용자, 상세 루틴, 날짜) 요청은 하나로 합쳐 한 트랜잭션으로 먼저 반영하고,
+ * 실패하면 요청마다 별도 트랜잭션으로 다시 반영해 문제가 되는 요청만 실패 큐로 옮깁니다.
+ * </p>
+ * <p>
+ * 큐는 반영이 끝난 뒤에만 비웁니다. DB 연결 실패·교착 상태처럼 일시적인 오류는 큐를 그대로 두어 다음 주기에 다시 처리하고,
+ * 이미 저장된 기록은 건너뛰므로 재처리해도 중복이 생기지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoutineCompletionFlusher {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final RoutineCompletionQueue routineCompletionQueue;
+    private final RoutineCompletionWriter routineCompletionWriter;
+
+    /**
+     * 큐의 앞부분을 한 배치만큼 DB에 반영합니다.
+     * 여러 서버 중 한 곳에서만 실행되도록 분산 락 안에서 실행되며,
+     * 요청별 재시도로 반영이 길어져도 락이 먼저 풀리지 않도록 임대 시간은 실행이 끝날 때까지 자동 연장합니다.
+     */
+    @Scheduled(fixedDelayString = "${routine.completion.flush-interval-ms:500}")
+    @DistributedLock(key = "'ROUTINE_COMPLETION_FLUSH'", waitTime = 0L, leaseTime = -1L)
+    public void flush() {
+        List<String> values = routineCompletionQueue.peek(BATCH_SIZE);
+        if (values.isEmpty()) {
+            return;
+        }
+
+        // 1. 같은 요청을 하나로 합칩니다. 읽을 수 없는 요청은 실패 큐로 옮깁니다.
+        Set<RoutineCompletionCommand> commands = new LinkedHashSet<>();
+        for (String value : values) {
+            RoutineCompletionCommand command;
+            try {
+                command = RoutineCompletionCommand.deserialize(value);
+            } catch (IllegalArgumentException e) {
+                log.warn("[RoutineCompletionFlusher] 잘못된 명령을 실패 큐로 옮깁니다: {}", value);
+                routineCompletionQueue.deadLetter(value);
+                continue;
+            }
+            commands.add(command);
+        }
+
+        // 2. 한 트랜잭션으로 반영하고, 실패하면 요청별로 다시 반영합니다.
+        if (!commands.isEmpty()) {
+            try {
+                routineCompletionWriter.write(commands);
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    throw e;
+                }
+                log.warn("[RoutineCompletionFlusher] 일괄 반영 실패, 요청별로 다시 반영합니다: {}", e.getMessage());
+                writeEach(commands);
+            }
+        }
+
+        routineCompletionQueue.acknowledge(values.size());
+        log.debug("[RoutineCompletionFlusher] 루틴 완료 반영: 요청 = {}, 병합 후 = {}", values.size(), commands.size());
+    }
+
+    // ####################### Private 서브 메서드 #######################
+
+    /**
+     * 요청마다 별도 트랜잭션으로 반영합니다. 일시적인 오류는 그대로 던져 큐를 비우지 않고,
+     * 그 외 오류로 실패한 요청만 실패 큐로 옮깁니다. (먼저 반영된 요청은 재처리 시 건너뜁니다)
+     */
+    private void writeEach(Set<RoutineCompletionCommand> commands) {
+        for (RoutineCompletionCommand command : commands) {
+            try {
+                routineCompletionWriter.write(List.of(command));
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    throw e;
+                }
+                deadLetter(command, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 반영할 수 없는 요청을 실패 큐로 옮기고 완료 표시를 지워, 조회 화면에 완료로 남지 않고 다시 요청할 수 있도록 합니다.
+     */
+    private void deadLetter(RoutineCompletionCommand command, String reason) {
+        log.error("[RoutineCompletionFlusher] 반영할 수 없는 요청을 실패 큐로 옮깁니다: {} ({})", command.serialize(), reason);
+        routineCompletionQueue.deadLetter(command.serialize());
+        routineCompletionQueue.unmark(command);
+    }
+
+    /**
+     * 잠시 후 다시 시도하면 성공할 수 있는 오류인지 판단합니다. (DB 연결 실패, 교착 상태, 타임아웃 등)
+     */
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+}
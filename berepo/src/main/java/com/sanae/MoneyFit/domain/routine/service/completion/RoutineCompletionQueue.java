@@ -0,0 +1,114 @@
+package com.sanae.MoneyFit.domain.routine.service.completion;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * <h2>RoutineCompletionQueue</h2>
+ * <p>
+ * 개인 루틴 완료 요청을 Redis에 먼저 기록하고 즉시 응답하기 위한 큐입니다. <br>
+ * 사용자·날짜별 완료 표시 집합({@code SADD})으로 같은 요청의 중복 적재를 막고,
+ * 새로 표시된 요청만 리스트({@code RPUSH})에 쌓아 {@link RoutineCompletionFlusher}가 일괄 저장합니다.
+ * 완료 표시 집합은 DB 반영 전에도 조회 화면에서 완료 상태를 보여주는 데 사용됩니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RoutineCompletionQueue {
+
+    static final String QUEUE_KEY = "ROUTINE:COMPLETION:QUEUE";
+    static final String DEAD_LETTER_KEY = "ROUTINE:COMPLETION:DEAD";
+    private static final String MARK_PREFIX = "ROUTINE:COMPLETION:";
+
+    /** 완료 표시 유지 시간. 일괄 저장 주기보다 충분히 길게 둡니다. */
+    private static final Duration MARK_TTL = Duration.ofDays(2);
+
+    /** 실패 큐 최대 길이. 오래된 요청부터 버립니다. */
+    private static final long DEAD_LETTER_MAX_SIZE = 10_000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 완료 요청을 큐에 적재합니다.
+     *
+     * @param command 완료 요청
+     * @return 새로 적재되었으면 {@code true}, 이미 완료 표시된 요청이면 {@code false}
+     */
+    public boolean enqueue(RoutineCompletionCommand command) {
+        String markKey = markKey(command.userId(), command.date());
+        Long added = redisTemplate.opsForSet().add(markKey, String.valueOf(command.routineId()));
+        redisTemplate.expire(markKey, MARK_TTL);
+        if (added == null || added == 0) {
+            return false;
+        }
+
+        try {
+            redisTemplate.opsForList().rightPush(QUEUE_KEY, command.serialize());
+        } catch (RuntimeException e) {
+            // 큐 적재에 실패하면 표시도 되돌려 재요청이 가능하도록 합니다.
+            redisTemplate.opsForSet().remove(markKey, String.valueOf(command.routineId()));
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * 해당 날짜에 완료 표시된 상세 루틴 ID를 조회합니다. (DB 반영 대기 중인 요청 포함)
+     *
+     * @param userId 사용자 ID
+     * @param date   날짜
+     * @return 상세 루틴 ID 집합
+     */
+    public Set<Long> getMarkedRoutineIds(UUID userId, LocalDate date) {
+        Set<String> members = redisTemplate.opsForSet().members(markKey(userId, date));
+        if (members == null || members.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return members.stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 큐의 앞부분을 꺼내지 않고 조회합니다. ({@code LRANGE})
+     */
+    List<String> peek(int size) {
+        List<String> values = redisTemplate.opsForList().range(QUEUE_KEY, 0, size - 1);
+        return values == null ? Collections.emptyList() : values;
+    }
+
+    /**
+     * 처리가 끝난 앞부분을 큐에서 제거합니다. ({@code LTRIM})
+     */
+    void acknowledge(int size) {
+        redisTemplate.opsForList().trim(QUEUE_KEY, size, -1);
+    }
+
+    /**
+     * 반영할 수 없는 요청을 실패 큐에 보관합니다. 운영자가 원인을 확인한 뒤 다시 적재할 수 있습니다.
+     */
+    void deadLetter(String value) {
+        redisTemplate.opsForList().rightPush(DEAD_LETTER_KEY, value);
+        redisTemplate.opsForList().trim(DEAD_LETTER_KEY, -DEAD_LETTER_MAX_SIZE, -1);
+    }
+
+    /**
+     * 완료 표시를 제거합니다. 일괄 저장 시 유효하지 않은 요청으로 판단된 경우 호출합니다.
+     */
+    void unmark(RoutineCompletionCommand command) {
+        redisTemplate.opsForSet().remove(markKey(command.userId(), command.date()), String.valueOf(command.routineId()));
+    }
+
+    private String markKey(UUID userId, LocalDate date) {
+        return MARK_PREFIX + userId + ":" + date;
+    }
+}
@@ -0,0 +1,203 @@
+package com.sanae.MoneyFit.domain.routine.service.completion;
+
+import com.sanae.MoneyFit.domain.analysis.enums.RoutineKind;
+import com.sanae.MoneyFit.domain.analysis.service.DailyCompletionCounterService;
+import com.sanae.MoneyFit.domain.analysis.service.StreakService;
+import com.sanae.MoneyFit.domain.analysis.service.WeeklySummaryService;
+import com.sanae.MoneyFit.domain.routine.repository.MyRoutineListRecordRepository;
+import com.sanae.MoneyFit.domain.routine.repository.MyRoutineMiddleRepository;
+import com.sanae.MoneyFit.domain.routine.repository.RoutineRecordRepository;
+import com.sanae.MoneyFit.domain.routine.service.event.AgeScoreIncreasedEvent;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * <h2>RoutineCompletionWriter</h2>
+ * <p>
+ * {@link RoutineCompletionFlusher}가 모은 개인 루틴 완료 요청을 하나의 트랜잭션으로 DB에 반영합니다. <br>
+ * 수행 기록은 JDBC 배치 INSERT로 저장하고, 영향을 받은 (사용자, 개인 루틴, 날짜)의 완료 카운터를 증가시킨 뒤
+ * 상세 루틴 수와 비교해 루틴 목록 완료 기록, 주간 요약, 연속 달성, 연령대 점수를 함께 갱신합니다.
+ * </p>
+ * <p>
+ * 이미 저장된 기록은 건너뛰므로 같은 요청을 다시 반영해도 중복이 생기지 않습니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RoutineCompletionWriter {
+
+    private static final String INSERT_ROUTINE_RECORD =
+            "INSERT INTO routine_record (user_id, routine_id, done_check, created_date, modified_date) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_LIST_RECORD =
+            "INSERT INTO my_routine_list_record (user_id, my_routine_list_id, done_check, created_date, modified_date) VALUES (?, ?, ?, ?, ?)";
+
+    private final RoutineCompletionQueue routineCompletionQueue;
+    private final RoutineRecordRepository routineRecordRepository;
+    private final MyRoutineMiddleRepository myRoutineMiddleRepository;
+    private final MyRoutineListRecordRepository myRoutineListRecordRepository;
+    private final UserRepository userRepository;
+    private final WeeklySummaryService weeklySummaryService;
+    private final StreakService streakService;
+    private final DailyCompletionCounterService dailyCompletionCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 완료 요청을 별도 트랜잭션으로 반영합니다. 실패하면 이 요청들의 변경은 모두 롤백됩니다.
+     *
+     * @param commands 중복이 제거된 완료 요청
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void write(Collection<RoutineCompletionCommand> commands) {
+        // 1. 날짜별로 나누어 반영합니다. (대부분 오늘 하루)
+        Map<LocalDate, List<RoutineCompletionCommand>> byDate = commands.stream()
+                .collect(Collectors.groupingBy(RoutineCompletionCommand::date, LinkedHashMap::new, Collectors.toList()));
+        Map<Long, Integer> ageDeltas = new HashMap<>();
+        byDate.forEach((date, dateCommands) -> writeDate(date, dateCommands, ageDeltas));
+
+        // 2. 연령대 점수는 연령대별로 합산해 한 번씩만 발행합니다. (커밋 후 반영)
+        ageDeltas.forEach((ageId, delta) -> eventPublisher.publishEvent(new AgeScoreIncreasedEvent(ageId, delta)));
+    }
+
+    // ####################### Private 서브 메서드 #######################
+
+    private void writeDate(LocalDate date, List<RoutineCompletionCommand> commands, Map<Long, Integer> ageDeltas) {
+        LocalDateTime startOfDay = date.atStartOfDay();
+        LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
+
+        // 1. 상세 루틴이 속한 개인 루틴 조회 (그 사이 삭제된 루틴의 요청은 버립니다)
+        Set<Long> routineIds = commands.stream()
+                .map(RoutineCompletionCommand::routineId)
+                .collect(Collectors.toSet());
+        Map<Long, Long> listIdByRoutineId = new HashMap<>();
+        for (Object[] row : myRoutineMiddleRepository.findRoutineListIdsByRoutineIdIn(routineIds)) {
+            listIdByRoutineId.put((Long) row[0], (Long) row[1]);
+        }
+
+        // 2. 이미 기록된 (사용자, 상세 루틴)은 건너뜁니다.
+        Set<String> recorded = new HashSet<>();
+        for (Object[] row : routineRecordRepository.findRecordedKeys(routineIds, startOfDay, endOfDay)) {
+            recorded.add(key(row[0], row[1]));
+        }
+
+        List<RoutineCompletionCommand> inserts = new ArrayList<>();
+        for (RoutineCompletionCommand command : commands) {
+            if (!listIdByRoutineId.containsKey(command.routineId())) {
+                routineCompletionQueue.unmark(command);
+                continue;
+            }
+            if (recorded.add(key(command.userId(), command.routineId()))) {
+                inserts.add(command);
+            }
+        }
+        if (inserts.isEmpty()) {
+            return;
+        }
+
+        // 3. 수행 기록 일괄 저장
+        Timestamp timestamp = Timestamp.valueOf(startOfDay);
+        jdbcTemplate.batchUpdate(INSERT_ROUTINE_RECORD, inserts, inserts.size(), (ps, command) -> {
+            ps.setBytes(1, toBytes(command.userId()));
+            ps.setLong(2, command.routineId());
+            ps.setBoolean(3, true);
+            ps.setTimestamp(4, timestamp);
+            ps.setTimestamp(5, timestamp);
+        });
+
+        // 4. (사용자, 개인 루틴)별 완료 카운터 증가 후, 상세 루틴 수와 비교해 완료 여부를 판단
+        Map<String, Integer> increments = new LinkedHashMap<>();
+        for (RoutineCompletionCommand command : inserts) {
+            increments.merge(DailyCompletionCounterService.key(command.userId(), listIdByRoutineId.get(command.routineId())),
+                    1, Integer::sum);
+        }
+        Set<UUID> userIds = new HashSet<>();
+        Set<Long> listIds = new HashSet<>();
+        for (RoutineCompletionCommand command : inserts) {
+            Long listId = listIdByRoutineId.get(command.routineId());
+            Integer delta = increments.remove(DailyCompletionCounterService.key(command.userId(), listId));
+            if (delta != null) {
+                dailyCompletionCounterService.increment(command.userId(), RoutineKind.MY, listId, date, delta);
+            }
+            userIds.add(command.userId());
+            listIds.add(listId);
+        }
+
+        Map<Long, Long> routineNums = new HashMap<>();
+        for (Object[] row : myRoutineMiddleRepository.countByRoutineListIdIn(listIds)) {
+            routineNums.put((Long) row[0], (Long) row[1]);
+        }
+        Set<String> alreadyCompleted = new HashSet<>();
+        for (Object[] row : myRoutineListRecordRepository.findRecordedKeys(listIds, startOfDay, endOfDay)) {
+            alreadyCompleted.add(key(row[0], row[1]));
+        }
+
+        Map<String, Integer> doneCounts = dailyCompletionCounterService.getDoneCounts(RoutineKind.MY, date, userIds, listIds);
+        List<Object[]> completedLists = new ArrayList<>();
+        for (RoutineCompletionCommand command : inserts) {
+            UUID userId = command.userId();
+            Long listId = listIdByRoutineId.get(command.routineId());
+            int doneCount = doneCounts.getOrDefault(DailyCompletionCounterService.key(userId, listId), 0);
+            if (doneCount == routineNums.getOrDefault(listId, 0L) && alreadyCompleted.add(key(userId, listId))) {
+                completedLists.add(new Object[]{userId, listId});
+            }
+        }
+        if (completedLists.isEmpty()) {
+            return;
+        }
+
+        // 5. 루틴 목록 완료 기록 일괄 저장 및 파생 데이터 갱신
+        jdbcTemplate.batchUpdate(INSERT_LIST_RECORD, completedLists, completedLists.size(), (ps, row) -> {
+            ps.setBytes(1, toBytes((UUID) row[0]));
+            ps.setLong(2, (Long) row[1]);
+            ps.setBoolean(3, true);
+            ps.setTimestamp(4, timestamp);
+            ps.setTimestamp(5, timestamp);
+        });
+
+        Map<UUID, Long> ageIdByUserId = new HashMap<>();
+        for (Object[] row : userRepository.findAgeIdsByIdIn(
+                completedLists.stream().map(row -> (UUID) row[0]).collect(Collectors.toSet()))) {
+            ageIdByUserId.put((UUID) row[0], (Long) row[1]);
+        }
+
+        for (Object[] row : completedLists) {
+            UUID userId = (UUID) row[0];
+            User user = userRepository.getReferenceById(userId);
+            weeklySummaryService.markDone(user, RoutineKind.MY, (Long) row[1], date);
+            streakService.onCompletion(user, date);
+
+            Long ageId = ageIdByUserId.get(userId);
+            if (ageId != null) {
+                ageDeltas.merge(ageId, 1, Integer::sum);
+            }
+        }
+    }
+
+    private static String key(Object first, Object second) {
+        return first + ":" + second;
+    }
+
+    /**
+     * {@code BINARY(16)} 컬럼에 저장되는 UUID 바이트 배열로 변환합니다. (Hibernate와 동일한 big-endian 순서)
+     */
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
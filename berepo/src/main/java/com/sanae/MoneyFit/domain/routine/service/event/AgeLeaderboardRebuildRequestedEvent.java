@@ -0,0 +1,7 @@
+package com.sanae.MoneyFit.domain.routine.service.event;
+
+/**
+ * 연령대 랭킹이 재구성되지 않은 상태에서 조회되었을 때 발행되는 재구성 요청 이벤트
+ */
+public class AgeLeaderboardRebuildRequestedEvent {
+}
@@ -0,0 +1,14 @@
+package com.sanae.MoneyFit.domain.routine.service.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 루틴 목록 완료로 연령대 랭킹 점수가 올라갔을 때 발행되는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class AgeScoreIncreasedEvent {
+    private final long ageId;
+    private final int delta;
+}
@@ -0,0 +1,44 @@
+package com.sanae.MoneyFit.domain.routine.service.event;
+
+import com.sanae.MoneyFit.domain.routine.service.AgeLeaderboard;
+import com.sanae.MoneyFit.domain.user.repository.AgeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class AgeScoreListener {
+
+    private final AgeLeaderboard ageLeaderboard;
+    private final AgeRepository ageRepository;
+
+    /**
+     * 완료 트랜잭션이 '커밋된 후에' 랭킹 점수를 반영합니다.
+     * MySQL에 원자적 UPDATE로 먼저 반영한 뒤, 반영된 현재 점수를 Redis ZSET에 기록합니다.
+     * DB 반영이 실패하면 ZSET도 바뀌지 않으므로 재구성 시 점수가 되돌아가지 않습니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async
+    public void handleAgeScoreIncreased(AgeScoreIncreasedEvent event) {
+        ageRepository.increaseScore(event.getAgeId(), event.getDelta());
+        ageRepository.findScoreById(event.getAgeId())
+                .ifPresent(score -> ageLeaderboard.update(event.getAgeId(), score));
+        log.debug("연령대 랭킹 점수 반영 완료. ageId: {}, delta: {}", event.getAgeId(), event.getDelta());
+    }
+
+    /**
+     * 랭킹 조회 시 재구성이 필요하면 요청 스레드를 막지 않도록 비동기로 재구성합니다.
+     * 재구성은 분산 락으로 한 곳에서만 실행되므로, 이미 진행 중이면 이 요청은 건너뜁니다.
+     */
+    @EventListener
+    @Async
+    public void handleAgeLeaderboardRebuildRequested(AgeLeaderboardRebuildRequestedEvent event) {
+        ageLeaderboard.rebuild();
+    }
+}
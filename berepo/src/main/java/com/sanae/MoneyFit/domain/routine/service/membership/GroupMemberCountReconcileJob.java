@@ -0,0 +1,30 @@
+package com.sanae.MoneyFit.domain.routine.service.membership;
+
+import com.sanae.MoneyFit.domain.routine.repository.GroupRoutineListRepository;
+import com.sanae.MoneyFit.global.common.aop.DistributedLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * <h2>GroupMemberCountReconcileJob</h2>
+ * <p>
+ * 단체 루틴의 참여 인원 수(userCnt)를 참여 정보 테이블 기준으로 다시 맞춥니다. <br>
+ * 인원 수는 참여/탈퇴 시 원자적으로 증감하지만, 이전에 누적된 오차나 직접 수정된 데이터를 매일 새벽 바로잡습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupMemberCountReconcileJob {
+
+    private final GroupRoutineListRepository groupRoutineListRepository;
+
+    @Scheduled(cron = "0 40 4 * * *", zone = "Asia/Seoul")
+    @DistributedLock(key = "'GROUP_MEMBER_COUNT_RECONCILE'", waitTime = 0L, leaseTime = 300L)
+    public void reconcile() {
+        int repaired = groupRoutineListRepository.reconcileUserCnt();
+        log.info("[GroupMemberCountReconcileJob] 참여 인원 수 보정 완료: {}건", repaired);
+    }
+}
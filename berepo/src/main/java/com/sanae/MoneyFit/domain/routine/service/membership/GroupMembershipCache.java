@@ -0,0 +1,141 @@
+package com.sanae.MoneyFit.domain.routine.service.membership;
+
+import com.sanae.MoneyFit.domain.routine.entity.GroupRoutineList;
+import com.sanae.MoneyFit.domain.routine.repository.UserInRoomRepository;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * <h2>GroupMembershipCache</h2>
+ * <p>
+ * 사용자별로 참여중인 단체 루틴 ID를 Redis Set으로 캐싱하여, 거의 모든 단체 루틴 API에서 호출되는
+ * 참여 여부 확인을 {@code SISMEMBER} 한 번으로 처리합니다. <br>
+ * 캐시에 있는 참여 정보만 신뢰하고, 캐시에 없는 경우에는 DB로 다시 확인하므로 방금 참여한 사용자가 거절되는 일은 없습니다.
+ * 참여/탈퇴/삭제 트랜잭션이 커밋되면 관련 사용자의 캐시를 비우고, 남은 오차는 짧은 TTL로 정리됩니다.
+ * </p>
+ * <p>
+ * 캐시를 비울 때마다 사용자별 버전을 올리고, DB에서 읽은 참여 정보는 읽기 전 버전이 그대로일 때만 캐시에 씁니다.
+ * 탈퇴 커밋 직전에 읽은 참여 정보가 캐시를 비운 뒤에 다시 채워지는 경합을 막기 위함입니다.
+ * 기록·참여 정보를 바꾸는 요청은 이 캐시 대신 DB로 참여 여부를 확인합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupMembershipCache {
+
+    private static final String KEY_PREFIX = "GROUP:MEMBERSHIP:";
+    private static final String VERSION_PREFIX = "GROUP:MEMBERSHIP:VER:";
+    /** 참여 중인 방이 없는 사용자도 캐시하기 위한 표식 (ID가 0인 단체 루틴은 없습니다) */
+    private static final String LOADED_MARKER = "0";
+    private static final Duration TTL = Duration.ofMinutes(10);
+    /** 버전 유지 시간. DB 조회부터 캐시 기록까지 걸리는 시간보다 충분히 길면 됩니다. */
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    /**
+     * 읽기 전 버전이 그대로일 때만 참여 정보를 캐시에 씁니다. 1: 기록, 0: 그 사이 캐시가 비워져 건너뜀
+     * KEYS: [캐시 키, 버전 키], ARGV: [읽기 전 버전, TTL(초), 단체 루틴 ID...]
+     */
+    private static final RedisScript<Long> LOAD_IF_UNCHANGED = new DefaultRedisScript<>("""
+            local version = redis.call('GET', KEYS[2]) or '0'
+            if version ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SADD', KEYS[1], unpack(ARGV, 3))
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final UserInRoomRepository userInRoomRepository;
+
+    /**
+     * 사용자가 단체 루틴에 참여중인지 확인합니다.
+     *
+     * @param groupRoutineList 단체 루틴
+     * @param user             확인할 사용자
+     * @return true: 참여중, false: 미참여
+     */
+    public boolean isMember(GroupRoutineList groupRoutineList, User user) {
+        String key = key(user.getId());
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(key, String.valueOf(groupRoutineList.getId())))) {
+                return true;
+            }
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                return load(user, key).contains(groupRoutineList.getId());
+            }
+        } catch (Exception e) {
+            log.warn("[GroupMembershipCache] 참여 정보 캐시 조회 실패: {}", e.getMessage());
+        }
+        return userInRoomRepository.existsByGroupRoutineListAndUser(groupRoutineList, user);
+    }
+
+    /**
+     * 사용자들의 참여 정보 캐시를 비우고 버전을 올립니다.
+     *
+     * @param userIds 캐시를 비울 사용자 ID 목록
+     */
+    public void evict(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (UUID userId : userIds) {
+                        ops.opsForValue().increment(versionKey(userId));
+                        ops.expire(versionKey(userId), VERSION_TTL);
+                    }
+                    ops.delete(userIds.stream().map(GroupMembershipCache.this::key).collect(Collectors.toList()));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("[GroupMembershipCache] 참여 정보 캐시 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    // ####################### Private 서브 메서드 #######################
+
+    private String key(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private String versionKey(UUID userId) {
+        return VERSION_PREFIX + userId;
+    }
+
+    /**
+     * 사용자가 참여중인 단체 루틴 ID 전체를 DB에서 읽어 캐시에 채웁니다.
+     * DB 조회 전에 버전을 읽어 두고, 그 사이 캐시가 비워졌다면 읽은 값을 캐시에 쓰지 않습니다.
+     */
+    private Set<Long> load(User user, String key) {
+        String versionKey = versionKey(user.getId());
+        String version = Optional.ofNullable(redisTemplate.opsForValue().get(versionKey)).orElse("0");
+        List<Long> ids = userInRoomRepository.findGroupRoutineListIdsByUser(user);
+
+        List<String> args = new ArrayList<>(ids.size() + 3);
+        args.add(version);
+        args.add(String.valueOf(TTL.toSeconds()));
+        args.add(LOADED_MARKER);
+        ids.forEach(id -> args.add(String.valueOf(id)));
+
+        redisTemplate.execute(LOAD_IF_UNCHANGED, List.of(key, versionKey), args.toArray());
+        return new HashSet<>(ids);
+    }
+}
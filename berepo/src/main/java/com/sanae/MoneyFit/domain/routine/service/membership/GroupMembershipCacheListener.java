@@ -0,0 +1,22 @@
+package com.sanae.MoneyFit.domain.routine.service.membership;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+class GroupMembershipCacheListener {
+
+    private final GroupMembershipCache groupMembershipCache;
+
+    /**
+     * 참여 정보 변경 트랜잭션이 '커밋된 후에' 캐시를 비웁니다.
+     * 다음 요청이 바로 바뀐 참여 정보를 보도록 비동기로 미루지 않습니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMembershipChanged(GroupMembershipEvent event) {
+        groupMembershipCache.evict(event.getUserIds());
+    }
+}
@@ -0,0 +1,20 @@
+package com.sanae.MoneyFit.domain.routine.service.membership;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 단체 루틴 참여/탈퇴/삭제로 사용자의 참여 정보가 바뀌었을 때 발행되는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class GroupMembershipEvent {
+    private final List<UUID> userIds;
+
+    public static GroupMembershipEvent of(UUID userId) {
+        return new GroupMembershipEvent(List.of(userId));
+    }
+}
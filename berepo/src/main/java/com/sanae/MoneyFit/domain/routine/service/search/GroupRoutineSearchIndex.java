@@ -0,0 +1,228 @@
+package com.sanae.MoneyFit.domain.routine.service.search;
+
+import com.sanae.MoneyFit.domain.routine.repository.GroupRoutineListRepository;
+import com.sanae.MoneyFit.global.common.aop.DistributedLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * <h2>GroupRoutineSearchIndex</h2>
+ * <p>
+ * 단체 루틴 제목/설명의 n-gram(1·2글자) 역색인을 Redis Sorted Set(ZSET)으로 관리합니다. <br>
+ * 글자 단위 n-gram이므로 형태소 분석 없이 한글 부분 검색이 가능하고, 검색어의 n-gram ZSET들을
+ * {@code ZINTERSTORE ... AGGREGATE SUM}으로 교집합하여 관련도 순으로 정렬된 ID 페이지를 반환합니다.
+ * 조회 비용은 전체 방 수가 아니라 가장 작은 n-gram 목록 크기에 비례합니다.
+ * </p>
+ * <p>
+ * 점수는 제목 일치 2점, 설명 일치 1점이며, 동점일 때 최신 방이 먼저 오도록 ID에 비례한 아주 작은 값을 더합니다.
+ * 애플리케이션 시작 시 한 서버에서만 DB로부터 다시 구성하고, 이후에는 생성/수정/삭제 시 커밋 후 증분 반영합니다.
+ * </p>
+ * <p>
+ * 한 방의 색인 변경(이전 n-gram 조회, 제거, 추가)은 Lua 스크립트로 원자적으로 처리해 동시 변경이 서로의 n-gram을 남기지 않도록 하고,
+ * 변경될 때마다 세대 번호를 올려 여러 n-gram 교집합 캐시가 이전 색인 결과를 돌려주지 않도록 합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupRoutineSearchIndex {
+
+    private static final String GRAM_PREFIX = "SEARCH:GROUP:GRAM:";
+    private static final String DOC_PREFIX = "SEARCH:GROUP:DOC:";
+    private static final String DOCS_KEY = "SEARCH:GROUP:DOCS";
+    private static final String QUERY_PREFIX = "SEARCH:GROUP:Q:";
+    private static final String GENERATION_KEY = "SEARCH:GROUP:GEN";
+    private static final Duration QUERY_TTL = Duration.ofSeconds(30);
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    /** 동점자 최신순 정렬용 가중치. ID 10억까지 검색어 n-gram 수백 개를 더해도 1점 미만입니다. */
+    private static final double RECENCY_WEIGHT = 1e-12;
+
+    /**
+     * 한 방의 n-gram을 교체합니다. KEYS: [문서 키, 문서 목록 키, 세대 키], ARGV: [방 ID, n-gram 키 접두사, n-gram, 점수, ...]
+     * 이전 n-gram 중 새 목록에 없는 것만 ZREM 하고, 새 n-gram은 ZADD 합니다.
+     */
+    private static final RedisScript<Long> INDEX = new DefaultRedisScript<>("""
+            local scores = {}
+            for i = 3, #ARGV, 2 do
+                scores[ARGV[i]] = ARGV[i + 1]
+            end
+            for _, gram in ipairs(redis.call('SMEMBERS', KEYS[1])) do
+                if not scores[gram] then
+                    redis.call('ZREM', ARGV[2] .. gram, ARGV[1])
+                end
+            end
+            redis.call('DEL', KEYS[1])
+            for gram, score in pairs(scores) do
+                redis.call('ZADD', ARGV[2] .. gram, score, ARGV[1])
+                redis.call('SADD', KEYS[1], gram)
+            end
+            redis.call('SADD', KEYS[2], ARGV[1])
+            redis.call('INCR', KEYS[3])
+            return 1
+            """, Long.class);
+
+    /** 한 방의 n-gram을 모두 제거합니다. KEYS: [문서 키, 문서 목록 키, 세대 키], ARGV: [방 ID, n-gram 키 접두사] */
+    private static final RedisScript<Long> REMOVE = new DefaultRedisScript<>("""
+            for _, gram in ipairs(redis.call('SMEMBERS', KEYS[1])) do
+                redis.call('ZREM', ARGV[2] .. gram, ARGV[1])
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SREM', KEYS[2], ARGV[1])
+            redis.call('INCR', KEYS[3])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final GroupRoutineListRepository groupRoutineListRepository;
+
+    /**
+     * 모든 단체 루틴을 다시 색인하고, DB에서 사라진 방의 색인을 정리합니다.
+     * 여러 서버가 동시에 시작해도 한 곳에서만 실행됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @DistributedLock(key = "'GROUP_SEARCH_INDEX_REBUILD'", waitTime = 0L, leaseTime = 600L)
+    public void rebuild() {
+        try {
+            Set<String> stale = Optional.ofNullable(redisTemplate.opsForSet().members(DOCS_KEY))
+                    .map(HashSet::new)
+                    .orElseGet(HashSet::new);
+
+            List<Object[]> rows = groupRoutineListRepository.findAllSearchFields();
+            for (Object[] row : rows) {
+                Long id = (Long) row[0];
+                index(id, (String) row[1], (String) row[2]);
+                stale.remove(String.valueOf(id));
+            }
+            for (String id : stale) {
+                remove(Long.valueOf(id));
+            }
+            log.info("[GroupRoutineSearchIndex] 단체 루틴 검색 색인 재구성 완료: {}건, 정리 {}건", rows.size(), stale.size());
+        } catch (Exception e) {
+            log.warn("[GroupRoutineSearchIndex] 검색 색인 재구성 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 단체 루틴을 (다시) 색인합니다. 기존 n-gram 중 더 이상 포함되지 않는 것은 제거합니다.
+     */
+    public void index(Long id, String title, String description) {
+        Map<String, Integer> weights = new HashMap<>();
+        grams(normalize(title)).forEach(gram -> weights.merge(gram, TITLE_WEIGHT, Math::max));
+        grams(normalize(description)).forEach(gram -> weights.merge(gram, DESCRIPTION_WEIGHT, Math::max));
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(id));
+        args.add(GRAM_PREFIX);
+        weights.forEach((gram, weight) -> {
+            args.add(gram);
+            args.add(String.valueOf(weight + id * RECENCY_WEIGHT));
+        });
+        redisTemplate.execute(INDEX, List.of(DOC_PREFIX + id, DOCS_KEY, GENERATION_KEY), args.toArray());
+    }
+
+    /**
+     * 단체 루틴의 색인을 제거합니다.
+     */
+    public void remove(Long id) {
+        redisTemplate.execute(REMOVE, List.of(DOC_PREFIX + id, DOCS_KEY, GENERATION_KEY), String.valueOf(id), GRAM_PREFIX);
+    }
+
+    /**
+     * 검색어와 일치하는 단체 루틴 ID를 관련도 순으로 한 페이지 조회합니다.
+     * 여러 n-gram의 교집합 결과는 현재 색인 세대 기준으로 짧은 시간 캐싱하여 다음 페이지 요청에서 재사용합니다.
+     *
+     * @param keyword 검색어
+     * @param offset  시작 위치 (0부터)
+     * @param size    조회 개수
+     * @return 검색 결과, Redis 장애 시 {@link Optional#empty()}
+     */
+    public Optional<SearchPage> search(String keyword, long offset, int size) {
+        List<String> grams = queryGrams(normalize(keyword));
+        if (grams.isEmpty()) {
+            return Optional.of(new SearchPage(List.of(), 0));
+        }
+
+        try {
+            String resultKey;
+            if (grams.size() == 1) {
+                resultKey = GRAM_PREFIX + grams.get(0);
+            } else {
+                String generation = Optional.ofNullable(redisTemplate.opsForValue().get(GENERATION_KEY)).orElse("0");
+                resultKey = QUERY_PREFIX + generation + ":" + normalize(keyword);
+                if (!Boolean.TRUE.equals(redisTemplate.hasKey(resultKey))) {
+                    List<String> gramKeys = grams.stream().map(gram -> GRAM_PREFIX + gram).collect(Collectors.toList());
+                    redisTemplate.opsForZSet().intersectAndStore(gramKeys.get(0), gramKeys.subList(1, gramKeys.size()),
+                            resultKey, Aggregate.SUM);
+                    redisTemplate.expire(resultKey, QUERY_TTL);
+                }
+            }
+
+            Long total = redisTemplate.opsForZSet().zCard(resultKey);
+            Set<String> members = redisTemplate.opsForZSet().reverseRange(resultKey, offset, offset + size - 1);
+            List<Long> ids = members == null ? List.of() : members.stream().map(Long::valueOf).collect(Collectors.toList());
+            return Optional.of(new SearchPage(ids, total == null ? 0 : total));
+        } catch (Exception e) {
+            log.warn("[GroupRoutineSearchIndex] 검색 색인 조회 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 검색 결과 페이지
+     *
+     * @param ids   관련도 순 단체 루틴 ID
+     * @param total 전체 일치 건수
+     */
+    public record SearchPage(List<Long> ids, long total) {
+    }
+
+    // ####################### Private 서브 메서드 #######################
+
+    /**
+     * 소문자로 바꾸고 공백을 제거합니다. 띄어쓰기가 달라도 같은 문구로 검색되도록 합니다.
+     */
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT).replaceAll("\\s+", "");
+    }
+
+    /**
+     * 색인용 n-gram: 모든 1글자와 2글자 조각
+     */
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색용 n-gram: 1글자 검색어는 그대로, 그 이상은 2글자 조각
+     */
+    private static List<String> queryGrams(String keyword) {
+        if (keyword.length() <= 1) {
+            return keyword.isEmpty() ? List.of() : List.of(keyword);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < keyword.length(); i++) {
+            grams.add(keyword.substring(i, i + 2));
+        }
+        return new ArrayList<>(grams);
+    }
+}
@@ -0,0 +1,24 @@
+package com.sanae.MoneyFit.domain.routine.service.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 단체 루틴이 생성/수정/삭제되어 검색 색인을 갱신해야 할 때 발행되는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class GroupRoutineSearchIndexEvent {
+    private final Long groupRoutineListId;
+    private final String title;
+    private final String description;
+    private final boolean deleted;
+
+    public static GroupRoutineSearchIndexEvent indexed(Long groupRoutineListId, String title, String description) {
+        return new GroupRoutineSearchIndexEvent(groupRoutineListId, title, description, false);
+    }
+
+    public static GroupRoutineSearchIndexEvent deleted(Long groupRoutineListId) {
+        return new GroupRoutineSearchIndexEvent(groupRoutineListId, null, null, true);
+    }
+}
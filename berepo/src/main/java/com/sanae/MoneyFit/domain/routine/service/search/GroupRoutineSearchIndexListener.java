@@ -0,0 +1,34 @@
+package com.sanae.MoneyFit.domain.routine.service.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class GroupRoutineSearchIndexListener {
+
+    private final GroupRoutineSearchIndex groupRoutineSearchIndex;
+
+    /**
+     * 단체 루틴 변경 트랜잭션이 '커밋된 후에' 검색 색인에 반영합니다.
+     * 반영에 실패한 색인은 다음 애플리케이션 시작 시 재구성으로 복구됩니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async
+    public void handleGroupRoutineChanged(GroupRoutineSearchIndexEvent event) {
+        try {
+            if (event.isDeleted()) {
+                groupRoutineSearchIndex.remove(event.getGroupRoutineListId());
+            } else {
+                groupRoutineSearchIndex.index(event.getGroupRoutineListId(), event.getTitle(), event.getDescription());
+            }
+        } catch (Exception e) {
+            log.warn("단체 루틴 검색 색인 반영 실패. groupRoutineListId: {}, {}", event.getGroupRoutineListId(), e.getMessage());
+        }
+    }
+}
@@ -3,14 +3,17 @@ package com.sanae.MoneyFit.domain.shop.controller;
 import com.sanae.MoneyFit.domain.shop.dto.request.PointShopPostRequestDto;
 import com.sanae.MoneyFit.domain.shop.dto.request.ShopAccountTransferRequestDto;
 import com.sanae.MoneyFit.domain.shop.dto.response.PointShopDetailResponseDto;
+import com.sanae.MoneyFit.domain.shop.dto.response.PointShopListResponseDto;
 import com.sanae.MoneyFit.domain.shop.enums.PointShopCategory;
 import com.sanae.MoneyFit.domain.shop.service.PointShopService;
-import com.sanae.MoneyFit.global.security.jwt.JwtTokenProvider;
 import com.sanae.MoneyFit.global.web.response.ApiResponse;
+import com.sanae.MoneyFit.global.web.response.PaginatedResponse;
+import com.sanae.MoneyFit.global.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -22,13 +25,11 @@ import java.util.UUID;
 public class PointShopController {
 
     private final PointShopService pointShopService;
-    private final JwtTokenProvider jwtTokenProvider;
 
 
     @GetMapping("/my-point")
     @Operation(summary = "내 포인트 조회 API", description = "내 포인트를 조회합니다.")
-    public ResponseEntity<?> myPoint(@RequestHeader("Authorization") String token) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
+    public ResponseEntity<?> myPoint(@CurrentUser UUID userId) {
 
         String result=pointShopService.mypoint(userId);
         return ResponseEntity.ok().body(ApiResponse.onSuccess(result));
@@ -45,14 +46,17 @@ public class PointShopController {
     @GetMapping("/list")
     @Operation(summary = "물건 전체보기 API", description = "물건 전체를 조회합니다.")
     public ResponseEntity<?> shopList( @PageableDefault(size = 10, sort = "stock") Pageable pageable) {
-
-        return ResponseEntity.ok().body(ApiResponse.onSuccess(pointShopService.shopList(pageable)));
+        // If-None-Match가 ETag와 같으면 본문 없이 304로 응답됩니다. (재고가 바뀌면 ETag도 바뀜)
+        PaginatedResponse<PointShopListResponseDto> result = pointShopService.shopList(pageable);
+        return ResponseEntity.ok().eTag(pointShopService.shopListETag(result)).cacheControl(CacheControl.noCache())
+                .body(ApiResponse.onSuccess(result));
     }
     @GetMapping("/list/{category}")
     @Operation(summary = "물건 카테고리별 전체보기 API", description = "물건 카테고리별 조회합니다.")
     public ResponseEntity<?> shopCategoryList( @PageableDefault(size = 10, sort = "stock") Pageable pageable,@PathVariable PointShopCategory category) {
-
-        return ResponseEntity.ok().body(ApiResponse.onSuccess(pointShopService.shopCategoryList(pageable,category)));
+        PaginatedResponse<PointShopListResponseDto> result = pointShopService.shopCategoryList(pageable,category);
+        return ResponseEntity.ok().eTag(pointShopService.shopListETag(result)).cacheControl(CacheControl.noCache())
+                .body(ApiResponse.onSuccess(result));
     }
 
 
@@ -65,8 +69,7 @@ public class PointShopController {
 
     @PostMapping("/buy/{id}")
     @Operation(summary = "물건 결제하기 API", description = "물건을 결제합니다.")
-    public ResponseEntity<?> buyProduct(@RequestHeader("Authorization") String token,@PathVariable Long id) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
+    public ResponseEntity<?> buyProduct(@CurrentUser UUID userId,@PathVariable Long id) {
 
         String result=pointShopService.buyProduct("shop"+id,userId,id);
         return ResponseEntity.ok().body(ApiResponse.onSuccess(result));
@@ -74,8 +77,7 @@ public class PointShopController {
 
     @PostMapping("/account-transfer")
     @Operation(summary = "포인트 전환 API", description = "포인트를 전환합니다.")
-    public ResponseEntity<?> accountTransfer(@RequestHeader("Authorization") String token, @RequestBody ShopAccountTransferRequestDto shopAccountTransferRequestDto) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
+    public ResponseEntity<?> accountTransfer(@CurrentUser UUID userId, @RequestBody ShopAccountTransferRequestDto shopAccountTransferRequestDto) {
 
         Long result=pointShopService.accountTransfer(userId,shopAccountTransferRequestDto);
         return ResponseEntity.ok().body(ApiResponse.onSuccess(result));
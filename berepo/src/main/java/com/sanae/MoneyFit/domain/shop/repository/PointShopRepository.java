@@ -5,8 +5,28 @@ import com.sanae.MoneyFit.domain.shop.enums.PointShopCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PointShopRepository extends JpaRepository<PointShop, Long> {
 
     Page<PointShop> findByCategory(PointShopCategory category, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 상품 ID와 현재 재고만 페이지 단위로 조회합니다. 나머지 상품 정보는 카탈로그 스냅샷에서 채웁니다.
+     *
+     * @return [상품 ID, 재고] 목록
+     */
+    @Query(value = "SELECT p.id, p.stock FROM PointShop p",
+            countQuery = "SELECT COUNT(p) FROM PointShop p")
+    Page<Object[]> findStocks(Pageable pageable);
+
+    /**
+     * 카테고리 상품의 ID와 현재 재고만 페이지 단위로 조회합니다.
+     *
+     * @return [상품 ID, 재고] 목록
+     */
+    @Query(value = "SELECT p.id, p.stock FROM PointShop p WHERE p.category = :category",
+            countQuery = "SELECT COUNT(p) FROM PointShop p WHERE p.category = :category")
+    Page<Object[]> findStocksByCategory(@Param("category") PointShopCategory category, Pageable pageable);
+}
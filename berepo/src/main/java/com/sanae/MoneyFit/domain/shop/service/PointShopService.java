@@ -10,8 +10,12 @@ import com.sanae.MoneyFit.domain.shop.entity.PointShop;
 import com.sanae.MoneyFit.domain.shop.enums.PointShopCategory;
 import com.sanae.MoneyFit.domain.shop.repository.PointShopRepository;
 import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.domain.routine.entity.enums.PointReasonType;
 import com.sanae.MoneyFit.domain.user.repository.UserRepository;
+import com.sanae.MoneyFit.domain.user.service.PointLedgerService;
 import com.sanae.MoneyFit.global.common.aop.DistributedLock;
+import com.sanae.MoneyFit.global.common.catalog.CatalogChangedEvent;
+import com.sanae.MoneyFit.global.common.catalog.CatalogType;
 import com.sanae.MoneyFit.global.error.handler.ShopHandler;
 import com.sanae.MoneyFit.global.error.handler.UserHandler;
 import com.sanae.MoneyFit.global.infra.http.bank.WebClientBankUtil;
@@ -19,6 +23,7 @@ import com.sanae.MoneyFit.global.web.response.PaginatedResponse;
 import com.sanae.MoneyFit.global.web.response.code.status.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -34,10 +39,14 @@ public class PointShopService {
     private final PointShopRepository pointShopRepository;
     private final UserRepository userRepository;
     private final WebClientBankUtil webClientBankUtil;
+    private final ShopCatalog shopCatalog;
+    private final PointLedgerService pointLedgerService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public String postProduct(PointShopPostRequestDto pointShopPostRequestDto) {
         pointShopRepository.save(PointShopPostRequestDto.toEntity(pointShopPostRequestDto));
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogType.SHOP_PRODUCT));
         return "상품이 등록되었습니다.";
     }
 
@@ -50,16 +59,30 @@ public class PointShopService {
 
     @Transactional(readOnly = true)
     public PaginatedResponse<PointShopListResponseDto> shopList(Pageable pageable) {
+        // 기본 정렬이면 현재 재고 순서만 DB에서 읽고 상품 정보는 카탈로그 스냅샷에서 채움
+        if (pageable.getSort().equals(ShopCatalog.DEFAULT_SORT)) {
+            return shopCatalog.pageByStock(null, pageable);
+        }
         Page<PointShop> productList = pointShopRepository.findAll(pageable);
         return PaginatedResponse.of(productList,PointShopListResponseDto::toDto);
     }
 
     @Transactional(readOnly = true)
     public PaginatedResponse<PointShopListResponseDto>  shopCategoryList(Pageable pageable, PointShopCategory category) {
+        if (pageable.getSort().equals(ShopCatalog.DEFAULT_SORT)) {
+            return shopCatalog.pageByStock(category, pageable);
+        }
         Page<PointShop> product = pointShopRepository.findByCategory(category,pageable);
         return PaginatedResponse.of(product,PointShopListResponseDto::toDto);
 
     }
+
+    /**
+     * 상품 목록 응답의 ETag를 반환합니다. 재고가 바뀌면 ETag도 바뀝니다.
+     */
+    public String shopListETag(PaginatedResponse<PointShopListResponseDto> response) {
+        return shopCatalog.eTag(response);
+    }
     @Transactional(readOnly = true)
     public PointShopDetailResponseDto getProductDetail(Long productId) {
         PointShop product = pointShopRepository.findById(productId)
@@ -82,13 +105,11 @@ public class PointShopService {
         if (product.getStock() <= 0) {
             throw new ShopHandler(ErrorStatus.STOCK_IS_NULL);
         }
-        if(user.getPoint()<product.getPrice()){
-            throw new ShopHandler(ErrorStatus.USER_POINT_LACK);
-        }
         product.minusStock();
-        user.usePoints(product.getPrice());
-        userRepository.save(user);
+        // 잔액이 부족하면 차감되지 않고 예외 발생 (재고 차감도 함께 롤백)
+        pointLedgerService.spend(user.getId(), product.getPrice(), PointReasonType.SHOP_PURCHASE);
         pointShopRepository.save(product);
+        // 재고는 카탈로그 스냅샷에 없으므로 구매 시 카탈로그를 갱신하지 않음
         // 기프티콘을 보내줘야할 듯 ?
 
         return "상품 구매가 완료되었습니다.";
@@ -102,10 +123,7 @@ public class PointShopService {
         if (!user.getBankAccount().equals(shopAccountTransferRequestDto.getAccount())){
             throw new UserHandler(ErrorStatus.USER_NOT_BANK_ACCOUNT);
         }
-        if(user.getPoint()<shopAccountTransferRequestDto.getPrice()){
-            throw new ShopHandler(ErrorStatus.USER_POINT_LACK);
-        }
-        user.usePoints(shopAccountTransferRequestDto.getPrice());
+        pointLedgerService.spend(user.getId(), shopAccountTransferRequestDto.getPrice(), PointReasonType.ACCOUNT_TRANSFER);
         double amount = shopAccountTransferRequestDto.getPrice() * 0.7;
         long roundedAmount = (long) Math.ceil(amount);
 
@@ -0,0 +1,123 @@
+package com.sanae.MoneyFit.domain.shop.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sanae.MoneyFit.domain.shop.dto.response.PointShopListResponseDto;
+import com.sanae.MoneyFit.domain.shop.entity.PointShop;
+import com.sanae.MoneyFit.domain.shop.enums.PointShopCategory;
+import com.sanae.MoneyFit.domain.shop.repository.PointShopRepository;
+import com.sanae.MoneyFit.global.common.catalog.CatalogCache;
+import com.sanae.MoneyFit.global.common.catalog.CatalogType;
+import com.sanae.MoneyFit.global.web.response.PaginatedResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * <h2>ShopCatalog</h2>
+ * <p>
+ * 포인트샵 상품 정보를 {@link CatalogCache} 스냅샷으로 제공합니다. 상품이 등록되면 버전이 올라 다시 적재됩니다. <br>
+ * 재고는 구매마다 바뀌므로 스냅샷에 넣지 않습니다. 목록 API의 기본 정렬(재고 오름차순)은 DB에서 현재 재고 순으로
+ * 상품 ID와 재고만 읽고, 나머지 상품 정보를 스냅샷에서 채웁니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ShopCatalog {
+
+    /** 스냅샷으로 처리하는 목록 정렬. 이 정렬로 요청한 목록만 재고를 따로 읽어 스냅샷과 합칩니다. */
+    public static final Sort DEFAULT_SORT = Sort.by("stock");
+
+    /** 재고가 같으면 ID 순으로 정렬해 페이지 경계가 흔들리지 않게 합니다. */
+    private static final Sort STOCK_ORDER = DEFAULT_SORT.and(Sort.by("id"));
+
+    private final CatalogCache catalogCache;
+    private final PointShopRepository pointShopRepository;
+    private final ObjectMapper objectMapper;
+
+    public CatalogCache.Snapshot<ProductCatalog> products() {
+        return catalogCache.get(CatalogType.SHOP_PRODUCT, this::loadProducts);
+    }
+
+    /**
+     * 현재 재고 오름차순으로 상품 목록 한 페이지를 조회합니다.
+     *
+     * @param category 카테고리 ({@code null}이면 전체)
+     * @param pageable 페이지 번호와 크기 (정렬은 재고 오름차순으로 고정)
+     */
+    public PaginatedResponse<PointShopListResponseDto> pageByStock(PointShopCategory category, Pageable pageable) {
+        Pageable byStock = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), STOCK_ORDER);
+        Page<Object[]> stocks = category == null
+                ? pointShopRepository.findStocks(byStock)
+                : pointShopRepository.findStocksByCategory(category, byStock);
+        return PaginatedResponse.ofBatch(stocks, this::withProductInfo);
+    }
+
+    /**
+     * 상품 목록 응답의 ETag. 재고를 실시간으로 읽으므로 스냅샷 버전이 아니라 응답 내용으로 만듭니다.
+     */
+    public String eTag(PaginatedResponse<PointShopListResponseDto> response) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(response));
+            return "\"shop_product-" + HexFormat.of().formatHex(digest, 0, 8) + "\"";
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("상품 목록 ETag 생성 실패", e);
+        }
+    }
+
+    /**
+     * 상품 카탈로그 스냅샷
+     *
+     * @param byId 상품 ID별 상품 정보 (재고 제외)
+     */
+    public record ProductCatalog(Map<Long, PointShopListResponseDto> byId) {
+    }
+
+    // ####################### Private 서브 메서드 #######################
+
+    private ProductCatalog loadProducts() {
+        Map<Long, PointShopListResponseDto> byId = pointShopRepository.findAll().stream()
+                .collect(Collectors.toMap(PointShop::getId, this::withoutStock));
+        return new ProductCatalog(Map.copyOf(byId));
+    }
+
+    /**
+     * [상품 ID, 재고] 목록에 스냅샷의 상품 정보를 채웁니다.
+     * 버전 갱신이 늦어 스냅샷에 아직 없는 상품은 DB에서 읽습니다.
+     */
+    private List<PointShopListResponseDto> withProductInfo(List<Object[]> stocks) {
+        Map<Long, PointShopListResponseDto> catalog = products().data().byId();
+        List<Long> missing = stocks.stream()
+                .map(row -> (Long) row[0])
+                .filter(id -> !catalog.containsKey(id))
+                .toList();
+        Map<Long, PointShopListResponseDto> loaded = missing.isEmpty()
+                ? Map.of()
+                : pointShopRepository.findAllById(missing).stream()
+                        .collect(Collectors.toMap(PointShop::getId, this::withoutStock));
+
+        List<PointShopListResponseDto> items = new ArrayList<>(stocks.size());
+        for (Object[] row : stocks) {
+            Long id = (Long) row[0];
+            PointShopListResponseDto info = catalog.getOrDefault(id, loaded.get(id));
+            if (info != null) {
+                items.add(info.toBuilder().stock((Long) row[1]).build());
+            }
+        }
+        return items;
+    }
+
+    private PointShopListResponseDto withoutStock(PointShop product) {
+        return PointShopListResponseDto.toDto(product).toBuilder().stock(null).build();
+    }
+}
@@ -10,7 +10,7 @@ import com.sanae.MoneyFit.global.web.response.ApiResponse;
 import com.sanae.MoneyFit.domain.user.dto.JwtToken;
 import com.sanae.MoneyFit.domain.user.dto.response.UserDto;
 import com.sanae.MoneyFit.domain.user.service.UserService;
-import com.sanae.MoneyFit.global.security.jwt.JwtTokenProvider;
+import com.sanae.MoneyFit.global.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,7 +28,6 @@ public class UserController {
 
     private final UserService userService;
 
-    private final JwtTokenProvider jwtTokenProvider;
 
 
     /**
@@ -37,8 +36,7 @@ public class UserController {
 
     @PostMapping("/survey")
     @Operation(summary = "설문 저장 API", description = "설문을 확인합니다.")
-    public ResponseEntity<?> survey(@RequestHeader("Authorization") String token, @RequestBody SurveyRequestDto surveyRequestDto) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
+    public ResponseEntity<?> survey(@CurrentUser UUID userId, @RequestBody SurveyRequestDto surveyRequestDto) {
         userService.survey(userId,surveyRequestDto);
         return ResponseEntity.ok().body(ApiResponse.onSuccess("설문이 저장되었습니다."));
     }
@@ -50,8 +48,7 @@ public class UserController {
     @GetMapping("/my-info")
     @Operation(summary = "내 정보 확인 API", description = "내 닉네임을 확인합니다.")
 
-    public ResponseEntity<?> myInfo(@RequestHeader("Authorization") String token) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
+    public ResponseEntity<?> myInfo(@CurrentUser UUID userId) {
         return ResponseEntity.ok().body(ApiResponse.onSuccess(userService.myInfo(userId)));
     }
 
@@ -144,9 +141,8 @@ public class UserController {
      */
     @PostMapping("/mypage-password")
     @Operation(summary = "비밀번호 재설정 API", description = "마이페이지에서 비밀번호를 재설정합니다.")
-    public ResponseEntity<?> mypageResetPassword(@RequestHeader("Authorization") String token,
+    public ResponseEntity<?> mypageResetPassword(@CurrentUser UUID userId,
                                                  @RequestBody MypageResetPasswordRequestDto dto) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
         userService.mypageResetPassword(userId, dto.getExsPassword(), dto.getNewPassword());
         return ResponseEntity.ok().body(ApiResponse.onSuccess(null, "비밀번호 변경 완료."));
     }
@@ -166,9 +162,8 @@ public class UserController {
      */
     @PatchMapping("/marketing")
     @Operation(summary = "마케팅 수신 동의/거부 API", description = "마케팅 수신 여부를 업데이트합니다.")
-    public ResponseEntity<?> updateIsMarketing(@RequestHeader("Authorization") String token,
+    public ResponseEntity<?> updateIsMarketing(@CurrentUser UUID userId,
                                                @RequestBody MarketingRequestDto marketingRequestDto) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
         userService.updateIsMarketing(userId, marketingRequestDto.isMarketing());
         return ResponseEntity.ok().body(ApiResponse.onSuccess(null, "마케팅 수신 동의/거부 업데이트 성공"));
     }
@@ -176,16 +171,14 @@ public class UserController {
 
     @PatchMapping("/mypage-nickname")
     @Operation(summary = "닉네임 재설정 API", description = "닉네임을 재설정합니다.")
-    public ResponseEntity<?> resetNickname(@RequestHeader("Authorization") String token,@RequestParam("nickname") String nickname) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
+    public ResponseEntity<?> resetNickname(@CurrentUser UUID userId,@RequestParam("nickname") String nickname) {
         String result=userService.mypageResetNickname(userId,nickname);
         return ResponseEntity.ok().body(ApiResponse.onSuccess(result));
     }
 
     @DeleteMapping("/logout")
     @Operation(summary = "로그아웃 API", description = "로그아웃 합니다.")
-    public ResponseEntity<?> logout(@RequestHeader("Authorization") String token) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
+    public ResponseEntity<?> logout(@CurrentUser UUID userId) {
         String result=userService.logout(userId);
         return ResponseEntity.ok().body(ApiResponse.onSuccess(result));
     }
@@ -199,9 +192,8 @@ public class UserController {
     @PutMapping("/profileImage")
     @Operation(summary = "프로필 이미지 변경 API", description = "프로필 이미지를 변경합니다.")
     public ResponseEntity<?> updateProfileImage(
-            @RequestHeader("Authorization") String token,
+            @CurrentUser UUID userId,
             @RequestBody UpdateProfileImageDto requestDto) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
         userService.updateProfileImage(userId, requestDto.getProfileImageUrl());
         return ResponseEntity.ok().body(ApiResponse.onSuccess(null, "프로필 이미지 변경 성공"));
     }
@@ -211,8 +203,7 @@ public class UserController {
      */
     @DeleteMapping("/delete")
     @Operation(summary = "회원 탈퇴 API", description = "회원 탈퇴를 진행합니다.")
-    public ResponseEntity<?> deleteUser(@RequestHeader("Authorization") String token) {
-        UUID userId = jwtTokenProvider.getUserId(token.substring(7));
+    public ResponseEntity<?> deleteUser(@CurrentUser UUID userId) {
         userService.deleteUser(userId);
         return ResponseEntity.ok().body(ApiResponse.onSuccess(null, "회원탈퇴 성공"));
     }
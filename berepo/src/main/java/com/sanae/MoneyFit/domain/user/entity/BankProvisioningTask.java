@@ -0,0 +1,114 @@
+package com.sanae.MoneyFit.domain.user.entity;
+
+import com.sanae.MoneyFit.domain.user.enums.BankProvisioningStatus;
+import com.sanae.MoneyFit.global.common.util.BaseTime;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가입한 사용자의 은행 계정·계좌 생성 작업 (Outbox)
+ * <p>
+ * 회원가입 트랜잭션 안에서 사용자와 함께 저장되므로, 가입이 커밋되면 작업도 반드시 남습니다.
+ * {@code BankProvisioningWorker}가 주기적으로 실행 시각이 된 작업을 가져가 상태를 한 단계씩 진행시키고,
+ * 실패하면 지수 백오프로 다음 실행 시각을 미룹니다. <br>
+ * 이메일은 작업의 멱등 키입니다. 사용자당 작업은 하나뿐이고 은행 계정 ID도 이메일로 만들어집니다.
+ * 요구불 계좌 생성은 멱등하지 않으므로, 워커가 다시 시도할 때는 먼저 이미 만들어진 계좌가 있는지 조회합니다.
+ * </p>
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "bank_provisioning_task",
+        uniqueConstraints = @UniqueConstraint(name = "uk_bank_provisioning_task_email", columnNames = "email"),
+        indexes = @Index(name = "idx_bank_provisioning_task_status_next", columnList = "status, next_attempt_at"))
+public class BankProvisioningTask extends BaseTime {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "bank_provisioning_task_id", updatable = false, nullable = false)
+    private Long id;
+
+    @Column(nullable = false, updatable = false)
+    private String email;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BankProvisioningStatus status;
+
+    @Column(name = "user_key")
+    private String userKey;
+
+    @Column(name = "account_no")
+    private String accountNo;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    /** 다음 실행 시각. 작업을 가져갈 때 처리 제한 시간보다 길게 미뤄 두어 다른 서버가 중복으로 가져가지 않게 합니다. */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public BankProvisioningTask(String email, LocalDateTime now) {
+        this.email = email;
+        this.status = BankProvisioningStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+    }
+
+    // ################# 비즈니스 로직 메서드 #################
+
+    /**
+     * 은행 계정이 만들어졌습니다. (PENDING → USER_CREATED)
+     */
+    public void userCreated(String userKey) {
+        if (status == BankProvisioningStatus.PENDING) {
+            this.userKey = userKey;
+            this.status = BankProvisioningStatus.USER_CREATED;
+        }
+    }
+
+    /**
+     * 요구불 계좌가 만들어졌습니다. (USER_CREATED → ACCOUNT_CREATED)
+     */
+    public void accountCreated(String accountNo) {
+        if (status == BankProvisioningStatus.USER_CREATED) {
+            this.accountNo = accountNo;
+            this.status = BankProvisioningStatus.ACCOUNT_CREATED;
+        }
+    }
+
+    /**
+     * 모든 단계가 끝났습니다. (ACCOUNT_CREATED → COMPLETED)
+     */
+    public void complete() {
+        if (status == BankProvisioningStatus.ACCOUNT_CREATED) {
+            this.status = BankProvisioningStatus.COMPLETED;
+            this.lastError = null;
+        }
+    }
+
+    /**
+     * 실패를 기록합니다. 재시도 한도에 도달하면 FAILED로 멈추고, 아니면 {@code retryAt}에 다시 시도합니다.
+     *
+     * @return 재시도 한도에 도달해 FAILED가 되었으면 true
+     */
+    public boolean fail(String error, int maxAttempts, LocalDateTime retryAt) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+        if (attempts >= maxAttempts) {
+            this.status = BankProvisioningStatus.FAILED;
+            return true;
+        }
+        this.nextAttemptAt = retryAt;
+        return false;
+    }
+}
@@ -6,6 +6,7 @@ import com.sanae.MoneyFit.domain.user.enums.Role;
 import com.sanae.MoneyFit.global.common.util.BaseTime;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -22,6 +23,7 @@ import java.util.stream.Collectors;
 @AllArgsConstructor
 @Builder
 @EqualsAndHashCode(of = "id")
+@DynamicUpdate
 public class User extends BaseTime implements UserDetails {
   @Id
   @GeneratedValue(strategy = GenerationType.UUID)
@@ -57,6 +59,7 @@ public class User extends BaseTime implements UserDetails {
   @Column
   private Boolean accountCertificationStatus;
 
+  /** 포인트 잔액. PointLedgerService의 원자적 UPDATE로만 바뀌며, 변경된 컬럼만 UPDATE하므로 엔티티의 이전 값으로 덮어쓰지 않습니다. */
   @Column
   private Long point;
 
@@ -108,19 +111,6 @@ public class User extends BaseTime implements UserDetails {
 
 
 
-  // 유저의 포인트 차감
-  public void usePoints(Long price) {
-    this.point=this.point-price;
-  }
-
-  // 유저의 포인트 적립
-  public void addPoint(Long value) {
-    if (this.point == null) {
-      this.point = value;
-    } else {
-      this.point = this.point + value;
-    }
-  }
 
 
   @Override
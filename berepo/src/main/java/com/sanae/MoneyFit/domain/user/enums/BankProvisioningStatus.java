@@ -0,0 +1,23 @@
+package com.sanae.MoneyFit.domain.user.enums;
+
+/**
+ * 가입 직후 은행 계정·계좌 생성 작업의 진행 상태
+ *
+ * <pre>
+ * PENDING → USER_CREATED → ACCOUNT_CREATED → COMPLETED
+ *    └──────────┴───────────────┴──→ FAILED (재시도 한도 초과)
+ * </pre>
+ *
+ * 각 단계의 결과(userKey, 계좌번호)를 저장한 뒤 다음 상태로 넘어가므로, 재시도는 마지막으로 성공한 단계 다음부터 이어서 진행합니다.
+ */
+public enum BankProvisioningStatus {
+  PENDING,
+  USER_CREATED,
+  ACCOUNT_CREATED,
+  COMPLETED,
+  FAILED;
+
+  public boolean isTerminal() {
+    return this == COMPLETED || this == FAILED;
+  }
+}
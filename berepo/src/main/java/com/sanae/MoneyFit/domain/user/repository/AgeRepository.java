@@ -2,7 +2,11 @@ package com.sanae.MoneyFit.domain.user.repository;
 
 import com.sanae.MoneyFit.domain.user.entity.Age;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,4 +18,25 @@ public interface AgeRepository extends JpaRepository<Age, Long> {
 	long countByScoreGreaterThan(int score);
 
 	Optional<Age> findByName(String age);
+
+	/**
+	 * 연령대 점수를 원자적으로 증가시킵니다. (동시 완료 시 lost update 방지)
+	 *
+	 * @param ageId 연령대 ID
+	 * @param delta 증가량
+	 * @return 갱신된 행 수
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE Age a SET a.score = a.score + :delta WHERE a.id = :ageId")
+	int increaseScore(@Param("ageId") long ageId, @Param("delta") int delta);
+
+	/**
+	 * 연령대의 현재 점수를 조회합니다. (랭킹 반영용)
+	 *
+	 * @param ageId 연령대 ID
+	 * @return 현재 점수
+	 */
+	@Query("SELECT a.score FROM Age a WHERE a.id = :ageId")
+	Optional<Integer> findScoreById(@Param("ageId") long ageId);
 }
@@ -0,0 +1,39 @@
+package com.sanae.MoneyFit.domain.user.repository;
+
+import com.sanae.MoneyFit.domain.user.entity.BankProvisioningTask;
+import com.sanae.MoneyFit.domain.user.enums.BankProvisioningStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface BankProvisioningTaskRepository extends JpaRepository<BankProvisioningTask, Long> {
+
+    /**
+     * 실행 시각이 된 진행 중인 작업 ID를 오래된 순으로 조회합니다.
+     */
+    @Query("SELECT t.id FROM BankProvisioningTask t " +
+            "WHERE t.status IN :statuses AND t.nextAttemptAt <= :now ORDER BY t.nextAttemptAt")
+    List<Long> findDueIds(@Param("statuses") Collection<BankProvisioningStatus> statuses,
+                          @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 작업을 가져갑니다. 조회 후 다른 서버가 먼저 가져갔다면 실행 시각이 이미 미뤄져 있으므로 0을 반환합니다.
+     *
+     * @return 가져간 행 수 (0 또는 1)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE BankProvisioningTask t SET t.nextAttemptAt = :leaseUntil " +
+            "WHERE t.id = :id AND t.status IN :statuses AND t.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("statuses") Collection<BankProvisioningStatus> statuses,
+              @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("DELETE FROM BankProvisioningTask t WHERE t.email = :email")
+    void deleteByEmail(@Param("email") String email);
+}
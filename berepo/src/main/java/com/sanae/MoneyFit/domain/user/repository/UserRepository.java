@@ -1,7 +1,14 @@
 package com.sanae.MoneyFit.domain.user.repository;
 import com.sanae.MoneyFit.domain.user.entity.User;
 import com.sanae.MoneyFit.domain.user.enums.Provider;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,4 +20,41 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
   Optional<User> findByEmail(String email);
 
+  /**
+   * 여러 사용자의 연령대 ID를 한 번에 조회합니다.
+   *
+   * @param userIds 사용자 ID 목록
+   * @return [사용자 ID, 연령대 ID] 배열 목록 (연령대가 없는 사용자는 포함되지 않음)
+   */
+  @Query("SELECT u.id, u.age.id FROM User u WHERE u.id IN :userIds AND u.age IS NOT NULL")
+  List<Object[]> findAgeIdsByIdIn(@Param("userIds") Collection<UUID> userIds);
+
+  /**
+   * 포인트를 DB에서 원자적으로 증감합니다. 잔액이 음수가 되는 변경은 반영하지 않습니다.
+   *
+   * @param userId 사용자 ID
+   * @param delta  증감할 포인트 (차감은 음수)
+   * @return 갱신된 행 수 (0이면 사용자가 없거나 잔액 부족)
+   */
+  @Modifying
+  @Query("UPDATE User u SET u.point = COALESCE(u.point, 0) + :delta " +
+          "WHERE u.id = :userId AND COALESCE(u.point, 0) + :delta >= 0")
+  int applyPointDelta(@Param("userId") UUID userId, @Param("delta") long delta);
+
+  /**
+   * 현재 포인트 잔액을 DB에서 직접 조회합니다.
+   */
+  @Query("SELECT COALESCE(u.point, 0) FROM User u WHERE u.id = :userId")
+  Long findPointById(@Param("userId") UUID userId);
+
+  /**
+   * 사용자 ID를 오름차순으로 기준 ID 다음부터 조회합니다. (배치 작업의 키 기반 페이징용)
+   *
+   * @param afterId  이전 페이지의 마지막 사용자 ID (첫 페이지는 null)
+   * @param pageable 조회 크기
+   * @return 사용자 ID 목록
+   */
+  @Query("SELECT u.id FROM User u WHERE :afterId IS NULL OR u.id > :afterId ORDER BY u.id")
+  List<UUID> findIdsAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.sanae.MoneyFit.domain.user.service;
+
+import com.sanae.MoneyFit.domain.routine.entity.PointHistory;
+import com.sanae.MoneyFit.domain.routine.entity.enums.PointReasonType;
+import com.sanae.MoneyFit.domain.routine.repository.PointHistoryRepository;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.domain.user.repository.UserRepository;
+import com.sanae.MoneyFit.global.error.handler.UserHandler;
+import com.sanae.MoneyFit.global.web.response.code.status.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * <h2>PointLedgerService</h2>
+ * <p>
+ * 모든 포인트 지급/차감이 거치는 단일 창구입니다. 내역({@link PointHistory})을 먼저 추가하고 잔액은 조건부 원자적 UPDATE로 바꾸므로,
+ * 사용자 단위 분산 락 없이도 동시 요청에서 잔액 갱신이 유실되거나 음수가 되지 않습니다. <br>
+ * 지급은 (사용자, 사유, 날짜) 멱등 키의 유니크 제약으로 중복이 막히며, 같은 지급 요청이 동시에 들어와도 한 번만 반영됩니다.
+ * 차감은 멱등 키 없이 일반 INSERT로 기록하므로 내역 저장 오류가 무시되지 않고 예외로 전달됩니다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PointLedgerService {
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 기간당 한 번만 받을 수 있는 포인트를 지급합니다.
+     *
+     * @param userId 사용자 ID
+     * @param point  지급할 포인트 (0보다 커야 함)
+     * @param reason 지급 사유
+     * @param date   멱등 기준 날짜 (일 단위 보상은 오늘, 주 단위 보상은 주의 시작일)
+     * @return true: 지급함, false: 이미 지급된 요청
+     * @throws UserHandler 지급 포인트가 0 이하인 경우
+     */
+    public boolean award(UUID userId, long point, PointReasonType reason, LocalDate date) {
+        validateAmount(point);
+        String idempotencyKey = idempotencyKey(userId, reason, date);
+
+        // 1. 내역 추가 (같은 멱등 키가 이미 있으면 아무것도 하지 않음)
+        if (pointHistoryRepository.insertIgnore(userId, point, reason.name(), idempotencyKey) == 0) {
+            // IGNORE가 중복 키가 아닌 오류를 삼킨 경우 지급된 것처럼 넘어가지 않도록 확인
+            if (!pointHistoryRepository.existsByIdempotencyKey(idempotencyKey)) {
+                throw new IllegalStateException("포인트 지급 내역을 저장하지 못했습니다: " + idempotencyKey);
+            }
+            return false;
+        }
+
+        // 2. 잔액 반영
+        if (userRepository.applyPointDelta(userId, point) == 0) {
+            throw new UserHandler(ErrorStatus.USER_NOT_FOUND);
+        }
+        return true;
+    }
+
+    /**
+     * 포인트를 차감합니다.
+     *
+     * @param userId 사용자 ID
+     * @param amount 차감할 포인트 (0보다 커야 함)
+     * @param reason 차감 사유
+     * @throws UserHandler 차감 포인트가 0 이하이거나 잔액이 부족한 경우
+     */
+    public void spend(UUID userId, long amount, PointReasonType reason) {
+        validateAmount(amount);
+
+        // 1. 내역 추가. 반복될 수 있는 차감이므로 멱등 키 없이 저장합니다.
+        pointHistoryRepository.save(PointHistory.builder()
+                .user(userRepository.getReferenceById(userId))
+                .point(-amount)
+                .reason(reason)
+                .build());
+
+        // 2. 잔액 반영. 실패하면 예외로 내역 추가까지 함께 롤백됩니다.
+        if (userRepository.applyPointDelta(userId, -amount) == 0) {
+            throw new UserHandler(ErrorStatus.USER_POINT_LACK);
+        }
+    }
+
+    /**
+     * 현재 포인트 잔액을 조회합니다. 같은 트랜잭션에서 바뀐 잔액도 반영됩니다.
+     */
+    @Transactional(readOnly = true)
+    public long getBalance(UUID userId) {
+        Long point = userRepository.findPointById(userId);
+        if (point == null) {
+            throw new UserHandler(ErrorStatus.USER_NOT_FOUND);
+        }
+        return point;
+    }
+
+    // ####################### Private 서브 메서드 #######################
+
+    private void validateAmount(long amount) {
+        if (amount <= 0) {
+            throw new UserHandler(ErrorStatus.INVALID_POINT_AMOUNT);
+        }
+    }
+
+    private String idempotencyKey(UUID userId, PointReasonType reason, LocalDate date) {
+        return userId + ":" + reason.name() + ":" + date;
+    }
+}
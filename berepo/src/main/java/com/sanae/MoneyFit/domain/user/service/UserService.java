@@ -6,6 +6,14 @@ import static com.sanae.MoneyFit.domain.user.enums.Provider.LOCAL;
 import static com.sanae.MoneyFit.domain.user.enums.Provider.NAVER;
 import static com.sanae.MoneyFit.domain.user.enums.Role.USER;
 
+import com.sanae.MoneyFit.domain.analysis.enums.RoutineKind;
+import com.sanae.MoneyFit.domain.auth.repository.AuthRedisRepository;
+import com.sanae.MoneyFit.domain.analysis.repository.DailyCompletionCounterRepository;
+import com.sanae.MoneyFit.domain.analysis.repository.UserStreakRepository;
+import com.sanae.MoneyFit.domain.analysis.repository.WeeklyRoutineSummaryRepository;
+import com.sanae.MoneyFit.domain.finance.repository.BankLedgerSyncRepository;
+import com.sanae.MoneyFit.domain.finance.repository.BankTransactionRepository;
+import com.sanae.MoneyFit.domain.finance.repository.DummyTransactionSeedingRepository;
 import com.sanae.MoneyFit.domain.fcm.repository.FcmTokenRepository;
 import com.sanae.MoneyFit.domain.routine.entity.GroupRoutineList;
 import com.sanae.MoneyFit.domain.routine.entity.GroupRoutineMiddle;
@@ -18,9 +26,12 @@ import com.sanae.MoneyFit.domain.routine.repository.GroupRoutinDaysRepository;
 import com.sanae.MoneyFit.domain.routine.repository.GuestbookRepository;
 import com.sanae.MoneyFit.domain.routine.repository.MyRoutineListRecordRepository;
 import com.sanae.MoneyFit.domain.routine.repository.MyRoutineListRepository;
+import com.sanae.MoneyFit.domain.routine.repository.RoutineRecordArchiveRepository;
 import com.sanae.MoneyFit.domain.routine.repository.RoutineRecordRepository;
 import com.sanae.MoneyFit.domain.routine.repository.RoutineRepository;
 import com.sanae.MoneyFit.domain.routine.repository.UserInRoomRepository;
+import com.sanae.MoneyFit.domain.routine.service.membership.GroupMembershipEvent;
+import com.sanae.MoneyFit.domain.routine.service.search.GroupRoutineSearchIndexEvent;
 import com.sanae.MoneyFit.domain.user.dto.request.OauthCheckRequestDto;
 import com.sanae.MoneyFit.domain.user.dto.request.SurveyRequestDto;
 import com.sanae.MoneyFit.domain.user.dto.response.MyInfoResponseDto;
@@ -30,7 +41,7 @@ import com.sanae.MoneyFit.domain.user.entity.UserSurveyFlags;
 import com.sanae.MoneyFit.domain.user.enums.Provider;
 import com.sanae.MoneyFit.domain.user.repository.AgeRepository;
 import com.sanae.MoneyFit.domain.user.repository.UserSurveyFlagsRepository;
-import com.sanae.MoneyFit.domain.user.service.event.UserSignedUpEvent;
+import com.sanae.MoneyFit.domain.user.service.provisioning.BankProvisioningTaskService;
 import com.sanae.MoneyFit.global.error.handler.TokenHandler;
 import com.sanae.MoneyFit.global.error.handler.UserHandler;
 import com.sanae.MoneyFit.global.infra.http.bank.WebClientBankUtil;
@@ -47,7 +58,6 @@ import java.util.Collections;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
@@ -58,10 +68,10 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -71,15 +81,17 @@ public class UserService {
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
     private final JwtTokenProvider jwtTokenProvider;
     private final PasswordEncoder passwordEncoder;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final AuthRedisRepository authRedisRepository;
     private final WebClientBankUtil webClientBankUtil;
     private final ApplicationEventPublisher eventPublisher;
+    private final BankProvisioningTaskService bankProvisioningTaskService;
     private final FcmTokenRepository fcmTokenRepository;
     private final UserSurveyFlagsRepository userSurveyFlagsRepository;
     private final MyRoutineListRepository myRoutineListRepository;
     private final MyRoutineListRecordRepository myRoutineListRecordRepository;
     private final RoutineRepository routineRepository;
     private final RoutineRecordRepository routineRecordRepository;
+    private final RoutineRecordArchiveRepository routineRecordArchiveRepository;
     private final GroupRoutineListRepository groupRoutineListRepository;
     private final GroupRoutinDaysRepository groupRoutinDaysRepository;
     private final GroupRoutineListDoneCheckRepository groupRoutineListDoneCheckRepository;
@@ -87,6 +99,12 @@ public class UserService {
     private final UserInRoomRepository userInRoomRepository;
     private final GuestbookRepository guestbookRepository;
     private final AgeRepository ageRepository;
+    private final UserStreakRepository userStreakRepository;
+    private final WeeklyRoutineSummaryRepository weeklyRoutineSummaryRepository;
+    private final DailyCompletionCounterRepository dailyCompletionCounterRepository;
+    private final BankTransactionRepository bankTransactionRepository;
+    private final BankLedgerSyncRepository bankLedgerSyncRepository;
+    private final DummyTransactionSeedingRepository dummyTransactionSeedingRepository;
 
 
     @Transactional
@@ -106,8 +124,8 @@ public class UserService {
             JwtToken jwtToken = jwtTokenProvider.generateToken(authentication);
 
             // Refresh Token을 Redis에 저장
-            redisTemplate.opsForValue()
-                    .set("RT:" + authentication.getName(), jwtToken.getRefreshToken(), jwtToken.getRefreshTokenExpirationTime(), TimeUnit.MILLISECONDS);
+            authRedisRepository.saveRefreshToken(authentication.getName(), jwtToken.getRefreshToken(),
+                    Duration.ofMillis(jwtToken.getRefreshTokenExpirationTime()));
 
             log.info("[signIn] 로그인 성공: username = {}", username);
             return jwtToken;
@@ -159,7 +177,8 @@ public class UserService {
         User user = signUpDto.toEntity(encodedPassword, age);
         user.setAccountCertificationStatus(false); // account_certification_status를 false로 설정
         UserDto userDto = UserDto.toDto(userRepository.save(user));
-        eventPublisher.publishEvent(new UserSignedUpEvent(signUpDto.getEmail()));
+        // 은행 계정·계좌 생성은 가입과 같은 트랜잭션으로 작업만 남기고, BankProvisioningWorker가 이어서 처리
+        bankProvisioningTaskService.enqueue(signUpDto.getEmail());
 
         return userDto;
     }
@@ -176,24 +195,23 @@ public class UserService {
         }
 
         Authentication authentication = jwtTokenProvider.getAuthentication(reissueDto.getAccessToken());
-        String refreshToken = (String) redisTemplate.opsForValue().get("RT:" + authentication.getName());
 
-        if (refreshToken == null) {
+        // 새 JWT 토큰 생성
+        JwtToken jwtToken = jwtTokenProvider.generateToken(authentication);
+
+        // 저장된 RefreshToken과 일치할 때만 원자적으로 교체 (동시 재발급 요청은 하나만 성공)
+        AuthRedisRepository.RotateResult result = authRedisRepository.rotateRefreshToken(authentication.getName(),
+                reissueDto.getRefreshToken(), jwtToken.getRefreshToken(), Duration.ofMillis(jwtToken.getRefreshTokenExpirationTime()));
+
+        if (result == AuthRedisRepository.RotateResult.MISSING) {
             throw new TokenHandler(ErrorStatus.REFRESH_TOKEN_EXPIRED);
         }
 
-        if (!refreshToken.equals(reissueDto.getRefreshToken())) {
+        if (result == AuthRedisRepository.RotateResult.MISMATCH) {
             log.warn("[reissue] RefreshToken 불일치: username = {}", authentication.getName());
             throw new TokenHandler(ErrorStatus.REFRESH_TOKEN_NOT_MATCH);
         }
 
-        // 새 JWT 토큰 생성
-        JwtToken jwtToken = jwtTokenProvider.generateToken(authentication);
-
-        // RefreshToken Redis 업데이트
-        redisTemplate.opsForValue()
-                .set("RT:" + authentication.getName(), jwtToken.getRefreshToken(), jwtToken.getRefreshTokenExpirationTime(), TimeUnit.MILLISECONDS);
-
         log.info("[reissue] 토큰 갱신 성공: username = {}", authentication.getName());
         return jwtToken;
     }
@@ -237,14 +255,13 @@ public class UserService {
     public String resetPassword(ResetPasswordDto resetPasswordDto) {
         User user = userRepository.findByEmail(resetPasswordDto.getEmail())
                 .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
-        String uuid = (String) redisTemplate.opsForValue().get("UUID:" + resetPasswordDto.getUuid());
-        if (uuid == null || !uuid.equals(resetPasswordDto.getEmail())) {
+        // 메일 인증 세션을 확인과 동시에 소모하여 같은 세션으로 두 번 변경할 수 없도록 합니다.
+        if (!authRedisRepository.consumeVerifiedSession(resetPasswordDto.getUuid(), resetPasswordDto.getEmail())) {
             throw new UserHandler(ErrorStatus.USER_NOT_AUTHORITY);
         }
         String encodedPassword = passwordEncoder.encode(resetPasswordDto.getPassword());
         user.setPassword(encodedPassword);
 
-        redisTemplate.delete("UUID:" + resetPasswordDto.getUuid());
         return "비밀번호가 변경되었습니다.";
     }
 
@@ -321,9 +338,7 @@ public class UserService {
     public String logout(UUID userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
-        if (redisTemplate.opsForValue().get("RT:" + user.getId()) != null) {
-            redisTemplate.delete("RT:" + user.getId());
-        }
+        authRedisRepository.deleteRefreshToken(user.getId().toString());
         fcmTokenRepository.deleteAllByUser(user);
 
         return "로그아웃 되었습니다.";
@@ -383,9 +398,7 @@ public class UserService {
                 .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
 
         // Refresh Token 제거
-        if (redisTemplate.opsForValue().get("RT:" + user.getId()) != null) {
-            redisTemplate.delete("RT:" + user.getId());
-        }
+        authRedisRepository.deleteRefreshToken(user.getId().toString());
 
         // FCM 토큰 제거
         fcmTokenRepository.deleteAllByUser(user);
@@ -400,6 +413,9 @@ public class UserService {
         for (GroupRoutineList group : ownedGroups) {
             guestbookRepository.deleteAllByGroupRoutineList(group);
             groupRoutineListDoneCheckRepository.deleteAllByGroupRoutineList(group);
+            weeklyRoutineSummaryRepository.deleteByRoutineList(RoutineKind.GROUP, group.getId());
+            dailyCompletionCounterRepository.deleteByRoutineList(RoutineKind.GROUP, group.getId());
+            eventPublisher.publishEvent(new GroupMembershipEvent(userInRoomRepository.findUserIdsByGroupRoutineList(group)));
             userInRoomRepository.deleteAllByGroupRoutineList(group);
 
             List<GroupRoutineMiddle> middles = groupRoutineMiddleRepository.findByRoutineList(group);
@@ -407,8 +423,10 @@ public class UserService {
             groupRoutineMiddleRepository.deleteAllByRoutineList(group);
             groupRoutinDaysRepository.deleteAllByGroupRoutineList(group);
             groupRoutineListRepository.delete(group);
+            eventPublisher.publishEvent(GroupRoutineSearchIndexEvent.deleted(group.getId()));
             for (GroupRoutineMiddle middle : middles) {
                 routineRecordRepository.deleteAllByRoutine(middle.getRoutine());
+                routineRecordArchiveRepository.deleteAllByRoutineId(middle.getRoutine().getId());
                 routineRepository.delete(middle.getRoutine());
             }
         }
@@ -419,15 +437,26 @@ public class UserService {
             GroupRoutineList group = userInRoom.getGroupRoutineList();
             groupRoutineListDoneCheckRepository.deleteByGroupRoutineListAndUser(group, user);
             userInRoomRepository.delete(userInRoom);
-            group.decreaseUserCnt();
+            groupRoutineListRepository.decreaseUserCnt(group.getId());
         }
         userInRoomRepository.deleteAllByUser(user);
+        eventPublisher.publishEvent(GroupMembershipEvent.of(user.getId()));
 
         // 사용자가 작성한 기타 데이터 정리
         guestbookRepository.deleteAllByUser(user);
         groupRoutineListDoneCheckRepository.deleteAllByUser(user);
         routineRecordRepository.deleteAllByUser(user);
+        routineRecordArchiveRepository.deleteAllByUser(user);
         fcmTokenRepository.deleteAllByUser(user);
+        userStreakRepository.deleteByUser(user);
+        weeklyRoutineSummaryRepository.deleteAllByUser(user);
+        dailyCompletionCounterRepository.deleteAllByUser(user);
+        bankTransactionRepository.deleteAllByUser(user);
+        if (user.getBankAccount() != null) {
+            bankLedgerSyncRepository.deleteByAccountNo(user.getBankAccount());
+            dummyTransactionSeedingRepository.deleteByAccountNo(user.getBankAccount());
+        }
+        bankProvisioningTaskService.discard(user.getEmail());
 
         // 최종적으로 사용자 삭제
         userRepository.delete(user);
@@ -0,0 +1,133 @@
+package com.sanae.MoneyFit.domain.user.service.provisioning;
+
+import com.sanae.MoneyFit.domain.user.entity.BankProvisioningTask;
+import com.sanae.MoneyFit.domain.user.enums.BankProvisioningStatus;
+import com.sanae.MoneyFit.domain.user.repository.BankProvisioningTaskRepository;
+import com.sanae.MoneyFit.domain.user.repository.UserRepository;
+import com.sanae.MoneyFit.global.config.BankProvisioningProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <h2>BankProvisioningTaskService</h2>
+ * <p>
+ * 은행 계정·계좌 생성 작업({@link BankProvisioningTask})의 상태를 바꾸는 DB 작업을 모아 둔 서비스입니다. <br>
+ * 각 메서드는 짧은 트랜잭션 하나로 끝나며, 외부 API 호출은 {@link BankProvisioningWorker}가 트랜잭션 밖에서 수행합니다.
+ * 단계 결과는 작업과 사용자에 같은 트랜잭션으로 함께 저장됩니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class BankProvisioningTaskService {
+
+    private static final Set<BankProvisioningStatus> ACTIVE_STATUSES = EnumSet.of(
+            BankProvisioningStatus.PENDING, BankProvisioningStatus.USER_CREATED, BankProvisioningStatus.ACCOUNT_CREATED);
+
+    private final BankProvisioningTaskRepository bankProvisioningTaskRepository;
+    private final UserRepository userRepository;
+    private final BankProvisioningProperties properties;
+
+    /**
+     * 가입한 사용자의 작업을 추가합니다. 회원가입 트랜잭션 안에서만 호출되어 사용자와 함께 커밋됩니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String email) {
+        bankProvisioningTaskRepository.save(new BankProvisioningTask(email, LocalDateTime.now()));
+    }
+
+    /**
+     * 탈퇴한 사용자의 작업을 지웁니다. 같은 이메일로 다시 가입하면 새 작업이 만들어집니다.
+     */
+    public void discard(String email) {
+        bankProvisioningTaskRepository.deleteByEmail(email);
+    }
+
+    /**
+     * 실행 시각이 된 작업 ID를 최대 {@code batchSize}개 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findDueIds() {
+        return bankProvisioningTaskRepository.findDueIds(ACTIVE_STATUSES, LocalDateTime.now(),
+                PageRequest.of(0, properties.getBatchSize()));
+    }
+
+    /**
+     * 작업을 가져가 {@link BankProvisioningProperties#getClaimLease()} 동안 다른 서버가 가져가지 못하게 합니다.
+     *
+     * @return 가져간 작업, 다른 서버가 먼저 가져갔다면 {@code null}
+     */
+    public BankProvisioningTask claim(Long taskId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (bankProvisioningTaskRepository.claim(taskId, ACTIVE_STATUSES, now, now.plus(properties.getClaimLease())) == 0) {
+            return null;
+        }
+        return bankProvisioningTaskRepository.findById(taskId).orElse(null);
+    }
+
+    public void recordUserCreated(Long taskId, String userKey) {
+        BankProvisioningTask task = getTask(taskId);
+        task.userCreated(userKey);
+        // 그 사이 탈퇴한 사용자라면 작업 상태만 진행합니다.
+        userRepository.findByEmail(task.getEmail()).ifPresent(user -> user.setUserKey(userKey));
+    }
+
+    public void recordAccountCreated(Long taskId, String accountNo) {
+        BankProvisioningTask task = getTask(taskId);
+        task.accountCreated(accountNo);
+        userRepository.findByEmail(task.getEmail()).ifPresent(user -> user.setBankAccount(accountNo));
+        log.info("[BankProvisioning] 요구불 계좌 생성 완료: email = {}, accountNo = {}", task.getEmail(), accountNo);
+    }
+
+    public void recordCompleted(Long taskId) {
+        getTask(taskId).complete();
+    }
+
+    /**
+     * 실패를 기록하고 지수 백오프로 다음 실행 시각을 정합니다. 재시도 한도에 도달한 작업은 FAILED로 남습니다.
+     */
+    public void recordFailure(Long taskId, Throwable error) {
+        BankProvisioningTask task = getTask(taskId);
+        String message = error.getClass().getSimpleName() + ": " + error.getMessage();
+        LocalDateTime retryAt = LocalDateTime.now().plus(backoff(task.getAttempts()));
+
+        if (task.fail(message, properties.getMaxAttempts(), retryAt)) {
+            log.error("[BankProvisioning] 재시도 한도 초과로 중단: taskId = {}, email = {}, status = {}, error = {}",
+                    taskId, task.getEmail(), task.getStatus(), message);
+        } else {
+            log.warn("[BankProvisioning] 실패, {}에 재시도: taskId = {}, email = {}, attempts = {}, error = {}",
+                    retryAt, taskId, task.getEmail(), task.getAttempts(), message);
+        }
+    }
+
+    // ####################### Private 서브 메서드 #######################
+
+    private BankProvisioningTask getTask(Long taskId) {
+        return bankProvisioningTaskRepository.findById(taskId)
+                .orElseThrow(() -> new IllegalStateException("은행 계좌 생성 작업이 없습니다: " + taskId));
+    }
+
+    /**
+     * {@code initialBackoff × 2^attempts}를 {@code maxBackoff}로 제한하고 ±20% 흔들어,
+     * 같은 시각에 실패한 작업들이 같은 시각에 다시 몰리지 않게 합니다.
+     */
+    private Duration backoff(int attempts) {
+        long initial = properties.getInitialBackoff().toMillis();
+        long max = properties.getMaxBackoff().toMillis();
+        long delay = attempts >= Long.numberOfLeadingZeros(initial) - 1 ? max : Math.min(max, initial << attempts);
+        double jitter = ThreadLocalRandom.current().nextDouble(0.8, 1.2);
+        return Duration.ofMillis((long) (delay * jitter));
+    }
+}
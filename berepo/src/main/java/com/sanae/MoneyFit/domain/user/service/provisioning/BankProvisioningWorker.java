@@ -0,0 +1,163 @@
+package com.sanae.MoneyFit.domain.user.service.provisioning;
+
+import com.sanae.MoneyFit.domain.finance.dto.response.AccountListResponseDto;
+import com.sanae.MoneyFit.domain.finance.service.FinanceService;
+import com.sanae.MoneyFit.domain.user.dto.request.BankUserMakeRequestDto;
+import com.sanae.MoneyFit.domain.user.dto.response.BankAccountResponseDto;
+import com.sanae.MoneyFit.domain.user.dto.response.BankUserMakeResponseDto;
+import com.sanae.MoneyFit.domain.user.entity.BankProvisioningTask;
+import com.sanae.MoneyFit.global.config.BankProvisioningProperties;
+import com.sanae.MoneyFit.global.infra.http.bank.WebClientBankUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <h2>BankProvisioningWorker</h2>
+ * <p>
+ * 실행 시각이 된 은행 계정·계좌 생성 작업을 주기적으로 가져와 상태를 끝까지 진행시킵니다.
+ * </p>
+ * <ol>
+ *     <li>PENDING: 은행 계정 생성 → userKey 저장</li>
+ *     <li>USER_CREATED: 요구불 계좌 생성 → 계좌번호 저장</li>
+ *     <li>ACCOUNT_CREATED: 더미 거래 생성 → COMPLETED</li>
+ * </ol>
+ * <p>
+ * 작업은 동시에 최대 {@code concurrency}개까지 진행됩니다. 외부 API 호출은 논블로킹으로, DB 작업은 같은 수의 스레드를 가진
+ * 전용 스케줄러에서 실행되므로 리액터 이벤트 루프나 스케줄링 스레드를 막지 않습니다. <br>
+ * 단계마다 결과를 저장하므로 실패한 작업은 다음 시도에서 이미 끝난 단계를 건너뜁니다.
+ * 은행 계정 생성은 이미 계정이 있어 실패하면 같은 ID로 조회해 userKey를 얻으므로 다시 시도해도 안전합니다.
+ * 요구불 계좌 생성은 멱등하지 않으므로, 이전 시도에서 userKey를 얻었다면 계좌 목록을 먼저 조회해
+ * 응답을 받지 못한 채 만들어진 계좌를 이어서 사용합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(BankProvisioningProperties.class)
+public class BankProvisioningWorker {
+
+    private final BankProvisioningTaskService bankProvisioningTaskService;
+    private final WebClientBankUtil webClientBankUtil;
+    private final FinanceService financeService;
+    private final BankProvisioningProperties properties;
+    private final Scheduler dbScheduler;
+
+    /** 이전 폴링에서 가져온 작업이 아직 진행 중인지 여부 */
+    private final AtomicBoolean inFlight = new AtomicBoolean(false);
+
+    public BankProvisioningWorker(BankProvisioningTaskService bankProvisioningTaskService, WebClientBankUtil webClientBankUtil,
+                                  FinanceService financeService, BankProvisioningProperties properties) {
+        this.bankProvisioningTaskService = bankProvisioningTaskService;
+        this.webClientBankUtil = webClientBankUtil;
+        this.financeService = financeService;
+        this.properties = properties;
+        this.dbScheduler = Schedulers.newBoundedElastic(properties.getConcurrency(),
+                Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "bank-provisioning-db");
+    }
+
+    /**
+     * 실행 시각이 된 작업을 가져와 진행시킵니다. 처리는 비동기로 이어지며, 이전 폴링의 작업이 끝나기 전에는 새로 가져가지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${bank.provisioning.poll-interval-ms:2000}")
+    public void poll() {
+        if (!inFlight.compareAndSet(false, true)) {
+            return;
+        }
+
+        Mono.fromCallable(bankProvisioningTaskService::findDueIds)
+                .subscribeOn(dbScheduler)
+                .flatMapIterable(ids -> ids)
+                .flatMap(this::advance, properties.getConcurrency())
+                .doFinally(signal -> inFlight.set(false))
+                .subscribe(null, e -> log.error("[BankProvisioning] 작업 폴링 중 오류", e));
+    }
+
+    @PreDestroy
+    public void stop() {
+        dbScheduler.dispose();
+    }
+
+    // ####################### Private 서브 메서드 #######################
+
+    /**
+     * 작업 하나를 가져가 끝까지 진행시킵니다. 실패하면 실패를 기록하고 다음 작업으로 넘어갑니다.
+     */
+    private Mono<Void> advance(Long taskId) {
+        return fromDb(() -> bankProvisioningTaskService.claim(taskId))
+                .flatMap(task -> proceed(task)
+                        .timeout(properties.getTaskTimeout())
+                        .onErrorResume(e -> onDb(() -> bankProvisioningTaskService.recordFailure(taskId, e))));
+    }
+
+    private Mono<Void> proceed(BankProvisioningTask task) {
+        Long taskId = task.getId();
+
+        // 1. 은행 계정 (이미 만들었다면 건너뜀)
+        Mono<String> userKey = task.getUserKey() != null
+                ? Mono.just(task.getUserKey())
+                : createBankUser(task.getEmail())
+                        .flatMap(key -> onDb(() -> bankProvisioningTaskService.recordUserCreated(taskId, key)).thenReturn(key));
+
+        return userKey.flatMap(key -> {
+            // 2. 요구불 계좌 (이미 만들었다면 건너뜀)
+            //    userKey를 이번 시도에서 처음 얻었다면 계좌가 있을 수 없으므로 조회하지 않습니다.
+            Mono<String> accountNo = task.getAccountNo() != null
+                    ? Mono.just(task.getAccountNo())
+                    : (task.getUserKey() != null ? findExistingAccount(key) : Mono.<String>empty())
+                            .switchIfEmpty(Mono.defer(() -> createAccount(key)))
+                            .flatMap(no -> onDb(() -> bankProvisioningTaskService.recordAccountCreated(taskId, no)).thenReturn(no));
+
+            // 3. 더미 거래 생성 후 완료
+            return accountNo.flatMap(no -> financeService.generateDummyTransactions(key, no)
+                    .then(onDb(() -> bankProvisioningTaskService.recordCompleted(taskId))));
+        });
+    }
+
+    /**
+     * 은행 계정을 만듭니다. 이전 시도에서 계정이 이미 만들어졌다면 조회해서 같은 userKey를 반환합니다.
+     */
+    private Mono<String> createBankUser(String email) {
+        return webClientBankUtil.makeUserAccount(email, BankUserMakeRequestDto.class, BankUserMakeResponseDto.class)
+                .onErrorResume(error -> webClientBankUtil.searchUserAccount(email)
+                        .onErrorResume(ignored -> Mono.error(error)))
+                .map(BankUserMakeResponseDto::getUserKey)
+                .switchIfEmpty(Mono.error(new IllegalStateException("은행 계정 생성 응답이 비어 있습니다.")));
+    }
+
+    /**
+     * 이전 시도에서 만들어졌지만 기록되지 않은 요구불 계좌를 찾습니다. 가장 먼저 만들어진 계좌를 사용합니다.
+     */
+    private Mono<String> findExistingAccount(String userKey) {
+        return webClientBankUtil.inquireAccountList(userKey)
+                .flatMapIterable(response -> response.getRec() == null ? List.<AccountListResponseDto.Rec>of() : response.getRec())
+                .filter(account -> account.getAccountNo() != null)
+                .sort(Comparator.comparing(AccountListResponseDto.Rec::getAccountCreatedDate,
+                        Comparator.nullsLast(Comparator.<String>naturalOrder())))
+                .map(AccountListResponseDto.Rec::getAccountNo)
+                .next();
+    }
+
+    private Mono<String> createAccount(String userKey) {
+        return webClientBankUtil.createDemandDepositAccount(userKey, properties.getAccountTypeUniqueNo(), BankAccountResponseDto.class)
+                .map(response -> response.getRec().getAccountNo())
+                .switchIfEmpty(Mono.error(new IllegalStateException("계좌 생성 응답이 비어 있습니다.")));
+    }
+
+    private <T> Mono<T> fromDb(Callable<T> callable) {
+        return Mono.fromCallable(callable).subscribeOn(dbScheduler);
+    }
+
+    private Mono<Void> onDb(Runnable runnable) {
+        return Mono.<Void>fromRunnable(runnable).subscribeOn(dbScheduler);
+    }
+}
@@ -33,6 +33,7 @@ public @interface DistributedLock {
     /**
      * 락 임대 시간 (default - 3s)
      * 락을 획득한 이후 leaseTime 이 지나면 락을 해제한다
+     * -1 이면 Redisson watchdog 이 메서드 실행이 끝날 때까지 임대 시간을 자동 연장한다
      */
     long leaseTime() default 6L;
 }
\ No newline at end of file
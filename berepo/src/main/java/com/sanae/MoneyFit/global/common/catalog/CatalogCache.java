@@ -0,0 +1,133 @@
+package com.sanae.MoneyFit.global.common.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * <h2>CatalogCache</h2>
+ * <p>
+ * 이모지, 템플릿, 포인트샵 상품처럼 거의 바뀌지 않는 카탈로그를 인스턴스 메모리에 불변 스냅샷으로 보관합니다. <br>
+ * 카탈로그마다 Redis에 버전 번호를 두고, 관리자 쓰기가 커밋되면 버전을 올립니다. 조회 시 스냅샷의 버전이
+ * Redis 버전과 다르면 그때 한 번만 다시 적재하므로 여러 인스턴스가 같은 버전을 보게 됩니다.
+ * </p>
+ * <p>
+ * 스냅샷 내용의 해시를 ETag로 제공하여, 인스턴스나 재시작과 관계없이 내용이 같으면 같은 ETag가 나가도록 합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogCache {
+
+    private static final String VERSION_PREFIX = "CATALOG:VERSION:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Map<CatalogType, Snapshot<?>> snapshots = new ConcurrentHashMap<>();
+    private final Map<CatalogType, Long> lastKnownVersions = new ConcurrentHashMap<>();
+    private final Object loadLock = new Object();
+
+    /**
+     * 현재 버전의 스냅샷을 반환합니다. 버전이 바뀌었으면 {@code loader}로 다시 적재합니다.
+     *
+     * @param type   카탈로그 종류
+     * @param loader DB에서 스냅샷 데이터를 만드는 함수 (반환값은 불변이어야 합니다)
+     * @return 카탈로그 스냅샷
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Snapshot<T> get(CatalogType type, Supplier<T> loader) {
+        long version = currentVersion(type);
+        Snapshot<?> snapshot = snapshots.get(type);
+        if (snapshot != null && snapshot.version() == version) {
+            return (Snapshot<T>) snapshot;
+        }
+
+        synchronized (loadLock) {
+            snapshot = snapshots.get(type);
+            if (snapshot == null || snapshot.version() != version) {
+                T data = loader.get();
+                snapshot = new Snapshot<>(version, data, eTagOf(type, data));
+                snapshots.put(type, snapshot);
+                log.info("[CatalogCache] {} 카탈로그 적재: version = {}", type, version);
+            }
+            return (Snapshot<T>) snapshot;
+        }
+    }
+
+    /**
+     * 카탈로그 버전을 올려 모든 인스턴스가 다음 조회 때 다시 적재하도록 합니다.
+     * 쓰기 트랜잭션이 커밋된 후에 호출해야 이전 데이터로 다시 적재되지 않습니다.
+     */
+    public void bump(CatalogType type) {
+        snapshots.remove(type);
+        try {
+            Long version = redisTemplate.opsForValue().increment(VERSION_PREFIX + type.name());
+            if (version != null) {
+                lastKnownVersions.put(type, version);
+            }
+        } catch (Exception e) {
+            log.warn("[CatalogCache] {} 카탈로그 버전 갱신 실패: {}", type, e.getMessage());
+        }
+    }
+
+    /**
+     * 스냅샷 목록에서 요청한 페이지만큼 잘라 {@link Page}로 감쌉니다.
+     */
+    public static <T> Page<T> slice(List<T> items, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), items.size());
+        int to = Math.min(from + pageable.getPageSize(), items.size());
+        return new PageImpl<>(items.subList(from, to), pageable, items.size());
+    }
+
+    /**
+     * 카탈로그 스냅샷
+     *
+     * @param version 적재 당시의 카탈로그 버전
+     * @param data    불변 스냅샷 데이터
+     * @param eTag    스냅샷 내용의 해시 (따옴표 포함)
+     */
+    public record Snapshot<T>(long version, T data, String eTag) {
+    }
+
+    // ####################### Private 서브 메서드 #######################
+
+    /**
+     * Redis에 저장된 카탈로그 버전. Redis 장애 시에는 마지막으로 확인한 버전으로 기존 스냅샷을 계속 사용합니다.
+     */
+    private long currentVersion(CatalogType type) {
+        try {
+            String value = redisTemplate.opsForValue().get(VERSION_PREFIX + type.name());
+            long version = value == null ? 0L : Long.parseLong(value);
+            lastKnownVersions.put(type, version);
+            return version;
+        } catch (Exception e) {
+            log.warn("[CatalogCache] {} 카탈로그 버전 조회 실패: {}", type, e.getMessage());
+            return lastKnownVersions.getOrDefault(type, 0L);
+        }
+    }
+
+    private String eTagOf(CatalogType type, Object data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(data));
+            return "\"" + type.name().toLowerCase() + "-" + HexFormat.of().formatHex(digest, 0, 8) + "\"";
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("카탈로그 ETag 생성 실패: " + type, e);
+        }
+    }
+}
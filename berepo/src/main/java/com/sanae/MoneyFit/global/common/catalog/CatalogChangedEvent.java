@@ -0,0 +1,13 @@
+package com.sanae.MoneyFit.global.common.catalog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 카탈로그 데이터가 바뀌어 스냅샷을 다시 적재해야 할 때 발행되는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class CatalogChangedEvent {
+    private final CatalogType type;
+}
@@ -0,0 +1,22 @@
+package com.sanae.MoneyFit.global.common.catalog;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+class CatalogChangedListener {
+
+    private final CatalogCache catalogCache;
+
+    /**
+     * 카탈로그 쓰기 트랜잭션이 '커밋된 후에' 버전을 올립니다.
+     * 커밋 전에 올리면 다른 인스턴스가 이전 데이터로 새 버전 스냅샷을 만들 수 있습니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCatalogChanged(CatalogChangedEvent event) {
+        catalogCache.bump(event.getType());
+    }
+}
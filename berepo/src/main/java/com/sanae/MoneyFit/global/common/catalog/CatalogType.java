@@ -0,0 +1,10 @@
+package com.sanae.MoneyFit.global.common.catalog;
+
+/**
+ * 메모리 스냅샷으로 캐싱하는 정적 카탈로그 종류
+ */
+public enum CatalogType {
+    EMOJI,
+    TEMPLATE,
+    SHOP_PRODUCT
+}
@@ -0,0 +1,53 @@
+package com.sanae.MoneyFit.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * <h2>BankProvisioningProperties</h2>
+ * <p>
+ * 가입 직후 은행 계정·계좌 생성 작업 설정입니다. ({@code bank.provisioning.*}) <br>
+ * 한 번의 폴링에서 최대 {@code batchSize}개의 작업을 가져와 동시에 {@code concurrency}개까지 진행하고,
+ * 실패한 작업은 {@code initialBackoff}부터 두 배씩 늘려 최대 {@code maxBackoff} 뒤에 다시 시도합니다.
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.provisioning")
+public class BankProvisioningProperties {
+
+    /** 요구불 계좌 상품 고유 번호 */
+    private String accountTypeUniqueNo = "001-1-361676dd40824d";
+
+    /** 한 번의 폴링에서 가져오는 최대 작업 수 */
+    private int batchSize = 20;
+
+    /** 동시에 진행하는 최대 작업 수 */
+    private int concurrency = 4;
+
+    /** 최대 시도 횟수. 도달하면 FAILED로 남기고 더 이상 시도하지 않습니다. */
+    private int maxAttempts = 10;
+
+    /** 첫 재시도 대기 시간 */
+    private Duration initialBackoff = Duration.ofSeconds(30);
+
+    /** 재시도 대기 시간 상한 */
+    private Duration maxBackoff = Duration.ofHours(1);
+
+    /** 작업 하나의 처리 제한 시간 */
+    private Duration taskTimeout = Duration.ofMinutes(2);
+
+    /** 처리 제한 시간이 지난 뒤 실패를 기록할 때까지의 여유 시간 */
+    private Duration leaseMargin = Duration.ofSeconds(30);
+
+    /**
+     * 가져간 작업을 다른 서버가 가져가지 못하는 시간. 처리 제한 시간보다 항상 길어서,
+     * 진행 중인 작업은 제한 시간이 지나 취소되고 실패가 기록되기 전에는 다시 가져가지지 않습니다.
+     */
+    public Duration getClaimLease() {
+        return taskTimeout.plus(leaseMargin);
+    }
+}
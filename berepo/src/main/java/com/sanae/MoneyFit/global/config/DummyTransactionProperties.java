@@ -0,0 +1,36 @@
+package com.sanae.MoneyFit.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * <h2>DummyTransactionProperties</h2>
+ * <p>
+ * 더미 거래 생성 설정입니다. ({@code finance.dummy-transaction.*}) <br>
+ * 계좌 하나의 입금·출금은 각각 최대 {@code concurrency}건씩 동시에 요청하고, 일괄 생성은 최대 {@code userConcurrency}개 계좌를
+ * 동시에 진행합니다. 모든 서버의 더미 거래 요청은 합쳐서 초당 {@code permitsPerSecond}건을 넘지 않습니다.
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "finance.dummy-transaction")
+public class DummyTransactionProperties {
+
+    /** 계좌 하나에서 동시에 보내는 입금/출금 요청 수 */
+    private int concurrency = 3;
+
+    /** 일괄 생성 시 동시에 진행하는 계좌 수 */
+    private int userConcurrency = 4;
+
+    /** 모든 서버를 합친 초당 입출금 요청 한도. Redis에 한 번 설정되면 바뀌지 않으므로, 바꾸려면 Redis 키를 지워야 합니다. */
+    private long permitsPerSecond = 10;
+
+    /** 계좌 하나의 실행 점유 시간. 서버가 중간에 죽으면 이 시간이 지난 뒤 다른 서버가 이어서 실행할 수 있습니다. */
+    private Duration lease = Duration.ofMinutes(5);
+
+    /** 고정 시드. 지정하면 계좌번호와 조합해 항상 같은 거래가 계획됩니다. (테스트·재현용) */
+    private Long seed;
+}
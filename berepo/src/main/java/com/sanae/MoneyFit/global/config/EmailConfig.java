@@ -1,6 +1,8 @@
 package com.sanae.MoneyFit.global.config;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.mail.javamail.JavaMailSender;
@@ -9,7 +11,11 @@ import org.springframework.mail.javamail.JavaMailSenderImpl;
 import java.util.Properties;
 
 @Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(MailDeliveryProperties.class)
 public class EmailConfig {
+    private final MailDeliveryProperties deliveryProperties;
+
     @Value("${mail.username}")
     private String username;
     @Value("${mail.password}")
@@ -29,7 +35,10 @@ public class EmailConfig {
         javaMailProperties.put("mail.smtp.auth", "true");//smtp 서버에 인증이 필요
         javaMailProperties.put("mail.smtp.socketFactory.class", "javax.net.ssl.SSLSocketFactory");//SSL 소켓 팩토리 클래스 사용
         javaMailProperties.put("mail.smtp.starttls.enable", "true");//STARTTLS(TLS를 시작하는 명령)를 사용하여 암호화된 통신을 활성화
-        javaMailProperties.put("mail.debug", "true");//디버깅 정보 출력
+        javaMailProperties.put("mail.debug", String.valueOf(deliveryProperties.isDebug()));//디버깅 정보 출력 (발송량이 많을 때는 끔)
+        javaMailProperties.put("mail.smtp.connectiontimeout", String.valueOf(deliveryProperties.getConnectTimeout().toMillis()));//연결 타임아웃
+        javaMailProperties.put("mail.smtp.timeout", String.valueOf(deliveryProperties.getTimeout().toMillis()));//읽기 타임아웃
+        javaMailProperties.put("mail.smtp.writetimeout", String.valueOf(deliveryProperties.getTimeout().toMillis()));//쓰기 타임아웃
         javaMailProperties.put("mail.smtp.ssl.trust", "smtp.naver.com");//smtp 서버의 ssl 인증서를 신뢰
         javaMailProperties.put("mail.smtp.ssl.protocols", "TLSv1.2");//사용할 ssl 프로토콜 버젼
 
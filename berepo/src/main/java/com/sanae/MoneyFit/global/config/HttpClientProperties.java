@@ -0,0 +1,78 @@
+package com.sanae.MoneyFit.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <h2>HttpClientProperties</h2>
+ * <p>
+ * 외부 API 호출용 커넥션 풀 설정입니다. ({@code http-client.*}) <br>
+ * {@code pool}은 모든 목적지에 적용되는 기본값이고, {@code destinations}의 각 항목은 해당 호스트 전용 하위 풀로 만들어집니다.
+ * 목적지별로 지정하지 않은 값은 기본값을 따릅니다.
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "http-client")
+public class HttpClientProperties {
+
+    /** TCP 연결 타임아웃 */
+    private Duration connectTimeout = Duration.ofSeconds(3);
+
+    /** 기본 풀 설정 */
+    private Pool pool = new Pool();
+
+    /** 목적지 이름 → 목적지별 설정 (bank, gemini, ai-category, ai-product, ai-daily, expo) */
+    private Map<String, Destination> destinations = new LinkedHashMap<>();
+
+    /**
+     * 목적지 설정을 조회합니다. 등록되지 않은 목적지면 기본값만 가진 설정을 반환합니다.
+     */
+    public Destination getDestination(String name) {
+        return destinations.getOrDefault(name, new Destination());
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        /** 최대 커넥션 수 */
+        private int maxConnections = 50;
+
+        /** 커넥션 획득 대기 시간. 초과하면 즉시 실패시켜 호출 스레드가 무한정 기다리지 않게 합니다. */
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+        /** 커넥션 획득 대기열 최대 길이 */
+        private int pendingAcquireMaxCount = 200;
+
+        /** 유휴 커넥션 유지 시간 */
+        private Duration maxIdleTime = Duration.ofSeconds(20);
+
+        /** 커넥션 최대 수명 */
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+
+        /** 유휴/만료 커넥션 백그라운드 정리 주기 */
+        private Duration evictInterval = Duration.ofSeconds(30);
+
+        /** 응답 타임아웃 (요청 전송 후 응답을 받기까지) */
+        private Duration responseTimeout = Duration.ofSeconds(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Destination {
+
+        /** 목적지 기본 URL. 하위 풀을 나누는 호스트:포트를 결정합니다. */
+        private String baseUrl;
+
+        private Integer maxConnections;
+        private Duration pendingAcquireTimeout;
+        private Integer pendingAcquireMaxCount;
+        private Duration responseTimeout;
+    }
+}
@@ -0,0 +1,42 @@
+package com.sanae.MoneyFit.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * <h2>MailDeliveryProperties</h2>
+ * <p>
+ * 메일 발송 대기열과 SMTP 연결 설정입니다. ({@code mail.delivery.*}) <br>
+ * 발송 요청은 {@code queueCapacity} 크기의 대기열에 쌓이고, {@code workers}개의 전용 스레드가 최대 {@code batchSize}통씩 묶어
+ * SMTP 연결 하나로 전송합니다.
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "mail.delivery")
+public class MailDeliveryProperties {
+
+    /** 발신 주소 */
+    private String from = "jj99526@naver.com";
+
+    /** 발송 스레드 수. 스레드마다 SMTP 연결을 하나씩 사용합니다. */
+    private int workers = 2;
+
+    /** 대기열 최대 길이. 가득 차면 새 발송 요청을 즉시 거절합니다. */
+    private int queueCapacity = 1_000;
+
+    /** 한 번의 SMTP 연결로 보내는 최대 메일 수 */
+    private int batchSize = 20;
+
+    /** SMTP 연결 타임아웃 */
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    /** SMTP 읽기/쓰기 타임아웃. 응답 없는 서버가 발송 스레드를 붙잡지 않도록 합니다. */
+    private Duration timeout = Duration.ofSeconds(10);
+
+    /** JavaMail 프로토콜 디버그 로그 출력 여부 */
+    private boolean debug = false;
+}
@@ -35,6 +35,9 @@ public class SecurityConfig {
 //                        .requestMatchers("/**").hasRole("USER")
                                 .requestMatchers("/swagger-ui/**").permitAll()
                                 .requestMatchers("/swagger-ui.html").permitAll()
+                                // 헬스 체크만 공개하고, 메트릭 등 나머지 actuator 엔드포인트는 관리자만 조회합니다.
+                                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                                .requestMatchers("/actuator/**").hasRole("ADMIN")
                                 .requestMatchers("/**").permitAll()
 
 //                        .requestMatchers("/api/v1/master/**").hasRole("ADMIN")
@@ -2,55 +2,160 @@ package com.sanae.MoneyFit.global.config;
 
 
 import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
 
+import java.net.InetSocketAddress;
+import java.net.URI;
 import java.time.Duration;
+import java.util.Objects;
 
-
+/**
+ * <h2>WebClientConfig</h2>
+ * <p>
+ * 모든 외부 호출이 공유하는 하나의 {@link ConnectionProvider}와 목적지별 {@link WebClient}를 등록합니다. <br>
+ * 목적지(은행 API, Gemini, AI 서버 8002/8003/8004, Expo)마다 호스트:포트 단위 하위 풀과 응답 타임아웃을 따로 두어,
+ * 느린 AI 서버가 은행 API 호출에 쓰일 커넥션까지 점유하지 못하게 합니다. 설정은 {@link HttpClientProperties}를 따릅니다.
+ * </p>
+ */
+@Slf4j
 @Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(HttpClientProperties.class)
 public class WebClientConfig {
 
-    DefaultUriBuilderFactory factory = new DefaultUriBuilderFactory();
+    public static final String BANK = "bank";
+    public static final String GEMINI = "gemini";
+    public static final String AI_CATEGORY = "ai-category";
+    public static final String AI_PRODUCT = "ai-product";
+    public static final String AI_DAILY = "ai-daily";
+    public static final String EXPO = "expo";
+
+    private static final int MAX_IN_MEMORY_SIZE = 2 * 1024 * 1024;
 
-    HttpClient httpClient = HttpClient.create()
-            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000); // 10초
+    private final HttpClientProperties properties;
 
+    /**
+     * 공유 커넥션 풀. 목적지마다 호스트:포트 단위 하위 풀을 가지며, 풀 지표는 Micrometer로 노출됩니다.
+     * ({@code reactor.netty.connection.provider.*}, name=outbound)
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider connectionProvider() {
+        HttpClientProperties.Pool defaults = properties.getPool();
+        ConnectionProvider.Builder builder = ConnectionProvider.builder("outbound")
+                .maxConnections(defaults.getMaxConnections())
+                .pendingAcquireTimeout(defaults.getPendingAcquireTimeout())
+                .pendingAcquireMaxCount(defaults.getPendingAcquireMaxCount())
+                .maxIdleTime(defaults.getMaxIdleTime())
+                .maxLifeTime(defaults.getMaxLifeTime())
+                .evictInBackground(defaults.getEvictInterval())
+                .metrics(true);
+
+        properties.getDestinations().forEach((name, destination) -> {
+            InetSocketAddress address = remoteAddress(destination.getBaseUrl());
+            if (address == null) {
+                log.warn("[WebClientConfig] {} 목적지의 base-url이 없어 기본 풀을 사용합니다.", name);
+                return;
+            }
+            builder.forRemoteHost(address, spec -> spec
+                    .maxConnections(Objects.requireNonNullElse(destination.getMaxConnections(), defaults.getMaxConnections()))
+                    .pendingAcquireTimeout(Objects.requireNonNullElse(destination.getPendingAcquireTimeout(), defaults.getPendingAcquireTimeout()))
+                    .pendingAcquireMaxCount(Objects.requireNonNullElse(destination.getPendingAcquireMaxCount(), defaults.getPendingAcquireMaxCount()))
+                    .maxIdleTime(defaults.getMaxIdleTime())
+                    .maxLifeTime(defaults.getMaxLifeTime())
+                    .evictInBackground(defaults.getEvictInterval())
+                    .metrics(true));
+        });
+        return builder.build();
+    }
+
+    /**
+     * 목적지가 정해지지 않은 호출용 기본 WebClient
+     */
     @Bean
-    public WebClient webClient() {
-        factory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.VALUES_ONLY);
-        return WebClient.builder()
-                .uriBuilderFactory(factory)
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(2 * 1024 * 1024))
-                .clientConnector(new ReactorClientHttpConnector(httpClient))
-                .build();
+    public WebClient webClient(ConnectionProvider connectionProvider) {
+        return create(WebClient.builder(), connectionProvider, properties.getPool().getResponseTimeout(), null).build();
     }
 
     @Bean
-    public ConnectionProvider connectionProvider() {
-        return ConnectionProvider.builder("http-pool")
-                .maxConnections(100)
-                .pendingAcquireTimeout(Duration.ofMillis(0))
-                .pendingAcquireMaxCount(-1)
-                .maxIdleTime(Duration.ofMillis(1000L))
-                .build();
+    public WebClient bankWebClient(ConnectionProvider connectionProvider) {
+        return destination(WebClient.builder(), connectionProvider, BANK).build();
     }
 
     @Bean
-    public WebClient expoWebClient(WebClient.Builder builder) {
-        return builder
-                .baseUrl("https://exp.host") // 기본 URL 설정
+    public WebClient geminiWebClient(ConnectionProvider connectionProvider) {
+        return destination(WebClient.builder(), connectionProvider, GEMINI).build();
+    }
+
+    @Bean
+    public WebClient aiCategoryWebClient(ConnectionProvider connectionProvider) {
+        return destination(WebClient.builder(), connectionProvider, AI_CATEGORY).build();
+    }
+
+    @Bean
+    public WebClient aiProductWebClient(ConnectionProvider connectionProvider) {
+        return destination(WebClient.builder(), connectionProvider, AI_PRODUCT).build();
+    }
+
+    @Bean
+    public WebClient aiDailyWebClient(ConnectionProvider connectionProvider) {
+        return destination(WebClient.builder(), connectionProvider, AI_DAILY).build();
+    }
+
+    @Bean
+    public WebClient expoWebClient(WebClient.Builder builder, ConnectionProvider connectionProvider) {
+        return destination(builder.clone(), connectionProvider, EXPO)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
                 .build();
     }
 
+    // ####################### Private 서브 메서드 #######################
+
+    private WebClient.Builder destination(WebClient.Builder builder, ConnectionProvider connectionProvider, String name) {
+        Duration responseTimeout = Objects.requireNonNullElse(
+                properties.getDestination(name).getResponseTimeout(), properties.getPool().getResponseTimeout());
+        return create(builder, connectionProvider, responseTimeout, properties.getDestination(name).getBaseUrl());
+    }
+
+    private WebClient.Builder create(WebClient.Builder builder, ConnectionProvider connectionProvider, Duration responseTimeout, String baseUrl) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(responseTimeout);
+
+        // uriBuilderFactory를 지정하면 WebClient.Builder#baseUrl은 무시되므로 기본 URL은 팩토리에 설정합니다.
+        DefaultUriBuilderFactory factory = StringUtils.hasText(baseUrl)
+                ? new DefaultUriBuilderFactory(baseUrl)
+                : new DefaultUriBuilderFactory();
+        factory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.VALUES_ONLY);
+
+        return builder
+                .uriBuilderFactory(factory)
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(MAX_IN_MEMORY_SIZE))
+                .clientConnector(new ReactorClientHttpConnector(httpClient));
+    }
+
+    private InetSocketAddress remoteAddress(String baseUrl) {
+        if (!StringUtils.hasText(baseUrl)) {
+            return null;
+        }
+        URI uri = URI.create(baseUrl);
+        if (uri.getHost() == null) {
+            return null;
+        }
+        int port = uri.getPort() != -1 ? uri.getPort() : ("https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80);
+        return InetSocketAddress.createUnresolved(uri.getHost(), port);
+    }
 }
@@ -8,12 +8,12 @@ import com.sanae.MoneyFit.domain.analysis.dto.response.AnalysisMyConsumptionResp
 import com.sanae.MoneyFit.domain.analysis.dto.response.DailyModelResponseDto;
 import com.sanae.MoneyFit.domain.analysis.dto.response.GeminiResDto;
 import com.sanae.MoneyFit.domain.analysis.dto.response.ProductRecommendResponseDto;
-import com.sanae.MoneyFit.global.config.WebClientConfig;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 /**
@@ -23,7 +23,10 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class WebClientAiUtil {
 
-    private final WebClientConfig webClientConfig;
+    private final WebClient geminiWebClient;
+    private final WebClient aiCategoryWebClient;
+    private final WebClient aiProductWebClient;
+    private final WebClient aiDailyWebClient;
 
     @Value("${ai.base-url:https://generativelanguage.googleapis.com}")
     private String baseUrl;
@@ -38,49 +41,57 @@ public class WebClientAiUtil {
     private String aiUrl;
 
     public ProductRecommendResponseDto recommendProduct(ProductRecommendRequestDto requestDto) {
+        return requestRecommendProduct(requestDto).block();
+    }
+
+    public Mono<ProductRecommendResponseDto> requestRecommendProduct(ProductRecommendRequestDto requestDto) {
         String url = aiUrl +":8003"+"/predict"; // 실제 AI 서버의 엔드포인트
-        return webClientConfig.webClient().method(HttpMethod.POST)
+        return aiProductWebClient.method(HttpMethod.POST)
                 .uri(url)
                 .bodyValue(requestDto)
                 .retrieve()
                 .onStatus(HttpStatusCode::isError, clientResponse ->
                         clientResponse.bodyToMono(String.class)
                                 .flatMap(errorBody -> Mono.error(new RuntimeException("AI Product Recommend Error: " + errorBody))))
-                .bodyToMono(ProductRecommendResponseDto.class)
-                .block();
+                .bodyToMono(ProductRecommendResponseDto.class);
     }
 
     public AnalysisMyConsumptionResponseDto analysisMyConsumption(AnalysisMyConsumptionRequestDto requestDto) {
+        return requestAnalysisMyConsumption(requestDto).block();
+    }
+
+    public Mono<AnalysisMyConsumptionResponseDto> requestAnalysisMyConsumption(AnalysisMyConsumptionRequestDto requestDto) {
         String url = aiUrl+":8002"+"/predict";
-        System.out.println(url);
-        return webClientConfig.webClient().method(HttpMethod.POST)
+        return aiCategoryWebClient.method(HttpMethod.POST)
                 .uri(url)
                 .bodyValue(requestDto)
                 .retrieve()
                 .onStatus(HttpStatusCode::isError, clientResponse ->
                         clientResponse.bodyToMono(String.class)
                                 .flatMap(errorBody -> Mono.error(new RuntimeException("AI Error: " + errorBody))))
-                .bodyToMono(AnalysisMyConsumptionResponseDto.class)
-                .block();
+                .bodyToMono(AnalysisMyConsumptionResponseDto.class);
     }
 
     public DailyModelResponseDto getDailyModel(DailyModelRequestDto requestDto) {
+        return requestDailyModel(requestDto).block();
+    }
+
+    public Mono<DailyModelResponseDto> requestDailyModel(DailyModelRequestDto requestDto) {
         String url = aiUrl+":8004"+"/recommend";
-        return webClientConfig.webClient().method(HttpMethod.POST)
+        return aiDailyWebClient.method(HttpMethod.POST)
                 .uri(url)
                 .bodyValue(requestDto)
                 .retrieve()
                 .onStatus(HttpStatusCode::isError, clientResponse ->
                         clientResponse.bodyToMono(String.class)
                                 .flatMap(errorBody -> Mono.error(new RuntimeException("AI Error: " + errorBody))))
-                .bodyToMono(DailyModelResponseDto.class)
-                .block();
+                .bodyToMono(DailyModelResponseDto.class);
     }
 
 
     public Mono<GeminiResDto> requestWeeklySpendingAnalysis(GeminiReqDto requestDto) {
         String url = baseUrl + "/v1beta/models/" + model + ":generateContent?key=" + apiKey;
-        return webClientConfig.webClient().method(HttpMethod.POST)
+        return geminiWebClient.method(HttpMethod.POST)
                 .uri(url)
                 .bodyValue(requestDto)
                 .retrieve()
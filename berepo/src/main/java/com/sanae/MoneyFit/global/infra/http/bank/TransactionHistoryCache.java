@@ -0,0 +1,211 @@
+package com.sanae.MoneyFit.global.infra.http.bank;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sanae.MoneyFit.domain.finance.dto.response.TransactionHistoryListResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * <h2>TransactionHistoryCache</h2>
+ * <p>
+ * 은행 거래내역 리스트 조회 결과를 (userKey, 계좌번호, 조회 기간) 단위로 캐싱합니다. <br>
+ * 로컬(Caffeine) → Redis → 은행 API 순으로 조회하며, 같은 키에 대한 동시 요청은 진행 중인 하나의 {@link Mono}를 공유합니다.
+ * 입금/출금으로 계좌 내역이 바뀌면 {@link #invalidate(String, String)}로 해당 계좌의 모든 기간을 무효화합니다.
+ * </p>
+ * <p>
+ * 무효화 세대는 두 곳에 둡니다. Redis 세대({@code TXH:GEN:})는 모든 인스턴스가 공유하며, 조회 도중 어느 인스턴스에서든
+ * 무효화가 일어나면 그 결과를 Redis에 저장하지 않습니다. 인스턴스 내 세대는 로컬 캐시 저장 여부만 판단하므로,
+ * 다른 인스턴스에서 발생한 무효화는 이 인스턴스의 로컬 캐시에 최대 {@link #LOCAL_TTL} 동안 반영되지 않을 수 있습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionHistoryCache {
+
+    private static final String KEY_PREFIX = "TXH:";
+    private static final String INDEX_PREFIX = "TXH:IDX:";
+    private static final String GENERATION_PREFIX = "TXH:GEN:";
+    private static final Duration GENERATION_TTL = Duration.ofDays(1);
+    private static final Duration REDIS_TTL = Duration.ofSeconds(60);
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(20);
+
+    /** Redis 세대가 조회 시작 시점과 같을 때만 결과와 색인을 저장합니다. 1: 저장, 0: 무효화되어 건너뜀 */
+    private static final RedisScript<Long> WRITE_IF_GENERATION = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1]) or '0'
+            if current ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+            redis.call('SADD', KEYS[3], KEYS[2])
+            redis.call('PEXPIRE', KEYS[3], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, TransactionHistoryListResponseDto> localCache = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterWrite(LOCAL_TTL)
+            .build();
+
+    /** 진행 중인 은행 API 호출 (요청 병합용) */
+    private final Map<String, Mono<TransactionHistoryListResponseDto>> inFlight = new ConcurrentHashMap<>();
+
+    /** 인스턴스 내 계좌별 무효화 세대. 조회 도중 무효화되었다면 그 결과는 로컬 캐시에 저장하지 않습니다. */
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시된 거래내역을 반환하고, 없으면 {@code loader}로 조회한 결과를 캐싱합니다.
+     *
+     * @param userKey   사용자 고유 키
+     * @param accountNo 계좌번호
+     * @param startDate 조회 시작일
+     * @param endDate   조회 종료일
+     * @param loader    캐시 미스 시 실제 은행 API를 호출하는 함수
+     * @return 거래내역 리스트
+     */
+    public Mono<TransactionHistoryListResponseDto> get(String userKey, String accountNo, LocalDate startDate, LocalDate endDate,
+                                                       Supplier<Mono<TransactionHistoryListResponseDto>> loader) {
+        String accountKey = accountKey(userKey, accountNo);
+        String key = KEY_PREFIX + accountKey + ":" + startDate + ":" + endDate;
+
+        TransactionHistoryListResponseDto local = localCache.getIfPresent(key);
+        if (local != null) {
+            return Mono.just(local);
+        }
+
+        return inFlight.computeIfAbsent(key, k -> {
+            long generation = generation(accountKey).get();
+            AtomicReference<Mono<TransactionHistoryListResponseDto>> self = new AtomicReference<>();
+            Mono<TransactionHistoryListResponseDto> mono = Mono.fromCallable(() -> readRedis(accountKey, k))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(lookup -> lookup.history() != null
+                            ? Mono.just(lookup.history())
+                            : Mono.defer(loader)
+                            // Redis 저장은 블로킹 호출이므로 Netty 이벤트 루프가 아닌 스레드에서 수행합니다.
+                            .publishOn(Schedulers.boundedElastic())
+                            .doOnNext(history -> writeRedis(accountKey, k, history, lookup.generation())))
+                    .doOnNext(history -> {
+                        if (generation(accountKey).get() == generation) {
+                            localCache.put(k, history);
+                        }
+                    })
+                    // 무효화 후 같은 키로 새 조회가 등록되었을 수 있으므로 자신일 때만 제거합니다.
+                    .doFinally(signal -> inFlight.remove(k, self.get()))
+                    .cache();
+            self.set(mono);
+            return mono;
+        });
+    }
+
+    /**
+     * 계좌의 모든 기간 캐시를 무효화합니다. 입금/출금 등 거래가 발생한 뒤 호출합니다.
+     * 로컬 캐시는 호출 즉시 비우고, Redis 캐시는 반환된 {@link Mono}를 구독할 때 블로킹 스레드에서 비웁니다.
+     *
+     * @param userKey   사용자 고유 키
+     * @param accountNo 계좌번호
+     * @return Redis 캐시 무효화 완료 신호 (실패해도 에러를 전파하지 않음)
+     */
+    public Mono<Void> invalidate(String userKey, String accountNo) {
+        String accountKey = accountKey(userKey, accountNo);
+        String prefix = KEY_PREFIX + accountKey + ":";
+
+        generation(accountKey).incrementAndGet();
+        localCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        inFlight.keySet().removeIf(key -> key.startsWith(prefix));
+
+        return Mono.fromRunnable(() -> invalidateRedis(accountKey))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    // ####################### Private 서브 메서드 #######################
+
+    /**
+     * 캐시된 결과와 현재 Redis 세대를 한 번에 조회합니다. 결과가 없으면 history 가 null 입니다.
+     */
+    private Lookup readRedis(String accountKey, String key) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(key, GENERATION_PREFIX + accountKey));
+            String json = values == null ? null : values.get(0);
+            String generation = values == null || values.get(1) == null ? "0" : values.get(1);
+            return new Lookup(json == null ? null : objectMapper.readValue(json, TransactionHistoryListResponseDto.class),
+                    generation);
+        } catch (Exception e) {
+            // 캐시 장애는 조회 실패로 이어지지 않도록 미스로 처리하고, 세대를 알 수 없으므로 저장도 하지 않습니다.
+            log.warn("[TransactionHistoryCache] Redis 캐시 조회 실패: {}", e.getMessage());
+            return new Lookup(null, null);
+        }
+    }
+
+    private void writeRedis(String accountKey, String key, TransactionHistoryListResponseDto history, String generation) {
+        if (generation == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(WRITE_IF_GENERATION,
+                    List.of(GENERATION_PREFIX + accountKey, key, INDEX_PREFIX + accountKey),
+                    generation, objectMapper.writeValueAsString(history), String.valueOf(REDIS_TTL.toMillis()));
+        } catch (JsonProcessingException e) {
+            log.warn("[TransactionHistoryCache] 거래내역 직렬화 실패: {}", e.getMessage());
+        } catch (Exception e) {
+            log.warn("[TransactionHistoryCache] Redis 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void invalidateRedis(String accountKey) {
+        try {
+            // 세대를 먼저 올려 진행 중인 조회가 이후에 결과를 저장하지 못하게 합니다.
+            String generationKey = GENERATION_PREFIX + accountKey;
+            redisTemplate.opsForValue().increment(generationKey);
+            redisTemplate.expire(generationKey, GENERATION_TTL);
+
+            String indexKey = INDEX_PREFIX + accountKey;
+            Set<String> keys = redisTemplate.opsForSet().members(indexKey);
+            if (keys != null && !keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+            redisTemplate.delete(indexKey);
+        } catch (Exception e) {
+            log.warn("[TransactionHistoryCache] Redis 캐시 무효화 실패: {}", e.getMessage());
+        }
+    }
+
+    private AtomicLong generation(String accountKey) {
+        return generations.computeIfAbsent(accountKey, k -> new AtomicLong());
+    }
+
+    private String accountKey(String userKey, String accountNo) {
+        return userKey + ":" + accountNo;
+    }
+
+    /**
+     * Redis 조회 결과
+     *
+     * @param history    캐시된 거래내역 (없으면 null)
+     * @param generation 조회 시점의 Redis 세대 (알 수 없으면 null)
+     */
+    private record Lookup(TransactionHistoryListResponseDto history, String generation) {
+    }
+}
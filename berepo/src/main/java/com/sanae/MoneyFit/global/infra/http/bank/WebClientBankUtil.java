@@ -7,12 +7,13 @@ import com.sanae.MoneyFit.domain.finance.dto.response.*;
 import com.sanae.MoneyFit.domain.user.dto.request.BankAccountHeaderDto;
 import com.sanae.MoneyFit.domain.user.dto.request.BankAccountMakeRequestDto;
 import com.sanae.MoneyFit.domain.user.dto.request.BankUserMakeRequestDto;
-import com.sanae.MoneyFit.global.config.WebClientConfig;
+import com.sanae.MoneyFit.domain.user.dto.response.BankUserMakeResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
@@ -25,7 +26,8 @@ import java.util.concurrent.ThreadLocalRandom;
 @RequiredArgsConstructor
 public class WebClientBankUtil {
 
-    private final WebClientConfig webClientConfig;
+    private final WebClient bankWebClient;
+    private final TransactionHistoryCache transactionHistoryCache;
 
     @Value("${bank.base-url}")
     private String baseUrl;
@@ -92,7 +94,7 @@ public class WebClientBankUtil {
         BankAccountMakeRequestDto requestDto = new BankAccountMakeRequestDto(header, accountTypeUniqueNo);
 
         // 3. POST 요청 전송
-        return webClientConfig.webClient().method(HttpMethod.POST)
+        return bankWebClient.method(HttpMethod.POST)
                 .uri(url)
                 .bodyValue(requestDto) // 위에서 만든 DTO 객체를 body에 담아 전송
                 .retrieve()
@@ -115,7 +117,7 @@ public class WebClientBankUtil {
         String url = baseUrl + apiVersion + "/edu/accountAuth/openAccountAuth";
         BankAccountHeaderDto header = createHeader("openAccountAuth", "openAccountAuth", userKey);
         OpenAccountAuthRequestDto requestDto = new OpenAccountAuthRequestDto(header, accountNo, authText);
-        return webClientConfig.webClient().method(HttpMethod.POST)
+        return bankWebClient.method(HttpMethod.POST)
                 .uri(url)
                 .bodyValue(requestDto)
                 .retrieve()
@@ -129,6 +131,14 @@ public class WebClientBankUtil {
      * 계좌 거래내역 리스트 조회
      */
     public Mono<TransactionHistoryListResponseDto> inquireTransactionHistoryList(String userKey, String accountNo, LocalDate startDate, LocalDate endDate) {
+        return transactionHistoryCache.get(userKey, accountNo, startDate, endDate,
+                () -> fetchTransactionHistoryList(userKey, accountNo, startDate, endDate));
+    }
+
+    /**
+     * 계좌 거래내역 리스트를 캐시를 거치지 않고 은행 API에서 직접 조회
+     */
+    public Mono<TransactionHistoryListResponseDto> fetchTransactionHistoryList(String userKey, String accountNo, LocalDate startDate, LocalDate endDate) {
         String url = baseUrl + apiVersion + "/edu/demandDeposit/inquireTransactionHistoryList";
         BankAccountHeaderDto header = createHeader("inquireTransactionHistoryList", "inquireTransactionHistoryList", userKey);
         TransactionHistoryListRequestDto requestDto = new TransactionHistoryListRequestDto(
@@ -139,7 +149,7 @@ public class WebClientBankUtil {
                 "A",
                 "DESC"
         );
-        return webClientConfig.webClient().method(HttpMethod.POST)
+        return bankWebClient.method(HttpMethod.POST)
                 .uri(url)
                 .bodyValue(requestDto)
                 .retrieve()
@@ -156,7 +166,7 @@ public class WebClientBankUtil {
         String url = baseUrl + apiVersion + "/edu/demandDeposit/inquireTransactionHistory";
         BankAccountHeaderDto header = createHeader("inquireTransactionHistory", "inquireTransactionHistory", userKey);
         TransactionHistoryRequestDto requestDto = new TransactionHistoryRequestDto(header, accountNo, transactionUniqueNo);
-        return webClientConfig.webClient().method(HttpMethod.POST)
+        return bankWebClient.method(HttpMethod.POST)
                 .uri(url)
                 .bodyValue(requestDto)
                 .retrieve()
@@ -173,7 +183,7 @@ public class WebClientBankUtil {
         String url = baseUrl + apiVersion + "/edu/accountAuth/checkAuthCode";
         BankAccountHeaderDto header = createHeader("checkAuthCode", "checkAuthCode", userKey);
         CheckAuthCodeRequestDto requestDto = new CheckAuthCodeRequestDto(header, accountNo, authText, authCode);
-        return webClientConfig.webClient().method(HttpMethod.POST)
+        return bankWebClient.method(HttpMethod.POST)
                 .uri(url)
                 .bodyValue(requestDto)
                 .retrieve()
@@ -193,7 +203,7 @@ public class WebClientBankUtil {
                 .userId(unique+email)
                 .apiKey(apiKey)
                 .build();
-        return webClientConfig.webClient().method(HttpMethod.POST)
+        return bankWebClient.method(HttpMethod.POST)
                 .uri(url)
                 .bodyValue(bankUserMakeRequestDto)
 
@@ -211,6 +221,52 @@ public class WebClientBankUtil {
 //                .block();
     }
 
+    /**
+     * 은행 계정 조회 요청. 이미 만들어진 계정의 userKey를 다시 얻을 때 사용합니다.
+     */
+    public Mono<BankUserMakeResponseDto> searchUserAccount(String email) {
+        String url = baseUrl + apiVersion + "/member/search";
+        BankUserMakeRequestDto requestDto = BankUserMakeRequestDto.builder()
+                .userId(unique + email)
+                .apiKey(apiKey)
+                .build();
+        return bankWebClient.method(HttpMethod.POST)
+                .uri(url)
+                .bodyValue(requestDto)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, clientResponse ->
+                        clientResponse.bodyToMono(String.class)
+                                .flatMap(errorBody -> Mono.error(new RuntimeException("4xx Error: " + errorBody)))
+                )
+                .onStatus(HttpStatusCode::is5xxServerError, clientResponse ->
+                        clientResponse.bodyToMono(String.class)
+                                .flatMap(errorBody -> Mono.error(new RuntimeException("5xx Error: " + errorBody)))
+                )
+                .bodyToMono(BankUserMakeResponseDto.class);
+    }
+
+    /**
+     * 사용자의 요구불 계좌 목록 조회 요청
+     */
+    public Mono<AccountListResponseDto> inquireAccountList(String userKey) {
+        String url = baseUrl + apiVersion + "/edu/demandDeposit/inquireDemandDepositAccountList";
+        BankAccountHeaderDto header = createHeader(
+            "inquireDemandDepositAccountList",
+            "inquireDemandDepositAccountList",
+            userKey
+        );
+        AccountListRequestDto requestDto = new AccountListRequestDto(header);
+
+        return bankWebClient.method(HttpMethod.POST)
+            .uri(url)
+            .bodyValue(requestDto)
+            .retrieve()
+            .onStatus(HttpStatusCode::isError, clientResponse ->
+                clientResponse.bodyToMono(String.class)
+                    .flatMap(errorBody -> Mono.error(new RuntimeException("API Error: " + errorBody))))
+            .bodyToMono(AccountListResponseDto.class);
+    }
+
     /**
      * 계좌 잔액 조회 요청
      */
@@ -223,7 +279,7 @@ public class WebClientBankUtil {
         );
         AccountBalanceRequestDto requestDto = new AccountBalanceRequestDto(header, accountNo);
 
-        return webClientConfig.webClient().method(HttpMethod.POST)
+        return bankWebClient.method(HttpMethod.POST)
             .uri(url)
             .bodyValue(requestDto)
             .retrieve()
@@ -246,14 +302,15 @@ public class WebClientBankUtil {
                 .transactionSummary(summary)
                 .build();
 
-        return webClientConfig.webClient().method(HttpMethod.POST)
+        return bankWebClient.method(HttpMethod.POST)
                 .uri(url)
                 .bodyValue(requestDto)
                 .retrieve()
                 .onStatus(HttpStatusCode::isError, clientResponse ->
                         clientResponse.bodyToMono(String.class)
                                 .flatMap(errorBody -> Mono.error(new RuntimeException("API Error: " + errorBody))))
-                .bodyToMono(AccountTransferResponseDto.class);
+                .bodyToMono(AccountTransferResponseDto.class)
+                .flatMap(response -> transactionHistoryCache.invalidate(userKey, accountNo).thenReturn(response));
     }
 
     /**
@@ -269,19 +326,20 @@ public class WebClientBankUtil {
                 .transactionSummary(summary)
                 .build();
 
-        return webClientConfig.webClient().method(HttpMethod.POST)
+        return bankWebClient.method(HttpMethod.POST)
                 .uri(url)
                 .bodyValue(requestDto)
                 .retrieve()
                 .onStatus(HttpStatusCode::isError, clientResponse ->
                         clientResponse.bodyToMono(String.class)
                                 .flatMap(errorBody -> Mono.error(new RuntimeException("API Error: " + errorBody))))
-                .bodyToMono(AccountTransferResponseDto.class);
+                .bodyToMono(AccountTransferResponseDto.class)
+                .flatMap(response -> transactionHistoryCache.invalidate(userKey, accountNo).thenReturn(response));
     }
 
 
     public <T> Mono<T> get(String url, Class<T> responseDtoClass) {
-        return webClientConfig.webClient().method(HttpMethod.GET)
+        return bankWebClient.method(HttpMethod.GET)
                 .uri(url)
                 .retrieve()
 //                .onStatus(HttpStatusCode::is4xxClientError, clientResponse -> Mono.error(new UserHandler(ErrorStatus.AI_CLIENT_ERROR)))
@@ -292,7 +350,7 @@ public class WebClientBankUtil {
 
 
     public <T, V> Mono<T> post(String url, V requestDto, Class<T> responseDtoClass) {
-        return webClientConfig.webClient().method(HttpMethod.POST)
+        return bankWebClient.method(HttpMethod.POST)
                 .uri(url)
                 .bodyValue(requestDto)
                 .retrieve()
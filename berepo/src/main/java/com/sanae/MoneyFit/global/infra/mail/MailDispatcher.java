@@ -0,0 +1,165 @@
+package com.sanae.MoneyFit.global.infra.mail;
+
+import com.sanae.MoneyFit.global.config.MailDeliveryProperties;
+import com.sanae.MoneyFit.global.error.handler.MailHandler;
+import com.sanae.MoneyFit.global.web.response.code.status.ErrorStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessagePreparator;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>MailDispatcher</h2>
+ * <p>
+ * 메일 발송 요청을 크기가 정해진 대기열에 넣고 바로 반환합니다. 전용 발송 스레드들이 대기열에 쌓인 메일을 최대
+ * {@link MailDeliveryProperties#getBatchSize()}통씩 묶어 SMTP 연결 하나로 보내므로, 가입 인증 요청이 몰려도
+ * 요청 스레드가 SMTP 응답을 기다리지 않고 메일마다 연결·인증을 반복하지 않습니다. <br>
+ * 대기열이 가득 차면 무한정 쌓지 않고 즉시 {@link ErrorStatus#MAIL_QUEUE_FULL}로 거절합니다.
+ * </p>
+ * <p>
+ * 지표: {@code mail.queue.size}, {@code mail.queue.remaining}, {@code mail.sent}, {@code mail.failed},
+ * {@code mail.rejected}, {@code mail.batch}
+ * </p>
+ */
+@Slf4j
+@Component
+public class MailDispatcher {
+
+    private static final long POLL_TIMEOUT_MS = 500L;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30L;
+
+    private final JavaMailSender mailSender;
+    private final MailDeliveryProperties properties;
+    private final BlockingQueue<MimeMessage> queue;
+    private final ExecutorService workers;
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+
+    public MailDispatcher(JavaMailSender mailSender, MailDeliveryProperties properties, MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.workers = Executors.newFixedThreadPool(properties.getWorkers(), new CustomizableThreadFactory("mail-sender-"));
+
+        Gauge.builder("mail.queue.size", queue, BlockingQueue::size)
+                .description("발송 대기 중인 메일 수")
+                .strongReference(true)
+                .register(meterRegistry);
+        Gauge.builder("mail.queue.remaining", queue, BlockingQueue::remainingCapacity)
+                .description("대기열 남은 자리")
+                .strongReference(true)
+                .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("mail.sent");
+        this.failedCounter = meterRegistry.counter("mail.failed");
+        this.rejectedCounter = meterRegistry.counter("mail.rejected");
+        this.batchTimer = Timer.builder("mail.batch")
+                .description("묶음 하나를 SMTP 연결 하나로 보내는 데 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            workers.execute(this::drainLoop);
+        }
+    }
+
+    /**
+     * 새 요청을 멈추고, 이미 대기열에 있는 메일은 모두 보낸 뒤 종료합니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        workers.shutdown();
+        if (!workers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("[MailDispatcher] 종료 시간 초과로 미발송 메일 {}통을 버립니다.", queue.size());
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * 메일을 발송 대기열에 넣습니다. 실제 전송은 발송 스레드에서 이루어집니다.
+     *
+     * @param preparator 수신자, 제목, 본문을 채우는 콜백
+     * @throws MailHandler 메일 작성에 실패했거나 대기열이 가득 찬 경우
+     */
+    public void enqueue(MimeMessagePreparator preparator) {
+        MimeMessage message = mailSender.createMimeMessage();
+        try {
+            preparator.prepare(message);
+        } catch (Exception e) {
+            throw new MailHandler(ErrorStatus.MAIL_SEND_ERROR);
+        }
+
+        if (!queue.offer(message)) {
+            rejectedCounter.increment();
+            throw new MailHandler(ErrorStatus.MAIL_QUEUE_FULL);
+        }
+    }
+
+    // ####################### Private 서브 메서드 #######################
+
+    private void drainLoop() {
+        List<MimeMessage> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                MimeMessage first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                batchTimer.record(() -> send(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("[MailDispatcher] 메일 발송 스레드 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 묶음 전체를 SMTP 연결 하나로 보냅니다. 일부만 실패하면 실패한 메일만 집계합니다.
+     */
+    private void send(List<MimeMessage> batch) {
+        try {
+            mailSender.send(batch.toArray(new MimeMessage[0]));
+            sentCounter.increment(batch.size());
+        } catch (MailSendException e) {
+            int failed = e.getFailedMessages().isEmpty() ? batch.size() : e.getFailedMessages().size();
+            failedCounter.increment(failed);
+            sentCounter.increment(batch.size() - failed);
+            log.warn("[MailDispatcher] 메일 {}통 중 {}통 발송 실패: {}", batch.size(), failed, e.getMessage());
+        } catch (MailException e) {
+            failedCounter.increment(batch.size());
+            log.warn("[MailDispatcher] 메일 {}통 발송 실패: {}", batch.size(), e.getMessage());
+        }
+    }
+}
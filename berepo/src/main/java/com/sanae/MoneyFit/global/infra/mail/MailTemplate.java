@@ -0,0 +1,85 @@
+package com.sanae.MoneyFit.global.infra.mail;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <h2>MailTemplate</h2>
+ * <p>
+ * {@code {{name}}} 자리표시자를 가진 HTML 메일 템플릿입니다. <br>
+ * 애플리케이션 시작 시 한 번 고정 문자열 조각과 자리표시자 목록으로 나누어 두고,
+ * 수신자마다 조각 사이에 HTML 이스케이프한 값을 채워 넣기만 하므로 렌더링 비용이 본문 길이에 비례합니다.
+ * </p>
+ */
+public final class MailTemplate {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{\\s*(\\w+)\\s*}}");
+
+    /** 고정 문자열 조각. 항상 자리표시자보다 하나 많습니다. */
+    private final List<String> literals;
+    private final List<String> names;
+    private final int estimatedLength;
+
+    private MailTemplate(List<String> literals, List<String> names) {
+        this.literals = literals;
+        this.names = names;
+        this.estimatedLength = literals.stream().mapToInt(String::length).sum() + names.size() * 16;
+    }
+
+    /**
+     * 템플릿 문자열을 컴파일합니다.
+     */
+    public static MailTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER.matcher(source);
+        int last = 0;
+        while (matcher.find()) {
+            literals.add(source.substring(last, matcher.start()));
+            names.add(matcher.group(1));
+            last = matcher.end();
+        }
+        literals.add(source.substring(last));
+        return new MailTemplate(List.copyOf(literals), List.copyOf(names));
+    }
+
+    /**
+     * 클래스패스의 템플릿 파일을 읽어 컴파일합니다.
+     *
+     * @param location 클래스패스 경로 (예: {@code templates/mail/verification.html})
+     */
+    public static MailTemplate load(String location) {
+        try (InputStream in = new ClassPathResource(location).getInputStream()) {
+            return compile(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("메일 템플릿을 읽을 수 없습니다: " + location, e);
+        }
+    }
+
+    /**
+     * 자리표시자를 값으로 채웁니다. 값은 HTML 이스케이프됩니다.
+     *
+     * @throws IllegalArgumentException 값이 없는 자리표시자가 있는 경우
+     */
+    public String render(Map<String, String> variables) {
+        StringBuilder sb = new StringBuilder(estimatedLength);
+        for (int i = 0; i < names.size(); i++) {
+            String value = variables.get(names.get(i));
+            if (value == null) {
+                throw new IllegalArgumentException("메일 템플릿 값이 없습니다: " + names.get(i));
+            }
+            sb.append(literals.get(i)).append(HtmlUtils.htmlEscape(value));
+        }
+        return sb.append(literals.get(names.size())).toString();
+    }
+}
@@ -0,0 +1,23 @@
+package com.sanae.MoneyFit.global.security;
+
+import io.swagger.v3.oas.annotations.Parameter;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 현재 요청의 인증된 사용자를 컨트롤러 파라미터로 주입합니다.
+ * <ul>
+ *     <li>{@code @CurrentUser UUID userId}: 토큰의 사용자 ID (DB 조회 없음)</li>
+ *     <li>{@code @CurrentUser User user}: 사용자 엔티티 (요청당 최대 한 번 조회)</li>
+ * </ul>
+ *
+ * @see CurrentUserArgumentResolver
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Parameter(hidden = true)
+public @interface CurrentUser {
+}
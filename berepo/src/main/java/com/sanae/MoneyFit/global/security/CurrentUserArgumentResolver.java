@@ -0,0 +1,51 @@
+package com.sanae.MoneyFit.global.security;
+
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.global.error.handler.TokenHandler;
+import com.sanae.MoneyFit.global.security.jwt.JwtAuthenticationFilter;
+import com.sanae.MoneyFit.global.web.response.code.status.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.util.UUID;
+
+/**
+ * <h2>CurrentUserArgumentResolver</h2>
+ * <p>
+ * {@link CurrentUser} 파라미터를 채웁니다. 사용자 ID는 {@link JwtAuthenticationFilter}가 토큰을 검증하며 남긴 요청 속성에서 읽으므로
+ * 컨트롤러에서 토큰을 다시 파싱하지 않고, 사용자 엔티티는 {@link RequestUserCache}를 통해 요청당 최대 한 번만 조회합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final RequestUserCache requestUserCache;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        Class<?> type = parameter.getParameterType();
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && (UUID.class.equals(type) || User.class.equals(type));
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Object userId = webRequest.getAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (!(userId instanceof UUID)) {
+            throw new TokenHandler(ErrorStatus.NO_AUTHENTICATION_INFORMATION);
+        }
+
+        if (User.class.equals(parameter.getParameterType())) {
+            return requestUserCache.get((UUID) userId);
+        }
+        return userId;
+    }
+}
@@ -0,0 +1,40 @@
+package com.sanae.MoneyFit.global.security;
+
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.domain.user.repository.UserRepository;
+import com.sanae.MoneyFit.global.error.handler.UserHandler;
+import com.sanae.MoneyFit.global.web.response.code.status.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * <h2>RequestUserCache</h2>
+ * <p>
+ * 요청 범위의 {@link User} 캐시입니다. 한 요청 안에서 같은 사용자를 여러 번 요구해도 DB 조회는 한 번만 일어납니다. <br>
+ * open-in-view를 끄고 있으므로 반환되는 엔티티는 준영속 상태입니다. 조회 조건이나 연관관계 참조로만 사용하고,
+ * 지연 로딩 필드 접근이나 값 변경이 필요한 경우에는 트랜잭션 안에서 다시 조회해야 합니다.
+ * </p>
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class RequestUserCache {
+
+    private final UserRepository userRepository;
+    private final Map<UUID, User> users = new HashMap<>();
+
+    /**
+     * 사용자를 조회합니다. 이 요청에서 이미 조회한 사용자라면 DB를 거치지 않습니다.
+     *
+     * @throws UserHandler 사용자가 존재하지 않는 경우
+     */
+    public User get(UUID userId) {
+        return users.computeIfAbsent(userId, id -> userRepository.findById(id)
+                .orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND)));
+    }
+}
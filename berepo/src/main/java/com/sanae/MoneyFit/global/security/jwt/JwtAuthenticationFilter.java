@@ -4,6 +4,7 @@ package com.sanae.MoneyFit.global.security.jwt;
 import com.sanae.MoneyFit.global.error.handler.TokenHandler;
 import com.sanae.MoneyFit.global.web.response.ApiResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -17,10 +18,14 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.GenericFilterBean;
 
 import java.io.IOException;
+import java.util.UUID;
 
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends GenericFilterBean {
 
+    /** 검증된 액세스 토큰의 사용자 ID(UUID)를 담는 요청 속성. {@code @CurrentUser} 파라미터가 토큰을 다시 파싱하지 않고 이 값을 사용합니다. */
+    public static final String USER_ID_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".USER_ID";
+
     private final JwtTokenProvider jwtTokenProvider;
     private final ObjectMapper objectMapper;
 
@@ -33,11 +38,13 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         // 1. Request Header에서 JWT 토큰 추출
         try {
             String token = resolveToken(httpServletRequest);
-            // 2. validateToken으로 토큰 유효성 검사
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                // 토큰이 유효할 경우 토큰에서 Authentication 객체를 가지고 와서 SecurityContext에 저장
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
+            // 2. 토큰을 한 번만 파싱하여 유효성 검사 후 클레임을 재사용
+            if (token != null) {
+                Claims claims = jwtTokenProvider.validateAndGetClaims(token);
+                // 토큰이 유효할 경우 클레임으로 Authentication 객체를 만들어 SecurityContext에 저장
+                Authentication authentication = jwtTokenProvider.getAuthentication(claims);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                httpServletRequest.setAttribute(USER_ID_ATTRIBUTE, UUID.fromString(claims.getSubject()));
             }
         } catch (TokenHandler e) {
             logger.error(e.getMessage());
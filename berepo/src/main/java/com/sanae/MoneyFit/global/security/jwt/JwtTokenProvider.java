@@ -26,6 +26,8 @@ import java.util.stream.Collectors;
 @Component
 public class JwtTokenProvider {
     private final Key key;
+    /** 서명 키가 고정이므로 파서를 한 번만 만들어 모든 요청에서 재사용합니다. (JwtParser는 불변이며 스레드 안전) */
+    private final JwtParser jwtParser;
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 7 * 24 * 60 * 60 * 1000L;
 
     //테스트용
@@ -36,6 +38,9 @@ public class JwtTokenProvider {
     public JwtTokenProvider(@Value("${jwt.secret}") String secretKey) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     // Member 정보를 가지고 AccessToken, RefreshToken을 생성하는 메서드
@@ -79,8 +84,11 @@ public class JwtTokenProvider {
     // Jwt 토큰을 복호화하여 토큰에 들어있는 정보를 꺼내는 메서드
     public Authentication getAuthentication(String accessToken) {
         // Jwt 토큰 복호화
-        Claims claims = parseClaims(accessToken);
+        return getAuthentication(parseClaims(accessToken));
+    }
 
+    // 이미 검증한 클레임으로 Authentication 객체를 만드는 메서드
+    public Authentication getAuthentication(Claims claims) {
         if (claims.get("auth") == null) {
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");
         }
@@ -98,12 +106,14 @@ public class JwtTokenProvider {
 
     // 토큰 정보를 검증하는 메서드
     public boolean validateToken(String token) {
+        validateAndGetClaims(token);
+        return true;
+    }
+
+    // 토큰을 한 번만 파싱하여 검증하고 클레임을 반환하는 메서드
+    public Claims validateAndGetClaims(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         }catch (SignatureException e){
             throw new TokenHandler(ErrorStatus.TOKEN_SIGNATURE_INVALID);
         } catch (SecurityException | MalformedJwtException e) {
@@ -121,10 +131,7 @@ public class JwtTokenProvider {
     // accessToken 정보확인
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(accessToken)
+            return jwtParser.parseClaimsJws(accessToken)
                     .getBody();
         } catch (ExpiredJwtException e) { //access토큰이 만료됐을때 처리
             return e.getClaims();
@@ -132,10 +139,7 @@ public class JwtTokenProvider {
     }
 
     public UUID getUserId(String token) {
-        String userIdString = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
+        String userIdString = jwtParser.parseClaimsJws(token)
                 .getBody()
                 .getSubject();
 
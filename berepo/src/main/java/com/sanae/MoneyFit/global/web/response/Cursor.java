@@ -0,0 +1,46 @@
+package com.sanae.MoneyFit.global.web.response;
+
+import com.sanae.MoneyFit.global.error.exception.GeneralException;
+import com.sanae.MoneyFit.global.web.response.code.status.ErrorStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션의 위치 (생성일시, ID)
+ * <p>
+ * 클라이언트에는 불투명한 Base64URL 문자열로 전달하고, 다음 요청에서 그대로 돌려받아
+ * {@code (createdDate, id) < (커서)} 조건으로 이어서 조회합니다. 같은 시각에 생성된 항목은 ID로 구분합니다.
+ * </p>
+ *
+ * @param createdDate 마지막 항목의 생성일시
+ * @param id          마지막 항목의 ID
+ */
+public record Cursor(LocalDateTime createdDate, long id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = createdDate + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param value {@link #encode()}로 만든 문자열, 첫 페이지면 {@code null} 또는 빈 문자열
+     * @return 첫 페이지면 {@code null}
+     * @throws GeneralException 형식이 올바르지 않은 경우
+     */
+    public static Cursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new Cursor(LocalDateTime.parse(raw.substring(0, index)), Long.parseLong(raw.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new GeneralException(ErrorStatus.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.sanae.MoneyFit.global.web.response;
+
+import lombok.Builder;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이징 API 응답 처리 Dto
+ * <p>
+ * 오프셋 대신 마지막 항목의 위치({@link Cursor})로 다음 페이지를 조회하므로 페이지가 깊어져도 조회 비용이 같습니다.
+ * 전체 개수는 요청한 경우에만 COUNT 쿼리로 계산합니다.
+ * </p>
+ *
+ * @param size       요청한 페이지 크기
+ * @param hasNext    다음 페이지 존재 여부
+ * @param nextCursor 다음 페이지 요청에 사용할 커서 (마지막 페이지면 {@code null})
+ * @param totalItems 전체 아이템 수 (요청하지 않았으면 {@code null})
+ * @param items      현재 페이지의 아이템 목록
+ */
+@Builder
+public record CursorResponse<T>(
+        int size,
+        boolean hasNext,
+        String nextCursor,
+        Long totalItems,
+        List<T> items
+) {
+    /**
+     * {@code size + 1}개까지 조회한 결과로 응답을 만듭니다. 초과분이 있으면 다음 페이지가 있는 것으로 보고 잘라냅니다.
+     *
+     * @param rows        {@code size + 1}개까지 조회한 엔티티 목록
+     * @param size        페이지 크기
+     * @param cursorOf    엔티티의 커서 위치
+     * @param totalItems  전체 아이템 수 (선택)
+     * @param batchMapper 페이지 단위로 한 번에 변환하는 함수
+     */
+    public static <E, T> CursorResponse<T> ofBatch(List<E> rows, int size, Function<? super E, Cursor> cursorOf,
+                                                   Long totalItems, Function<List<E>, List<T>> batchMapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> content = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorResponse.<T>builder()
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null)
+                .totalItems(totalItems)
+                .items(batchMapper.apply(content))
+                .build();
+    }
+}
@@ -51,5 +51,16 @@ public record PaginatedResponse<T>(
                 .items(mapped)
                 .build();
     }
+
+    // Page<E> -> PaginatedResponse<T> 매핑 (페이지 단위로 한 번에 변환)
+    public static <E, T> PaginatedResponse<T> ofBatch(Page<E> page, Function<List<E>, List<T>> batchMapper) {
+        return PaginatedResponse.<T>builder()
+                .page(page.getNumber())
+                .pageSize(page.getSize())
+                .totalItems(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .items(batchMapper.apply(page.getContent()))
+                .build();
+    }
 }
 
@@ -16,6 +16,7 @@ public enum ErrorStatus implements BaseErrorCode {
     _BAD_REQUEST(HttpStatus.BAD_REQUEST,"COMMON400","잘못된 요청입니다."),
     _UNAUTHORIZED(HttpStatus.UNAUTHORIZED,"COMMON401","인증이 필요합니다."),
     _FORBIDDEN(HttpStatus.FORBIDDEN, "COMMON403", "금지된 요청입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "COMMON4001", "잘못된 커서 값입니다."),
 
 
     // Token 응답
@@ -43,6 +44,7 @@ public enum ErrorStatus implements BaseErrorCode {
     INVALID_RANK_TYPE(HttpStatus.UNPROCESSABLE_ENTITY, "RANK4221", "랭킹 타입은 university 또는 major여야 합니다."),
     USER_NOT_BANK_ACCOUNT(HttpStatus.BAD_REQUEST, "USER4009", "유저의 계좌정보가 일치하지 않습니다"),
     FCM_NOT_FOUND(HttpStatus.BAD_REQUEST, "USER4010", "해당 유저의 FCM토큰이 없습니다"),
+    DUMMY_TRANSACTION_NOT_FOUND(HttpStatus.NOT_FOUND, "USER4011", "해당 유저의 더미 거래 생성 기록이 없습니다"),
 
     // password 응답
     PASSWORD_NOT_MATCH(HttpStatus.BAD_REQUEST, "PASSWORD4000", "비밀번호가 맞지 않습니다."),
@@ -50,11 +52,13 @@ public enum ErrorStatus implements BaseErrorCode {
 
     // mail 응답
     MAIL_SEND_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "MAIL5000", "이메일 전송에 에러가 발생했습니다."),
+    MAIL_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "MAIL5030", "메일 요청이 많습니다. 잠시 후 다시 시도해주세요."),
     MAIL_NUMBER_IS_NULL(HttpStatus.BAD_REQUEST,"MAIL4000","인증번호를 입력해주세요"),
     MAIL_NUMBER_IS_NOT_MATCH(HttpStatus.BAD_REQUEST,"MAIL4000","인증번호가 틀렸습니다"),
 
     // shop 응답
     PRODUCT_NOT_FOUND(HttpStatus.BAD_REQUEST,"SHOP4000","해당 ID의 상품을 찾을 수 없습니다: "),
+    INVALID_POINT_AMOUNT(HttpStatus.BAD_REQUEST, "SHOP4001", "포인트 금액은 0보다 커야 합니다."),
     STOCK_IS_NULL(HttpStatus.INTERNAL_SERVER_ERROR, "SHOP5000", "재고가 부족합니다"),
     USER_POINT_LACK(HttpStatus.INTERNAL_SERVER_ERROR, "SHOP5001", "유저의 포인트가 부족합니다"),
 
@@ -0,0 +1,135 @@
+package com.sanae.MoneyFit.domain.analysis.service;
+
+import com.sanae.MoneyFit.domain.analysis.entity.DailyCompletionCounter;
+import com.sanae.MoneyFit.domain.analysis.enums.RoutineKind;
+import com.sanae.MoneyFit.domain.routine.entity.*;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.support.RoutineFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 완료 카운터 보정이 기록 테이블과 같은 값으로 카운터를 생성·덮어쓰는지,
+ * 한 루틴 목록만 보정할 때 다른 목록의 카운터는 건드리지 않는지 검증합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DailyCompletionCounterService.class)
+class DailyCompletionCounterServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final LocalDate YESTERDAY = TODAY.minusDays(1);
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private DailyCompletionCounterService dailyCompletionCounterService;
+
+    private User user;
+    private MyRoutineList myRoutineList;
+    private MyRoutineList otherList;
+    private GroupRoutineList groupRoutineList;
+    private Routine first;
+    private Routine second;
+    private Routine other;
+    private Routine groupRoutine;
+
+    @BeforeEach
+    void setUp() {
+        user = RoutineFixtures.user(em, "counter" + UUID.randomUUID().toString().substring(0, 8));
+        Emoji emoji = RoutineFixtures.emoji(em);
+
+        myRoutineList = RoutineFixtures.myRoutineList(em, user, "개인 루틴", TODAY.minusDays(7));
+        first = myRoutine(myRoutineList, emoji, "상세 루틴 1");
+        second = myRoutine(myRoutineList, emoji, "상세 루틴 2");
+
+        otherList = RoutineFixtures.myRoutineList(em, user, "다른 개인 루틴", TODAY.minusDays(7));
+        other = myRoutine(otherList, emoji, "다른 상세 루틴");
+
+        groupRoutineList = RoutineFixtures.groupRoutineList(em, user, "단체 루틴", 1);
+        groupRoutine = RoutineFixtures.routine(em, emoji, "단체 상세 루틴");
+        em.persist(GroupRoutineMiddle.builder().routineList(groupRoutineList).routine(groupRoutine).build());
+    }
+
+    @Test
+    void 기간_보정은_누락된_카운터를_생성하고_틀린_값을_덮어쓴다() {
+        // 오늘: 카운터 없이 상세 루틴 2개 완료 (같은 상세 루틴의 중복 기록 포함)
+        RoutineFixtures.routineRecord(em, user, first, true, TODAY.atTime(8, 0));
+        RoutineFixtures.routineRecord(em, user, first, true, TODAY.atTime(9, 0));
+        RoutineFixtures.routineRecord(em, user, second, true, TODAY.atTime(10, 0));
+        // 어제: 카운터는 2이지만 완료 기록은 1건, 완료 취소된 기록은 세지 않음
+        counter(RoutineKind.MY, myRoutineList, YESTERDAY, 2);
+        RoutineFixtures.routineRecord(em, user, first, true, YESTERDAY.atTime(8, 0));
+        RoutineFixtures.routineRecord(em, user, second, false, YESTERDAY.atTime(8, 0));
+        // 다른 목록: 기록이 모두 지워졌지만 카운터가 남아 있음
+        counter(RoutineKind.MY, otherList, TODAY, 1);
+        // 단체 루틴: 카운터 없이 완료
+        RoutineFixtures.routineRecord(em, user, groupRoutine, true, TODAY.atTime(20, 0));
+        em.flush();
+
+        int repaired = dailyCompletionCounterService.reconcile(YESTERDAY, TODAY);
+
+        em.clear();
+        assertThat(doneCount(RoutineKind.MY, myRoutineList.getId(), TODAY)).isEqualTo(2);
+        assertThat(doneCount(RoutineKind.MY, myRoutineList.getId(), YESTERDAY)).isEqualTo(1);
+        assertThat(doneCount(RoutineKind.MY, otherList.getId(), TODAY)).isZero();
+        assertThat(doneCount(RoutineKind.GROUP, groupRoutineList.getId(), TODAY)).isEqualTo(1);
+        assertThat(repaired).isEqualTo(4);
+    }
+
+    @Test
+    void 값이_맞는_카운터는_바뀐_수에_포함되지_않는다() {
+        counter(RoutineKind.MY, myRoutineList, TODAY, 1);
+        RoutineFixtures.routineRecord(em, user, first, true, TODAY.atTime(8, 0));
+        em.flush();
+
+        int repaired = dailyCompletionCounterService.reconcile(TODAY, TODAY);
+
+        assertThat(repaired).isZero();
+    }
+
+    @Test
+    void 한_루틴_목록만_보정하면_다른_목록의_카운터는_그대로_둔다() {
+        RoutineFixtures.routineRecord(em, user, first, true, TODAY.atTime(8, 0));
+        counter(RoutineKind.MY, otherList, TODAY, 3);
+        RoutineFixtures.routineRecord(em, user, other, true, TODAY.atTime(8, 0));
+        em.flush();
+
+        dailyCompletionCounterService.reconcile(RoutineKind.MY, myRoutineList.getId(), TODAY);
+
+        em.clear();
+        assertThat(doneCount(RoutineKind.MY, myRoutineList.getId(), TODAY)).isEqualTo(1);
+        assertThat(doneCount(RoutineKind.MY, otherList.getId(), TODAY)).isEqualTo(3);
+    }
+
+    private Routine myRoutine(MyRoutineList list, Emoji emoji, String name) {
+        Routine routine = RoutineFixtures.routine(em, emoji, name);
+        em.persist(MyRoutineMiddle.builder().routineList(list).routine(routine).build());
+        return routine;
+    }
+
+    private void counter(RoutineKind routineKind, MyRoutineList list, LocalDate date, int doneCount) {
+        em.persist(DailyCompletionCounter.builder()
+                .user(user)
+                .routineKind(routineKind)
+                .routineListId(list.getId())
+                .completionDate(date)
+                .doneCount(doneCount)
+                .build());
+    }
+
+    private int doneCount(RoutineKind routineKind, Long routineListId, LocalDate date) {
+        return dailyCompletionCounterService.getDoneCount(user.getId(), routineKind, routineListId, date);
+    }
+}
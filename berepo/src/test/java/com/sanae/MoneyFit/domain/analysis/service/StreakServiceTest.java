@@ -0,0 +1,192 @@
+package com.sanae.MoneyFit.domain.analysis.service;
+
+import com.sanae.MoneyFit.domain.routine.entity.MyRoutineDays;
+import com.sanae.MoneyFit.domain.routine.entity.MyRoutineList;
+import com.sanae.MoneyFit.domain.routine.enums.DayType;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.support.RoutineFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 연속 달성 상태의 증분 갱신, 동시 최초 생성, 재계산 기간 제한, 페이지 단위 백필을 검증합니다.
+ * 동시성과 별도 트랜잭션 커밋을 확인해야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({StreakService.class, StreakBackfillJob.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StreakServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private StreakService streakService;
+
+    @Autowired
+    private StreakBackfillJob streakBackfillJob;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<UUID> userIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        tx().executeWithoutResult(status -> {
+            em.createQuery("DELETE FROM UserStreak s WHERE s.user.id IN :ids").setParameter("ids", userIds).executeUpdate();
+            em.createQuery("DELETE FROM MyRoutineListRecord r WHERE r.user.id IN :ids").setParameter("ids", userIds).executeUpdate();
+            em.createQuery("DELETE FROM MyRoutineDays d WHERE d.routineList.user.id IN :ids").setParameter("ids", userIds).executeUpdate();
+            em.createQuery("DELETE FROM MyRoutineList l WHERE l.user.id IN :ids").setParameter("ids", userIds).executeUpdate();
+            em.createQuery("DELETE FROM User u WHERE u.id IN :ids").setParameter("ids", userIds).executeUpdate();
+        });
+    }
+
+    @Test
+    void 연속된_완료는_증분으로_반영된다() {
+        Member member = member("streak");
+
+        complete(member, TODAY.minusDays(2));
+        complete(member, TODAY.minusDays(1));
+        complete(member, TODAY);
+
+        assertThat(streakService.getCurrentStreak(member.user())).isEqualTo(3);
+        assertThat(streakRows(member)).isEqualTo(1L);
+    }
+
+    @Test
+    void 과거_날짜가_완료되면_전체_재계산한다() {
+        Member member = member("backdate");
+
+        complete(member, TODAY.minusDays(2));
+        complete(member, TODAY);
+        assertThat(streakService.getCurrentStreak(member.user())).isEqualTo(1);
+
+        complete(member, TODAY.minusDays(1));
+
+        assertThat(streakService.getCurrentStreak(member.user())).isEqualTo(3);
+    }
+
+    @Test
+    void 동시에_첫_완료를_기록해도_상태_행은_하나만_생긴다() throws Exception {
+        Member member = member("concurrent");
+        tx().executeWithoutResult(status ->
+                RoutineFixtures.myRoutineListRecord(em, em.merge(member.user()), em.merge(member.list()), TODAY.atStartOfDay()));
+
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                streakService.onCompletion(member.user(), TODAY);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(streakRows(member)).isEqualTo(1L);
+        assertThat(streakService.getCurrentStreak(member.user())).isEqualTo(1);
+    }
+
+    @Test
+    void 재계산은_최근_1년의_기록만_본다() {
+        Member member = member("lookback");
+        LocalDate from = TODAY.minusYears(1).minusDays(10);
+        tx().executeWithoutResult(status -> {
+            User user = em.merge(member.user());
+            MyRoutineList list = em.merge(member.list());
+            for (LocalDate date = from; !date.isAfter(TODAY); date = date.plusDays(1)) {
+                RoutineFixtures.myRoutineListRecord(em, user, list, date.atStartOfDay());
+            }
+        });
+
+        tx().executeWithoutResult(status -> streakService.recalculate(member.user()));
+
+        long daysInLookback = ChronoUnit.DAYS.between(StreakService.lookbackStart(TODAY).toLocalDate(), TODAY) + 1;
+        assertThat(streakService.getCurrentStreak(member.user())).isEqualTo((int) daysInLookback);
+    }
+
+    @Test
+    void 백필은_모든_사용자의_상태를_다시_계산한다() {
+        Member completed = member("backfill");
+        Member cleared = member("cleared");
+        complete(cleared, TODAY);
+        tx().executeWithoutResult(status -> {
+            RoutineFixtures.myRoutineListRecord(em, em.merge(completed.user()), em.merge(completed.list()), TODAY.minusDays(1).atStartOfDay());
+            RoutineFixtures.myRoutineListRecord(em, em.merge(completed.user()), em.merge(completed.list()), TODAY.atStartOfDay());
+            em.createQuery("DELETE FROM MyRoutineListRecord r WHERE r.user.id = :id")
+                    .setParameter("id", cleared.user().getId())
+                    .executeUpdate();
+        });
+
+        streakBackfillJob.backfill();
+
+        assertThat(streakService.getCurrentStreak(completed.user())).isEqualTo(2);
+        assertThat(streakRows(completed)).isEqualTo(1L);
+        assertThat(streakService.getCurrentStreak(cleared.user())).isZero();
+    }
+
+    // 매일 예정된 개인 루틴 하나를 가진 사용자
+    private Member member(String nickname) {
+        Member member = tx().execute(status -> {
+            User user = RoutineFixtures.user(em, nickname + UUID.randomUUID().toString().substring(0, 8));
+            MyRoutineList list = RoutineFixtures.myRoutineList(em, user, "매일 루틴", TODAY.minusYears(2));
+            for (DayType dayType : DayType.values()) {
+                em.persist(MyRoutineDays.builder().routineList(list).dayType(dayType).build());
+            }
+            return new Member(user, list);
+        });
+        userIds.add(member.user().getId());
+        return member;
+    }
+
+    // 서비스와 같이 기록 저장 후 같은 트랜잭션에서 상태를 갱신합니다.
+    private void complete(Member member, LocalDate date) {
+        tx().executeWithoutResult(status -> {
+            User user = em.merge(member.user());
+            RoutineFixtures.myRoutineListRecord(em, user, em.merge(member.list()), date.atStartOfDay());
+            streakService.onCompletion(user, date);
+        });
+    }
+
+    private long streakRows(Member member) {
+        return tx().execute(status -> em.createQuery(
+                        "SELECT COUNT(s) FROM UserStreak s WHERE s.user.id = :id", Long.class)
+                .setParameter("id", member.user().getId())
+                .getSingleResult());
+    }
+
+    private TransactionTemplate tx() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    private record Member(User user, MyRoutineList list) {
+    }
+}
@@ -0,0 +1,105 @@
+package com.sanae.MoneyFit.domain.analysis.service;
+
+import com.sanae.MoneyFit.domain.analysis.entity.WeeklyRoutineSummary;
+import com.sanae.MoneyFit.domain.analysis.enums.RoutineKind;
+import com.sanae.MoneyFit.domain.routine.entity.GroupRoutineList;
+import com.sanae.MoneyFit.domain.routine.entity.MyRoutineList;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.support.RoutineFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주간 요약 백필이 성공한 완료 기록만 페이지 단위 upsert 로 비트마스크에 반영하는지 검증합니다.
+ * 페이지마다 별도 트랜잭션으로 커밋하므로 테스트 트랜잭션 없이 실행하고 직접 정리합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({WeeklySummaryService.class, WeeklySummaryBackfillJob.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WeeklySummaryBackfillJobTest {
+
+    private static final LocalDate LAST_MONDAY = WeeklyRoutineSummary.weekStartOf(LocalDate.now()).minusWeeks(1);
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private WeeklySummaryBackfillJob weeklySummaryBackfillJob;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @AfterEach
+    void tearDown() {
+        tx().executeWithoutResult(status -> {
+            em.createQuery("DELETE FROM WeeklyRoutineSummary s").executeUpdate();
+            em.createQuery("DELETE FROM GroupRoutineListDoneCheck d WHERE d.user.id = :id").setParameter("id", user.getId()).executeUpdate();
+            em.createQuery("DELETE FROM GroupRoutineList l WHERE l.user.id = :id").setParameter("id", user.getId()).executeUpdate();
+            em.createQuery("DELETE FROM MyRoutineListRecord r WHERE r.user.id = :id").setParameter("id", user.getId()).executeUpdate();
+            em.createQuery("DELETE FROM MyRoutineList l WHERE l.user.id = :id").setParameter("id", user.getId()).executeUpdate();
+            em.createQuery("DELETE FROM User u WHERE u.id = :id").setParameter("id", user.getId()).executeUpdate();
+        });
+    }
+
+    @Test
+    void 백필은_성공한_완료_기록만_비트마스크에_반영한다() {
+        Lists lists = tx().execute(status -> {
+            user = RoutineFixtures.user(em, "backfill" + UUID.randomUUID().toString().substring(0, 8));
+            MyRoutineList myRoutineList = RoutineFixtures.myRoutineList(em, user, "아침 루틴", LAST_MONDAY.minusWeeks(1));
+            GroupRoutineList groupRoutineList = RoutineFixtures.groupRoutineList(em, user, "단체 루틴", 1);
+
+            RoutineFixtures.myRoutineListRecord(em, user, myRoutineList, LAST_MONDAY.plusDays(4).atStartOfDay());
+            RoutineFixtures.myRoutineListRecord(em, user, myRoutineList, LAST_MONDAY.plusDays(4).atTime(9, 0));
+            RoutineFixtures.myRoutineListRecord(em, user, myRoutineList, LAST_MONDAY.plusDays(6).atStartOfDay());
+            RoutineFixtures.groupDoneCheck(em, user, groupRoutineList, LAST_MONDAY.plusDays(5).atTime(21, 0));
+            RoutineFixtures.groupDoneCheck(em, user, groupRoutineList, LAST_MONDAY.plusDays(2).atTime(21, 0))
+                    .updateDoneCheck(false);
+            return new Lists(myRoutineList, groupRoutineList);
+        });
+
+        weeklySummaryBackfillJob.backfillIfEmpty();
+
+        assertThat(doneMask(RoutineKind.MY, lists.my().getId()))
+                .isEqualTo(WeeklyRoutineSummary.bit(DayOfWeek.FRIDAY) + WeeklyRoutineSummary.bit(DayOfWeek.SUNDAY));
+        assertThat(doneMask(RoutineKind.GROUP, lists.group().getId()))
+                .isEqualTo(WeeklyRoutineSummary.bit(DayOfWeek.SATURDAY));
+    }
+
+    private int doneMask(RoutineKind routineKind, Long routineListId) {
+        return tx().execute(status -> em.createQuery("SELECT s.doneMask FROM WeeklyRoutineSummary s " +
+                        "WHERE s.user.id = :userId AND s.weekStart = :weekStart " +
+                        "AND s.routineKind = :routineKind AND s.routineListId = :routineListId", Integer.class)
+                .setParameter("userId", user.getId())
+                .setParameter("weekStart", LAST_MONDAY)
+                .setParameter("routineKind", routineKind)
+                .setParameter("routineListId", routineListId)
+                .getResultStream()
+                .findFirst()
+                .orElse(0));
+    }
+
+    private TransactionTemplate tx() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    private record Lists(MyRoutineList my, GroupRoutineList group) {
+    }
+}
@@ -0,0 +1,146 @@
+package com.sanae.MoneyFit.domain.analysis.service;
+
+import com.sanae.MoneyFit.domain.analysis.dto.response.WeeklySummaryDto;
+import com.sanae.MoneyFit.domain.analysis.entity.WeeklyRoutineSummary;
+import com.sanae.MoneyFit.domain.analysis.enums.RoutineKind;
+import com.sanae.MoneyFit.domain.routine.dto.request.GroupRoutineRequestDto;
+import com.sanae.MoneyFit.domain.routine.entity.*;
+import com.sanae.MoneyFit.domain.routine.enums.RoutineType;
+import com.sanae.MoneyFit.domain.routine.service.GroupRoutineCardAssembler;
+import com.sanae.MoneyFit.domain.routine.service.GroupRoutineServiceImpl;
+import com.sanae.MoneyFit.domain.routine.service.MyRoutineListCardAssembler;
+import com.sanae.MoneyFit.domain.routine.service.MyRoutineListService;
+import com.sanae.MoneyFit.domain.routine.service.archive.RoutineRecordHistoryService;
+import com.sanae.MoneyFit.domain.routine.service.completion.RoutineCompletionQueue;
+import com.sanae.MoneyFit.domain.routine.service.membership.GroupMembershipCache;
+import com.sanae.MoneyFit.domain.routine.service.search.GroupRoutineSearchIndex;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.domain.user.service.PointLedgerService;
+import com.sanae.MoneyFit.support.RoutineFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * 완료 서비스를 거쳐 갱신된 주간 요약 read model 이 기존 기록 테이블 계산(검증 모드)과 일치하는지 비교합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AnalysisService.class, StreakService.class, WeeklySummaryService.class,
+        MyRoutineListService.class, GroupRoutineServiceImpl.class})
+class WeeklySummaryReadModelTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final LocalDate MONDAY = WeeklyRoutineSummary.weekStartOf(TODAY);
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private AnalysisService analysisService;
+
+    @Autowired
+    private MyRoutineListService myRoutineListService;
+
+    @Autowired
+    private GroupRoutineServiceImpl groupRoutineService;
+
+    @MockBean
+    private PointLedgerService pointLedgerService;
+
+    @MockBean
+    private DailyCompletionCounterService dailyCompletionCounterService;
+
+    @MockBean
+    private MyRoutineListCardAssembler myRoutineListCardAssembler;
+
+    @MockBean
+    private GroupRoutineCardAssembler groupRoutineCardAssembler;
+
+    @MockBean
+    private RoutineCompletionQueue routineCompletionQueue;
+
+    @MockBean
+    private RoutineRecordHistoryService routineRecordHistoryService;
+
+    @MockBean
+    private GroupRoutineSearchIndex groupRoutineSearchIndex;
+
+    @MockBean
+    private GroupMembershipCache groupMembershipCache;
+
+    private User user;
+    private MyRoutineList myRoutineList;
+    private GroupRoutineList groupRoutineList;
+
+    @BeforeEach
+    void setUp() {
+        user = RoutineFixtures.user(em, "tester");
+        myRoutineList = RoutineFixtures.myRoutineList(em, user, "아침 루틴", MONDAY.minusWeeks(1));
+        RoutineFixtures.myRoutineList(em, user, "기록 없는 루틴", MONDAY.minusWeeks(1));
+        groupRoutineList = RoutineFixtures.groupRoutineList(em, user, "단체 루틴", 1);
+        em.persist(UserInRoom.builder().groupRoutineList(groupRoutineList).user(user).build());
+        em.flush();
+    }
+
+    @Test
+    void 완료_서비스가_갱신한_비트마스크가_기록_계산과_일치한다() {
+        myRoutineListService.completeMyRoutineList(user, myRoutineList.getId(), TODAY);
+        myRoutineListService.completeMyRoutineList(user, myRoutineList.getId(), TODAY);
+        completeGroupRoutine(true);
+
+        assertSameAsRecords(MONDAY, MONDAY.plusDays(6));
+        assertThat(doneMask(RoutineKind.MY, myRoutineList.getId())).isEqualTo(WeeklyRoutineSummary.bit(TODAY.getDayOfWeek()));
+        assertThat(doneMask(RoutineKind.GROUP, groupRoutineList.getId())).isEqualTo(WeeklyRoutineSummary.bit(TODAY.getDayOfWeek()));
+    }
+
+    @Test
+    void 단체_루틴_실패_처리는_비트를_끈다() {
+        completeGroupRoutine(true);
+        completeGroupRoutine(false);
+
+        assertSameAsRecords(MONDAY, MONDAY.plusDays(6));
+        assertThat(doneMask(RoutineKind.GROUP, groupRoutineList.getId())).isZero();
+    }
+
+    private void assertSameAsRecords(LocalDate startDate, LocalDate endDate) {
+        List<WeeklySummaryDto> readModel = analysisService.getWeeklySummaries(user.getId(), startDate, endDate, RoutineType.DAILY);
+        List<WeeklySummaryDto> records = analysisService.getWeeklySummariesFromRecords(user.getId(), startDate, endDate, RoutineType.DAILY);
+
+        assertThat(readModel).hasSize(3);
+        assertThat(readModel).usingRecursiveComparison().isEqualTo(records);
+    }
+
+    // 상세 루틴이 없는 단체 루틴이므로 완료 수 0이면 성공, 1이면 실패 처리가 허용됩니다.
+    private void completeGroupRoutine(boolean status) {
+        when(dailyCompletionCounterService.getDoneCount(eq(user.getId()), eq(RoutineKind.GROUP), eq(groupRoutineList.getId()), any()))
+                .thenReturn(status ? 0 : 1);
+        groupRoutineService.updateGroupRoutineRecord(user, groupRoutineList.getId(), new GroupRoutineRequestDto.RecordUpdate(status));
+    }
+
+    private int doneMask(RoutineKind routineKind, Long routineListId) {
+        em.flush();
+        em.clear();
+        return em.createQuery("SELECT s.doneMask FROM WeeklyRoutineSummary s " +
+                        "WHERE s.user.id = :userId AND s.routineKind = :routineKind AND s.routineListId = :routineListId", Integer.class)
+                .setParameter("userId", user.getId())
+                .setParameter("routineKind", routineKind)
+                .setParameter("routineListId", routineListId)
+                .getResultStream()
+                .findFirst()
+                .orElse(0);
+    }
+}
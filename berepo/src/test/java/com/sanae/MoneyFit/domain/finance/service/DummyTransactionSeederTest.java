@@ -0,0 +1,97 @@
+package com.sanae.MoneyFit.domain.finance.service;
+
+import com.sanae.MoneyFit.domain.finance.dto.response.AccountTransferResponseDto;
+import com.sanae.MoneyFit.domain.finance.dto.response.DummyTransactionProgressResponseDto;
+import com.sanae.MoneyFit.domain.finance.entity.DummyTransactionSeeding;
+import com.sanae.MoneyFit.domain.finance.template.DummyTransactionPlan;
+import com.sanae.MoneyFit.global.config.DummyTransactionProperties;
+import com.sanae.MoneyFit.global.infra.http.bank.WebClientBankUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RFuture;
+import org.redisson.api.RRateLimiter;
+import org.redisson.api.RedissonClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 더미 거래 단계가 성공할 때마다 바로 기록되는지, 실행이 취소되면 진행 상황을 기록하고 점유를 푸는지 검증합니다.
+ */
+class DummyTransactionSeederTest {
+
+    private static final String ACCOUNT_NO = "0880000000000001";
+    private static final long TIMEOUT_MS = 2_000L;
+
+    private final WebClientBankUtil webClientBankUtil = mock(WebClientBankUtil.class);
+    private final DummyTransactionSeedingService dummyTransactionSeedingService = mock(DummyTransactionSeedingService.class);
+    private final DummyTransactionPlan plan = DummyTransactionPlan.create(42L);
+    private DummyTransactionSeeder seeder;
+
+    @BeforeEach
+    void setUp() {
+        RRateLimiter rateLimiter = mock(RRateLimiter.class);
+        when(rateLimiter.acquireAsync()).thenAnswer(invocation ->
+                mock(RFuture.class, delegatesTo(CompletableFuture.<Void>completedFuture(null))));
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getRateLimiter(anyString())).thenReturn(rateLimiter);
+        seeder = new DummyTransactionSeeder(webClientBankUtil, dummyTransactionSeedingService,
+                new DummyTransactionProperties(), redissonClient);
+
+        DummyTransactionSeeding seeding = new DummyTransactionSeeding(ACCOUNT_NO, plan, LocalDateTime.now().plusMinutes(5));
+        when(dummyTransactionSeedingService.start(eq(ACCOUNT_NO), anyLong(), any()))
+                .thenReturn(new DummyTransactionSeedingService.Start(true, seeding));
+        when(dummyTransactionSeedingService.finish(eq(ACCOUNT_NO), anyLong()))
+                .thenReturn(DummyTransactionProgressResponseDto.from(seeding));
+        when(webClientBankUtil.deposit(anyString(), anyString(), anyLong(), anyString()))
+                .thenReturn(Mono.just(new AccountTransferResponseDto()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        seeder.stop();
+    }
+
+    @Test
+    void 단계가_성공할_때마다_바로_기록한다() {
+        when(webClientBankUtil.withdraw(anyString(), anyString(), anyLong(), anyString()))
+                .thenReturn(Mono.just(new AccountTransferResponseDto()));
+
+        seeder.seed("user-key", ACCOUNT_NO).block();
+
+        for (DummyTransactionPlan.Step step : plan.deposits()) {
+            verify(dummyTransactionSeedingService).recordProgress(ACCOUNT_NO, step.bit());
+        }
+        for (DummyTransactionPlan.Step step : plan.withdrawals()) {
+            verify(dummyTransactionSeedingService).recordProgress(ACCOUNT_NO, step.bit());
+        }
+        verify(dummyTransactionSeedingService).finish(ACCOUNT_NO, plan.completedMask());
+    }
+
+    @Test
+    void 실행이_취소되면_끝난_단계까지_기록하고_점유를_푼다() {
+        // 출금 응답을 기다리는 동안 호출한 쪽의 제한 시간이 지남
+        when(webClientBankUtil.withdraw(anyString(), anyString(), anyLong(), anyString())).thenReturn(Mono.never());
+
+        assertThatThrownBy(() -> seeder.seed("user-key", ACCOUNT_NO).timeout(Duration.ofMillis(300)).block())
+                .hasCauseInstanceOf(TimeoutException.class);
+
+        long depositMask = plan.deposits().stream().mapToLong(DummyTransactionPlan.Step::bit).reduce(0L, (a, b) -> a | b);
+        verify(dummyTransactionSeedingService, timeout(TIMEOUT_MS)).finish(ACCOUNT_NO, depositMask);
+        for (DummyTransactionPlan.Step step : plan.withdrawals()) {
+            verify(dummyTransactionSeedingService, never()).recordProgress(ACCOUNT_NO, step.bit());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.sanae.MoneyFit.domain.finance.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sanae.MoneyFit.domain.finance.dto.response.TransactionHistoryListResponseDto;
+import com.sanae.MoneyFit.domain.finance.entity.BankLedgerSync;
+import com.sanae.MoneyFit.domain.finance.entity.BankTransaction;
+import com.sanae.MoneyFit.domain.finance.repository.BankLedgerSyncRepository;
+import com.sanae.MoneyFit.domain.finance.repository.BankTransactionRepository;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.global.infra.http.bank.WebClientBankUtil;
+import com.sanae.MoneyFit.support.RoutineFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * 은행 거래내역이 워터마크 이후 구간만 원장에 추가되는지 검증합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TransactionLedgerSynchronizer.class, TransactionLedgerWriter.class})
+class TransactionLedgerSynchronizerTest {
+
+    private static final String USER_KEY = "user-key";
+    private static final String ACCOUNT_NO = "0010000000001";
+    private static final String TODAY = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private TransactionLedgerSynchronizer synchronizer;
+
+    @Autowired
+    private BankTransactionRepository bankTransactionRepository;
+
+    @Autowired
+    private BankLedgerSyncRepository bankLedgerSyncRepository;
+
+    @MockBean
+    private WebClientBankUtil webClientBankUtil;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = RoutineFixtures.user(em, "ledger");
+        em.flush();
+    }
+
+    @Test
+    void 첫_동기화는_받은_거래를_모두_저장하고_최신_번호를_워터마크로_남긴다() throws Exception {
+        respond("12", "11", "9");
+
+        synchronizer.sync(user.getId(), USER_KEY, ACCOUNT_NO);
+
+        assertThat(storedUniqueNos()).containsExactlyInAnyOrder("12", "11", "9");
+        assertThat(watermark().getLastTransactionUniqueNo()).isEqualTo("12");
+    }
+
+    @Test
+    void 워터마크_이하의_거래는_다시_저장하지_않는다() throws Exception {
+        respond("9", "8");
+        synchronizer.sync(user.getId(), USER_KEY, ACCOUNT_NO);
+        // 원장에서 지워진 과거 거래가 응답에 다시 있어도 워터마크 이하이므로 건너뜁니다.
+        em.createQuery("DELETE FROM BankTransaction t WHERE t.transactionUniqueNo = '8'").executeUpdate();
+
+        respond("11", "10", "9", "8");
+        synchronizer.sync(user.getId(), USER_KEY, ACCOUNT_NO);
+
+        assertThat(storedUniqueNos()).containsExactlyInAnyOrder("11", "10", "9");
+        assertThat(watermark().getLastTransactionUniqueNo()).isEqualTo("11");
+    }
+
+    @Test
+    void 은행_호출이_실패하면_원장과_워터마크를_바꾸지_않는다() {
+        when(webClientBankUtil.inquireTransactionHistoryList(eq(USER_KEY), eq(ACCOUNT_NO), any(), any()))
+                .thenReturn(Mono.error(new RuntimeException("API Error")));
+
+        synchronizer.sync(user.getId(), USER_KEY, ACCOUNT_NO);
+
+        assertThat(storedUniqueNos()).isEmpty();
+        assertThat(bankLedgerSyncRepository.findByAccountNo(ACCOUNT_NO)).isEmpty();
+    }
+
+    @Test
+    void 거래고유번호는_숫자_크기로_비교한다() {
+        assertThat(TransactionLedgerSynchronizer.isNewer("10", "9")).isTrue();
+        assertThat(TransactionLedgerSynchronizer.isNewer("9", "10")).isFalse();
+        assertThat(TransactionLedgerSynchronizer.isNewer("10", "10")).isFalse();
+        assertThat(TransactionLedgerSynchronizer.isNewer("1", null)).isTrue();
+        assertThat(TransactionLedgerSynchronizer.isNewer(null, "1")).isFalse();
+    }
+
+    // 은행 응답과 같이 최신순으로 전달합니다.
+    private void respond(String... uniqueNos) throws Exception {
+        String list = List.of(uniqueNos).stream()
+                .map(no -> """
+                        {"transactionUniqueNo":"%s","transactionDate":"%s","transactionTime":"120000",
+                         "transactionType":"2","transactionTypeName":"출금","transactionBalance":"1000",
+                         "transactionAfterBalance":"5000","transactionSummary":"카페","transactionMemo":""}
+                        """.formatted(no, TODAY))
+                .collect(Collectors.joining(","));
+        TransactionHistoryListResponseDto response = objectMapper.readValue(
+                "{\"REC\":{\"totalCount\":\"" + uniqueNos.length + "\",\"list\":[" + list + "]}}",
+                TransactionHistoryListResponseDto.class);
+        when(webClientBankUtil.inquireTransactionHistoryList(eq(USER_KEY), eq(ACCOUNT_NO), any(), any()))
+                .thenReturn(Mono.just(response));
+    }
+
+    private List<String> storedUniqueNos() {
+        em.flush();
+        return bankTransactionRepository.findAll().stream()
+                .map(BankTransaction::getTransactionUniqueNo)
+                .toList();
+    }
+
+    private BankLedgerSync watermark() {
+        em.flush();
+        return bankLedgerSyncRepository.findByAccountNo(ACCOUNT_NO).orElseThrow();
+    }
+}
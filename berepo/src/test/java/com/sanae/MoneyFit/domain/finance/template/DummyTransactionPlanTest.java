@@ -0,0 +1,49 @@
+package com.sanae.MoneyFit.domain.finance.template;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 더미 거래 계획이 시드에 대해 결정적이고, 출금 합계가 입금 합계를 넘지 않는지 검증합니다.
+ */
+class DummyTransactionPlanTest {
+
+    @Test
+    void 같은_시드는_같은_계획을_만든다() {
+        DummyTransactionPlan first = DummyTransactionPlan.create(42L);
+        DummyTransactionPlan second = DummyTransactionPlan.create(42L);
+
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void 출금_합계는_입금_합계를_넘지_않는다() {
+        for (long seed = 0; seed < 1_000; seed++) {
+            DummyTransactionPlan plan = DummyTransactionPlan.create(seed);
+            long deposits = plan.deposits().stream().mapToLong(step -> step.template().amount()).sum();
+            long withdrawals = plan.withdrawals().stream().mapToLong(step -> step.template().amount()).sum();
+
+            assertThat(plan.deposits()).hasSize(DummyTransactionPlan.DEPOSIT_COUNT);
+            assertThat(plan.withdrawals()).hasSizeLessThanOrEqualTo(DummyTransactionPlan.MAX_WITHDRAWALS);
+            assertThat(withdrawals).isLessThanOrEqualTo(deposits);
+        }
+    }
+
+    @Test
+    void 단계_번호는_입금부터_이어지고_진행_비트마스크와_맞는다() {
+        DummyTransactionPlan plan = DummyTransactionPlan.create(7L);
+        long mask = 0L;
+        for (DummyTransactionPlan.Step step : plan.deposits()) {
+            assertThat(plan.depositsDone(mask)).isFalse();
+            mask |= step.bit();
+        }
+        assertThat(plan.depositsDone(mask)).isTrue();
+
+        for (DummyTransactionPlan.Step step : plan.withdrawals()) {
+            assertThat(step.index()).isGreaterThanOrEqualTo(DummyTransactionPlan.DEPOSIT_COUNT);
+            mask |= step.bit();
+        }
+        assertThat(mask).isEqualTo(plan.completedMask());
+    }
+}
@@ -0,0 +1,83 @@
+package com.sanae.MoneyFit.domain.routine.repository;
+
+import com.sanae.MoneyFit.domain.routine.entity.GroupRoutineList;
+import com.sanae.MoneyFit.domain.routine.enums.RoutineType;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.support.RoutineFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 색인 장애 시 사용하는 LIKE 대체 검색이 색인과 같은 관련도 순서로 정렬되는지 검증합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class GroupRoutineListRepositoryTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private GroupRoutineListRepository groupRoutineListRepository;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = RoutineFixtures.user(em, "search-owner");
+    }
+
+    @Test
+    void 대체_검색은_제목_설명_일치_점수와_최신순으로_정렬한다() {
+        GroupRoutineList olderTitle = groupRoutineList("아침 운동 모임", "같이 해요");
+        GroupRoutineList description = groupRoutineList("건강 모임", "매일 아침 운동");
+        GroupRoutineList both = groupRoutineList("아침 운동 인증", "아침 운동 인증방");
+        GroupRoutineList newerTitle = groupRoutineList("아침 운동 챌린지", "같이 해요");
+        groupRoutineList("저녁 독서", "책 읽기");
+        em.flush();
+        em.clear();
+
+        Page<GroupRoutineList> page = groupRoutineListRepository.searchByKeyword("아침 운동", PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(GroupRoutineList::getId)
+                .containsExactly(both.getId(), newerTitle.getId(), olderTitle.getId(), description.getId());
+        assertThat(page.getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    void 대체_검색은_대소문자를_구분하지_않고_페이지_단위로_자른다() {
+        groupRoutineList("Morning Run", "");
+        GroupRoutineList newer = groupRoutineList("MORNING walk", "");
+        em.flush();
+        em.clear();
+
+        Page<GroupRoutineList> page = groupRoutineListRepository.searchByKeyword("morning", PageRequest.of(0, 1));
+
+        assertThat(page.getContent()).extracting(GroupRoutineList::getId).containsExactly(newer.getId());
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    private GroupRoutineList groupRoutineList(String title, String description) {
+        GroupRoutineList list = GroupRoutineList.builder()
+                .user(owner)
+                .routineType(RoutineType.DAILY)
+                .title(title)
+                .description(description)
+                .startTime(LocalTime.of(7, 0))
+                .endTime(LocalTime.of(8, 0))
+                .userCnt(1)
+                .build();
+        em.persist(list);
+        return list;
+    }
+}
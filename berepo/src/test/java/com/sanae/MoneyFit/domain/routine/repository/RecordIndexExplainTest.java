@@ -0,0 +1,171 @@
+package com.sanae.MoneyFit.domain.routine.repository;
+
+import com.sanae.MoneyFit.domain.routine.entity.*;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.support.CapturingStatementInspector;
+import com.sanae.MoneyFit.support.RoutineFixtures;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기록 테이블의 주요 리포지토리 조회가 선언된 복합 인덱스를 사용하는지 검증합니다.
+ * 손으로 옮긴 SQL이 아니라 Hibernate가 JPQL로부터 실제로 생성한 SQL에 {@code EXPLAIN}을 실행합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.sanae.MoneyFit.support.CapturingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RecordIndexExplainTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private RoutineRecordRepository routineRecordRepository;
+
+    @Autowired
+    private MyRoutineListRecordRepository myRoutineListRecordRepository;
+
+    @Autowired
+    private GroupRoutineListDoneCheckRepository groupRoutineListDoneCheckRepository;
+
+    private User user;
+    private List<Long> routineIds;
+    private Long myRoutineListId;
+    private final LocalDateTime start = LocalDate.now().atStartOfDay();
+    private final LocalDateTime end = LocalDate.now().atTime(LocalTime.MAX);
+
+    @BeforeEach
+    void setUp() {
+        Emoji emoji = RoutineFixtures.emoji(em);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            users.add(RoutineFixtures.user(em, "tester" + i));
+        }
+        user = users.get(0);
+
+        MyRoutineList myRoutineList = RoutineFixtures.myRoutineList(em, user, "개인 루틴", LocalDate.now().minusDays(30));
+        myRoutineListId = myRoutineList.getId();
+        GroupRoutineList groupRoutineList = RoutineFixtures.groupRoutineList(em, user, "단체 루틴", users.size());
+
+        routineIds = new ArrayList<>();
+        List<Routine> routines = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Routine routine = RoutineFixtures.routine(em, emoji, "상세 루틴 " + i);
+            routines.add(routine);
+            routineIds.add(routine.getId());
+        }
+
+        // 사용자 5명 x 30일 x 상세 루틴 4개 기록
+        for (User u : users) {
+            for (int day = 0; day < 30; day++) {
+                LocalDateTime createdDate = LocalDate.now().minusDays(day).atTime(9, 0);
+                for (Routine routine : routines) {
+                    RoutineFixtures.routineRecord(em, u, routine, true, createdDate);
+                }
+                em.persist(MyRoutineListRecord.builder().user(u).myRoutineList(myRoutineList).doneCheck(true).build());
+                em.persist(GroupRoutineListDoneCheck.builder().user(u).groupRoutineList(groupRoutineList).doneCheck(true).build());
+            }
+        }
+        em.flush();
+        em.clear();
+        em.createNativeQuery("ANALYZE").executeUpdate();
+    }
+
+    @Test
+    void 사용자_날짜_범위_수행기록_조회는_사용자_날짜_인덱스를_사용한다() {
+        String plan = explain(() -> routineRecordRepository.findCompletedRoutineIds(user, start, end, routineIds),
+                params(user.getId(), start, end, routineIds));
+
+        assertThat(plan).containsIgnoringCase("idx_routine_record_user_date");
+    }
+
+    @Test
+    void 상세_루틴_목록_날짜_범위_조회는_상세_루틴_날짜_인덱스를_사용한다() {
+        String plan = explain(() -> routineRecordRepository.findRecordedKeys(routineIds, start, end),
+                params(routineIds, start, end));
+
+        assertThat(plan).containsIgnoringCase("idx_routine_record_routine_date");
+    }
+
+    @Test
+    void 개인_루틴_완료_기록_사용자_날짜_조회는_인덱스를_사용한다() {
+        String plan = explain(() -> myRoutineListRecordRepository.findCompletedDatesByUser(user, start.minusDays(7)),
+                params(user.getId(), start.minusDays(7)));
+
+        assertThat(plan).containsIgnoringCase("idx_my_routine_list_record_user_date");
+    }
+
+    @Test
+    void 개인_루틴_완료_기록_루틴_목록_조회는_인덱스를_사용한다() {
+        String plan = explain(() -> myRoutineListRecordRepository.findRecordedKeys(List.of(myRoutineListId), start, end),
+                params(List.of(myRoutineListId), start, end));
+
+        assertThat(plan).containsIgnoringCase("idx_my_routine_list_record_list_date");
+    }
+
+    @Test
+    void 단체_루틴_완료_기록_사용자_날짜_조회는_인덱스를_사용한다() {
+        String plan = explain(() -> groupRoutineListDoneCheckRepository.findCompletedDatesByUser(user, start.minusDays(7)),
+                params(user.getId(), start.minusDays(7)));
+
+        assertThat(plan).containsIgnoringCase("idx_group_routine_list_done_check_user_date");
+    }
+
+    /**
+     * 리포지토리 메서드를 실행해 Hibernate가 생성한 SQL을 얻고, 같은 SQL에 {@code EXPLAIN}을 실행합니다.
+     *
+     * @param repositoryCall 검증할 리포지토리 조회
+     * @param params         생성된 SQL의 {@code ?} 순서대로 바인딩할 값
+     */
+    private String explain(Runnable repositoryCall, List<Object> params) {
+        CapturingStatementInspector.clear();
+        repositoryCall.run();
+        String sql = CapturingStatementInspector.lastSelect();
+        assertThat(sql.chars().filter(c -> c == '?').count()).as(sql).isEqualTo(params.size());
+
+        return em.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 0; i < params.size(); i++) {
+                    statement.setObject(i + 1, params.get(i));
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    // IN 목록은 원소마다 ? 하나로 펼쳐집니다.
+    private static List<Object> params(Object... values) {
+        List<Object> params = new ArrayList<>();
+        for (Object value : values) {
+            if (value instanceof Collection<?> collection) {
+                params.addAll(collection);
+            } else {
+                params.add(value);
+            }
+        }
+        return params;
+    }
+}
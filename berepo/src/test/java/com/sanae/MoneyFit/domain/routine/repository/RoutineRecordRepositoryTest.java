@@ -0,0 +1,112 @@
+package com.sanae.MoneyFit.domain.routine.repository;
+
+import com.sanae.MoneyFit.domain.routine.entity.Emoji;
+import com.sanae.MoneyFit.domain.routine.entity.Routine;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.support.RoutineFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단체 루틴 멤버별 완료 수 집계 쿼리를 검증합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RoutineRecordRepositoryTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 5);
+    private static final LocalDateTime START_OF_DAY = TODAY.atStartOfDay();
+    private static final LocalDateTime END_OF_DAY = TODAY.atTime(LocalTime.MAX);
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private RoutineRecordRepository routineRecordRepository;
+
+    private User first;
+    private User second;
+    private User yesterdayOnly;
+    private User noRecord;
+    private Routine routineA;
+    private Routine routineB;
+    private Routine otherRoutine;
+
+    @BeforeEach
+    void setUp() {
+        Emoji emoji = RoutineFixtures.emoji(em);
+        routineA = RoutineFixtures.routine(em, emoji, "상세 루틴 A");
+        routineB = RoutineFixtures.routine(em, emoji, "상세 루틴 B");
+        otherRoutine = RoutineFixtures.routine(em, emoji, "다른 루틴");
+
+        first = RoutineFixtures.user(em, "first");
+        second = RoutineFixtures.user(em, "second");
+        yesterdayOnly = RoutineFixtures.user(em, "yesterday");
+        noRecord = RoutineFixtures.user(em, "norecord");
+
+        // 같은 루틴의 중복 기록은 한 번만 셉니다.
+        RoutineFixtures.routineRecord(em, first, routineA, true, TODAY.atTime(8, 0));
+        RoutineFixtures.routineRecord(em, first, routineA, true, TODAY.atTime(9, 0));
+        RoutineFixtures.routineRecord(em, first, routineB, true, END_OF_DAY);
+
+        // 미완료 기록과 대상이 아닌 루틴은 세지 않습니다.
+        RoutineFixtures.routineRecord(em, second, routineA, true, START_OF_DAY);
+        RoutineFixtures.routineRecord(em, second, routineB, false, TODAY.atTime(10, 0));
+        RoutineFixtures.routineRecord(em, second, otherRoutine, true, TODAY.atTime(10, 0));
+
+        // 기간 밖 기록
+        RoutineFixtures.routineRecord(em, yesterdayOnly, routineA, true, START_OF_DAY.minusNanos(1000));
+        RoutineFixtures.routineRecord(em, yesterdayOnly, routineB, true, TODAY.plusDays(1).atStartOfDay());
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 사용자별로_서로_다른_완료_루틴_수를_집계한다() {
+        Map<UUID, Long> counts = count(List.of(routineA, routineB));
+
+        assertThat(counts).containsOnlyKeys(first.getId(), second.getId());
+        assertThat(counts.get(first.getId())).isEqualTo(2L);
+        assertThat(counts.get(second.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    void 기간_밖_기록과_기록이_없는_사용자는_결과에_없다() {
+        Map<UUID, Long> counts = count(List.of(routineA, routineB));
+
+        assertThat(counts).doesNotContainKeys(yesterdayOnly.getId(), noRecord.getId());
+    }
+
+    @Test
+    void 완료_기록이_없으면_빈_결과를_반환한다() {
+        Routine unused = em.find(Routine.class, otherRoutine.getId());
+        em.createQuery("DELETE FROM RoutineRecord rr WHERE rr.routine = :routine")
+                .setParameter("routine", unused)
+                .executeUpdate();
+
+        assertThat(count(List.of(unused))).isEmpty();
+    }
+
+    private Map<UUID, Long> count(List<Routine> routines) {
+        Map<UUID, Long> counts = new HashMap<>();
+        for (Object[] row : routineRecordRepository.countCompletedRoutinesGroupByUser(START_OF_DAY, END_OF_DAY, routines)) {
+            counts.put((UUID) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,108 @@
+package com.sanae.MoneyFit.domain.routine.service;
+
+import com.sanae.MoneyFit.domain.analysis.service.DailyCompletionCounterService;
+import com.sanae.MoneyFit.domain.analysis.service.StreakService;
+import com.sanae.MoneyFit.domain.analysis.service.WeeklySummaryService;
+import com.sanae.MoneyFit.domain.routine.dto.request.GroupRoutineRequestDto;
+import com.sanae.MoneyFit.domain.routine.dto.request.GuestbookRequestDto;
+import com.sanae.MoneyFit.domain.routine.entity.GroupRoutineList;
+import com.sanae.MoneyFit.domain.routine.entity.UserInRoom;
+import com.sanae.MoneyFit.domain.routine.repository.UserInRoomRepository;
+import com.sanae.MoneyFit.domain.routine.service.membership.GroupMembershipCache;
+import com.sanae.MoneyFit.domain.routine.service.search.GroupRoutineSearchIndex;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.domain.user.service.PointLedgerService;
+import com.sanae.MoneyFit.global.error.handler.RoutineHandler;
+import com.sanae.MoneyFit.support.RoutineFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * 탈퇴 직후 참여 정보 캐시가 아직 "참여중"을 돌려주더라도
+ * 기록·방명록 작성은 거절되고 다시 참여는 허용되는지 검증합니다. (쓰기 요청은 DB로 참여 여부 확인)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(GroupRoutineServiceImpl.class)
+class GroupMembershipWriteCheckTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private GroupRoutineServiceImpl groupRoutineService;
+
+    @Autowired
+    private UserInRoomRepository userInRoomRepository;
+
+    @MockBean
+    private PointLedgerService pointLedgerService;
+
+    @MockBean
+    private GroupRoutineCardAssembler groupRoutineCardAssembler;
+
+    @MockBean
+    private StreakService streakService;
+
+    @MockBean
+    private WeeklySummaryService weeklySummaryService;
+
+    @MockBean
+    private DailyCompletionCounterService dailyCompletionCounterService;
+
+    @MockBean
+    private GroupRoutineSearchIndex groupRoutineSearchIndex;
+
+    @MockBean
+    private GroupMembershipCache groupMembershipCache;
+
+    private User member;
+    private GroupRoutineList groupRoutineList;
+
+    @BeforeEach
+    void setUp() {
+        User owner = RoutineFixtures.user(em, "owner");
+        member = RoutineFixtures.user(em, "member");
+        groupRoutineList = RoutineFixtures.groupRoutineList(em, owner, "단체 루틴", 2);
+        em.persist(UserInRoom.builder().groupRoutineList(groupRoutineList).user(member).build());
+        em.flush();
+
+        groupRoutineService.leaveGroupRoutine(member, groupRoutineList.getId());
+        em.flush();
+
+        // 탈퇴 커밋 직전에 읽은 참여 정보가 캐시에 남아 있는 상태
+        when(groupMembershipCache.isMember(any(), any())).thenReturn(true);
+    }
+
+    @Test
+    void 탈퇴_후_캐시가_남아_있어도_완료_기록을_거절한다() {
+        assertThatThrownBy(() -> groupRoutineService.updateGroupRoutineRecord(member, groupRoutineList.getId(),
+                new GroupRoutineRequestDto.RecordUpdate(true)))
+                .isInstanceOf(RoutineHandler.class);
+    }
+
+    @Test
+    void 탈퇴_후_캐시가_남아_있어도_방명록_작성을_거절한다() {
+        assertThatThrownBy(() -> groupRoutineService.createGroupGuestbook(member, groupRoutineList.getId(),
+                new GuestbookRequestDto.Create("탈퇴 후 작성")))
+                .isInstanceOf(RoutineHandler.class);
+    }
+
+    @Test
+    void 탈퇴_후_캐시가_남아_있어도_다시_참여할_수_있다() {
+        groupRoutineService.joinGroupRoutine(member, groupRoutineList.getId());
+
+        assertThat(userInRoomRepository.existsByGroupRoutineListAndUser(groupRoutineList, member)).isTrue();
+    }
+}
@@ -0,0 +1,124 @@
+package com.sanae.MoneyFit.domain.routine.service;
+
+import com.sanae.MoneyFit.domain.routine.dto.response.GroupRoutineResponseDto;
+import com.sanae.MoneyFit.domain.routine.entity.*;
+import com.sanae.MoneyFit.domain.routine.enums.DayType;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.support.RoutineFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단체 루틴 카드 조립 시 실행되는 쿼리 수가 페이지 크기에 비례해 늘어나지 않는지 검증합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(GroupRoutineCardAssembler.class)
+class GroupRoutineCardAssemblerTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private GroupRoutineCardAssembler assembler;
+
+    private User user;
+    private List<Long> routineListIds;
+
+    @BeforeEach
+    void setUp() {
+        user = RoutineFixtures.user(em, "tester");
+        User member = RoutineFixtures.user(em, "member");
+        Emoji emoji = RoutineFixtures.emoji(em);
+
+        routineListIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            GroupRoutineList list = RoutineFixtures.groupRoutineList(em, member, "단체 루틴 " + i, i % 2 == 0 ? 2 : 1);
+            routineListIds.add(list.getId());
+
+            for (int j = 0; j < 2; j++) {
+                Routine routine = RoutineFixtures.routine(em, emoji, "상세 루틴 " + j);
+                em.persist(GroupRoutineMiddle.builder().routineList(list).routine(routine).build());
+                RoutineFixtures.routineRecord(em, user, routine, j == 0, LocalDate.now().atStartOfDay());
+            }
+
+            em.persist(GroupRoutineDays.builder().groupRoutineList(list).dayType(DayType.월).build());
+            em.persist(GroupRoutineDays.builder().groupRoutineList(list).dayType(DayType.수).build());
+            em.persist(UserInRoom.builder().groupRoutineList(list).user(member).build());
+            if (i % 2 == 0) {
+                em.persist(UserInRoom.builder().groupRoutineList(list).user(user).build());
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 카드_조립_쿼리수는_페이지_크기와_무관하다() {
+        long single = countStatements(1, false);
+        long fullPage = countStatements(10, false);
+
+        assertThat(fullPage).isEqualTo(single);
+    }
+
+    @Test
+    void 진행률을_포함해도_쿼리수는_페이지_크기와_무관하다() {
+        long single = countStatements(1, true);
+        long fullPage = countStatements(10, true);
+
+        assertThat(fullPage).isEqualTo(single);
+    }
+
+    @Test
+    void 일괄_조회_결과가_루틴별로_매핑된다() {
+        User current = em.find(User.class, user.getId());
+        List<GroupRoutineList> lists = loadLists(10);
+
+        List<GroupRoutineResponseDto.GroupRoutineInfo> infos = assembler.toGroupRoutineInfos(lists, current, true);
+
+        assertThat(infos).hasSize(10);
+        for (int i = 0; i < infos.size(); i++) {
+            GroupRoutineResponseDto.GroupRoutineInfo info = infos.get(i);
+            assertThat(info.getId()).isEqualTo(routineListIds.get(i));
+            assertThat(info.getRoutineNums()).isEqualTo(2);
+            assertThat(info.getPeopleNums()).isEqualTo(i % 2 == 0 ? 2 : 1);
+            assertThat(info.isJoined()).isEqualTo(i % 2 == 0);
+            assertThat(info.getPercent()).isEqualTo(50.0);
+            assertThat(info.getDayOfWeek()).containsExactly("월", "수");
+        }
+    }
+
+    private long countStatements(int pageSize, boolean includePercent) {
+        em.clear();
+        User current = em.find(User.class, user.getId());
+        List<GroupRoutineList> lists = loadLists(pageSize);
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        assembler.toGroupRoutineInfos(lists, current, includePercent);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<GroupRoutineList> loadLists(int size) {
+        return em.createQuery("SELECT grl FROM GroupRoutineList grl WHERE grl.id IN :ids ORDER BY grl.id", GroupRoutineList.class)
+                .setParameter("ids", routineListIds.subList(0, size))
+                .getResultList();
+    }
+}
@@ -0,0 +1,110 @@
+package com.sanae.MoneyFit.domain.routine.service;
+
+import com.sanae.MoneyFit.domain.routine.dto.response.MyRoutineListShowResponseDto;
+import com.sanae.MoneyFit.domain.routine.entity.*;
+import com.sanae.MoneyFit.domain.routine.enums.DayType;
+import com.sanae.MoneyFit.domain.routine.service.archive.RoutineRecordHistoryService;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.support.RoutineFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 개인 루틴 목록 카드 조립 시 실행되는 쿼리 수가 페이지 크기에 비례해 늘어나지 않는지 검증합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MyRoutineListCardAssembler.class, RoutineRecordHistoryService.class})
+class MyRoutineListCardAssemblerTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private MyRoutineListCardAssembler assembler;
+
+    private User user;
+    private List<Long> routineListIds;
+
+    @BeforeEach
+    void setUp() {
+        user = RoutineFixtures.user(em, "tester");
+        Emoji emoji = RoutineFixtures.emoji(em);
+
+        routineListIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            MyRoutineList list = RoutineFixtures.myRoutineList(em, user, "개인 루틴 " + i, LocalDate.now().minusDays(7));
+            routineListIds.add(list.getId());
+
+            for (int j = 0; j < 2; j++) {
+                Routine routine = RoutineFixtures.routine(em, emoji, "상세 루틴 " + j);
+                em.persist(MyRoutineMiddle.builder().routineList(list).routine(routine).build());
+                RoutineFixtures.routineRecord(em, user, routine, j == 0, LocalDate.now().atStartOfDay());
+            }
+
+            em.persist(MyRoutineDays.builder().routineList(list).dayType(DayType.월).build());
+            em.persist(MyRoutineDays.builder().routineList(list).dayType(DayType.수).build());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 카드_조립_쿼리수는_페이지_크기와_무관하다() {
+        long single = countStatements(1);
+        long fullPage = countStatements(10);
+
+        assertThat(fullPage).isEqualTo(single);
+    }
+
+    @Test
+    void 일괄_조회_결과가_루틴별로_매핑된다() {
+        User current = em.find(User.class, user.getId());
+        List<MyRoutineList> lists = loadLists(10);
+
+        List<MyRoutineListShowResponseDto> dtos = assembler.toShowResponseDtos(lists, current, LocalDate.now(), List.of());
+
+        assertThat(dtos).hasSize(10);
+        for (int i = 0; i < dtos.size(); i++) {
+            MyRoutineListShowResponseDto dto = dtos.get(i);
+            assertThat(dto.getId()).isEqualTo(routineListIds.get(i));
+            assertThat(dto.getRoutineNums()).isEqualTo(2);
+            assertThat(dto.getPercent()).isEqualTo(50.0);
+            assertThat(dto.getDayOfWeek()).containsExactlyInAnyOrder("월", "수");
+        }
+    }
+
+    private long countStatements(int pageSize) {
+        em.clear();
+        User current = em.find(User.class, user.getId());
+        List<MyRoutineList> lists = loadLists(pageSize);
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        assembler.toShowResponseDtos(lists, current, LocalDate.now(), List.of());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<MyRoutineList> loadLists(int size) {
+        return em.createQuery("SELECT mrl FROM MyRoutineList mrl WHERE mrl.id IN :ids ORDER BY mrl.id", MyRoutineList.class)
+                .setParameter("ids", routineListIds.subList(0, size))
+                .getResultList();
+    }
+}
@@ -0,0 +1,78 @@
+package com.sanae.MoneyFit.domain.routine.service;
+
+import com.sanae.MoneyFit.domain.routine.dto.response.RankResponseDto;
+import com.sanae.MoneyFit.domain.routine.service.event.AgeLeaderboardRebuildRequestedEvent;
+import com.sanae.MoneyFit.domain.user.entity.Age;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.domain.user.repository.AgeRepository;
+import com.sanae.MoneyFit.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 랭킹 조회 시 재구성 여부를 ZSET 항목 수가 아니라 완료 표시로 판단하고,
+ * 재구성 전에는 요청 스레드에서 재구성하지 않고 DB로 응답하는지 검증합니다.
+ */
+class RankServiceTest {
+
+    private final AgeRepository ageRepository = mock(AgeRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final AgeLeaderboard ageLeaderboard = mock(AgeLeaderboard.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final RankService rankService = new RankService(ageRepository, userRepository, ageLeaderboard, eventPublisher);
+
+    private final UUID userId = UUID.randomUUID();
+    private Age age;
+
+    @BeforeEach
+    void setUp() {
+        age = Age.builder().id(1L).name("20대").score(10).build();
+        User user = User.builder().id(userId).email("rank@moneyfit.com").age(age).build();
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(ageLeaderboard.getPage(anyLong(), anyInt())).thenReturn(List.of());
+        when(ageLeaderboard.getEntry(1L)).thenReturn(Optional.of(new AgeLeaderboard.Entry(1L, 10, 1)));
+    }
+
+    @Test
+    void 완료_표시가_없으면_DB로_응답하고_재구성을_비동기로_요청한다() {
+        // Redis 초기화 후 점수 반영으로 일부 항목만 다시 생긴 상태
+        when(ageLeaderboard.isBuilt()).thenReturn(false);
+        when(ageLeaderboard.size()).thenReturn(1L);
+        when(ageRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(age)));
+        when(ageRepository.findAllById(List.of(1L))).thenReturn(List.of(age));
+        when(ageRepository.countByScoreGreaterThan(10)).thenReturn(0L);
+
+        RankResponseDto.RankPage result = rankService.getRanking(userId, PageRequest.of(0, 10));
+
+        assertThat(result.getItems()).hasSize(1);
+        assertThat(result.getTotalItems()).isEqualTo(1L);
+        verify(eventPublisher).publishEvent(any(AgeLeaderboardRebuildRequestedEvent.class));
+        verify(ageLeaderboard, never()).rebuild();
+        verify(ageLeaderboard, never()).getPage(anyLong(), anyInt());
+    }
+
+    @Test
+    void 완료_표시가_있으면_재구성하지_않는다() {
+        when(ageLeaderboard.isBuilt()).thenReturn(true);
+        when(ageLeaderboard.size()).thenReturn(0L);
+
+        rankService.getRanking(userId, PageRequest.of(0, 10));
+
+        verify(ageLeaderboard, never()).rebuild();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,217 @@
+package com.sanae.MoneyFit.domain.routine.service.completion;
+
+import com.sanae.MoneyFit.domain.analysis.entity.WeeklyRoutineSummary;
+import com.sanae.MoneyFit.domain.analysis.enums.RoutineKind;
+import com.sanae.MoneyFit.domain.analysis.service.DailyCompletionCounterService;
+import com.sanae.MoneyFit.domain.analysis.service.StreakService;
+import com.sanae.MoneyFit.domain.analysis.service.WeeklySummaryService;
+import com.sanae.MoneyFit.domain.routine.entity.Emoji;
+import com.sanae.MoneyFit.domain.routine.entity.MyRoutineList;
+import com.sanae.MoneyFit.domain.routine.entity.MyRoutineMiddle;
+import com.sanae.MoneyFit.domain.routine.entity.Routine;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.support.RoutineFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 큐에 쌓인 완료 요청이 수행 기록, 완료 카운터, 루틴 목록 완료, 주간 요약까지 반영되는지와
+ * 반영할 수 없는 요청만 실패 큐로 옮겨지고 나머지는 반영되는지 검증합니다.
+ * 반영이 별도 트랜잭션으로 커밋되므로 테스트 트랜잭션 없이 실행하고 직접 정리합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({RoutineCompletionFlusher.class, RoutineCompletionWriter.class, DailyCompletionCounterService.class,
+        WeeklySummaryService.class, StreakService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RoutineCompletionFlusherTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private RoutineCompletionFlusher routineCompletionFlusher;
+
+    @Autowired
+    private DailyCompletionCounterService dailyCompletionCounterService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private RoutineCompletionQueue routineCompletionQueue;
+
+    private final List<UUID> userIds = new ArrayList<>();
+    private final List<Long> routineIds = new ArrayList<>();
+    private final List<Long> emojiIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        tx().executeWithoutResult(status -> {
+            em.createQuery("DELETE FROM RoutineRecord r WHERE r.user.id IN :ids").setParameter("ids", userIds).executeUpdate();
+            em.createQuery("DELETE FROM MyRoutineListRecord r WHERE r.user.id IN :ids").setParameter("ids", userIds).executeUpdate();
+            em.createQuery("DELETE FROM DailyCompletionCounter c WHERE c.user.id IN :ids").setParameter("ids", userIds).executeUpdate();
+            em.createQuery("DELETE FROM WeeklyRoutineSummary s WHERE s.user.id IN :ids").setParameter("ids", userIds).executeUpdate();
+            em.createQuery("DELETE FROM UserStreak s WHERE s.user.id IN :ids").setParameter("ids", userIds).executeUpdate();
+            em.createQuery("DELETE FROM MyRoutineMiddle m WHERE m.routine.id IN :ids").setParameter("ids", routineIds).executeUpdate();
+            em.createQuery("DELETE FROM Routine r WHERE r.id IN :ids").setParameter("ids", routineIds).executeUpdate();
+            em.createQuery("DELETE FROM Emoji e WHERE e.id IN :ids").setParameter("ids", emojiIds).executeUpdate();
+            em.createQuery("DELETE FROM MyRoutineList l WHERE l.user.id IN :ids").setParameter("ids", userIds).executeUpdate();
+            em.createQuery("DELETE FROM User u WHERE u.id IN :ids").setParameter("ids", userIds).executeUpdate();
+        });
+    }
+
+    @Test
+    void 모든_상세_루틴을_완료하면_목록_완료와_카운터가_반영된다() {
+        Member member = member("flush", 2);
+        RoutineCompletionCommand first = command(member, 0, TODAY);
+        RoutineCompletionCommand second = command(member, 1, TODAY);
+        enqueued(first, second, first);
+
+        routineCompletionFlusher.flush();
+
+        assertThat(routineRecords(member)).isEqualTo(2L);
+        assertThat(doneCount(member)).isEqualTo(2);
+        assertThat(listRecords(member)).isEqualTo(1L);
+        assertThat(doneMask(member)).isEqualTo(WeeklyRoutineSummary.bit(TODAY.getDayOfWeek()));
+        verify(routineCompletionQueue).acknowledge(3);
+        verify(routineCompletionQueue, never()).deadLetter(anyString());
+    }
+
+    @Test
+    void 일부만_완료하면_목록_완료는_기록하지_않는다() {
+        Member member = member("partial", 2);
+        enqueued(command(member, 0, TODAY));
+
+        routineCompletionFlusher.flush();
+
+        assertThat(routineRecords(member)).isEqualTo(1L);
+        assertThat(doneCount(member)).isEqualTo(1);
+        assertThat(listRecords(member)).isZero();
+        verify(routineCompletionQueue).acknowledge(1);
+    }
+
+    @Test
+    void 다시_반영해도_기록과_카운터는_중복되지_않는다() {
+        Member member = member("replay", 2);
+        RoutineCompletionCommand first = command(member, 0, TODAY);
+        enqueued(first);
+        routineCompletionFlusher.flush();
+
+        // 큐를 비우기 전에 중단되어 같은 요청을 다시 처리하는 경우
+        routineCompletionFlusher.flush();
+
+        assertThat(routineRecords(member)).isEqualTo(1L);
+        assertThat(doneCount(member)).isEqualTo(1);
+    }
+
+    @Test
+    void 반영할_수_없는_요청만_실패_큐로_옮기고_나머지는_반영한다() {
+        Member member = member("poison", 1);
+        RoutineCompletionCommand valid = command(member, 0, TODAY);
+        // 존재하지 않는 사용자의 기록은 외래 키 제약으로 저장에 실패합니다.
+        RoutineCompletionCommand poison = new RoutineCompletionCommand(UUID.randomUUID(), member.routines().get(0).getId(), TODAY);
+        enqueued(poison, valid);
+
+        routineCompletionFlusher.flush();
+
+        assertThat(routineRecords(member)).isEqualTo(1L);
+        assertThat(listRecords(member)).isEqualTo(1L);
+        verify(routineCompletionQueue).deadLetter(poison.serialize());
+        verify(routineCompletionQueue).unmark(poison);
+        verify(routineCompletionQueue).acknowledge(2);
+    }
+
+    // 상세 루틴 routineCount개를 가진 개인 루틴의 사용자
+    private Member member(String nickname, int routineCount) {
+        Member member = tx().execute(status -> {
+            User user = RoutineFixtures.user(em, nickname + UUID.randomUUID().toString().substring(0, 8));
+            MyRoutineList list = RoutineFixtures.myRoutineList(em, user, "개인 루틴", TODAY.minusDays(7));
+            Emoji emoji = RoutineFixtures.emoji(em);
+            emojiIds.add(emoji.getId());
+            List<Routine> routines = new ArrayList<>();
+            for (int i = 0; i < routineCount; i++) {
+                Routine routine = RoutineFixtures.routine(em, emoji, "상세 루틴 " + i);
+                em.persist(MyRoutineMiddle.builder().routineList(list).routine(routine).build());
+                routines.add(routine);
+            }
+            return new Member(user, list, routines);
+        });
+        userIds.add(member.user().getId());
+        member.routines().forEach(routine -> routineIds.add(routine.getId()));
+        return member;
+    }
+
+    private RoutineCompletionCommand command(Member member, int routineIndex, LocalDate date) {
+        return new RoutineCompletionCommand(member.user().getId(), member.routines().get(routineIndex).getId(), date);
+    }
+
+    // 큐에 적재된 순서대로 앞부분을 조회하도록 합니다.
+    private void enqueued(RoutineCompletionCommand... commands) {
+        List<String> values = new ArrayList<>();
+        for (RoutineCompletionCommand command : commands) {
+            values.add(command.serialize());
+        }
+        when(routineCompletionQueue.peek(anyInt())).thenReturn(values);
+    }
+
+    private long routineRecords(Member member) {
+        return tx().execute(status -> em.createQuery(
+                        "SELECT COUNT(r) FROM RoutineRecord r WHERE r.user.id = :id", Long.class)
+                .setParameter("id", member.user().getId())
+                .getSingleResult());
+    }
+
+    private long listRecords(Member member) {
+        return tx().execute(status -> em.createQuery(
+                        "SELECT COUNT(r) FROM MyRoutineListRecord r WHERE r.user.id = :id", Long.class)
+                .setParameter("id", member.user().getId())
+                .getSingleResult());
+    }
+
+    private int doneCount(Member member) {
+        return dailyCompletionCounterService.getDoneCount(member.user().getId(), RoutineKind.MY, member.list().getId(), TODAY);
+    }
+
+    private int doneMask(Member member) {
+        return tx().execute(status -> em.createQuery("SELECT s.doneMask FROM WeeklyRoutineSummary s " +
+                        "WHERE s.user.id = :id AND s.routineKind = :routineKind AND s.routineListId = :routineListId", Integer.class)
+                .setParameter("id", member.user().getId())
+                .setParameter("routineKind", RoutineKind.MY)
+                .setParameter("routineListId", member.list().getId())
+                .getResultStream()
+                .findFirst()
+                .orElse(0));
+    }
+
+    private TransactionTemplate tx() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    private record Member(User user, MyRoutineList list, List<Routine> routines) {
+    }
+}
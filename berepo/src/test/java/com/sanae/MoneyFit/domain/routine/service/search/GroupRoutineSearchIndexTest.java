@@ -0,0 +1,97 @@
+package com.sanae.MoneyFit.domain.routine.service.search;
+
+import com.sanae.MoneyFit.domain.routine.repository.GroupRoutineListRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.mockito.invocation.Invocation;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 색인 변경이 이전 n-gram을 따로 읽지 않고 스크립트 한 번으로 반영되는지,
+ * 여러 n-gram 검색 캐시가 색인 세대가 바뀌면 다시 계산되는지 검증합니다.
+ */
+class GroupRoutineSearchIndexTest {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+    private final GroupRoutineSearchIndex groupRoutineSearchIndex =
+            new GroupRoutineSearchIndex(redisTemplate, mock(GroupRoutineListRepository.class));
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    void 색인은_이전_n_gram_조회와_교체를_스크립트_한_번으로_처리한다() {
+        groupRoutineSearchIndex.index(7L, "아침", "운동");
+
+        Invocation execute = executeInvocation();
+        @SuppressWarnings("unchecked")
+        List<String> keys = (List<String>) execute.getRawArguments()[1];
+        Object[] args = (Object[]) execute.getRawArguments()[2];
+        assertThat(keys).containsExactly("SEARCH:GROUP:DOC:7", "SEARCH:GROUP:DOCS", "SEARCH:GROUP:GEN");
+        assertThat(args[0]).isEqualTo("7");
+
+        Map<String, Double> scores = new HashMap<>();
+        for (int i = 2; i < args.length; i += 2) {
+            scores.put((String) args[i], Double.valueOf((String) args[i + 1]));
+        }
+        assertThat(scores).containsOnlyKeys("아", "침", "아침", "운", "동", "운동");
+        assertThat(scores.get("아침")).isBetween(2.0, 2.01);
+        assertThat(scores.get("운동")).isBetween(1.0, 1.01);
+        // 이전 n-gram을 스크립트 밖에서 읽으면 동시 변경 사이에 끼어들 수 있습니다.
+        verify(redisTemplate, never()).opsForSet();
+    }
+
+    @Test
+    void 색인_세대가_바뀌면_교집합_캐시를_다시_계산한다() {
+        when(valueOperations.get("SEARCH:GROUP:GEN")).thenReturn("3", "4");
+        when(redisTemplate.hasKey(anyString())).thenReturn(false);
+        when(zSetOperations.zCard(anyString())).thenReturn(0L);
+
+        groupRoutineSearchIndex.search("아침 운동", 0, 10);
+        groupRoutineSearchIndex.search("아침 운동", 0, 10);
+
+        verify(zSetOperations).intersectAndStore(eq("SEARCH:GROUP:GRAM:아침"), anyList(),
+                eq("SEARCH:GROUP:Q:3:아침운동"), eq(Aggregate.SUM));
+        verify(zSetOperations).intersectAndStore(eq("SEARCH:GROUP:GRAM:아침"), anyList(),
+                eq("SEARCH:GROUP:Q:4:아침운동"), eq(Aggregate.SUM));
+    }
+
+    @Test
+    void 한_글자_검색은_n_gram_목록을_바로_읽는다() {
+        when(zSetOperations.zCard("SEARCH:GROUP:GRAM:아")).thenReturn(0L);
+
+        groupRoutineSearchIndex.search("아", 0, 10);
+
+        verify(valueOperations, never()).get(anyString());
+        verify(zSetOperations).reverseRange("SEARCH:GROUP:GRAM:아", 0, 9);
+    }
+
+    private Invocation executeInvocation() {
+        return Mockito.mockingDetails(redisTemplate).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("execute"))
+                .findFirst()
+                .orElseThrow();
+    }
+}
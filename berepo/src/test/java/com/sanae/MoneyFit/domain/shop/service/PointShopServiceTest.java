@@ -0,0 +1,60 @@
+package com.sanae.MoneyFit.domain.shop.service;
+
+import com.sanae.MoneyFit.domain.shop.entity.PointShop;
+import com.sanae.MoneyFit.domain.shop.enums.PointShopCategory;
+import com.sanae.MoneyFit.domain.shop.repository.PointShopRepository;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.domain.user.repository.UserRepository;
+import com.sanae.MoneyFit.domain.user.service.PointLedgerService;
+import com.sanae.MoneyFit.global.common.catalog.CatalogChangedEvent;
+import com.sanae.MoneyFit.global.infra.http.bank.WebClientBankUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 재고가 카탈로그 스냅샷 밖에 있으므로 구매가 상품 카탈로그를 다시 적재시키지 않는지 검증합니다.
+ */
+class PointShopServiceTest {
+
+    private final PointShopRepository pointShopRepository = mock(PointShopRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final PointShopService pointShopService = new PointShopService(pointShopRepository, userRepository,
+            mock(WebClientBankUtil.class), mock(ShopCatalog.class), mock(PointLedgerService.class), eventPublisher);
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder().id(userId).email("shop@moneyfit.com").point(1_000L).build();
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void 구매는_상품_카탈로그를_갱신하지_않는다() {
+        // 재고는 카탈로그 스냅샷에 없고 목록 조회 때 DB에서 읽으므로, 구매마다 전체를 다시 적재할 필요가 없음
+        product(1L);
+
+        pointShopService.buyProduct("product1", userId, 1L);
+
+        verify(eventPublisher, never()).publishEvent(any(CatalogChangedEvent.class));
+    }
+
+    private void product(long stock) {
+        PointShop product = PointShop.builder()
+                .id(1L)
+                .productName("커피 쿠폰")
+                .price(100L)
+                .stock(stock)
+                .category(PointShopCategory.values()[0])
+                .build();
+        when(pointShopRepository.findById(1L)).thenReturn(Optional.of(product));
+    }
+}
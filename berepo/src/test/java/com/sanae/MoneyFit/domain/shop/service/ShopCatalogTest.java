@@ -0,0 +1,116 @@
+package com.sanae.MoneyFit.domain.shop.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sanae.MoneyFit.domain.shop.dto.response.PointShopListResponseDto;
+import com.sanae.MoneyFit.domain.shop.entity.PointShop;
+import com.sanae.MoneyFit.domain.shop.enums.PointShopCategory;
+import com.sanae.MoneyFit.global.common.catalog.CatalogCache;
+import com.sanae.MoneyFit.global.common.catalog.CatalogType;
+import com.sanae.MoneyFit.global.web.response.PaginatedResponse;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * 카탈로그 스냅샷을 다시 적재하지 않아도 상품 목록이 현재 재고와 재고 순서를 보여 주고,
+ * 재고가 바뀌면 ETag도 바뀌는지 검증합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ShopCatalog.class, ObjectMapper.class})
+class ShopCatalogTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private ShopCatalog shopCatalog;
+
+    @MockBean
+    private CatalogCache catalogCache;
+
+    private CatalogCache.Snapshot<ShopCatalog.ProductCatalog> snapshot;
+    private PointShop coffee;
+    private PointShop bread;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        coffee = product("아메리카노", PointShopCategory.카페, 5L);
+        bread = product("소금빵", PointShopCategory.베이커리, 3L);
+        em.flush();
+
+        // 처음 한 번만 적재하고 이후에는 같은 스냅샷을 돌려주는 캐시
+        when(catalogCache.get(eq(CatalogType.SHOP_PRODUCT), any())).thenAnswer(invocation -> {
+            if (snapshot == null) {
+                Supplier<ShopCatalog.ProductCatalog> loader = invocation.getArgument(1);
+                snapshot = new CatalogCache.Snapshot<>(1L, loader.get(), "\"v1\"");
+            }
+            return snapshot;
+        });
+    }
+
+    @Test
+    void 스냅샷을_다시_적재하지_않아도_현재_재고_순서로_보여준다() {
+        PaginatedResponse<PointShopListResponseDto> before = shopCatalog.pageByStock(null, PageRequest.of(0, 10));
+        assertThat(before.items()).extracting(PointShopListResponseDto::getId).containsExactly(bread.getId(), coffee.getId());
+
+        // 구매로 아메리카노 재고가 소금빵보다 적어짐
+        em.createQuery("UPDATE PointShop p SET p.stock = 1 WHERE p.id = :id").setParameter("id", coffee.getId()).executeUpdate();
+        em.clear();
+
+        PaginatedResponse<PointShopListResponseDto> after = shopCatalog.pageByStock(null, PageRequest.of(0, 10));
+        assertThat(after.items()).extracting(PointShopListResponseDto::getId).containsExactly(coffee.getId(), bread.getId());
+        assertThat(after.items()).extracting(PointShopListResponseDto::getStock).containsExactly(1L, 3L);
+        assertThat(after.items().get(0).getProductName()).isEqualTo("아메리카노");
+        assertThat(shopCatalog.eTag(after)).isNotEqualTo(shopCatalog.eTag(before));
+    }
+
+    @Test
+    void 카테고리_목록도_현재_재고를_보여준다() {
+        shopCatalog.pageByStock(null, PageRequest.of(0, 10));
+        em.createQuery("UPDATE PointShop p SET p.stock = 0 WHERE p.id = :id").setParameter("id", bread.getId()).executeUpdate();
+        em.clear();
+
+        PaginatedResponse<PointShopListResponseDto> page = shopCatalog.pageByStock(PointShopCategory.베이커리, PageRequest.of(0, 10));
+
+        assertThat(page.items()).extracting(PointShopListResponseDto::getStock).containsExactly(0L);
+        assertThat(page.totalItems()).isEqualTo(1);
+    }
+
+    @Test
+    void 스냅샷에_없는_새_상품은_DB에서_채운다() {
+        shopCatalog.pageByStock(null, PageRequest.of(0, 10));
+        PointShop added = product("치즈버거", PointShopCategory.패스트푸드, 9L);
+        em.flush();
+
+        PaginatedResponse<PointShopListResponseDto> page = shopCatalog.pageByStock(null, PageRequest.of(0, 10));
+
+        assertThat(page.items()).extracting(PointShopListResponseDto::getId).containsExactly(bread.getId(), coffee.getId(), added.getId());
+        assertThat(page.items().get(2).getProductName()).isEqualTo("치즈버거");
+    }
+
+    private PointShop product(String name, PointShopCategory category, long stock) {
+        PointShop product = PointShop.builder()
+                .productName(name)
+                .price(100L)
+                .stock(stock)
+                .category(category)
+                .build();
+        em.persist(product);
+        return product;
+    }
+}
@@ -0,0 +1,162 @@
+package com.sanae.MoneyFit.domain.user.service;
+
+import com.sanae.MoneyFit.domain.routine.entity.enums.PointReasonType;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.global.error.handler.UserHandler;
+import com.sanae.MoneyFit.support.RoutineFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 지급 멱등성, 잔액 부족·잘못된 금액 차감 거절, 동시 차감 시 잔액이 음수가 되지 않는지 검증합니다.
+ * 실패한 차감이 내역까지 롤백되는지 확인해야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PointLedgerService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PointLedgerServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PointLedgerService pointLedgerService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<UUID> userIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        tx().executeWithoutResult(status -> {
+            em.createQuery("DELETE FROM PointHistory h WHERE h.user.id IN :ids").setParameter("ids", userIds).executeUpdate();
+            em.createQuery("DELETE FROM User u WHERE u.id IN :ids").setParameter("ids", userIds).executeUpdate();
+        });
+    }
+
+    @Test
+    void 같은_날_같은_사유의_지급은_한_번만_반영된다() {
+        UUID userId = user("award", 0L);
+
+        boolean first = pointLedgerService.award(userId, 100, PointReasonType.PERSONAL_ROUTINE_COMPLETION, TODAY);
+        boolean second = pointLedgerService.award(userId, 100, PointReasonType.PERSONAL_ROUTINE_COMPLETION, TODAY);
+
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(pointLedgerService.getBalance(userId)).isEqualTo(100L);
+        assertThat(historyCount(userId)).isEqualTo(1L);
+    }
+
+    @Test
+    void 잔액이_부족하면_차감하지_않고_내역도_남기지_않는다() {
+        UUID userId = user("lack", 50L);
+
+        assertThatThrownBy(() -> pointLedgerService.spend(userId, 100L, PointReasonType.SHOP_PURCHASE))
+                .isInstanceOf(UserHandler.class);
+
+        assertThat(pointLedgerService.getBalance(userId)).isEqualTo(50L);
+        assertThat(historyCount(userId)).isZero();
+    }
+
+    @Test
+    void 금액이_0_이하이면_차감하지_않는다() {
+        UUID userId = user("negative", 50L);
+
+        assertThatThrownBy(() -> pointLedgerService.spend(userId, -100L, PointReasonType.ACCOUNT_TRANSFER))
+                .isInstanceOf(UserHandler.class);
+        assertThatThrownBy(() -> pointLedgerService.spend(userId, 0L, PointReasonType.ACCOUNT_TRANSFER))
+                .isInstanceOf(UserHandler.class);
+
+        assertThat(pointLedgerService.getBalance(userId)).isEqualTo(50L);
+        assertThat(historyCount(userId)).isZero();
+    }
+
+    @Test
+    void int_범위를_넘는_금액도_예외_없이_잔액과_비교한다() {
+        UUID userId = user("large", 100L);
+
+        assertThatThrownBy(() -> pointLedgerService.spend(userId, Integer.MAX_VALUE + 1L, PointReasonType.ACCOUNT_TRANSFER))
+                .isInstanceOf(UserHandler.class);
+
+        assertThat(pointLedgerService.getBalance(userId)).isEqualTo(100L);
+    }
+
+    @Test
+    void 동시에_차감해도_잔액을_넘겨_차감하지_않는다() throws Exception {
+        UUID userId = user("concurrent", 100L);
+
+        int threads = 5;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    pointLedgerService.spend(userId, 30L, PointReasonType.SHOP_PURCHASE);
+                    return true;
+                } catch (UserHandler e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+        int succeeded = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get(10, TimeUnit.SECONDS)) {
+                succeeded++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(succeeded).isEqualTo(3);
+        assertThat(pointLedgerService.getBalance(userId)).isEqualTo(10L);
+        assertThat(historyCount(userId)).isEqualTo(3L);
+    }
+
+    private UUID user(String nickname, long point) {
+        UUID userId = tx().execute(status -> {
+            User user = RoutineFixtures.user(em, nickname + UUID.randomUUID().toString().substring(0, 8));
+            em.createQuery("UPDATE User u SET u.point = :point WHERE u.id = :id")
+                    .setParameter("point", point)
+                    .setParameter("id", user.getId())
+                    .executeUpdate();
+            return user.getId();
+        });
+        userIds.add(userId);
+        return userId;
+    }
+
+    private long historyCount(UUID userId) {
+        return tx().execute(status -> em.createQuery(
+                        "SELECT COUNT(h) FROM PointHistory h WHERE h.user.id = :id", Long.class)
+                .setParameter("id", userId)
+                .getSingleResult());
+    }
+
+    private TransactionTemplate tx() {
+        return new TransactionTemplate(transactionManager);
+    }
+}
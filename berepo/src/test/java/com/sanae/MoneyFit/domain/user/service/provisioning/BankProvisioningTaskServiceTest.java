@@ -0,0 +1,129 @@
+package com.sanae.MoneyFit.domain.user.service.provisioning;
+
+import com.sanae.MoneyFit.domain.user.entity.BankProvisioningTask;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import com.sanae.MoneyFit.domain.user.enums.BankProvisioningStatus;
+import com.sanae.MoneyFit.domain.user.repository.BankProvisioningTaskRepository;
+import com.sanae.MoneyFit.global.config.BankProvisioningProperties;
+import com.sanae.MoneyFit.support.RoutineFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 은행 계좌 생성 작업의 상태 전이, 작업 가져가기(lease), 실패 시 지수 백오프와 재시도 한도를 검증합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({BankProvisioningTaskService.class, BankProvisioningProperties.class})
+class BankProvisioningTaskServiceTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private BankProvisioningTaskService bankProvisioningTaskService;
+
+    @Autowired
+    private BankProvisioningTaskRepository bankProvisioningTaskRepository;
+
+    @Autowired
+    private BankProvisioningProperties properties;
+
+    private User user;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        user = RoutineFixtures.user(em, "provisioning");
+        BankProvisioningTask task = new BankProvisioningTask(user.getEmail(), LocalDateTime.now().minusSeconds(1));
+        em.persist(task);
+        em.flush();
+        taskId = task.getId();
+    }
+
+    @Test
+    void 가져간_작업은_처리_제한_시간이_지나도_다른_서버가_가져가지_못한다() {
+        LocalDateTime before = LocalDateTime.now();
+
+        BankProvisioningTask claimed = bankProvisioningTaskService.claim(taskId);
+
+        assertThat(claimed).isNotNull();
+        assertThat(properties.getClaimLease()).isGreaterThan(properties.getTaskTimeout());
+        assertThat(claimed.getNextAttemptAt()).isAfter(before.plus(properties.getTaskTimeout()));
+        assertThat(bankProvisioningTaskService.claim(taskId)).isNull();
+        assertThat(bankProvisioningTaskService.findDueIds()).doesNotContain(taskId);
+    }
+
+    @Test
+    void 단계는_순서대로만_진행되고_결과는_사용자에도_저장된다() {
+        // 계정 생성 전의 계좌 기록은 무시
+        bankProvisioningTaskService.recordAccountCreated(taskId, "0000000000000000");
+        assertThat(task().getStatus()).isEqualTo(BankProvisioningStatus.PENDING);
+
+        bankProvisioningTaskService.recordUserCreated(taskId, "user-key");
+        bankProvisioningTaskService.recordAccountCreated(taskId, "0881234567890123");
+        assertThat(task().getStatus()).isEqualTo(BankProvisioningStatus.ACCOUNT_CREATED);
+
+        bankProvisioningTaskService.recordCompleted(taskId);
+        em.flush();
+        em.clear();
+
+        BankProvisioningTask task = task();
+        User saved = em.find(User.class, user.getId());
+        assertThat(task.getStatus()).isEqualTo(BankProvisioningStatus.COMPLETED);
+        assertThat(task.getUserKey()).isEqualTo("user-key");
+        assertThat(task.getAccountNo()).isEqualTo("0881234567890123");
+        assertThat(saved.getUserKey()).isEqualTo("user-key");
+        assertThat(saved.getBankAccount()).isEqualTo("0881234567890123");
+        assertThat(bankProvisioningTaskService.findDueIds()).doesNotContain(taskId);
+    }
+
+    @Test
+    void 실패할_때마다_재시도_대기_시간이_두_배로_늘어난다() {
+        Duration initial = properties.getInitialBackoff();
+
+        LocalDateTime before = LocalDateTime.now();
+        bankProvisioningTaskService.recordFailure(taskId, new IllegalStateException("첫 번째 실패"));
+        assertThat(task().getNextAttemptAt())
+                .isAfterOrEqualTo(before.plus(jittered(initial, 0.8)))
+                .isBefore(LocalDateTime.now().plus(jittered(initial, 1.2)));
+
+        before = LocalDateTime.now();
+        bankProvisioningTaskService.recordFailure(taskId, new IllegalStateException("두 번째 실패"));
+        BankProvisioningTask task = task();
+        assertThat(task.getNextAttemptAt())
+                .isAfterOrEqualTo(before.plus(jittered(initial.multipliedBy(2), 0.8)))
+                .isBefore(LocalDateTime.now().plus(jittered(initial.multipliedBy(2), 1.2)));
+        assertThat(task.getAttempts()).isEqualTo(2);
+        assertThat(task.getLastError()).contains("두 번째 실패");
+        assertThat(task.getStatus()).isEqualTo(BankProvisioningStatus.PENDING);
+    }
+
+    @Test
+    void 재시도_한도에_도달하면_FAILED로_남고_다시_가져가지_않는다() {
+        for (int i = 0; i < properties.getMaxAttempts(); i++) {
+            bankProvisioningTaskService.recordFailure(taskId, new IllegalStateException("실패 " + i));
+        }
+
+        assertThat(task().getStatus()).isEqualTo(BankProvisioningStatus.FAILED);
+        assertThat(bankProvisioningTaskService.claim(taskId)).isNull();
+    }
+
+    private BankProvisioningTask task() {
+        return bankProvisioningTaskRepository.findById(taskId).orElseThrow();
+    }
+
+    private Duration jittered(Duration duration, double factor) {
+        return Duration.ofMillis((long) (duration.toMillis() * factor));
+    }
+}
@@ -0,0 +1,114 @@
+package com.sanae.MoneyFit.domain.user.service.provisioning;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sanae.MoneyFit.domain.finance.dto.response.AccountListResponseDto;
+import com.sanae.MoneyFit.domain.finance.service.FinanceService;
+import com.sanae.MoneyFit.domain.user.dto.response.BankAccountResponseDto;
+import com.sanae.MoneyFit.domain.user.dto.response.BankUserMakeResponseDto;
+import com.sanae.MoneyFit.domain.user.entity.BankProvisioningTask;
+import com.sanae.MoneyFit.global.config.BankProvisioningProperties;
+import com.sanae.MoneyFit.global.infra.http.bank.WebClientBankUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 요구불 계좌 생성이 멱등하지 않으므로, 이전 시도에서 응답 없이 만들어진 계좌를 다시 만들지 않는지 검증합니다.
+ */
+class BankProvisioningWorkerTest {
+
+    private static final long TASK_ID = 1L;
+    private static final long TIMEOUT_MS = 2_000L;
+
+    private final BankProvisioningTaskService bankProvisioningTaskService = mock(BankProvisioningTaskService.class);
+    private final WebClientBankUtil webClientBankUtil = mock(WebClientBankUtil.class);
+    private final FinanceService financeService = mock(FinanceService.class);
+    private BankProvisioningWorker worker;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        worker = new BankProvisioningWorker(bankProvisioningTaskService, webClientBankUtil, financeService,
+                new BankProvisioningProperties());
+
+        when(bankProvisioningTaskService.findDueIds()).thenReturn(List.of(TASK_ID));
+        when(webClientBankUtil.makeUserAccount(anyString(), any(), eq(BankUserMakeResponseDto.class)))
+                .thenReturn(Mono.just(BankUserMakeResponseDto.builder().userKey("user-key").build()));
+        BankAccountResponseDto created = new ObjectMapper()
+                .readValue("{\"REC\":{\"accountNo\":\"0880000000000002\"}}", BankAccountResponseDto.class);
+        when(webClientBankUtil.createDemandDepositAccount(anyString(), anyString(), eq(BankAccountResponseDto.class)))
+                .thenReturn(Mono.just(created));
+        when(financeService.generateDummyTransactions(anyString(), anyString())).thenReturn(Mono.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.stop();
+    }
+
+    @Test
+    void 이전_시도에서_만들어진_계좌가_있으면_새로_만들지_않는다() {
+        claims(userCreatedTask());
+        when(webClientBankUtil.inquireAccountList("user-key")).thenReturn(Mono.just(new AccountListResponseDto(List.of(
+                new AccountListResponseDto.Rec("088", "0880000000000001", "수시입출금", "20261018")))));
+
+        worker.poll();
+
+        verify(bankProvisioningTaskService, timeout(TIMEOUT_MS)).recordCompleted(any());
+        verify(bankProvisioningTaskService).recordAccountCreated(any(), eq("0880000000000001"));
+        verify(webClientBankUtil, never()).createDemandDepositAccount(anyString(), anyString(), any());
+    }
+
+    @Test
+    void 이전_시도에서_만들어진_계좌가_없으면_새로_만든다() {
+        claims(userCreatedTask());
+        when(webClientBankUtil.inquireAccountList("user-key")).thenReturn(Mono.just(new AccountListResponseDto(List.of())));
+
+        worker.poll();
+
+        verify(bankProvisioningTaskService, timeout(TIMEOUT_MS)).recordCompleted(any());
+        verify(bankProvisioningTaskService).recordAccountCreated(any(), eq("0880000000000002"));
+    }
+
+    @Test
+    void 이번_시도에서_은행_계정을_만들었다면_계좌를_조회하지_않고_만든다() {
+        claims(new BankProvisioningTask("new@moneyfit.com", LocalDateTime.now()));
+
+        worker.poll();
+
+        verify(bankProvisioningTaskService, timeout(TIMEOUT_MS)).recordCompleted(any());
+        verify(bankProvisioningTaskService).recordUserCreated(any(), eq("user-key"));
+        verify(bankProvisioningTaskService).recordAccountCreated(any(), eq("0880000000000002"));
+        verify(webClientBankUtil, never()).inquireAccountList(anyString());
+    }
+
+    @Test
+    void 단계가_실패하면_실패를_기록한다() {
+        claims(userCreatedTask());
+        when(webClientBankUtil.inquireAccountList("user-key")).thenReturn(Mono.error(new IllegalStateException("API Error")));
+
+        worker.poll();
+
+        verify(bankProvisioningTaskService, timeout(TIMEOUT_MS)).recordFailure(any(), any(IllegalStateException.class));
+        verify(bankProvisioningTaskService, never()).recordCompleted(any());
+    }
+
+    // 이전 시도에서 은행 계정까지 만든 작업
+    private BankProvisioningTask userCreatedTask() {
+        BankProvisioningTask task = new BankProvisioningTask("retry@moneyfit.com", LocalDateTime.now());
+        task.userCreated("user-key");
+        return task;
+    }
+
+    private void claims(BankProvisioningTask task) {
+        when(bankProvisioningTaskService.claim(TASK_ID)).thenReturn(task);
+    }
+}
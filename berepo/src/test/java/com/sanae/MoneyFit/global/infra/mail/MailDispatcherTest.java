@@ -0,0 +1,84 @@
+package com.sanae.MoneyFit.global.infra.mail;
+
+import com.sanae.MoneyFit.global.config.MailDeliveryProperties;
+import com.sanae.MoneyFit.global.error.handler.MailHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 대기열에 쌓인 메일이 SMTP 연결 하나로 묶여 전송되는지, 대기열이 가득 차면 즉시 거절하는지 검증합니다.
+ */
+class MailDispatcherTest {
+
+    private FakeSmtpServer smtpServer;
+    private JavaMailSenderImpl mailSender;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        smtpServer = new FakeSmtpServer();
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtpServer.getPort());
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        smtpServer.close();
+    }
+
+    @Test
+    void 대기열의_메일을_연결_하나로_묶어_보낸다() throws Exception {
+        MailDispatcher dispatcher = new MailDispatcher(mailSender, properties(1, 10, 100), meterRegistry);
+        MailTemplate template = MailTemplate.compile("<p>인증번호 {{code}}</p>");
+
+        // 발송 스레드 시작 전에 쌓아 두어 한 묶음으로 나가도록 함
+        for (int i = 0; i < 10; i++) {
+            String code = String.format("%06d", i);
+            dispatcher.enqueue(message -> {
+                MimeMessageHelper helper = new MimeMessageHelper(message, true, "utf-8");
+                helper.setFrom("noreply@moneyfit.com");
+                helper.setTo("user" + code + "@moneyfit.com");
+                helper.setSubject("인증번호");
+                helper.setText(template.render(Map.of("code", code)), true);
+            });
+        }
+        dispatcher.start();
+        dispatcher.stop();
+
+        assertThat(smtpServer.getMessages()).hasSize(10);
+        assertThat(smtpServer.getConnectionCount()).isEqualTo(1);
+        assertThat(meterRegistry.counter("mail.sent").count()).isEqualTo(10.0);
+        assertThat(meterRegistry.counter("mail.failed").count()).isZero();
+    }
+
+    @Test
+    void 대기열이_가득_차면_즉시_거절한다() {
+        MailDispatcher dispatcher = new MailDispatcher(mailSender, properties(1, 10, 1), meterRegistry);
+
+        dispatcher.enqueue(message -> message.setText("first"));
+
+        assertThatThrownBy(() -> dispatcher.enqueue(message -> message.setText("second")))
+                .isInstanceOf(MailHandler.class);
+        assertThat(meterRegistry.counter("mail.rejected").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("mail.queue.size").gauge().value()).isEqualTo(1.0);
+    }
+
+    private MailDeliveryProperties properties(int workers, int batchSize, int queueCapacity) {
+        MailDeliveryProperties properties = new MailDeliveryProperties();
+        properties.setWorkers(workers);
+        properties.setBatchSize(batchSize);
+        properties.setQueueCapacity(queueCapacity);
+        return properties;
+    }
+}
@@ -0,0 +1,41 @@
+package com.sanae.MoneyFit.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Hibernate가 실행하는 SQL을 그대로 기록합니다.
+ * 리포지토리 JPQL이 실제로 어떤 SQL로 변환되는지 확인해야 하는 테스트에서
+ * {@code hibernate.session_factory.statement_inspector} 속성으로 등록해 사용합니다.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    /**
+     * 마지막으로 실행된 SELECT 문을 반환합니다.
+     *
+     * @throws IllegalStateException 기록된 SELECT 문이 없는 경우
+     */
+    public static String lastSelect() {
+        for (int i = STATEMENTS.size() - 1; i >= 0; i--) {
+            String sql = STATEMENTS.get(i);
+            if (sql.stripLeading().regionMatches(true, 0, "select", 0, 6)) {
+                return sql;
+            }
+        }
+        throw new IllegalStateException("기록된 SELECT 문이 없습니다.");
+    }
+}
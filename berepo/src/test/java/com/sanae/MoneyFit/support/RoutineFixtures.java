@@ -0,0 +1,124 @@
+package com.sanae.MoneyFit.support;
+
+import com.sanae.MoneyFit.domain.routine.entity.*;
+import com.sanae.MoneyFit.domain.routine.enums.Category;
+import com.sanae.MoneyFit.domain.routine.enums.RoutineType;
+import com.sanae.MoneyFit.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 루틴 관련 테스트에서 공통으로 쓰는 엔티티를 만들어 저장합니다.
+ * <p>
+ * 감사(auditing)되지 않는 기록 엔티티는 {@code created_date}가 NOT NULL이므로 여기서 항상 채웁니다.
+ * </p>
+ */
+public final class RoutineFixtures {
+
+    private RoutineFixtures() {
+    }
+
+    public static User user(EntityManager em, String nickname) {
+        User user = User.builder()
+                .email(nickname + "@moneyfit.com")
+                .password("password")
+                .nickname(nickname)
+                .point(0L)
+                .build();
+        em.persist(user);
+        return user;
+    }
+
+    public static Emoji emoji(EntityManager em) {
+        Emoji emoji = Emoji.builder()
+                .category(Category.FOOD)
+                .emojiUrl("https://example.com/emoji.png")
+                .build();
+        em.persist(emoji);
+        return emoji;
+    }
+
+    public static Routine routine(EntityManager em, Emoji emoji, String name) {
+        Routine routine = Routine.builder()
+                .emoji(emoji)
+                .name(name)
+                .time(5)
+                .build();
+        em.persist(routine);
+        return routine;
+    }
+
+    public static MyRoutineList myRoutineList(EntityManager em, User user, String title, LocalDate startDate) {
+        MyRoutineList list = MyRoutineList.builder()
+                .user(user)
+                .title(title)
+                .startDate(startDate)
+                .startTime(LocalTime.of(8, 0))
+                .endTime(LocalTime.of(9, 0))
+                .routineType(RoutineType.DAILY)
+                .build();
+        em.persist(list);
+        return list;
+    }
+
+    public static GroupRoutineList groupRoutineList(EntityManager em, User owner, String title, int userCnt) {
+        GroupRoutineList list = GroupRoutineList.builder()
+                .user(owner)
+                .routineType(RoutineType.DAILY)
+                .title(title)
+                .description("설명")
+                .startTime(LocalTime.of(20, 0))
+                .endTime(LocalTime.of(21, 0))
+                .userCnt(userCnt)
+                .build();
+        em.persist(list);
+        return list;
+    }
+
+    public static RoutineRecord routineRecord(EntityManager em, User user, Routine routine, boolean doneCheck, LocalDateTime createdDate) {
+        RoutineRecord record = RoutineRecord.builder()
+                .user(user)
+                .routine(routine)
+                .doneCheck(doneCheck)
+                .build();
+        record.setCreatedDate(createdDate);
+        record.setModifiedDate(createdDate);
+        em.persist(record);
+        return record;
+    }
+
+    /**
+     * 개인 루틴 완료 기록을 저장합니다. 감사 값이 덮어쓰지 않도록 저장 후 완료 시각을 지정합니다.
+     */
+    public static MyRoutineListRecord myRoutineListRecord(EntityManager em, User user, MyRoutineList list, LocalDateTime createdDate) {
+        MyRoutineListRecord record = MyRoutineListRecord.builder()
+                .user(user)
+                .myRoutineList(list)
+                .doneCheck(true)
+                .build();
+        em.persist(record);
+        em.flush();
+        record.setCreatedDate(createdDate);
+        em.flush();
+        return record;
+    }
+
+    /**
+     * 단체 루틴 완료 기록을 저장합니다. 감사 값이 덮어쓰지 않도록 저장 후 완료 시각을 지정합니다.
+     */
+    public static GroupRoutineListDoneCheck groupDoneCheck(EntityManager em, User user, GroupRoutineList list, LocalDateTime createdDate) {
+        GroupRoutineListDoneCheck doneCheck = GroupRoutineListDoneCheck.builder()
+                .groupRoutineList(list)
+                .user(user)
+                .doneCheck(true)
+                .build();
+        em.persist(doneCheck);
+        em.flush();
+        doneCheck.setCreatedDate(createdDate);
+        em.flush();
+        return doneCheck;
+    }
+}